@@ -1,32 +1,53 @@
 package de.schulprojekt.duv.controller;
 
+import de.schulprojekt.duv.model.core.EngineSnapshot;
 import de.schulprojekt.duv.model.core.SimulationEngine;
 import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.election.ElectionEvaluator;
+import de.schulprojekt.duv.model.election.ElectionResult;
+import de.schulprojekt.duv.model.forecast.BranchRunner;
+import de.schulprojekt.duv.model.forecast.Forecaster;
+import de.schulprojekt.duv.model.history.SimulationHistory;
+import de.schulprojekt.duv.model.indicators.IndicatorSnapshot;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.model.party.PartyRegistry;
+import de.schulprojekt.duv.model.polling.Pollster;
 import de.schulprojekt.duv.model.random.DistributionProvider;
 import de.schulprojekt.duv.model.scandal.ScandalEvent;
 import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
 import de.schulprojekt.duv.model.scandal.ScandalScheduler;
+import de.schulprojekt.duv.model.telemetry.SnapshotHandoffEvent;
+import de.schulprojekt.duv.model.telemetry.TickProfiler;
 import de.schulprojekt.duv.model.voter.VoterBehavior;
 import de.schulprojekt.duv.model.voter.VoterPopulation;
 import de.schulprojekt.duv.model.voter.ZeitgeistManager;
 import de.schulprojekt.duv.model.dto.VoterTransition;
+import de.schulprojekt.duv.util.config.ForecastConfig;
 import de.schulprojekt.duv.util.config.SimulationConfig;
+import de.schulprojekt.duv.util.diagnostics.MetricsExporter;
 import de.schulprojekt.duv.util.io.CSVLoader;
+import de.schulprojekt.duv.util.io.CheckpointStore;
 import de.schulprojekt.duv.util.validation.ParameterValidator;
 import de.schulprojekt.duv.util.validation.ValidationMessage;
 import de.schulprojekt.duv.view.Main;
 import de.schulprojekt.duv.view.controllers.DashboardController;
 import javafx.application.Platform;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,8 +78,16 @@ public class SimulationController {
     private final SimulationEngine engine;
     private final DashboardController view;
     private final ScheduledExecutorService executorService;
+    private final ExecutorService checkpointWriter;
+    private final BranchRunner branchRunner;
+    private final Forecaster forecaster;
+    private final Pollster pollster = new Pollster();
+    private final ElectionEvaluator electionEvaluator = new ElectionEvaluator();
+    private final MetricsExporter metricsExporter;
     private ScheduledFuture<?> simulationTask;
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
+    private long tickPeriodNanos = 0;
+    private long lastTickNanos = 0;
 
     // ========================================
     // Constructors
@@ -113,12 +142,20 @@ public class SimulationController {
                 impactCalculator
         );
         this.engine.initializeSimulation();
+        this.metricsExporter = MetricsExporter.startIfRequested(engine.getMetrics());
 
         this.executorService = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "Simulation-Thread");
             t.setDaemon(true);
             return t;
         });
+        this.checkpointWriter = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Checkpoint-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.branchRunner = new BranchRunner(Runtime.getRuntime().availableProcessors());
+        this.forecaster = new Forecaster(ForecastConfig.getRuns());
     }
 
     // ========================================
@@ -142,6 +179,34 @@ public class SimulationController {
         return new ArrayList<>(engine.getParties());
     }
 
+    /**
+     * Liefert den vollständigen Verlauf der Anhängerzahlen.
+     * Leser sollten über {@link SimulationHistory#snapshot()} zugreifen.
+     *
+     * @return Der Verlauf der laufenden Simulation.
+     */
+    public SimulationHistory getHistory() {
+        return engine.getHistory();
+    }
+
+    /**
+     * @return Aktueller Stand von Volatilität, effektiver Parteienanzahl, Wanderung und Histogrammen.
+     */
+    public IndicatorSnapshot getIndicators() {
+        return engine.getIndicators().snapshot();
+    }
+
+    public TickProfiler getProfiler() {
+        return engine.getProfiler();
+    }
+
+    /**
+     * @return Ältester noch zurückspulbarer Schritt.
+     */
+    public int getRewindOldestStep() {
+        return engine.getRewindBuffer().getOldestStep();
+    }
+
     public boolean isRunning() {
         return isRunning.get();
     }
@@ -178,6 +243,8 @@ public class SimulationController {
             isRunning.set(false);
             stopCurrentTask();
             engine.resetState();
+            forecaster.cancel();
+            pollster.cancel();
 
             List<Party> partySnapshot = new ArrayList<>(engine.getParties());
             Platform.runLater(() -> view.updateDashboard(partySnapshot, List.of(), null, 0));
@@ -224,6 +291,8 @@ public class SimulationController {
             }
 
             engine.updateParameters(p);
+            forecaster.cancel();
+            pollster.cancel();
 
             List<Party> partySnapshot = new ArrayList<>(engine.getParties());
             int currentStep = engine.getCurrentStep();
@@ -236,8 +305,143 @@ public class SimulationController {
         });
     }
 
+    /**
+     * Speichert den aktuellen Zustand als Spielstand.
+     * <p>
+     * Die Momentaufnahme entsteht zwischen zwei Ticks auf dem Simulations-Thread und besteht im Wesentlichen
+     * aus einer Bulk-Kopie der Wählerspalten. Das Schreiben übernimmt ein eigener Thread, die Schleife
+     * läuft währenddessen weiter.
+     * </p>
+     *
+     * @param file Zieldatei
+     * @param onComplete Wird auf dem FX-Thread mit {@code null} oder dem aufgetretenen Fehler aufgerufen
+     */
+    public void saveCheckpoint(Path file, Consumer<Throwable> onComplete) {
+        executorService.execute(() -> {
+            long start = System.nanoTime();
+            EngineSnapshot snapshot = engine.captureSnapshot();
+            long captureNanos = System.nanoTime() - start;
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    CheckpointStore.write(file, snapshot);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, checkpointWriter).whenComplete((ignored, error) -> {
+                Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+                if (cause != null) {
+                    LOGGER.log(Level.SEVERE, "Failed to write checkpoint: " + file, cause);
+                } else {
+                    LOGGER.log(Level.INFO, "Checkpoint at step {0} written to {1} (capture {2} ms, total {3} ms)",
+                            new Object[]{snapshot.step(), file, captureNanos / 1_000_000, (System.nanoTime() - start) / 1_000_000});
+                }
+                Platform.runLater(() -> onComplete.accept(cause));
+            });
+        });
+    }
+
+    /**
+     * Lädt einen Spielstand und hält die Simulation dafür an.
+     *
+     * @param file Gespeicherter Spielstand
+     * @param onComplete Wird auf dem FX-Thread mit {@code null} oder dem aufgetretenen Fehler aufgerufen
+     */
+    public void loadCheckpoint(Path file, Consumer<Throwable> onComplete) {
+        executorService.execute(() -> {
+            isRunning.set(false);
+            stopCurrentTask();
+            try {
+                EngineSnapshot snapshot = CheckpointStore.read(file);
+                ParameterValidator.validate(snapshot.parameters());
+                engine.restoreSnapshot(snapshot);
+                forecaster.cancel();
+                pollster.cancel();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Failed to load checkpoint: " + file, e);
+                Platform.runLater(() -> onComplete.accept(e));
+                return;
+            }
+
+            List<Party> partySnapshot = new ArrayList<>(engine.getParties());
+            int step = engine.getCurrentStep();
+            LOGGER.log(Level.INFO, "Checkpoint restored at step {0}", step);
+            Platform.runLater(() -> {
+                view.onStateRestored(partySnapshot, engine.getParameters(), step);
+                onComplete.accept(null);
+            });
+        });
+    }
+
+    /**
+     * Spult die Simulation auf einen aufgezeichneten Schritt zurück und pausiert sie.
+     * Läuft auf dem Simulations-Thread, die Oberfläche wird anschließend wie nach dem Laden eines Spielstands aktualisiert.
+     *
+     * @param step Gewünschter Schritt, wird auf den nächsten aufgezeichneten Schritt davor abgerundet.
+     */
+    public void rewindTo(int step) {
+        executorService.execute(() -> {
+            isRunning.set(false);
+            stopCurrentTask();
+            if (!engine.rewindTo(step)) {
+                LOGGER.log(Level.WARNING, "Step {0} is no longer in the rewind buffer", step);
+                return;
+            }
+            forecaster.cancel();
+            pollster.cancel();
+
+            List<Party> partySnapshot = new ArrayList<>(engine.getParties());
+            int restoredStep = engine.getCurrentStep();
+            Platform.runLater(() -> view.onStateRestored(partySnapshot, engine.getParameters(), restoredStep));
+        });
+    }
+
+    /**
+     * Verzweigt die laufende Simulation am aktuellen Schritt und rechnet alle Zweige parallel voraus.
+     * <p>
+     * Die Forks entstehen zwischen zwei Ticks auf dem Simulations-Thread und teilen sich die Wählerpopulation
+     * per Copy-on-Write. Anschließend laufen sie nebeneinander im {@link BranchRunner}. Die Hauptsimulation
+     * läuft unbeeinflusst weiter.
+     * </p>
+     *
+     * @param scenarios Eingriff je Zweig, etwa {@code e -> e.forceScandal(1)}; wird vor dem ersten Tick angewendet.
+     * @param ticks Anzahl der Schritte, die jeder Zweig vorausgerechnet wird.
+     * @param onComplete Erhält die Zweige in Reihenfolge der Szenarien oder den Fehler, auf dem FX-Thread.
+     */
+    public void runBranches(List<Consumer<SimulationEngine>> scenarios, int ticks,
+                            BiConsumer<List<SimulationEngine>, Throwable> onComplete) {
+        executorService.execute(() -> branchRunner.run(engine, scenarios, ticks).whenComplete((branches, error) -> {
+            if (error != null) {
+                LOGGER.log(Level.SEVERE, "Branch simulation failed", error);
+                Platform.runLater(() -> onComplete.accept(List.of(), error));
+                return;
+            }
+            Platform.runLater(() -> onComplete.accept(branches, null));
+        }));
+    }
+
+    /**
+     * Wertet einen Wahltag für den aktuellen Stand auf dem Simulations-Thread aus.
+     *
+     * @param onResult Erhält die Parteien und das passende Ergebnis auf dem FX-Thread.
+     */
+    public void evaluateElection(BiConsumer<List<Party>, ElectionResult> onResult) {
+        executorService.execute(() -> {
+            ElectionResult result = engine.evaluateElection(electionEvaluator);
+            List<Party> partySnapshot = new ArrayList<>(engine.getParties());
+            Platform.runLater(() -> onResult.accept(partySnapshot, result));
+        });
+    }
+
     public void shutdown() {
         executorService.shutdownNow();
+        checkpointWriter.shutdown();
+        branchRunner.shutdown();
+        forecaster.shutdown();
+        pollster.shutdown();
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+        }
         LOGGER.info("Simulation service stopped.");
     }
 
@@ -245,11 +449,24 @@ public class SimulationController {
     // Utility Methods
     // ========================================
 
+    /**
+     * Drosselt die Prognose, solange der Abstand zweier Live-Ticks deutlich über dem Soll liegt.
+     */
+    private void updateForecastThrottle() {
+        long now = System.nanoTime();
+        if (lastTickNanos != 0) {
+            forecaster.setThrottled(now - lastTickNanos > tickPeriodNanos * ForecastConfig.LAG_TOLERANCE);
+        }
+        lastTickNanos = now;
+    }
+
     private void stopCurrentTask() {
         if (simulationTask != null) {
             simulationTask.cancel(true);
             simulationTask = null;
         }
+        lastTickNanos = 0;
+        forecaster.setThrottled(false);
     }
 
     private void scheduleTask() {
@@ -257,6 +474,7 @@ public class SimulationController {
 
         int tps = engine.getParameters().tickRate();
         long period = 1000 / (tps > 0 ? tps : 1);
+        tickPeriodNanos = TimeUnit.MILLISECONDS.toNanos(period);
 
         simulationTask = executorService.scheduleAtFixedRate(this::runLoopStep, 0, period, TimeUnit.MILLISECONDS);
     }
@@ -272,13 +490,26 @@ public class SimulationController {
     private void runLoopStep() {
         try {
             if (!isRunning.get()) return;
+            updateForecastThrottle();
 
             List<VoterTransition> transitions = engine.runSimulationStep();
+            engine.recordRewindFrame();
+            forecaster.maybeStart(engine, result -> Platform.runLater(() -> view.onForecast(result)));
+            pollster.maybeConduct(engine, poll -> Platform.runLater(() -> view.onPoll(poll)));
             ScandalEvent scandal = engine.getLastScandal();
             int step = engine.getCurrentStep();
             List<Party> partySnapshot = new ArrayList<>(engine.getParties());
-
-            Platform.runLater(() -> view.updateDashboard(partySnapshot, transitions, scandal, step));
+            long handoffStart = System.nanoTime();
+
+            Platform.runLater(() -> {
+                SnapshotHandoffEvent handoff = new SnapshotHandoffEvent();
+                if (handoff.isEnabled()) {
+                    handoff.step = step;
+                    handoff.latency = System.nanoTime() - handoffStart;
+                    handoff.commit();
+                }
+                view.updateDashboard(partySnapshot, transitions, scandal, step);
+            });
         } catch (RuntimeException e) {
             LOGGER.log(Level.SEVERE, "Runtime error in simulation loop - stopping simulation", e);
             isRunning.set(false);
@@ -0,0 +1,78 @@
+package de.schulprojekt.duv.model.core;
+
+import de.schulprojekt.duv.model.scandal.Scandal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Konsistente Momentaufnahme des vollständigen Engine-Zustands zwischen zwei Ticks.
+ * <p>
+ * Wird auf dem Simulations-Thread erstellt und enthält nur Kopien, sodass sie anschließend von einem
+ * beliebigen Thread gespeichert werden kann, während die Simulation weiterläuft. Die Wählerspalten
+ * liegen als ein zusammenhängender Puffer im Layout von
+ * {@link de.schulprojekt.duv.model.voter.VoterPopulation#attach(ByteBuffer, int)} vor.
+ * </p>
+ *
+ * @param parameters Parameter des Laufs
+ * @param step Aktueller Simulationsschritt
+ * @param zeitgeist Aktueller Zeitgeist
+ * @param randomState Zustand des Hauptgenerators zum Zeitpunkt der Aufnahme
+ * @param zeitgeistRandomState Zustand des Zeitgeist-Generators
+ * @param timeUntilNextScandal Verbleibende Zeit bis zum nächsten Skandal
+ * @param parties Zustand aller Parteien inklusive "Unsicher" an Index 0
+ * @param permanentDamage Permanenter Skandalschaden je Partei
+ * @param pressureRing Vorgemerkter akuter Druck je Schritt und Partei
+ * @param damageRing Vorgemerkter permanenter Schaden je Schritt und Partei
+ * @param activeScandals Alle aktiven Skandale
+ * @param populationSize Anzahl der Wähler
+ * @param populationColumns Kopie der Wählerspalten
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record EngineSnapshot(
+        SimulationParameters parameters,
+        int step,
+        double zeitgeist,
+        long randomState,
+        long zeitgeistRandomState,
+        double timeUntilNextScandal,
+        List<PartyState> parties,
+        double[] permanentDamage,
+        double[][] pressureRing,
+        double[][] damageRing,
+        List<ActiveScandal> activeScandals,
+        int populationSize,
+        ByteBuffer populationColumns
+) {
+
+    // ========================================
+    // Inner Types
+    // ========================================
+
+    /**
+     * Veränderlicher und unveränderlicher Zustand einer Partei.
+     */
+    public record PartyState(
+            String name,
+            String abbreviation,
+            String colorCode,
+            double politicalPosition,
+            double campaignBudget,
+            int supporterCount,
+            int scandalCount
+    ) {
+    }
+
+    /**
+     * Ein aktiver Skandal mit dem Index der betroffenen Partei.
+     * Der Skandal wird als Katalogeintrag übernommen; Titel und Beschreibung werden erst dekodiert,
+     * wenn sie angezeigt oder in einen Checkpoint geschrieben werden.
+     */
+    public record ActiveScandal(
+            int partyIndex,
+            int occurredAtStep,
+            Scandal scandal
+    ) {
+    }
+}
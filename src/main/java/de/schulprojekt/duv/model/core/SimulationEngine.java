@@ -1,5 +1,10 @@
 package de.schulprojekt.duv.model.core;
 
+import de.schulprojekt.duv.model.election.ElectionEvaluator;
+import de.schulprojekt.duv.model.election.ElectionResult;
+import de.schulprojekt.duv.model.history.RewindBuffer;
+import de.schulprojekt.duv.model.history.SimulationHistory;
+import de.schulprojekt.duv.model.indicators.PoliticalIndicators;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.model.party.PartyRegistry;
 import de.schulprojekt.duv.model.random.DistributionProvider;
@@ -7,13 +12,22 @@ import de.schulprojekt.duv.model.scandal.Scandal;
 import de.schulprojekt.duv.model.scandal.ScandalEvent;
 import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
 import de.schulprojekt.duv.model.scandal.ScandalScheduler;
+import de.schulprojekt.duv.model.scandal.ScandalTargetSelector;
+import de.schulprojekt.duv.model.telemetry.AllocationTracker;
+import de.schulprojekt.duv.model.telemetry.MetricsRegistry;
+import de.schulprojekt.duv.model.telemetry.ScandalTriggeredEvent;
+import de.schulprojekt.duv.model.telemetry.SimulationTickEvent;
+import de.schulprojekt.duv.model.telemetry.TickPhase;
+import de.schulprojekt.duv.model.telemetry.TickProfiler;
 import de.schulprojekt.duv.model.voter.VoterBehavior;
 import de.schulprojekt.duv.model.voter.VoterPopulation;
 import de.schulprojekt.duv.model.voter.ZeitgeistManager;
 import de.schulprojekt.duv.model.dto.VoterTransition;
+import de.schulprojekt.duv.util.config.RewindConfig;
 import de.schulprojekt.duv.util.io.CSVLoader;
-import de.schulprojekt.duv.util.config.SimulationConfig;
+import de.schulprojekt.duv.util.io.PopulationLibrary;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -34,6 +48,11 @@ public class SimulationEngine {
     // ========================================
 
     private final SimulationState state;
+    private final SimulationHistory history;
+    private final PoliticalIndicators indicators;
+    private final RewindBuffer rewindBuffer;
+    private final TickProfiler profiler;
+    private final MetricsRegistry metrics;
     private SimulationParameters parameters;
     private final CSVLoader csvLoader;
     private final DistributionProvider distributionProvider;
@@ -43,6 +62,8 @@ public class SimulationEngine {
     private final ZeitgeistManager zeitgeistManager;
     private final ScandalScheduler scandalScheduler;
     private final ScandalImpactCalculator impactCalculator;
+    private final ScandalTargetSelector targetSelector;
+    private final boolean telemetry;
 
     // ========================================
     // Constructors
@@ -57,8 +78,32 @@ public class SimulationEngine {
                             ZeitgeistManager zeitgeistManager,
                             ScandalScheduler scandalScheduler,
                             ScandalImpactCalculator impactCalculator) {
+        this(params, csvLoader, distributionProvider, partyRegistry, voterPopulation, voterBehavior, zeitgeistManager,
+                scandalScheduler, impactCalculator, true);
+    }
+
+    /**
+     * @param telemetry {@code false} für Zweige, die weder Profiler, Metriken noch JFR-Ereignisse der
+     *                  laufenden Simulation berühren dürfen.
+     */
+    private SimulationEngine(SimulationParameters params,
+                             CSVLoader csvLoader,
+                             DistributionProvider distributionProvider,
+                             PartyRegistry partyRegistry,
+                             VoterPopulation voterPopulation,
+                             VoterBehavior voterBehavior,
+                             ZeitgeistManager zeitgeistManager,
+                             ScandalScheduler scandalScheduler,
+                             ScandalImpactCalculator impactCalculator,
+                             boolean telemetry) {
         this.parameters = params;
         this.state = new SimulationState();
+        this.history = new SimulationHistory();
+        this.indicators = new PoliticalIndicators();
+        this.rewindBuffer = new RewindBuffer(RewindConfig.getBudgetBytes(), RewindConfig.KEYFRAME_INTERVAL);
+        this.telemetry = telemetry;
+        this.profiler = telemetry ? new TickProfiler() : TickProfiler.disabled();
+        this.metrics = new MetricsRegistry();
         this.csvLoader = csvLoader;
         this.distributionProvider = distributionProvider;
         this.partyRegistry = partyRegistry;
@@ -67,6 +112,7 @@ public class SimulationEngine {
         this.zeitgeistManager = zeitgeistManager;
         this.scandalScheduler = scandalScheduler;
         this.impactCalculator = impactCalculator;
+        this.targetSelector = new ScandalTargetSelector();
 
         this.distributionProvider.initialize(params);
     }
@@ -91,50 +137,99 @@ public class SimulationEngine {
         return parameters;
     }
 
+    /**
+     * Direkter Zugriff auf die Wählerspalten. Darf nur zwischen zwei Ticks gelesen werden.
+     */
+    public VoterPopulation getPopulation() {
+        return voterPopulation;
+    }
+
+    public SimulationHistory getHistory() {
+        return history;
+    }
+
+    public PoliticalIndicators getIndicators() {
+        return indicators;
+    }
+
+    public RewindBuffer getRewindBuffer() {
+        return rewindBuffer;
+    }
+
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
     // ========================================
     // Business Logic Methods
     // ========================================
 
     public void initializeSimulation() {
         state.reset();
+        profiler.reset();
         scandalScheduler.reset();
         impactCalculator.reset();
 
         double initialZeitgeist = (distributionProvider.getRandomGenerator().nextDouble() - 0.5) * 2.0;
         zeitgeistManager.setZeitgeist(initialZeitgeist);
+        zeitgeistManager.reseed(distributionProvider.getRandomGenerator().nextLong());
 
         partyRegistry.initializeParties(parameters, distributionProvider);
 
-        voterBehavior.initializePopulation(
+        int partyCount = partyRegistry.getParties().size();
+        boolean fromLibrary = PopulationLibrary.tryLoad(
                 voterPopulation,
                 parameters.populationSize(),
-                partyRegistry.getParties().size(),
+                partyCount,
+                parameters.loyaltyAverage(),
+                voterBehavior,
                 distributionProvider
         );
+        if (!fromLibrary) {
+            voterBehavior.initializePopulation(
+                    voterPopulation,
+                    parameters.populationSize(),
+                    partyCount,
+                    distributionProvider
+            );
+        }
+
+        targetSelector.rebuild(partyRegistry.getParties(), parameters.populationSize());
+        resetHistory();
 
-        recalculateCounts();
+        rewindBuffer.clear();
+        recordRewindFrame();
     }
 
     public List<VoterTransition> runSimulationStep() {
+        SimulationTickEvent tickEvent = telemetry ? new SimulationTickEvent() : null;
+        if (tickEvent != null) tickEvent.begin();
         state.incrementStep();
+        long t = profiler.startTick(state.getCurrentStep());
 
-        state.getActiveScandals().removeIf(e -> state.getCurrentStep() - e.occurredAtStep() > SimulationConfig.SCANDAL_MAX_AGE_TICKS);
+        state.getActiveScandals().expire(state.getCurrentStep());
+        t = profiler.lap(TickPhase.SCANDAL_EXPIRY, t);
 
         if (scandalScheduler.shouldScandalOccur() && partyRegistry.getParties().size() > 1) {
             triggerNewScandal();
         }
+        t = profiler.lap(TickPhase.SCANDAL_TRIGGER, t);
 
         zeitgeistManager.updateZeitgeist();
+        t = profiler.lap(TickPhase.ZEITGEIST, t);
 
-        voterBehavior.evolvePopulation(voterPopulation, parameters);
+        voterBehavior.evolvePopulation(voterPopulation, parameters, distributionProvider);
+        t = profiler.lap(TickPhase.EVOLVE_POPULATION, t);
 
-        double[] acutePressures = impactCalculator.calculateAcutePressure(
-                state.getActiveScandals(),
-                partyRegistry.getParties(),
-                state.getCurrentStep()
-        );
+        double[] acutePressures = impactCalculator.advance(state.getCurrentStep(), partyRegistry.getParties().size());
+        t = profiler.lap(TickPhase.ACUTE_PRESSURE, t);
 
         impactCalculator.processRecovery(partyRegistry.getParties(), parameters.populationSize());
+        t = profiler.lap(TickPhase.RECOVERY, t);
 
         List<VoterTransition> transitions = voterBehavior.processVoterDecisions(
                 voterPopulation,
@@ -142,10 +237,16 @@ public class SimulationEngine {
                 parameters,
                 acutePressures,
                 impactCalculator,
-                zeitgeistManager.getCurrentZeitgeist()
+                zeitgeistManager.getCurrentZeitgeist(),
+                distributionProvider
         );
+        t = profiler.lap(TickPhase.VOTER_DECISIONS, t);
 
-        recalculateCounts();
+        int[] counts = recalculateCounts();
+        history.append(counts);
+        indicators.update(counts, voterBehavior.getLastHistogram());
+        long tickNanos = profiler.endTick(profiler.lap(TickPhase.RECALCULATE_COUNTS, t));
+        if (tickEvent != null) recordTickTelemetry(tickEvent, tickNanos);
 
         return transitions;
     }
@@ -166,25 +267,257 @@ public class SimulationEngine {
         initializeSimulation();
     }
 
+    /**
+     * Erstellt eine konsistente Momentaufnahme des gesamten Zustands.
+     * Muss zwischen zwei Ticks auf dem Simulations-Thread aufgerufen werden. Der Zustand von Haupt- und
+     * Zeitgeist-Generator wird nur gelesen; die Aufnahme verändert den laufenden Lauf nicht, und ein
+     * wiederhergestellter Lauf setzt dieselbe Zufallsfolge fort. Alle übrigen Zufallszüge der Engine
+     * (Wählerverhalten, Parteiaufstellung, Skandalauswahl) stammen aus diesen beiden Generatoren. Umfragen und
+     * Prognosen ziehen aus eigenen Generatoren, wirken aber nicht auf den Zustand zurück und fehlen daher hier.
+     *
+     * @return Unabhängige Kopie, die von einem anderen Thread gespeichert werden kann.
+     */
+    public EngineSnapshot captureSnapshot() {
+        return captureSnapshot(true);
+    }
+
+    /**
+     * Zeichnet den aktuellen Zustand im Rückspulpuffer auf, sofern die Aufzeichnung aktiv ist und der Schritt
+     * auf das Aufzeichnungsraster ({@link RewindConfig#getInterval()}) fällt. Wird vom Controller nach jedem
+     * Tick auf dem Simulations-Thread aufgerufen.
+     */
+    public void recordRewindFrame() {
+        int interval = RewindConfig.getInterval();
+        if (interval > 0 && rewindBuffer.isRecording() && state.getCurrentStep() % interval == 0) {
+            rewindBuffer.record(captureSnapshot(false), voterPopulation);
+        }
+    }
+
+    /**
+     * Spult auf den letzten aufgezeichneten Zustand bis einschließlich {@code step} zurück.
+     * Spätere Frames werden verworfen, die Simulation verzweigt ab diesem Punkt.
+     *
+     * @param step Gewünschter Schritt.
+     * @return {@code false}, wenn der Schritt nicht mehr im Puffer liegt.
+     */
+    public boolean rewindTo(int step) {
+        EngineSnapshot snapshot = rewindBuffer.reconstruct(step);
+        if (snapshot == null) return false;
+
+        applySnapshot(snapshot);
+        rewindBuffer.truncateAfter(snapshot);
+        return true;
+    }
+
+    /**
+     * Verzweigt die Simulation am aktuellen Schritt in eine unabhängige Engine.
+     * <p>
+     * Die Wählerpopulation wird nicht kopiert, sondern seitenweise per Copy-on-Write geteilt; ein Fork kostet
+     * daher kaum Speicher, bis die Wähler beider Zweige auseinanderlaufen. Alle übrigen Komponenten sind klein
+     * und werden über eine Momentaufnahme übertragen, einschließlich des Zustands von Haupt- und Zeitgeist-Generator.
+     * Da Wählerverhalten, Parteiaufstellung und Skandalauswahl ihre Zufallszüge daraus beziehen, rechnen beide
+     * Engines ohne Eingriff dieselbe Folge; Unterschiede zwischen Zweigen entstehen aus Eingriffen wie
+     * {@link #forceScandal(int)} oder {@link #reseedRandom(long)}.
+     * Zweige messen nichts und erzeugen keine JFR-Ereignisse, damit sie die Telemetrie nicht verfälschen.
+     * Muss zwischen zwei Ticks auf dem Thread aufgerufen werden, der diese Engine ausführt.
+     * </p>
+     *
+     * @return Neue Engine mit eigenem Zustand, die parallel zu dieser laufen darf.
+     */
+    public SimulationEngine fork() {
+        EngineSnapshot snapshot = captureSnapshot(false);
+        DistributionProvider childDistribution = new DistributionProvider(parameters);
+        SimulationEngine child = new SimulationEngine(
+                parameters,
+                csvLoader,
+                childDistribution,
+                new PartyRegistry(csvLoader),
+                voterPopulation.fork(),
+                new VoterBehavior(),
+                new ZeitgeistManager(),
+                new ScandalScheduler(childDistribution),
+                impactCalculator.copy(),
+                false
+        );
+        child.applySnapshot(snapshot);
+        return child;
+    }
+
+    /**
+     * Wertet einen Wahltag für den aktuellen Stand aus. Die Wahlbeteiligung wird aus dem aktuellen Schritt
+     * abgeleitet, dieselbe Auswertung am selben Schritt liefert also dasselbe Ergebnis.
+     * Muss zwischen zwei Ticks aufgerufen werden.
+     *
+     * @param evaluator Auswertung mit Verfahren, Sitzzahl und Sperrklausel.
+     * @return Das Wahlergebnis.
+     */
+    public ElectionResult evaluateElection(ElectionEvaluator evaluator) {
+        return evaluator.evaluate(voterPopulation, partyRegistry.getParties(), state.getCurrentStep());
+    }
+
+    /**
+     * Setzt die Zufallsgeneratoren von Engine und Zeitgeist auf neue Startwerte, damit ein Fork eine eigene Folge erhält.
+     *
+     * @param seed Startwert; der Zeitgeist erhält einen daraus abgeleiteten Wert.
+     */
+    public void reseedRandom(long seed) {
+        distributionProvider.reseed(seed);
+        zeitgeistManager.reseed(Long.rotateLeft(seed, 32) ^ 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Löst sofort einen zufälligen Skandal gegen eine bestimmte Partei aus, unabhängig vom Zeitplan.
+     * Gedacht für Was-wäre-wenn-Zweige nach einem {@link #fork()}. Da die Zeile des aktuellen Schritts bereits
+     * verbucht ist, gilt der Skandal als im nächsten Schritt aufgetreten und wirkt ab dem nächsten Tick.
+     *
+     * @param partyIndex Index der betroffenen Partei.
+     * @return Der ausgelöste Skandal oder {@code null} bei ungültigem Index.
+     */
+    public ScandalEvent forceScandal(int partyIndex) {
+        if (partyIndex < 0 || partyIndex >= partyRegistry.getParties().size()) return null;
+        return registerScandal(partyIndex, csvLoader.getRandomScandal(distributionProvider.getRandomGenerator()),
+                state.getCurrentStep() + 1);
+    }
+
+    private EngineSnapshot captureSnapshot(boolean includePopulation) {
+        List<Party> parties = partyRegistry.getParties();
+        List<EngineSnapshot.PartyState> partyStates = new ArrayList<>(parties.size());
+        List<EngineSnapshot.ActiveScandal> scandals = new ArrayList<>(state.getActiveScandals().size());
+
+        for (int i = 0; i < parties.size(); i++) {
+            Party p = parties.get(i);
+            partyStates.add(new EngineSnapshot.PartyState(p.getName(), p.getAbbreviation(), p.getColorCode(),
+                    p.getPoliticalPosition(), p.getCampaignBudget(), p.getCurrentSupporterCount(), p.getScandalCount()));
+
+            for (ScandalEvent event : state.getActiveScandals().getForParty(i)) {
+                scandals.add(new EngineSnapshot.ActiveScandal(i, event.occurredAtStep(), event.scandal()));
+            }
+        }
+
+        return new EngineSnapshot(
+                parameters,
+                state.getCurrentStep(),
+                zeitgeistManager.getCurrentZeitgeist(),
+                distributionProvider.getRandomState(),
+                zeitgeistManager.getRandomState(),
+                scandalScheduler.getTimeUntilNextScandal(),
+                List.copyOf(partyStates),
+                impactCalculator.copyPermanentDamage(),
+                impactCalculator.copyPressureRing(),
+                impactCalculator.copyDamageRing(),
+                List.copyOf(scandals),
+                voterPopulation.size(),
+                includePopulation ? voterPopulation.exportColumns() : null
+        );
+    }
+
+    /**
+     * Setzt die Engine auf eine gespeicherte Momentaufnahme zurück.
+     * Der Verlauf beginnt ab dem wiederhergestellten Schritt neu.
+     *
+     * @param snapshot Zuvor mit {@link #captureSnapshot()} erstellter oder geladener Zustand.
+     */
+    public void restoreSnapshot(EngineSnapshot snapshot) {
+        applySnapshot(snapshot);
+        rewindBuffer.clear();
+        recordRewindFrame();
+    }
+
+    private void applySnapshot(EngineSnapshot snapshot) {
+        this.parameters = snapshot.parameters();
+        distributionProvider.initialize(parameters);
+        distributionProvider.restoreRandomState(snapshot.randomState());
+        zeitgeistManager.restoreRandomState(snapshot.zeitgeistRandomState());
+        zeitgeistManager.setZeitgeist(snapshot.zeitgeist());
+        scandalScheduler.setTimeUntilNextScandal(snapshot.timeUntilNextScandal());
+        profiler.reset();
+
+        List<Party> parties = new ArrayList<>(snapshot.parties().size());
+        for (EngineSnapshot.PartyState ps : snapshot.parties()) {
+            Party party = new Party(ps.name(), ps.abbreviation(), ps.colorCode(),
+                    ps.politicalPosition(), ps.campaignBudget(), ps.supporterCount());
+            party.setScandalCount(ps.scandalCount());
+            parties.add(party);
+        }
+        partyRegistry.restoreParties(parties);
+
+        impactCalculator.restore(snapshot.permanentDamage(), snapshot.pressureRing(), snapshot.damageRing());
+        state.restore(snapshot.step());
+        for (EngineSnapshot.ActiveScandal as : snapshot.activeScandals()) {
+            if (as.partyIndex() < 0 || as.partyIndex() >= parties.size()) continue;
+            state.restoreScandal(new ScandalEvent(as.scandal(), parties.get(as.partyIndex()), as.occurredAtStep()), as.partyIndex());
+        }
+
+        if (snapshot.populationColumns() != null) {
+            voterPopulation.importColumns(snapshot.populationColumns(), snapshot.populationSize());
+        }
+
+        targetSelector.rebuild(parties, parameters.populationSize());
+        resetHistory();
+    }
+
     // ========================================
     // Utility Methods
     // ========================================
 
     private void triggerNewScandal() {
-        List<Party> realParties = partyRegistry.getTargetableParties();
+        int partyIndex = targetSelector.selectTarget(distributionProvider.getRandomGenerator().nextDouble());
 
-        if (!realParties.isEmpty()) {
-            int index = distributionProvider.getRandomGenerator().nextInt(realParties.size());
-            Party target = realParties.get(index);
-            Scandal s = csvLoader.getRandomScandal();
+        if (partyIndex >= 0) {
+            registerScandal(partyIndex, csvLoader.getRandomScandal(distributionProvider.getRandomGenerator()),
+                    state.getCurrentStep());
+        }
+    }
 
-            ScandalEvent event = new ScandalEvent(s, target, state.getCurrentStep());
-            state.addScandal(event);
-            target.incrementScandalCount();
+    private ScandalEvent registerScandal(int partyIndex, Scandal s, int occurredAtStep) {
+        Party target = partyRegistry.getParties().get(partyIndex);
+
+        ScandalEvent event = new ScandalEvent(s, target, occurredAtStep);
+        state.addScandal(event, partyIndex);
+        impactCalculator.registerScandal(event, partyIndex);
+        target.incrementScandalCount();
+        targetSelector.refresh(partyIndex, target);
+        if (!telemetry) return event;
+        metrics.recordScandal();
+
+        ScandalTriggeredEvent jfrEvent = new ScandalTriggeredEvent();
+        if (jfrEvent.isEnabled()) {
+            jfrEvent.step = state.getCurrentStep();
+            jfrEvent.party = target.getAbbreviation();
+            jfrEvent.title = s.title();
+            jfrEvent.strength = s.strength();
+            jfrEvent.commit();
         }
+        return event;
+    }
+
+    private void recordTickTelemetry(SimulationTickEvent tickEvent, long tickNanos) {
+        AllocationTracker allocations = profiler.getAllocations();
+        metrics.recordTick(tickNanos, voterBehavior.getLastSwitchCount(),
+                allocations.getLastTickBytes(), allocations.getLastTickGcPauseNanos());
+
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.step = state.getCurrentStep();
+            tickEvent.switches = voterBehavior.getLastSwitchCount();
+            tickEvent.population = voterPopulation.size();
+            tickEvent.allocatedBytes = allocations.getLastTickBytes();
+            tickEvent.gcPause = allocations.getLastTickGcPauseNanos();
+            tickEvent.commit();
+        }
+    }
+
+    /**
+     * Beginnt Anhänger- und Kennzahlenverlauf ab dem aktuellen Schritt neu.
+     */
+    private void resetHistory() {
+        int[] counts = recalculateCounts();
+        history.reset(counts.length, state.getCurrentStep());
+        history.append(counts);
+        indicators.reset(counts, state.getCurrentStep(), voterBehavior.measureHistogram(voterPopulation));
     }
 
-    private void recalculateCounts() {
+    private int[] recalculateCounts() {
         int[] counts = new int[partyRegistry.getParties().size()];
         int maxIdx = counts.length - 1;
 
@@ -196,5 +529,8 @@ public class SimulationEngine {
         }
 
         partyRegistry.updateSupporterCounts(counts);
+        targetSelector.updateSupporters(partyRegistry.getParties(), counts);
+        if (telemetry) metrics.updatePartyGauges(partyRegistry.getParties());
+        return counts;
     }
 }
\ No newline at end of file
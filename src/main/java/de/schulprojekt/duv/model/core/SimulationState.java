@@ -1,8 +1,8 @@
 package de.schulprojekt.duv.model.core;
 
+import de.schulprojekt.duv.model.scandal.ActiveScandalStore;
 import de.schulprojekt.duv.model.scandal.ScandalEvent;
-import java.util.ArrayList;
-import java.util.List;
+import de.schulprojekt.duv.util.config.SimulationConfig;
 
 /**
  * Verwaltet den Laufzeitzustand der Simulation.
@@ -19,7 +19,7 @@ public class SimulationState {
     // ========================================
 
     private int currentStep = 0;
-    private final List<ScandalEvent> activeScandals = new ArrayList<>();
+    private final ActiveScandalStore activeScandals = new ActiveScandalStore(SimulationConfig.SCANDAL_MAX_AGE_TICKS);
 
     /** Referenz auf den aktuellsten Skandal.
      * Ermöglicht UI direkten Trigger für Benachrichtigungen.
@@ -42,7 +42,7 @@ public class SimulationState {
         return currentStep;
     }
 
-    public List<ScandalEvent> getActiveScandals() {
+    public ActiveScandalStore getActiveScandals() {
         return activeScandals;
     }
 
@@ -60,9 +60,12 @@ public class SimulationState {
      * Es stellt sicher, dass ein Ereignis nur genau einmal als
      * "neu" verarbeitet wird,
      * obwohl es in der Liste der aktiven Skandale erhalten bleibt.
+     *
+     * @param event Der neue Skandal.
+     * @param partyIndex Index der betroffenen Partei in der Parteiliste.
      */
-    public void addScandal(ScandalEvent event) {
-        activeScandals.add(event);
+    public void addScandal(ScandalEvent event, int partyIndex) {
+        activeScandals.add(event, partyIndex);
         lastScandal = event;
     }
 
@@ -72,6 +75,22 @@ public class SimulationState {
         return s;
     }
 
+    /**
+     * Setzt den Zustand auf einen gespeicherten Schritt zurück. Aktive Skandale werden anschließend einzeln hinzugefügt.
+     * @param step Der wiederhergestellte Simulationsschritt.
+     */
+    public void restore(int step) {
+        reset();
+        currentStep = step;
+    }
+
+    /**
+     * Fügt einen wiederhergestellten Skandal hinzu, ohne ihn erneut als "neu" zu melden.
+     */
+    public void restoreScandal(ScandalEvent event, int partyIndex) {
+        activeScandals.add(event, partyIndex);
+    }
+
     public void reset() {
         currentStep = 0;
         activeScandals.clear();
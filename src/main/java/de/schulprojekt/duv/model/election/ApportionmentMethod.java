@@ -0,0 +1,115 @@
+package de.schulprojekt.duv.model.election;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Sitzzuteilungsverfahren für die Wahlauswertung.
+ * <p>
+ * Die Höchstzahlverfahren vergeben die Sitze über eine Prioritätswarteschlange, in der jede Partei mit ihrer
+ * nächsten Höchstzahl steht. Jeder Sitz kostet damit {@code O(log n)} für {@code n} Parteien, auch bei
+ * mehreren tausend Sitzen. Quotienten werden über Kreuzprodukte exakt verglichen. Gleichstände gehen an die
+ * Partei mit dem kleineren Index.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public enum ApportionmentMethod {
+
+    /** Höchstzahlverfahren mit Divisoren 1, 2, 3, … (bevorzugt größere Parteien leicht). */
+    D_HONDT {
+        @Override
+        public int[] apportion(long[] votes, int seats) {
+            return highestAverages(votes, seats, 1, 1);
+        }
+    },
+
+    /** Höchstzahlverfahren mit Divisoren 1, 3, 5, … (Sainte-Laguë/Schepers, Bundestag). */
+    SAINTE_LAGUE {
+        @Override
+        public int[] apportion(long[] votes, int seats) {
+            return highestAverages(votes, seats, 1, 2);
+        }
+    },
+
+    /** Quotenverfahren mit größtem Rest (Hare-Niemeyer). */
+    HARE_NIEMEYER {
+        @Override
+        public int[] apportion(long[] votes, int seats) {
+            return largestRemainder(votes, seats);
+        }
+    };
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Verteilt die Sitze auf die Parteien.
+     *
+     * @param votes Stimmen je Partei; Parteien mit 0 Stimmen erhalten keinen Sitz.
+     * @param seats Anzahl der zu vergebenden Sitze.
+     * @return Sitze je Partei in der Reihenfolge von {@code votes}. Die Summe ist genau {@code seats},
+     *         sofern mindestens eine Partei Stimmen hat, sonst 0.
+     */
+    public abstract int[] apportion(long[] votes, int seats);
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    /**
+     * Divisor für den {@code k}-ten Sitz einer Partei ist {@code first + k * step}.
+     */
+    private static int[] highestAverages(long[] votes, int seats, long first, long step) {
+        int[] result = new int[votes.length];
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, votes.length), (a, b) -> {
+            // a vor b, wenn votes[a] / d(a) > votes[b] / d(b)
+            int cmp = Long.compare(votes[b] * divisor(result[a], first, step), votes[a] * divisor(result[b], first, step));
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+        for (int i = 0; i < votes.length; i++) {
+            if (votes[i] > 0) queue.add(i);
+        }
+        if (queue.isEmpty()) return result;
+
+        for (int s = 0; s < seats; s++) {
+            int winner = queue.poll();
+            result[winner]++;
+            queue.add(winner);
+        }
+        return result;
+    }
+
+    private static long divisor(int seatsHeld, long first, long step) {
+        return first + seatsHeld * step;
+    }
+
+    private static int[] largestRemainder(long[] votes, int seats) {
+        int[] result = new int[votes.length];
+        long total = Arrays.stream(votes).sum();
+        if (total <= 0) return result;
+
+        long[] remainders = new long[votes.length];
+        int assigned = 0;
+        for (int i = 0; i < votes.length; i++) {
+            long scaled = votes[i] * seats;
+            result[i] = (int) (scaled / total);
+            remainders[i] = scaled % total;
+            assigned += result[i];
+        }
+
+        Integer[] order = new Integer[votes.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            int cmp = Long.compare(remainders[b], remainders[a]);
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+        for (int k = 0; assigned < seats; k++) {
+            result[order[k % order.length]]++;
+            assigned++;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package de.schulprojekt.duv.model.election;
+
+/**
+ * Eine minimale Gewinnkoalition.
+ *
+ * @param partyIndices Indizes der beteiligten Parteien, nach Sitzen absteigend.
+ * @param seats Gemeinsame Sitze.
+ * @param spread Ideologische Spannweite, Abstand zwischen äußerster linker und rechter politischer Position.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record Coalition(int[] partyIndices, int seats, double spread) {
+
+    /**
+     * @return Anzahl der Koalitionspartner.
+     */
+    public int size() {
+        return partyIndices.length;
+    }
+}
@@ -0,0 +1,221 @@
+package de.schulprojekt.duv.model.election;
+
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.util.config.ElectionConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Ermittelt minimale Gewinnkoalitionen nach einer Wahl.
+ * <p>
+ * Eine Koalition ist minimal, wenn sie die Mehrheit hat und sie ohne jeden einzelnen Partner verliert. Sind die
+ * Parteien nach Sitzen absteigend sortiert, genügt es, den kleinsten Partner zu prüfen. Daraus folgen zwei Teile:
+ * </p>
+ * <ul>
+ *   <li>Die Anzahl aller minimalen Gewinnkoalitionen wird exakt per Teilsummen-DP über die Sitzzahlen gezählt,
+ *       ohne sie aufzuzählen.</li>
+ *   <li>Die besten Koalitionen werden per Tiefensuche aufgezählt. Jeder Zweig endet, sobald die Mehrheit erreicht
+ *       ist. Zweige, die die Mehrheit nicht mehr minimal erreichen können, werden über Bitmasken der erreichbaren
+ *       Restsummen abgeschnitten, Zweige mit zu großer Spannweite über die bisher schlechteste Koalition der
+ *       Bestenliste.</li>
+ * </ul>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class CoalitionAnalyzer {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int MAX_PARTIES = 63;
+
+    /** Kleinere Spannweite zuerst, dann weniger Partner, dann mehr Sitze. */
+    public static final Comparator<Coalition> RANKING = Comparator.comparingDouble(Coalition::spread)
+            .thenComparingInt(Coalition::size)
+            .thenComparing(Comparator.comparingInt(Coalition::seats).reversed());
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final int limit;
+
+    // Zustand einer Analyse, nach Sitzen absteigend sortiert
+    private int[] order;
+    private int[] seats;
+    private double[] positions;
+    private long[][] reachable;
+    private int majority;
+    private int[] stack;
+    private PriorityQueue<Coalition> best;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public CoalitionAnalyzer() {
+        this(ElectionConfig.COALITION_LIMIT);
+    }
+
+    /**
+     * @param limit Anzahl der Koalitionen in der Bestenliste.
+     */
+    public CoalitionAnalyzer(int limit) {
+        this.limit = Math.max(1, limit);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param parties Parteien in der Reihenfolge von {@code seatCounts}.
+     * @param seatCounts Sitze je Partei, etwa aus {@link ElectionResult#seats()}.
+     * @return Mehrheit, Anzahl und Bestenliste der minimalen Gewinnkoalitionen.
+     * @throws IllegalArgumentException Wenn mehr als 63 Parteien Sitze haben.
+     */
+    public synchronized CoalitionReport analyze(List<Party> parties, int[] seatCounts) {
+        prepare(parties, seatCounts);
+        if (seats.length == 0) return new CoalitionReport(0, 0, List.of());
+
+        long count = countMinimalWinning();
+
+        best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        stack = new int[seats.length];
+        search(0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+
+        List<Coalition> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        best = null;
+        return new CoalitionReport(majority, count, List.copyOf(ranked));
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private void prepare(List<Party> parties, int[] seatCounts) {
+        int n = Math.min(parties.size(), seatCounts.length);
+        order = IntStream.range(0, n).filter(i -> seatCounts[i] > 0).boxed()
+                .sorted(Comparator.<Integer>comparingInt(i -> seatCounts[i]).reversed().thenComparingInt(i -> i))
+                .mapToInt(Integer::intValue).toArray();
+        if (order.length > MAX_PARTIES) {
+            throw new IllegalArgumentException("At most " + MAX_PARTIES + " parties with seats supported, got " + order.length);
+        }
+
+        seats = new int[order.length];
+        positions = new double[order.length];
+        int total = 0;
+        for (int k = 0; k < order.length; k++) {
+            seats[k] = seatCounts[order[k]];
+            positions[k] = parties.get(order[k]).getPoliticalPosition();
+            total += seats[k];
+        }
+        majority = total / 2 + 1;
+
+        // reachable[k]: Bitmaske aller Summen, die mit Parteien ab k erreichbar sind, begrenzt auf < majority + größte Sitzzahl
+        int bits = majority + (seats.length > 0 ? seats[0] : 0);
+        int words = (bits + 63) >>> 6;
+        reachable = new long[order.length + 1][words];
+        reachable[order.length][0] = 1L;
+        for (int k = order.length - 1; k >= 0; k--) {
+            long[] next = reachable[k + 1];
+            long[] current = reachable[k];
+            System.arraycopy(next, 0, current, 0, words);
+            orShifted(current, next, seats[k], bits);
+        }
+    }
+
+    /**
+     * Zählt Teilmengen, deren kleinster Partner die Mehrheit herstellt: Summe ohne ihn unter, mit ihm ab der Mehrheit.
+     */
+    private long countMinimalWinning() {
+        long[] ways = new long[majority];
+        ways[0] = 1;
+        long count = 0;
+        for (int s : seats) {
+            for (int sum = Math.max(0, majority - s); sum < majority; sum++) {
+                count += ways[sum];
+            }
+            for (int sum = majority - 1; sum >= s; sum--) {
+                ways[sum] += ways[sum - s];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Erweitert die aktuelle Koalition um Parteien ab {@code from}. Invariante: {@code sum < majority}.
+     */
+    private void search(int from, int depth, int sum, double minPos, double maxPos) {
+        for (int k = from; k < seats.length; k++) {
+            int newSum = sum + seats[k];
+            double newMin = Math.min(minPos, positions[k]);
+            double newMax = Math.max(maxPos, positions[k]);
+            double spread = newMax - newMin;
+            if (best.size() == limit && spread > best.peek().spread()) continue;
+
+            stack[depth] = k;
+            if (newSum >= majority) {
+                offer(depth + 1, newSum, spread);
+                continue;
+            }
+
+            // Mehrheit muss mit einem Rest t erreicht werden, dessen kleinster Partner höchstens seats[k + 1] hat
+            if (k + 1 < seats.length) {
+                int lo = majority - newSum;
+                int hi = lo + seats[k + 1];
+                if (anyBetween(reachable[k + 1], lo, hi)) {
+                    search(k + 1, depth + 1, newSum, newMin, newMax);
+                }
+            }
+        }
+    }
+
+    private void offer(int size, int total, double spread) {
+        int[] members = new int[size];
+        for (int i = 0; i < size; i++) members[i] = order[stack[i]];
+        Coalition candidate = new Coalition(members, total, spread);
+        if (best.size() < limit) {
+            best.add(candidate);
+        } else if (RANKING.compare(candidate, best.peek()) < 0) {
+            best.poll();
+            best.add(candidate);
+        }
+    }
+
+    private static void orShifted(long[] target, long[] source, int shift, int bits) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int w = target.length - 1; w >= wordShift; w--) {
+            int src = w - wordShift;
+            long value = source[src] << bitShift;
+            if (bitShift != 0 && src > 0) value |= source[src - 1] >>> (64 - bitShift);
+            target[w] |= value;
+        }
+        int excess = target.length * 64 - bits;
+        if (excess > 0) target[target.length - 1] &= -1L >>> excess;
+    }
+
+    /**
+     * @return Ob in {@code mask} ein Bit im halboffenen Intervall {@code [lo, hi)} gesetzt ist.
+     */
+    private static boolean anyBetween(long[] mask, int lo, int hi) {
+        int limit = Math.min(hi, mask.length * 64);
+        for (int bit = Math.max(0, lo); bit < limit; ) {
+            int word = bit >>> 6;
+            long value = mask[word] >>> (bit & 63);
+            int span = Math.min(64 - (bit & 63), limit - bit);
+            if (span < 64) value &= (1L << span) - 1;
+            if (value != 0) return true;
+            bit += span;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package de.schulprojekt.duv.model.election;
+
+import java.util.List;
+
+/**
+ * Ergebnis der Koalitionsanalyse.
+ *
+ * @param majority Für eine Mehrheit nötige Sitze.
+ * @param minimalWinningCount Anzahl aller minimalen Gewinnkoalitionen, exakt per Teilsummen-DP gezählt.
+ * @param ranked Die besten Koalitionen, nach Spannweite, dann Partnerzahl, dann Sitzen sortiert.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record CoalitionReport(int majority, long minimalWinningCount, List<Coalition> ranked) {
+}
@@ -0,0 +1,135 @@
+package de.schulprojekt.duv.model.election;
+
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.util.config.ElectionConfig;
+import de.schulprojekt.duv.util.config.SimulationConfig;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Wertet einen Wahltag über die gesamte Population aus.
+ * <p>
+ * Die Auszählung ist ein einziger paralleler Durchlauf über Blöcke fester Größe. Jeder Block zieht die
+ * Wahlbeteiligung seiner Wähler mit einem eigenen, aus Startwert und Blockindex abgeleiteten Generator und
+ * zählt in ein eigenes Array; die Teilergebnisse werden anschließend summiert. Bei gleichem Startwert ist das
+ * Ergebnis damit unabhängig von der Thread-Verteilung. Danach folgen Sperrklausel und Sitzzuteilung.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class ElectionEvaluator {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final ApportionmentMethod method;
+    private final int seats;
+    private final double thresholdPercent;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public ElectionEvaluator() {
+        this(ElectionConfig.DEFAULT_METHOD, ElectionConfig.PARLIAMENT_SEATS, ElectionConfig.DEFAULT_THRESHOLD_PERCENT);
+    }
+
+    /**
+     * @param method Sitzzuteilungsverfahren.
+     * @param seats Anzahl der Sitze.
+     * @param thresholdPercent Sperrklausel in Prozent der gültigen Stimmen, 0 für keine.
+     */
+    public ElectionEvaluator(ApportionmentMethod method, int seats, double thresholdPercent) {
+        this.method = method;
+        this.seats = seats;
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Führt Auszählung, Sperrklausel und Sitzzuteilung durch.
+     * Muss zwischen zwei Ticks aufgerufen werden, während die Population nicht beschrieben wird.
+     *
+     * @param pop Die Population.
+     * @param parties Parteien in der Reihenfolge der Parteiindizes.
+     * @param seed Startwert für die Wahlbeteiligung.
+     * @return Das Wahlergebnis.
+     */
+    public ElectionResult evaluate(VoterPopulation pop, List<Party> parties, long seed) {
+        long[] votes = tally(pop, parties, seed);
+        List<String> names = parties.stream().map(Party::getName).toList();
+        return apportion(votes, names, pop.size());
+    }
+
+    /**
+     * Wendet Sperrklausel und Sitzzuteilung auf bereits ausgezählte Stimmen an.
+     * Scheitern alle Parteien an der Sperrklausel, nehmen alle an der Verteilung teil.
+     *
+     * @param votes Gültige Stimmen je Partei.
+     * @param partyNames Parteinamen in derselben Reihenfolge.
+     * @param eligibleVoters Anzahl der Wahlberechtigten.
+     * @return Das Wahlergebnis.
+     */
+    public ElectionResult apportion(long[] votes, List<String> partyNames, long eligibleVoters) {
+        long valid = 0;
+        for (long v : votes) valid += v;
+
+        boolean[] above = new boolean[votes.length];
+        long[] qualified = new long[votes.length];
+        boolean anyAbove = false;
+        for (int i = 0; i < votes.length; i++) {
+            above[i] = votes[i] > 0 && votes[i] * 100.0 >= thresholdPercent * valid;
+            anyAbove |= above[i];
+        }
+        for (int i = 0; i < votes.length; i++) {
+            if (!anyAbove) above[i] = votes[i] > 0;
+            qualified[i] = above[i] ? votes[i] : 0;
+        }
+
+        return new ElectionResult(method, thresholdPercent, eligibleVoters, partyNames, votes, above,
+                method.apportion(qualified, seats));
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private long[] tally(VoterPopulation pop, List<Party> parties, long seed) {
+        int size = pop.size();
+        int partyCount = parties.size();
+        int undecided = -1;
+        for (int i = 0; i < partyCount; i++) {
+            if (parties.get(i).getName().equals(SimulationConfig.UNDECIDED_NAME)) undecided = i;
+        }
+        int skip = undecided;
+        int chunkSize = ElectionConfig.TALLY_CHUNK_SIZE;
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        long[][] partial = new long[chunks][];
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom rnd = new SplittableRandom(seed ^ (chunk * 0x9E3779B97F4A7C15L));
+            long[] counts = new long[partyCount];
+            int end = Math.min(size, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                int party = pop.getPartyIndexRaw(i);
+                if (party < 0 || party >= partyCount || party == skip) continue;
+                if (rnd.nextDouble() < ElectionConfig.TURNOUT_BY_TYPE[pop.getVoterTypeRaw(i)]) counts[party]++;
+            }
+            partial[chunk] = counts;
+        });
+
+        long[] votes = new long[partyCount];
+        for (long[] counts : partial) {
+            for (int p = 0; p < partyCount; p++) votes[p] += counts[p];
+        }
+        return votes;
+    }
+}
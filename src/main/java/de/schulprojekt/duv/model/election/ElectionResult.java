@@ -0,0 +1,52 @@
+package de.schulprojekt.duv.model.election;
+
+import java.util.List;
+
+/**
+ * Ergebnis einer Wahlauswertung.
+ *
+ * @param method Verwendetes Sitzzuteilungsverfahren.
+ * @param thresholdPercent Sperrklausel in Prozent der gültigen Stimmen.
+ * @param eligibleVoters Anzahl der Wahlberechtigten, also die gesamte Population.
+ * @param partyNames Parteinamen in der Reihenfolge der Arrays.
+ * @param votes Gültige Stimmen je Partei; unentschlossene Wähler geben keine Stimme ab.
+ * @param aboveThreshold Ob die Partei an der Sitzverteilung teilnimmt.
+ * @param seats Sitze je Partei.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record ElectionResult(
+        ApportionmentMethod method,
+        double thresholdPercent,
+        long eligibleVoters,
+        List<String> partyNames,
+        long[] votes,
+        boolean[] aboveThreshold,
+        int[] seats
+) {
+
+    public long validVotes() {
+        long sum = 0;
+        for (long v : votes) sum += v;
+        return sum;
+    }
+
+    public double turnoutPercent() {
+        return eligibleVoters == 0 ? 0.0 : validVotes() * 100.0 / eligibleVoters;
+    }
+
+    public int totalSeats() {
+        int sum = 0;
+        for (int s : seats) sum += s;
+        return sum;
+    }
+
+    /**
+     * @param partyName Name der Partei.
+     * @return Sitze der Partei oder 0, wenn sie nicht zur Wahl stand.
+     */
+    public int seatsFor(String partyName) {
+        int index = partyNames.indexOf(partyName);
+        return index < 0 ? 0 : seats[index];
+    }
+}
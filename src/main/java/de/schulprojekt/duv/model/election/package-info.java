@@ -0,0 +1,10 @@
+/**
+ * Election-day evaluation of the simulated population.
+ * Samples turnout per voter type in one parallel pass, applies the electoral threshold
+ * and apportions seats with D'Hondt, Sainte-Laguë or Hare-Niemeyer.
+ * Minimal winning coalitions are counted by subset-sum dynamic programming and the
+ * ideologically closest ones are enumerated with bitmask-pruned search.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.model.election;
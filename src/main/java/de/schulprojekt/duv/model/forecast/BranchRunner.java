@@ -0,0 +1,89 @@
+package de.schulprojekt.duv.model.forecast;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rechnet Was-wäre-wenn-Zweige der Simulation nebeneinander voraus.
+ * <p>
+ * Anders als der {@link Forecaster} wendet jeder Zweig einen eigenen Eingriff an, etwa einen erzwungenen
+ * Skandal, und liefert die fertigen Engines zurück. Die Zweige laufen in einem eigenen Pool, dessen Threads
+ * auch ihre parallelen Wählerschleifen ausführen; die Quell-Engine bleibt unverändert.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class BranchRunner {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(BranchRunner.class.getName());
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final ForkJoinPool pool;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * @param parallelism Anzahl der Zweige, die gleichzeitig rechnen dürfen.
+     */
+    public BranchRunner(int parallelism) {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism), p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("Branch-Worker-" + t.getPoolIndex());
+            t.setDaemon(true);
+            return t;
+        }, null, false);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Verzweigt die Quelle je Szenario und rechnet alle Zweige parallel voraus.
+     * Muss zwischen zwei Ticks auf dem Thread aufgerufen werden, der die Quelle ausführt; nur die Forks
+     * entstehen dort, die eigentliche Rechnung läuft im Pool.
+     *
+     * @param source Laufende Engine.
+     * @param scenarios Eingriff je Zweig, etwa {@code e -> e.forceScandal(1)}; wird vor dem ersten Tick angewendet.
+     * @param ticks Anzahl der Schritte, die jeder Zweig vorausgerechnet wird.
+     * @return Die Zweige in Reihenfolge der Szenarien.
+     */
+    public CompletableFuture<List<SimulationEngine>> run(SimulationEngine source, List<Consumer<SimulationEngine>> scenarios,
+                                                         int ticks) {
+        List<CompletableFuture<SimulationEngine>> futures = new ArrayList<>(scenarios.size());
+        for (Consumer<SimulationEngine> scenario : scenarios) {
+            SimulationEngine branch = source.fork();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                scenario.accept(branch);
+                for (int i = 0; i < ticks; i++) branch.runSimulationStep();
+                return branch;
+            }, pool));
+        }
+        LOGGER.log(Level.INFO, "Forked {0} branches at step {1}", new Object[]{futures.size(), source.getCurrentStep()});
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
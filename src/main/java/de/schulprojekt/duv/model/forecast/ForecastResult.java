@@ -0,0 +1,32 @@
+package de.schulprojekt.duv.model.forecast;
+
+import java.util.List;
+
+/**
+ * Ergebnis einer Prognose als Perzentilfächer je Partei.
+ *
+ * @param originStep Schritt, an dem die Prognose abgezweigt wurde.
+ * @param sampleInterval Abstand der Stützpunkte in Ticks; Punkt 0 liegt auf {@code originStep}.
+ * @param runs Anzahl der ausgewerteten Fortsetzungen.
+ * @param partyNames Parteinamen in der Reihenfolge der ersten Dimension von {@code bands}.
+ * @param percentiles Ausgewertete Perzentile, aufsteigend.
+ * @param bands Anhängerzahlen als {@code [Partei][Perzentil][Stützpunkt]}.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record ForecastResult(
+        int originStep,
+        int sampleInterval,
+        int runs,
+        List<String> partyNames,
+        int[] percentiles,
+        float[][][] bands
+) {
+
+    /**
+     * @return Prognosezeitraum in Ticks.
+     */
+    public int horizon() {
+        return bands.length == 0 ? 0 : (bands[0][0].length - 1) * sampleInterval;
+    }
+}
@@ -0,0 +1,203 @@
+package de.schulprojekt.duv.model.forecast;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.util.config.ForecastConfig;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rechnet im Hintergrund mehrere zufällige Fortsetzungen der laufenden Simulation voraus.
+ * <p>
+ * Jede Prognose verzweigt die Engine per {@link SimulationEngine#fork()} in {@code runs} Zweige mit
+ * eigenen Startwerten und lässt sie ohne Oberfläche mit voller Geschwindigkeit über
+ * {@link ForecastConfig#HORIZON} Ticks laufen. Die Zweige teilen sich einen eigenen Pool mit einem Kern
+ * weniger als verfügbar. Fällt die Live-Simulation hinter ihre Soll-Tickrate zurück, meldet der Controller
+ * das über {@link #setThrottled(boolean)}; die Zweige warten dann zwischen zwei Ticks, bis sie wieder
+ * Rechenzeit erhalten.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class Forecaster {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(Forecaster.class.getName());
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final int runs;
+    private final ForkJoinPool pool;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean throttled = false;
+    private volatile boolean busy = false;
+    private int lastOriginStep = Integer.MIN_VALUE;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * @param runs Anzahl der Fortsetzungen je Prognose; 0 schaltet die Prognose ab.
+     */
+    public Forecaster(int runs) {
+        this.runs = runs;
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("Forecast-Worker-" + t.getPoolIndex());
+            t.setPriority(Thread.MIN_PRIORITY);
+            t.setDaemon(true);
+            return t;
+        }, null, false);
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public boolean isBusy() {
+        return busy;
+    }
+
+    public boolean isThrottled() {
+        return throttled;
+    }
+
+    public void setThrottled(boolean throttled) {
+        this.throttled = throttled;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Startet eine Prognose, sofern keine läuft und seit der letzten genug Ticks vergangen sind.
+     * Muss zwischen zwei Ticks auf dem Thread aufgerufen werden, der die Quell-Engine ausführt.
+     *
+     * @param source Die laufende Engine.
+     * @param onResult Erhält das Ergebnis auf einem Prognose-Thread, sofern es nicht zwischenzeitlich verworfen wurde.
+     * @return {@code true}, wenn eine Prognose gestartet wurde.
+     */
+    public boolean maybeStart(SimulationEngine source, Consumer<ForecastResult> onResult) {
+        if (runs == 0 || busy || pool.isShutdown()) return false;
+        int origin = source.getCurrentStep();
+        if (origin >= lastOriginStep && (long) origin - lastOriginStep < ForecastConfig.REFRESH_INTERVAL) return false;
+
+        busy = true;
+        lastOriginStep = origin;
+        int gen = generation.get();
+        List<String> partyNames = source.getParties().stream().map(Party::getName).toList();
+        int points = ForecastConfig.HORIZON / ForecastConfig.SAMPLE_INTERVAL + 1;
+        float[][][] samples = new float[runs][partyNames.size()][points];
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[runs];
+        for (int r = 0; r < runs; r++) {
+            SimulationEngine branch = source.fork();
+            branch.reseedRandom(seeds.nextLong());
+            float[][] out = samples[r];
+            futures[r] = CompletableFuture.runAsync(() -> runContinuation(branch, out, gen), pool);
+        }
+
+        CompletableFuture.allOf(futures).whenComplete((ignored, error) -> {
+            busy = false;
+            if (error != null) {
+                if (!(error.getCause() instanceof CancellationException)) {
+                    LOGGER.log(Level.WARNING, "Forecast failed", error);
+                }
+                return;
+            }
+            if (gen != generation.get()) return;
+            onResult.accept(aggregate(origin, partyNames, samples));
+        });
+        return true;
+    }
+
+    /**
+     * Verwirft eine laufende Prognose, etwa nach Reset, Rückspulen oder Laden eines Spielstands.
+     * Muss auf dem Thread der Quell-Engine aufgerufen werden.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        lastOriginStep = Integer.MIN_VALUE;
+    }
+
+    public void shutdown() {
+        generation.incrementAndGet();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Fasst die Fortsetzungen zu Perzentilen je Partei und Stützpunkt zusammen (Nearest-Rank).
+     *
+     * @param origin Ausgangsschritt.
+     * @param partyNames Parteinamen.
+     * @param samples Anhängerzahlen als {@code [Lauf][Partei][Stützpunkt]}.
+     * @return Der Perzentilfächer.
+     */
+    static ForecastResult aggregate(int origin, List<String> partyNames, float[][][] samples) {
+        int runCount = samples.length;
+        int[] percentiles = ForecastConfig.PERCENTILES;
+        int points = runCount == 0 ? 0 : samples[0][0].length;
+        float[][][] bands = new float[partyNames.size()][percentiles.length][points];
+        float[] column = new float[runCount];
+
+        for (int p = 0; p < bands.length; p++) {
+            for (int i = 0; i < points; i++) {
+                for (int r = 0; r < runCount; r++) column[r] = samples[r][p][i];
+                Arrays.sort(column);
+                for (int q = 0; q < percentiles.length; q++) {
+                    int rank = (int) Math.round(percentiles[q] / 100.0 * (runCount - 1));
+                    bands[p][q][i] = column[rank];
+                }
+            }
+        }
+        return new ForecastResult(origin, ForecastConfig.SAMPLE_INTERVAL, runCount, partyNames, percentiles.clone(), bands);
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private void runContinuation(SimulationEngine branch, float[][] out, int gen) {
+        sample(branch, out, 0);
+        for (int tick = 1; tick <= ForecastConfig.HORIZON; tick++) {
+            while (throttled && gen == generation.get()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ForecastConfig.THROTTLE_PARK_MS));
+            }
+            if (gen != generation.get()) throw new CancellationException();
+
+            branch.runSimulationStep();
+            if (tick % ForecastConfig.SAMPLE_INTERVAL == 0) {
+                sample(branch, out, tick / ForecastConfig.SAMPLE_INTERVAL);
+            }
+        }
+    }
+
+    private static void sample(SimulationEngine branch, float[][] out, int point) {
+        List<Party> parties = branch.getParties();
+        for (int p = 0; p < out.length && p < parties.size(); p++) {
+            out[p][point] = parties.get(p).getCurrentSupporterCount();
+        }
+    }
+}
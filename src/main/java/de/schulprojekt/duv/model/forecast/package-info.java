@@ -0,0 +1,9 @@
+/**
+ * Background forecasting of vote shares.
+ * Runs several stochastic continuations of forked engines on spare cores and
+ * condenses them into percentile bands for the trend chart, and runs what-if
+ * branches with individual interventions side by side.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.model.forecast;
@@ -0,0 +1,121 @@
+package de.schulprojekt.duv.model.history;
+
+/**
+ * Ringpuffer der Positionsdichte über die letzten Ticks für die Heatmap der Statistik-Ansicht.
+ * <p>
+ * Alle Zählwerte liegen zeilenweise in einem einzigen {@code int}-Feld; ist der Puffer voll, überschreibt jeder
+ * neue Tick den ältesten. Geschrieben wird nur vom Simulations-Thread, gelesen über {@link #snapshot()}.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class DensityHistory {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final int buckets;
+    private final int capacity;
+    private final int[] counts;
+    private int head = 0;
+    private int size = 0;
+    private int firstTick = 0;
+
+    // ========================================
+    // Constructor
+    // ========================================
+
+    /**
+     * @param buckets Anzahl der Positionsklassen je Tick.
+     * @param capacity Anzahl der vorgehaltenen Ticks.
+     */
+    public DensityHistory(int buckets, int capacity) {
+        if (buckets <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Buckets and capacity must be positive");
+        }
+        this.buckets = buckets;
+        this.capacity = capacity;
+        this.counts = new int[buckets * capacity];
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Kopiert die gespeicherten Ticks in chronologischer Reihenfolge.
+     *
+     * @return Unabhängige Sicht, die vom weiteren Schreiben nicht berührt wird.
+     */
+    public synchronized Snapshot snapshot() {
+        int[] ordered = new int[size * buckets];
+        int start = (head - size + capacity) % capacity;
+        int firstPart = Math.min(size, capacity - start);
+        System.arraycopy(counts, start * buckets, ordered, 0, firstPart * buckets);
+        System.arraycopy(counts, 0, ordered, firstPart * buckets, (size - firstPart) * buckets);
+
+        int max = 0;
+        for (int value : ordered) max = Math.max(max, value);
+        return new Snapshot(ordered, buckets, size, firstTick, max);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Verwirft den bisherigen Verlauf.
+     *
+     * @param firstTick Tick des ersten folgenden Eintrags.
+     */
+    public synchronized void reset(int firstTick) {
+        this.head = 0;
+        this.size = 0;
+        this.firstTick = firstTick;
+    }
+
+    /**
+     * Hängt die Dichte eines Ticks an und verdrängt bei vollem Puffer den ältesten.
+     *
+     * @param density Wähler je Positionsklasse; mindestens {@code buckets} Einträge.
+     */
+    public synchronized void append(int[] density) {
+        System.arraycopy(density, 0, counts, head * buckets, buckets);
+        head = (head + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        } else {
+            firstTick++;
+        }
+    }
+
+    // ========================================
+    // Inner Classes / Records
+    // ========================================
+
+    /**
+     * Chronologische Kopie des Ringpuffers.
+     *
+     * @param counts Zählwerte zeilenweise je Tick.
+     * @param buckets Positionsklassen je Tick.
+     * @param size Anzahl der Ticks.
+     * @param firstTick Tick der ersten Zeile.
+     * @param maxCount Größter Einzelwert, etwa zur Normierung der Farben.
+     */
+    public record Snapshot(int[] counts, int buckets, int size, int firstTick, int maxCount) {
+
+        public int get(int index, int bucket) {
+            return counts[index * buckets + bucket];
+        }
+
+        public int tickAt(int index) {
+            return firstTick + index;
+        }
+    }
+}
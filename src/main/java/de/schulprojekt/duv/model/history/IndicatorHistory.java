@@ -0,0 +1,114 @@
+package de.schulprojekt.duv.model.history;
+
+import java.util.Arrays;
+
+/**
+ * Speichert den Verlauf der politischen Kennzahlen je Tick in voller Auflösung.
+ * <p>
+ * Aufbau und Nebenläufigkeit entsprechen {@link SimulationHistory}: feste {@code float}-Blöcke je Kennzahl,
+ * geschrieben nur vom Simulations-Thread, gelesen über unveränderliche Momentaufnahmen.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class IndicatorHistory {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    /** Pedersen-Volatilität gegenüber dem Vortick in Prozent. */
+    public static final int VOLATILITY = 0;
+
+    /** Effektive Parteienanzahl nach Laakso-Taagepera. */
+    public static final int EFFECTIVE_PARTIES = 1;
+
+    private static final int SERIES_COUNT = 2;
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private float[][][] chunks = new float[0][][];
+    private int firstTick = 0;
+    private int size = 0;
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return Konsistente Sicht auf alle bisher geschriebenen Ticks.
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(chunks, firstTick, size);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Verwirft den bisherigen Verlauf.
+     *
+     * @param firstTick Tick des ersten folgenden Eintrags.
+     */
+    public synchronized void reset(int firstTick) {
+        this.chunks = new float[0][][];
+        this.firstTick = firstTick;
+        this.size = 0;
+    }
+
+    /**
+     * Hängt die Kennzahlen eines Ticks an. Nur vom Simulations-Thread aufzurufen.
+     */
+    public synchronized void append(double volatility, double effectiveParties) {
+        int chunkIndex = size >>> CHUNK_BITS;
+        if (chunkIndex == chunks.length) {
+            float[][][] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+            grown[chunkIndex] = new float[SERIES_COUNT][CHUNK_SIZE];
+            chunks = grown;
+        }
+
+        float[][] chunk = chunks[chunkIndex];
+        int offset = size & CHUNK_MASK;
+        chunk[VOLATILITY][offset] = (float) volatility;
+        chunk[EFFECTIVE_PARTIES][offset] = (float) effectiveParties;
+        size++;
+    }
+
+    // ========================================
+    // Inner Classes / Records
+    // ========================================
+
+    /**
+     * Unveränderliche Sicht auf den Kennzahlenverlauf.
+     *
+     * @param chunks Blockspeicher (nur bis {@code size} gültig).
+     * @param firstTick Tick des ersten Eintrags.
+     * @param size Anzahl der Einträge.
+     */
+    public record Snapshot(float[][][] chunks, int firstTick, int size) {
+
+        /**
+         * @param series {@link #VOLATILITY} oder {@link #EFFECTIVE_PARTIES}.
+         * @param index Position im Verlauf.
+         * @return Wert der Kennzahl.
+         */
+        public float get(int series, int index) {
+            return chunks[index >>> CHUNK_BITS][series][index & CHUNK_MASK];
+        }
+
+        public int tickAt(int index) {
+            return firstTick + index;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package de.schulprojekt.duv.model.history;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Reduziert lange Zeitreihen mit dem Largest-Triangle-Three-Buckets-Verfahren (LTTB).
+ * <p>
+ * Erster und letzter Punkt bleiben erhalten. Der Bereich dazwischen wird in gleich große Eimer geteilt;
+ * aus jedem Eimer wird der Punkt gewählt, der mit dem zuvor gewählten Punkt und dem Mittelwert des
+ * nächsten Eimers das größte Dreieck bildet. Dadurch bleiben Spitzen und Einbrüche sichtbar,
+ * während die Punktzahl auf etwa die Pixelbreite des Diagramms sinkt. Laufzeit O(n).
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class LttbDownsampler {
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private LttbDownsampler() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Wählt repräsentative Indizes aus dem Bereich [from, to) aus.
+     *
+     * @param values Liefert den y-Wert zu einem Index; x ist der Index selbst.
+     * @param from Erster Index (inklusive).
+     * @param to Letzter Index (exklusive).
+     * @param threshold Gewünschte Punktanzahl (mindestens 3, sonst wird der Bereich unverändert geliefert).
+     * @return Aufsteigend sortierte Indizes der ausgewählten Punkte.
+     */
+    public static int[] downsample(IntToDoubleFunction values, int from, int to, int threshold) {
+        int length = to - from;
+        if (length <= 0) return new int[0];
+        if (threshold >= length || threshold < 3) {
+            int[] all = new int[length];
+            for (int i = 0; i < length; i++) all[i] = from + i;
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (length - 2) / (threshold - 2);
+        int a = from;
+        selected[0] = a;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = from + 1 + (int) ((bucket + 1) * bucketSize);
+            int nextEnd = Math.min(from + 1 + (int) ((bucket + 2) * bucketSize), to);
+            if (nextStart >= to - 1) {
+                nextStart = to - 1;
+                nextEnd = to;
+            }
+
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += i;
+                avgY += values.applyAsDouble(i);
+            }
+            int nextCount = Math.max(1, nextEnd - nextStart);
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            int rangeStart = from + 1 + (int) (bucket * bucketSize);
+            int rangeEnd = from + 1 + (int) ((bucket + 1) * bucketSize);
+            double ay = values.applyAsDouble(a);
+
+            double maxArea = -1;
+            int maxIndex = rangeStart;
+            for (int i = rangeStart; i < rangeEnd; i++) {
+                double area = Math.abs((a - avgX) * (values.applyAsDouble(i) - ay) - (a - i) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected[bucket + 1] = maxIndex;
+            a = maxIndex;
+        }
+
+        selected[threshold - 1] = to - 1;
+        return selected;
+    }
+}
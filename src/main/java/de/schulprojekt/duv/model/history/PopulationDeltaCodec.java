@@ -0,0 +1,303 @@
+package de.schulprojekt.duv.model.history;
+
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.util.config.RewindConfig;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Kodiert die Änderungen einer Population gegenüber einem Referenzstand als kompaktes Delta.
+ * <p>
+ * Je Block und Spalte wird zuerst eine Dirty-Bitmap der geänderten Wähler gebildet. Kodiert werden dann
+ * nur die gesetzten Bits: der Abstand zum vorherigen geänderten Wähler (Lauflänge der unveränderten)
+ * und das XOR aus altem und neuem Wert, beides als Varint. Parteiwechsel sind selten und kosten daher
+ * fast nichts.
+ * </p>
+ * <p>
+ * Gleitkommaspalten wie Position und Loyalität ändern sich dagegen in fast jedem Frame bei nahezu allen
+ * Wählern, und ihr XOR hat selten genug führende Nullbits: Abstand und XOR kosten dann etwa 5 Byte je
+ * Wähler gegenüber 4 Byte roh. Überschreitet der Anteil geänderter Wähler eines Blocks
+ * {@link RewindConfig#DELTA_RAW_RATIO}, wird die Spalte dieses Blocks daher unverändert abgelegt. Der
+ * Vergleichsdurchlauf über alle Wähler bleibt, entfällt für rohe Blöcke aber beim Schreiben.
+ * </p>
+ * <p>
+ * Der Referenzpuffer hat das Layout von {@link VoterPopulation#exportColumns()} und wird beim Kodieren
+ * auf den neuen Stand gebracht.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class PopulationDeltaCodec {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int COLUMNS = 5;
+    private static final int LOYALTY = 0;
+    private static final int POSITION = 1;
+    private static final int MEDIA = 2;
+    private static final int PARTY = 3;
+    private static final int TYPE = 4;
+
+    /** Kennzeichnet im Spaltenkopf einen roh abgelegten Block; die übrigen Bits tragen die Zahl der Änderungen. */
+    private static final int RAW_FLAG = 1;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PopulationDeltaCodec() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param pop Aktueller Stand
+     * @param reference Vorheriger Stand, wird auf den aktuellen Stand gebracht
+     * @return Kodiertes Delta
+     */
+    static byte[] encode(VoterPopulation pop, ByteBuffer reference) {
+        int size = pop.size();
+        int chunkSize = RewindConfig.DELTA_CHUNK_SIZE;
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        ByteBuffer ref = reference.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        byte[][] encoded = new byte[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int start = chunk * chunkSize;
+            int end = Math.min(size, start + chunkSize);
+            long[] dirty = new long[(end - start + 63) >>> 6];
+            ByteSink sink = new ByteSink(256);
+            for (int column = 0; column < COLUMNS; column++) {
+                encodeColumn(pop, ref, size, column, start, end, dirty, sink);
+            }
+            encoded[chunk] = sink.toByteArray();
+        });
+
+        ByteSink out = new ByteSink(16);
+        out.writeVarint(size);
+        out.writeVarint(chunks);
+        for (byte[] bytes : encoded) out.writeVarint(bytes.length);
+        for (byte[] bytes : encoded) out.write(bytes);
+        return out.toByteArray();
+    }
+
+    /**
+     * Wendet ein Delta auf einen Spaltenpuffer an.
+     * @param delta Mit {@link #encode(VoterPopulation, ByteBuffer)} erzeugtes Delta
+     * @param columns Spaltenpuffer des vorherigen Stands, wird in-place aktualisiert
+     */
+    static void apply(byte[] delta, ByteBuffer columns) {
+        ByteBuffer target = columns.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        ByteSource in = new ByteSource(delta, 0);
+        int size = in.readVarint();
+        int chunks = in.readVarint();
+        int[] lengths = new int[chunks];
+        for (int i = 0; i < chunks; i++) lengths[i] = in.readVarint();
+
+        int offset = in.position;
+        int chunkSize = RewindConfig.DELTA_CHUNK_SIZE;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            ByteSource chunkIn = new ByteSource(delta, offset);
+            int start = chunk * chunkSize;
+            int end = Math.min(size, start + chunkSize);
+            for (int column = 0; column < COLUMNS; column++) {
+                int header = chunkIn.readVarint();
+                if ((header & RAW_FLAG) != 0) {
+                    for (int i = start; i < end; i++) {
+                        int position = offset(column, size, i);
+                        if (column >= PARTY) target.put(position, chunkIn.readByte());
+                        else target.putInt(position, chunkIn.readIntLittleEndian());
+                    }
+                    continue;
+                }
+                int changed = header >>> 1;
+                int index = start - 1;
+                for (int k = 0; k < changed; k++) {
+                    index += chunkIn.readVarint();
+                    int xor = chunkIn.readVarint();
+                    int position = offset(column, size, index);
+                    if (column >= PARTY) {
+                        target.put(position, (byte) (target.get(position) ^ xor));
+                    } else {
+                        target.putInt(position, target.getInt(position) ^ xor);
+                    }
+                }
+            }
+            offset += lengths[chunk];
+        }
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static void encodeColumn(VoterPopulation pop, ByteBuffer ref, int size, int column,
+                                     int start, int end, long[] dirty, ByteSink sink) {
+        Arrays.fill(dirty, 0L);
+        int changed = 0;
+        for (int i = start; i < end; i++) {
+            if (current(pop, column, i) != reference(ref, column, size, i)) {
+                int bit = i - start;
+                dirty[bit >>> 6] |= 1L << bit;
+                changed++;
+            }
+        }
+
+        if (changed > (end - start) * RewindConfig.DELTA_RAW_RATIO) {
+            sink.writeVarint(RAW_FLAG);
+            for (int i = start; i < end; i++) {
+                int now = current(pop, column, i);
+                if (column >= PARTY) sink.writeByte(now);
+                else sink.writeIntLittleEndian(now);
+                store(ref, column, size, i, now);
+            }
+            return;
+        }
+
+        sink.writeVarint(changed << 1);
+        int previous = start - 1;
+        for (int word = 0; word < dirty.length; word++) {
+            long bits = dirty[word];
+            while (bits != 0) {
+                int i = start + (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                int now = current(pop, column, i);
+                int before = reference(ref, column, size, i);
+                sink.writeVarint(i - previous);
+                sink.writeVarint(now ^ before);
+                store(ref, column, size, i, now);
+                previous = i;
+            }
+        }
+    }
+
+    private static int current(VoterPopulation pop, int column, int i) {
+        return switch (column) {
+            case LOYALTY -> Float.floatToRawIntBits(pop.getLoyaltyRaw(i));
+            case POSITION -> Float.floatToRawIntBits(pop.getPositionRaw(i));
+            case MEDIA -> Float.floatToRawIntBits(pop.getMediaInfluenceRaw(i));
+            case PARTY -> pop.getPartyIndexRaw(i) & 0xFF;
+            default -> pop.getVoterTypeRaw(i) & 0xFF;
+        };
+    }
+
+    private static int reference(ByteBuffer ref, int column, int size, int i) {
+        int position = offset(column, size, i);
+        return column >= PARTY ? ref.get(position) & 0xFF : ref.getInt(position);
+    }
+
+    private static void store(ByteBuffer ref, int column, int size, int i, int value) {
+        int position = offset(column, size, i);
+        if (column >= PARTY) ref.put(position, (byte) value);
+        else ref.putInt(position, value);
+    }
+
+    private static int offset(int column, int size, int i) {
+        return switch (column) {
+            case LOYALTY, POSITION, MEDIA -> (column * size + i) * Float.BYTES;
+            case PARTY -> 3 * size * Float.BYTES + i;
+            default -> 3 * size * Float.BYTES + size + i;
+        };
+    }
+
+    // ========================================
+    // Inner Classes
+    // ========================================
+
+    /**
+     * Wachsender Bytepuffer mit Varint-Kodierung (7 Bit je Byte, vorzeichenlos).
+     */
+    private static final class ByteSink {
+
+        private byte[] bytes;
+        private int length = 0;
+
+        ByteSink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void writeVarint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            bytes[length++] = (byte) value;
+        }
+
+        void writeIntLittleEndian(int value) {
+            ensure(Integer.BYTES);
+            bytes[length++] = (byte) value;
+            bytes[length++] = (byte) (value >>> 8);
+            bytes[length++] = (byte) (value >>> 16);
+            bytes[length++] = (byte) (value >>> 24);
+        }
+
+        void write(byte[] data) {
+            ensure(data.length);
+            System.arraycopy(data, 0, bytes, length, data.length);
+            length += data.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+
+    private static final class ByteSource {
+
+        private final byte[] bytes;
+        private int position;
+
+        ByteSource(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        byte readByte() {
+            return bytes[position++];
+        }
+
+        int readIntLittleEndian() {
+            int value = (bytes[position] & 0xFF)
+                    | (bytes[position + 1] & 0xFF) << 8
+                    | (bytes[position + 2] & 0xFF) << 16
+                    | (bytes[position + 3] & 0xFF) << 24;
+            position += Integer.BYTES;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package de.schulprojekt.duv.model.history;
+
+import de.schulprojekt.duv.model.core.EngineSnapshot;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Begrenzter Ringpuffer von Engine-Zuständen zum Zurückspulen.
+ * <p>
+ * Alle {@code keyframeInterval} Frames wird die Population vollständig kopiert (Keyframe), dazwischen
+ * nur als Delta gegenüber dem vorherigen Frame ({@link PopulationDeltaCodec}). Wäre ein Delta nicht kleiner als
+ * die volle Kopie, wird stattdessen vorzeitig ein Keyframe abgelegt. Die übrigen Zustandsteile
+ * sind klein und liegen jedem Frame als {@link EngineSnapshot} ohne Wählerspalten bei.
+ * </p>
+ * <p>
+ * Das Budget gilt nach jedem {@link #record} inklusive Referenzkopie. Überschritten wird es durch Verwerfen
+ * des ältesten Frames; folgt darauf ein Delta, wird es in den Keyframe eingerechnet, sodass auch innerhalb
+ * eines Abschnitts Frames entfallen können. Passen nicht einmal Keyframe und Referenz ins Budget, wird die
+ * Aufzeichnung bis zum nächsten {@link #clear()} eingestellt.
+ * </p>
+ * <p>
+ * Aufzeichnung und Rekonstruktion laufen auf dem Simulations-Thread; die Grenzen des erreichbaren
+ * Bereichs dürfen von der UI gelesen werden.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class RewindBuffer {
+
+    // ========================================
+    // Inner Types
+    // ========================================
+
+    private record Frame(int step, EngineSnapshot state, ByteBuffer keyframe, byte[] delta, long bytes) {
+
+        boolean isKeyframe() {
+            return keyframe != null;
+        }
+    }
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(RewindBuffer.class.getName());
+
+    /** Grobe Schätzung des festen Anteils eines Frames (Parteien, Skandale, Objekt-Header). */
+    private static final long FRAME_OVERHEAD_BYTES = 1024;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final long budgetBytes;
+    private final int keyframeInterval;
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private ByteBuffer reference;
+    private int framesSinceKeyframe = 0;
+    private long usedBytes = 0;
+    private boolean suspended = false;
+    private volatile int oldestStep = -1;
+    private volatile int newestStep = -1;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * @param budgetBytes Maximaler Speicherverbrauch inklusive Referenzkopie.
+     * @param keyframeInterval Anzahl der Frames je Abschnitt.
+     */
+    public RewindBuffer(long budgetBytes, int keyframeInterval) {
+        this.budgetBytes = budgetBytes;
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    /**
+     * @return Ältester erreichbarer Schritt oder -1, wenn nichts aufgezeichnet ist.
+     */
+    public int getOldestStep() {
+        return oldestStep;
+    }
+
+    /**
+     * @return Neuester aufgezeichneter Schritt oder -1.
+     */
+    public int getNewestStep() {
+        return newestStep;
+    }
+
+    /**
+     * @return Belegter Speicher aller Frames inklusive Referenzkopie.
+     */
+    public long getUsedBytes() {
+        return usedBytes + referenceBytes();
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * @return {@code false}, wenn die Aufzeichnung mangels Budget eingestellt wurde.
+     */
+    public boolean isRecording() {
+        return !suspended;
+    }
+
+    public int getFrameCount() {
+        return frames.size();
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Zeichnet den aktuellen Zustand auf.
+     *
+     * @param state Zustand ohne Wählerspalten.
+     * @param pop Aktuelle Population.
+     */
+    public void record(EngineSnapshot state, VoterPopulation pop) {
+        if (suspended) return;
+
+        long keyframeBytes = (long) pop.size() * VoterPopulation.BYTES_PER_VOTER;
+        if (2 * keyframeBytes + FRAME_OVERHEAD_BYTES + ringBytes(state) > budgetBytes) {
+            LOGGER.log(Level.WARNING, "Rewind budget of {0} bytes cannot hold a single keyframe; recording stopped", budgetBytes);
+            clear();
+            suspended = true;
+            return;
+        }
+
+        boolean needsKeyframe = reference == null
+                || reference.capacity() != pop.size() * VoterPopulation.BYTES_PER_VOTER
+                || framesSinceKeyframe >= keyframeInterval - 1;
+
+        Frame frame;
+        if (needsKeyframe) {
+            ByteBuffer columns = pop.exportColumns();
+            reference = copy(columns);
+            framesSinceKeyframe = 0;
+            frame = new Frame(state.step(), state, columns, null, columns.capacity() + FRAME_OVERHEAD_BYTES + ringBytes(state));
+        } else {
+            byte[] delta = PopulationDeltaCodec.encode(pop, reference);
+            if (delta.length >= keyframeBytes) {
+                // Kaum Gewinn gegenüber einer vollen Kopie, dafür kürzere Ketten beim Rekonstruieren
+                ByteBuffer columns = copy(reference);
+                framesSinceKeyframe = 0;
+                frame = new Frame(state.step(), state, columns, null, columns.capacity() + FRAME_OVERHEAD_BYTES + ringBytes(state));
+            } else {
+                framesSinceKeyframe++;
+                frame = new Frame(state.step(), state, null, delta, delta.length + FRAME_OVERHEAD_BYTES + ringBytes(state));
+            }
+        }
+
+        frames.addLast(frame);
+        usedBytes += frame.bytes();
+        evictOverBudget();
+        updateBounds();
+    }
+
+    /**
+     * Stellt den Zustand des letzten aufgezeichneten Frames bis einschließlich {@code step} wieder her.
+     *
+     * @param step Gewünschter Schritt.
+     * @return Vollständiger Zustand oder {@code null}, wenn der Schritt nicht mehr im Puffer liegt.
+     */
+    public EngineSnapshot reconstruct(int step) {
+        List<Frame> chain = new ArrayList<>();
+        for (Frame frame : frames) {
+            if (frame.step() > step) break;
+            if (frame.isKeyframe()) chain.clear();
+            chain.add(frame);
+        }
+        if (chain.isEmpty()) return null;
+
+        ByteBuffer columns = copy(chain.getFirst().keyframe());
+        for (int i = 1; i < chain.size(); i++) {
+            PopulationDeltaCodec.apply(chain.get(i).delta(), columns);
+        }
+
+        EngineSnapshot s = chain.getLast().state();
+        return new EngineSnapshot(s.parameters(), s.step(), s.zeitgeist(), s.randomState(), s.zeitgeistRandomState(),
+                s.timeUntilNextScandal(), s.parties(), s.permanentDamage(), s.pressureRing(), s.damageRing(),
+                s.activeScandals(), s.populationSize(), columns);
+    }
+
+    /**
+     * Verwirft alle Frames nach dem Schritt, auf den zurückgespult wurde, und setzt die Delta-Referenz auf dessen Stand.
+     * Die Aufzeichnung verzweigt damit ab diesem Punkt.
+     *
+     * @param restored Der wiederhergestellte Zustand inklusive Wählerspalten.
+     */
+    public void truncateAfter(EngineSnapshot restored) {
+        Iterator<Frame> it = frames.descendingIterator();
+        while (it.hasNext()) {
+            Frame frame = it.next();
+            if (frame.step() <= restored.step()) break;
+            usedBytes -= frame.bytes();
+            it.remove();
+        }
+
+        framesSinceKeyframe = countTrailingDeltas();
+        reference = frames.isEmpty() ? null : copy(restored.populationColumns());
+        updateBounds();
+    }
+
+    /**
+     * Verwirft alle Frames und nimmt eine eingestellte Aufzeichnung wieder auf.
+     */
+    public void clear() {
+        frames.clear();
+        reference = null;
+        framesSinceKeyframe = 0;
+        usedBytes = 0;
+        suspended = false;
+        updateBounds();
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private void evictOverBudget() {
+        while (usedBytes + referenceBytes() > budgetBytes && frames.size() > 1) {
+            Frame oldest = frames.removeFirst();
+            usedBytes -= oldest.bytes();
+            Frame next = frames.getFirst();
+            if (next.isKeyframe()) continue;
+
+            // Das folgende Delta in den Keyframe einrechnen, damit der Abschnitt rekonstruierbar bleibt
+            PopulationDeltaCodec.apply(next.delta(), oldest.keyframe());
+            Frame merged = new Frame(next.step(), next.state(), oldest.keyframe(), null,
+                    oldest.keyframe().capacity() + FRAME_OVERHEAD_BYTES + ringBytes(next.state()));
+            frames.removeFirst();
+            frames.addFirst(merged);
+            usedBytes += merged.bytes() - next.bytes();
+            framesSinceKeyframe = countTrailingDeltas();
+        }
+    }
+
+    private int countTrailingDeltas() {
+        int count = 0;
+        for (Iterator<Frame> back = frames.descendingIterator(); back.hasNext(); ) {
+            if (back.next().isKeyframe()) break;
+            count++;
+        }
+        return count;
+    }
+
+    private long referenceBytes() {
+        return reference != null ? reference.capacity() : 0;
+    }
+
+    private void updateBounds() {
+        oldestStep = frames.isEmpty() ? -1 : frames.getFirst().step();
+        newestStep = frames.isEmpty() ? -1 : frames.getLast().step();
+    }
+
+    private static long ringBytes(EngineSnapshot state) {
+        long bytes = (long) state.permanentDamage().length * Double.BYTES;
+        for (double[] row : state.pressureRing()) bytes += (long) row.length * Double.BYTES;
+        for (double[] row : state.damageRing()) bytes += (long) row.length * Double.BYTES;
+        return bytes;
+    }
+
+    private static ByteBuffer copy(ByteBuffer source) {
+        ByteBuffer target = ByteBuffer.allocate(source.capacity()).order(source.order());
+        target.put(0, source, 0, source.capacity());
+        return target;
+    }
+}
@@ -0,0 +1,132 @@
+package de.schulprojekt.duv.model.history;
+
+import java.util.Arrays;
+
+/**
+ * Speichert den vollständigen Verlauf der Anhängerzahlen aller Parteien in voller Auflösung.
+ * <p>
+ * Pro Partei wird ein Spaltenspeicher aus festen {@code int}-Blöcken geführt, damit auch
+ * Läufe mit Millionen Ticks ohne große Umkopieraktionen wachsen können (ca. 4 Byte pro Partei und Tick).
+ * Geschrieben wird ausschließlich vom Simulations-Thread. Andere Threads lesen über
+ * {@link #snapshot()}, das eine unveränderliche Sicht auf alle bis dahin geschriebenen Ticks liefert.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class SimulationHistory {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private int[][][] chunks = new int[0][][];
+    private int seriesCount = 0;
+    private int firstTick = 0;
+    private int size = 0;
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Liefert eine konsistente Sicht auf den aktuellen Verlauf.
+     * Spätere Einträge oder ein {@link #reset(int, int)} verändern die Sicht nicht.
+     *
+     * @return Die Momentaufnahme.
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(chunks, seriesCount, firstTick, size);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Verwirft den bisherigen Verlauf und legt die Spaltenanzahl neu fest.
+     *
+     * @param seriesCount Anzahl der Parteien (inklusive Unentschlossene).
+     * @param firstTick Tick des ersten folgenden Eintrags.
+     */
+    public synchronized void reset(int seriesCount, int firstTick) {
+        this.chunks = new int[0][][];
+        this.seriesCount = seriesCount;
+        this.firstTick = firstTick;
+        this.size = 0;
+    }
+
+    /**
+     * Hängt die aktuellen Anhängerzahlen an. Nur vom Simulations-Thread aufzurufen.
+     *
+     * @param counts Anhängerzahlen in der Reihenfolge der Parteienliste.
+     */
+    public synchronized void append(int[] counts) {
+        int chunkIndex = size >>> CHUNK_BITS;
+        if (chunkIndex == chunks.length) {
+            // Neues Array statt Anhängen, damit ältere Momentaufnahmen unverändert bleiben
+            int[][][] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+            grown[chunkIndex] = new int[seriesCount][CHUNK_SIZE];
+            chunks = grown;
+        }
+
+        int[][] chunk = chunks[chunkIndex];
+        int offset = size & CHUNK_MASK;
+        for (int s = 0; s < seriesCount; s++) {
+            chunk[s][offset] = s < counts.length ? counts[s] : 0;
+        }
+        size++;
+    }
+
+    // ========================================
+    // Inner Classes / Records
+    // ========================================
+
+    /**
+     * Unveränderliche Sicht auf den Verlauf zu einem Zeitpunkt.
+     *
+     * @param chunks Blockspeicher (nur bis {@code size} gültig).
+     * @param seriesCount Anzahl der Parteien.
+     * @param firstTick Tick des ersten Eintrags.
+     * @param size Anzahl der Einträge.
+     */
+    public record Snapshot(int[][][] chunks, int seriesCount, int firstTick, int size) {
+
+        /**
+         * @param series Index der Partei in der Parteienliste.
+         * @param index Position im Verlauf (0 = erster aufgezeichneter Tick).
+         * @return Anhängerzahl zu diesem Zeitpunkt.
+         */
+        public int get(int series, int index) {
+            return chunks[index >>> CHUNK_BITS][series][index & CHUNK_MASK];
+        }
+
+        public int lastTick() {
+            return firstTick + size - 1;
+        }
+
+        public int tickAt(int index) {
+            return firstTick + index;
+        }
+
+        /**
+         * @param tick Simulationstick.
+         * @return Index im Verlauf, auf den gültigen Bereich begrenzt.
+         */
+        public int indexOfTick(long tick) {
+            return Math.clamp(tick - firstTick, 0, Math.max(0, size - 1));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Full-resolution recording of simulation results over time.
+ * Contains the chunked history store and downsampling helpers for visualisation,
+ * plus a bounded rewind buffer of keyframes and delta-compressed population snapshots.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.model.history;
@@ -0,0 +1,45 @@
+package de.schulprojekt.duv.model.indicators;
+
+import de.schulprojekt.duv.model.history.DensityHistory;
+import de.schulprojekt.duv.model.history.IndicatorHistory;
+
+/**
+ * Unveränderlicher Stand der politischen Kennzahlen für die Oberfläche.
+ *
+ * @param history Verlauf von Volatilität und effektiver Parteienanzahl.
+ * @param density Positionsdichte der letzten Ticks.
+ * @param initialCounts Anhängerzahlen zu Beginn des Verlaufs.
+ * @param currentCounts Aktuelle Anhängerzahlen.
+ * @param lastNetMigration Saldo der Zu- und Abwanderung je Partei im letzten Tick.
+ * @param volatility Pedersen-Volatilität des letzten Ticks in Prozent.
+ * @param effectiveParties Aktuelle effektive Parteienanzahl.
+ * @param histogram Aktuelle Verteilung von Loyalität und Position.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record IndicatorSnapshot(
+        IndicatorHistory.Snapshot history,
+        DensityHistory.Snapshot density,
+        int[] initialCounts,
+        int[] currentCounts,
+        int[] lastNetMigration,
+        double volatility,
+        double effectiveParties,
+        PopulationHistogram histogram
+) {
+
+    /**
+     * @return Pedersen-Volatilität zwischen Beginn des Verlaufs und jetzt in Prozent.
+     */
+    public double runVolatility() {
+        return PoliticalIndicators.pedersen(PoliticalIndicators.shares(initialCounts), PoliticalIndicators.shares(currentCounts));
+    }
+
+    /**
+     * @param party Index der Partei.
+     * @return Saldo der Zu- und Abwanderung seit Beginn des Verlaufs.
+     */
+    public int netMigration(int party) {
+        return currentCounts[party] - initialCounts[party];
+    }
+}
@@ -0,0 +1,149 @@
+package de.schulprojekt.duv.model.indicators;
+
+import de.schulprojekt.duv.model.history.DensityHistory;
+import de.schulprojekt.duv.model.history.IndicatorHistory;
+import de.schulprojekt.duv.util.config.IndicatorConfig;
+
+/**
+ * Führt die Kennzahlen des Parteiensystems inkrementell Tick für Tick fort.
+ * <p>
+ * Alle Kennzahlen werden aus den ohnehin ermittelten Anhängerzahlen abgeleitet, der Zusatzaufwand je Tick ist
+ * also {@code O(Parteien)}. Die Histogramme entstehen nebenbei im parallelen Entscheidungsdurchlauf von
+ * {@link de.schulprojekt.duv.model.voter.VoterBehavior} und werden hier nur übernommen; die feine
+ * Positionsdichte wandert zusätzlich in einen Ringpuffer für die Heatmap. Anteile beziehen sich
+ * auf die entschlossenen Wähler, Index 0 (Unentschlossene) zählt nicht als Partei.
+ * </p>
+ * <p>
+ * Geschrieben wird nur vom Simulations-Thread, gelesen über {@link #snapshot()}.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class PoliticalIndicators {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final IndicatorHistory history = new IndicatorHistory();
+    private final DensityHistory density = new DensityHistory(IndicatorConfig.DENSITY_BUCKETS, IndicatorConfig.DENSITY_CAPACITY);
+    private int[] initialCounts = new int[0];
+    private int[] currentCounts = new int[0];
+    private int[] lastNetMigration = new int[0];
+    private double[] currentShares = new double[0];
+    private double volatility;
+    private double effectiveParties;
+    private PopulationHistogram histogram;
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public IndicatorHistory getHistory() {
+        return history;
+    }
+
+    public DensityHistory getDensity() {
+        return density;
+    }
+
+    /**
+     * @return Konsistenter Stand aller Kennzahlen.
+     */
+    public synchronized IndicatorSnapshot snapshot() {
+        return new IndicatorSnapshot(history.snapshot(), density.snapshot(), initialCounts, currentCounts,
+                lastNetMigration, volatility, effectiveParties, histogram);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Beginnt einen neuen Verlauf, etwa nach Initialisierung, Laden oder Rückspulen.
+     *
+     * @param counts Anhängerzahlen je Partei.
+     * @param firstTick Aktueller Schritt.
+     * @param histogram Aktuelle Verteilung von Loyalität und Position.
+     */
+    public synchronized void reset(int[] counts, int firstTick, PopulationHistogram histogram) {
+        initialCounts = counts.clone();
+        currentCounts = initialCounts;
+        lastNetMigration = new int[counts.length];
+        currentShares = shares(counts);
+        volatility = 0;
+        effectiveParties = effectiveNumberOfParties(currentShares);
+        this.histogram = histogram;
+
+        history.reset(firstTick);
+        history.append(volatility, effectiveParties);
+        density.reset(firstTick);
+        density.append(histogram.density());
+    }
+
+    /**
+     * Übernimmt die Anhängerzahlen eines neuen Ticks.
+     *
+     * @param counts Anhängerzahlen je Partei in derselben Reihenfolge wie beim {@link #reset}.
+     * @param histogram Verteilung aus dem Entscheidungsdurchlauf dieses Ticks.
+     */
+    public synchronized void update(int[] counts, PopulationHistogram histogram) {
+        int[] migration = new int[counts.length];
+        for (int p = 0; p < counts.length && p < currentCounts.length; p++) {
+            migration[p] = counts[p] - currentCounts[p];
+        }
+        double[] shares = shares(counts);
+
+        volatility = pedersen(currentShares, shares);
+        effectiveParties = effectiveNumberOfParties(shares);
+        lastNetMigration = migration;
+        currentCounts = counts.clone();
+        currentShares = shares;
+        this.histogram = histogram;
+        history.append(volatility, effectiveParties);
+        density.append(histogram.density());
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    /**
+     * @return Stimmenanteile der Parteien an allen entschlossenen Wählern; Index 0 bleibt 0.
+     */
+    static double[] shares(int[] counts) {
+        long decided = 0;
+        for (int p = 1; p < counts.length; p++) decided += counts[p];
+        double[] shares = new double[counts.length];
+        if (decided == 0) return shares;
+        for (int p = 1; p < counts.length; p++) shares[p] = (double) counts[p] / decided;
+        return shares;
+    }
+
+    /**
+     * Pedersen-Index: halbe Summe der absoluten Anteilsänderungen, also der Anteil der Wähler, der mindestens
+     * netto die Partei gewechselt hat.
+     *
+     * @return Volatilität in Prozent zwischen 0 und 100.
+     */
+    static double pedersen(double[] before, double[] after) {
+        double sum = 0;
+        int common = Math.min(before.length, after.length);
+        for (int p = 0; p < common; p++) sum += Math.abs(after[p] - before[p]);
+        for (int p = common; p < before.length; p++) sum += before[p];
+        for (int p = common; p < after.length; p++) sum += after[p];
+        return sum * 50.0;
+    }
+
+    /**
+     * Effektive Parteienanzahl nach Laakso-Taagepera: Kehrwert der Summe der quadrierten Anteile.
+     *
+     * @return 0, wenn es keine entschlossenen Wähler gibt.
+     */
+    static double effectiveNumberOfParties(double[] shares) {
+        double concentration = 0;
+        for (double s : shares) concentration += s * s;
+        return concentration > 0 ? 1.0 / concentration : 0;
+    }
+}
@@ -0,0 +1,13 @@
+package de.schulprojekt.duv.model.indicators;
+
+/**
+ * Häufigkeitsverteilung von Loyalität und politischer Position über die gesamte Population.
+ *
+ * @param loyalty Wähler je Loyalitätsklasse.
+ * @param position Wähler je Positionsklasse, von links nach rechts.
+ * @param density Wähler je feiner Positionsklasse für die Dichte-Heatmap, von links nach rechts.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record PopulationHistogram(int[] loyalty, int[] position, int[] density) {
+}
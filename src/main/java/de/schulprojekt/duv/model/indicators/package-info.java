@@ -0,0 +1,9 @@
+/**
+ * Political-system indicators updated incrementally every tick.
+ * Derives Pedersen volatility, the effective number of parties and net migration
+ * from party counts in O(parties), and keeps loyalty and position histograms
+ * accumulated during the parallel voter pass.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.model.indicators;
@@ -92,6 +92,13 @@ public class Party {
         this.currentSupporterCount = currentSupporterCount;
     }
 
+    public void setScandalCount(int scandalCount) {
+        if (scandalCount < 0) {
+            throw new IllegalArgumentException("Scandal count cannot be negative, got: " + scandalCount);
+        }
+        this.scandalCount = scandalCount;
+    }
+
     // ========================================
     // Business Logic Methods
     // ========================================
@@ -5,11 +5,11 @@ import de.schulprojekt.duv.model.random.DistributionProvider;
 import de.schulprojekt.duv.util.config.PartyConfig;
 import de.schulprojekt.duv.util.io.CSVLoader;
 import de.schulprojekt.duv.util.config.SimulationConfig;
+import org.apache.commons.math3.random.RandomGenerator;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,7 +47,6 @@ public class PartyRegistry {
 
     private final List<Party> partyList = new ArrayList<>();
     private final CSVLoader csvLoader;
-    private final Random random = new Random();
 
     // ========================================
     // Constructors
@@ -78,7 +77,7 @@ public class PartyRegistry {
     /**
      * Initialisiert die Parteien basierend auf Parametern und Vorlagen.
      * @param params aktuelle Simulationsparameter
-     * @param distribution Provider für Zufallsverteilungen
+     * @param distribution Provider für Zufallsverteilungen; liefert auch Auswahl, Lage und Ersatzfarben der Parteien
      */
     public void initializeParties(SimulationParameters params, DistributionProvider distribution) {
         partyList.clear();
@@ -97,7 +96,8 @@ public class PartyRegistry {
         );
         partyList.add(undecided);
 
-        List<PartyTemplate> templates = csvLoader.getRandomPartyTemplates(partyCount);
+        RandomGenerator random = distribution.getRandomGenerator();
+        List<PartyTemplate> templates = csvLoader.getRandomPartyTemplates(partyCount, random);
 
         for (int i = 0; i < templates.size(); i++) {
             PartyTemplate template = templates.get(i);
@@ -122,6 +122,15 @@ public class PartyRegistry {
         }
     }
 
+    /**
+     * Ersetzt die Parteien durch einen wiederhergestellten Stand.
+     * @param parties Parteien in Listenreihenfolge, "Unsicher" an Index 0
+     */
+    public void restoreParties(List<Party> parties) {
+        partyList.clear();
+        partyList.addAll(parties);
+    }
+
     public void updateSupporterCounts(int[] counts) {
         int limit = Math.min(counts.length, partyList.size());
 
@@ -0,0 +1,34 @@
+package de.schulprojekt.duv.model.polling;
+
+import java.util.List;
+
+/**
+ * Ergebnis einer Meinungsumfrage.
+ *
+ * @param step Schritt, dessen Stand befragt wurde.
+ * @param sampleSize Anzahl der angefragten Personen.
+ * @param respondents Anzahl der Personen, die geantwortet haben.
+ * @param partyNames Parteinamen in der Reihenfolge von {@code shares}.
+ * @param shares Anteil je Partei an allen Antworten, zwischen 0 und 1.
+ * @param margins Halbe Breite des 95-%-Konfidenzintervalls je Partei, zwischen 0 und 1.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record PollResult(
+        int step,
+        int sampleSize,
+        int respondents,
+        List<String> partyNames,
+        double[] shares,
+        double[] margins
+) {
+
+    /**
+     * @return Größte Fehlerspanne über alle Parteien.
+     */
+    public double maxMargin() {
+        double max = 0;
+        for (double m : margins) max = Math.max(max, m);
+        return max;
+    }
+}
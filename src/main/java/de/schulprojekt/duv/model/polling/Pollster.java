@@ -0,0 +1,223 @@
+package de.schulprojekt.duv.model.polling;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.util.config.PollingConfig;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Führt in festen Abständen simulierte Meinungsumfragen durch.
+ * <p>
+ * Eine Umfrage befragt nicht die ganze Population, sondern eine Stichprobe. Die Stichprobe wird per
+ * Reservoir-Sampling (Algorithmus L) gezogen. Die Indizes hängen nur von der Populationsgröße ab und werden
+ * deshalb schon nach der vorherigen Umfrage auf dem Umfrage-Thread vorbereitet.
+ * </p>
+ * <p>
+ * Zwischen zwei Ticks liest der Simulations-Thread nur Partei und Wählertyp der gezogenen Personen, also
+ * {@code O(k)} statt {@code O(n)}. Diese Zeilen sind eine konsistente Momentaufnahme genau des Schritts der
+ * Umfrage; das Ergebnis ist also nicht veraltet, es trifft lediglich etwas später ein. Antwortverzerrung,
+ * Auszählung und Fehlerspannen folgen auf dem Umfrage-Thread.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class Pollster {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(Pollster.class.getName());
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final int sampleSize;
+    private final int interval;
+    private final double[] responseRates;
+    private final ExecutorService worker;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean busy = false;
+    private volatile SamplePlan plan;
+    private int lastStep = Integer.MIN_VALUE;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public Pollster() {
+        this(PollingConfig.getSampleSize(), PollingConfig.getInterval(), PollingConfig.RESPONSE_RATE_BY_TYPE);
+    }
+
+    /**
+     * @param sampleSize Angefragte Personen je Umfrage; 0 schaltet die Umfragen ab.
+     * @param interval Abstand zweier Umfragen in Ticks.
+     * @param responseRates Antwortwahrscheinlichkeit je Ordinalzahl von {@link de.schulprojekt.duv.model.voter.VoterType}.
+     */
+    public Pollster(int sampleSize, int interval, double[] responseRates) {
+        this.sampleSize = sampleSize;
+        this.interval = Math.max(1, interval);
+        this.responseRates = responseRates.clone();
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Poll-Worker");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Startet eine Umfrage, sofern keine läuft und seit der letzten genug Ticks vergangen sind.
+     * Muss zwischen zwei Ticks auf dem Thread aufgerufen werden, der die Engine ausführt.
+     *
+     * @param engine Die laufende Engine.
+     * @param onResult Erhält das Ergebnis auf dem Umfrage-Thread, sofern es nicht zwischenzeitlich verworfen wurde.
+     * @return {@code true}, wenn eine Umfrage gestartet wurde.
+     */
+    public boolean maybeConduct(SimulationEngine engine, Consumer<PollResult> onResult) {
+        if (sampleSize == 0 || busy || worker.isShutdown()) return false;
+        int step = engine.getCurrentStep();
+        if (step >= lastStep && (long) step - lastStep < interval) return false;
+
+        VoterPopulation population = engine.getPopulation();
+        int size = population.size();
+        if (size == 0) return false;
+
+        SamplePlan prepared = plan;
+        int[] indices = (prepared != null && prepared.populationSize() == size)
+                ? prepared.indices()
+                : drawSample(size, sampleSize, seeds.nextLong());
+        byte[] parties = new byte[indices.length];
+        byte[] types = new byte[indices.length];
+        for (int j = 0; j < indices.length; j++) {
+            parties[j] = population.getPartyIndexRaw(indices[j]);
+            types[j] = population.getVoterTypeRaw(indices[j]);
+        }
+
+        busy = true;
+        lastStep = step;
+        plan = null;
+        int gen = generation.get();
+        List<String> partyNames = engine.getParties().stream().map(Party::getName).toList();
+        long responseSeed = seeds.nextLong();
+        long planSeed = seeds.nextLong();
+
+        CompletableFuture.runAsync(() -> {
+            PollResult result = evaluate(step, parties, types, partyNames, responseSeed);
+            plan = new SamplePlan(size, drawSample(size, sampleSize, planSeed));
+            if (gen == generation.get()) onResult.accept(result);
+        }, worker).whenComplete((ignored, error) -> {
+            busy = false;
+            if (error != null) LOGGER.log(Level.WARNING, "Poll failed", error);
+        });
+        return true;
+    }
+
+    /**
+     * Verwirft eine laufende Umfrage und setzt den Abstand zurück, etwa nach Reset oder Rückspulen.
+     * Muss auf dem Thread der Engine aufgerufen werden.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        lastStep = Integer.MIN_VALUE;
+    }
+
+    public void shutdown() {
+        generation.incrementAndGet();
+        worker.shutdownNow();
+    }
+
+    /**
+     * Wendet die Antwortverzerrung auf eine gezogene Stichprobe an und zählt die Antworten aus.
+     *
+     * @param step Befragter Schritt.
+     * @param sampledParties Parteiindex je angefragter Person.
+     * @param sampledTypes Ordinalzahl des Wählertyps je angefragter Person.
+     * @param partyNames Parteinamen.
+     * @param seed Startwert für die Antwortentscheidung.
+     * @return Anteile und Fehlerspannen je Partei.
+     */
+    PollResult evaluate(int step, byte[] sampledParties, byte[] sampledTypes, List<String> partyNames, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int partyCount = partyNames.size();
+        int[] counts = new int[partyCount];
+        int respondents = 0;
+        for (int j = 0; j < sampledParties.length; j++) {
+            int party = sampledParties[j];
+            if (party < 0 || party >= partyCount) continue;
+            if (rnd.nextDouble() >= responseRates[sampledTypes[j]]) continue;
+            counts[party]++;
+            respondents++;
+        }
+
+        double[] shares = new double[partyCount];
+        double[] margins = new double[partyCount];
+        for (int p = 0; p < partyCount && respondents > 0; p++) {
+            shares[p] = (double) counts[p] / respondents;
+            margins[p] = PollingConfig.CONFIDENCE_Z * Math.sqrt(shares[p] * (1 - shares[p]) / respondents);
+        }
+        return new PollResult(step, sampledParties.length, respondents, partyNames, shares, margins);
+    }
+
+    /**
+     * Zieht {@code k} verschiedene Indizes aus {@code [0, n)} gleichverteilt ohne Zurücklegen.
+     * <p>
+     * Algorithmus L überspringt Kandidaten geometrisch verteilt, statt jeden einzeln zu prüfen, und braucht
+     * daher nur {@code O(k (1 + log(n / k)))} Zufallszahlen.
+     * </p>
+     *
+     * @return Aufsteigend sortierte Indizes, höchstens {@code n} viele.
+     */
+    static int[] drawSample(int n, int k, long seed) {
+        int size = Math.min(n, k);
+        int[] reservoir = new int[size];
+        for (int j = 0; j < size; j++) reservoir[j] = j;
+        if (size == 0 || size == n) return reservoir;
+
+        SplittableRandom rnd = new SplittableRandom(seed);
+        double w = Math.exp(Math.log(uniform(rnd)) / size);
+        long i = size - 1;
+        while (true) {
+            i += (long) Math.floor(Math.log(uniform(rnd)) / Math.log(1 - w)) + 1;
+            if (i >= n) break;
+            reservoir[rnd.nextInt(size)] = (int) i;
+            w *= Math.exp(Math.log(uniform(rnd)) / size);
+        }
+        // Aufsteigend gelesen trifft der Simulations-Thread die Seiten der Population der Reihe nach
+        Arrays.sort(reservoir);
+        return reservoir;
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    /** Gleichverteilt in {@code (0, 1]}, damit der Logarithmus endlich bleibt. */
+    private static double uniform(SplittableRandom rnd) {
+        return 1.0 - rnd.nextDouble();
+    }
+
+    // ========================================
+    // Inner Classes / Records
+    // ========================================
+
+    /** Vorbereitete Stichprobe für eine bestimmte Populationsgröße. */
+    private record SamplePlan(int populationSize, int[] indices) {}
+}
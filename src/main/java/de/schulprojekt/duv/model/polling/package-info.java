@@ -0,0 +1,8 @@
+/**
+ * Simulated opinion polls.
+ * Draws a reservoir sample of respondents from a copy-on-write snapshot of the population,
+ * applies non-response bias per voter type and reports shares with margins of error.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.model.polling;
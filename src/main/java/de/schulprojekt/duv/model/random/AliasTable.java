@@ -0,0 +1,105 @@
+package de.schulprojekt.duv.model.random;
+
+/**
+ * Unveränderliche Alias-Tabelle (Verfahren nach Vose) für das Ziehen aus einer festen diskreten Verteilung in O(1).
+ * <p>
+ * Im Gegensatz zum {@link WeightedSampler} können die Gewichte nach dem Aufbau nicht mehr geändert
+ * werden. Dafür kostet jeder Zug nur einen Zufallswert und einen Vergleich, und die Tabelle kann
+ * ohne Synchronisation von beliebig vielen Threads gleichzeitig gelesen werden.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class AliasTable {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final double[] probability;
+    private final int[] alias;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private AliasTable(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Baut die Tabelle in O(n) auf.
+     * @param weights Nicht-negative Gewichte, mindestens eines größer als null
+     * @return Die fertige Tabelle
+     */
+    public static AliasTable of(double[] weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double w : weights) {
+            if (w < 0 || Double.isNaN(w)) throw new IllegalArgumentException("Weight must be non-negative: " + w);
+            total += w;
+        }
+        if (n == 0 || total <= 0) throw new IllegalArgumentException("At least one positive weight is required");
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            probability[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) small[smallCount++] = l;
+            else large[largeCount++] = l;
+        }
+        // Rundungsreste: verbleibende Spalten sind (bis auf Gleitkommafehler) voll
+        while (largeCount > 0) {
+            int l = large[--largeCount];
+            probability[l] = 1.0;
+            alias[l] = l;
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            probability[s] = 1.0;
+            alias[s] = s;
+        }
+        return new AliasTable(probability, alias);
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public int size() {
+        return probability.length;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Zieht einen Index. Der ganzzahlige Anteil von {@code uniform * size} wählt die Spalte,
+     * der Nachkommaanteil entscheidet zwischen Spalte und Alias.
+     * @param uniform Gleichverteilter Wert aus [0, 1)
+     * @return Gezogener Index
+     */
+    public int sample(double uniform) {
+        double scaled = uniform * probability.length;
+        int column = Math.min((int) scaled, probability.length - 1);
+        return (scaled - column) < probability[column] ? column : alias[column];
+    }
+}
@@ -4,19 +4,25 @@ import de.schulprojekt.duv.model.core.SimulationParameters;
 import de.schulprojekt.duv.model.voter.VoterType;
 import de.schulprojekt.duv.util.config.SimulationConfig;
 import de.schulprojekt.duv.util.config.VoterBehaviorConfig;
-import org.apache.commons.math3.distribution.EnumeratedDistribution;
 import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.distribution.UniformRealDistribution;
-import org.apache.commons.math3.random.JDKRandomGenerator;
 import org.apache.commons.math3.random.RandomGenerator;
-import org.apache.commons.math3.util.Pair;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Verwaltet die in der Simulation verwendeten statistischen Verteilungen.
+ * <p>
+ * Die Einzelzüge über {@link #getRandomGenerator()} sind nicht threadsicher und nur für den
+ * Simulations-Thread gedacht. Parallele Schleifen holen sich über {@link #createVoterSamplers(int)}
+ * je Block einen eigenen {@link VoterSampler}.
+ * </p>
+ * <p>
+ * Der Hauptgenerator bleibt über {@link #initialize(SimulationParameters)} hinweg erhalten; nur die
+ * Verteilungen werden neu aufgebaut. Sein Zustand lässt sich über {@link #getRandomState()} lesen, ohne
+ * die Folge zu verändern.
+ * </p>
  * @author Nico Hoffmann
  * @version 1.0
  */
@@ -39,8 +45,9 @@ public class DistributionProvider {
     private NormalDistribution loyaltyDistribution;
     private UniformRealDistribution uniformDistribution;
     private ExponentialDistribution scandalDistribution;
-    private RandomGenerator randomGenerator;
-    private EnumeratedDistribution<VoterType> typeDistribution;
+    private final SplitMixRandom randomGenerator = new SplitMixRandom();
+    private AliasTable typeTable;
+    private double loyaltyMean;
 
     // ========================================
     // Constructors
@@ -60,7 +67,7 @@ public class DistributionProvider {
      * @see SimulationParameters#scandalProbability()
      */
     public void initialize(SimulationParameters params) {
-        this.randomGenerator = new JDKRandomGenerator();
+        this.loyaltyMean = params.loyaltyAverage();
 
         this.loyaltyDistribution = new NormalDistribution(
                 randomGenerator,
@@ -78,21 +85,62 @@ public class DistributionProvider {
         double scandalLambda = Math.max(MIN_SCANDAL_LAMBDA, scandalProb / SCANDAL_PROBABILITY_DIVISOR);
         this.scandalDistribution = new ExponentialDistribution(randomGenerator, 1.0 / scandalLambda);
 
-        List<Pair<VoterType, Double>> typeWeights = new ArrayList<>();
-        typeWeights.add(new Pair<>(VoterType.PRAGMATIC, VoterBehaviorConfig.PROB_PRAGMATIC));
-        typeWeights.add(new Pair<>(VoterType.IDEOLOGICAL, VoterBehaviorConfig.PROB_IDEOLOGICAL));
-        typeWeights.add(new Pair<>(VoterType.RATIONAL_CHOICE, VoterBehaviorConfig.PROB_RATIONAL_CHOICE));
-        typeWeights.add(new Pair<>(VoterType.AFFECTIVE, VoterBehaviorConfig.PROB_AFFECTIVE));
-        typeWeights.add(new Pair<>(VoterType.HEURISTIC, VoterBehaviorConfig.PROB_HEURISTIC));
+        double[] typeWeights = new double[VoterType.values().length];
+        typeWeights[VoterType.PRAGMATIC.ordinal()] = VoterBehaviorConfig.PROB_PRAGMATIC;
+        typeWeights[VoterType.IDEOLOGICAL.ordinal()] = VoterBehaviorConfig.PROB_IDEOLOGICAL;
+        typeWeights[VoterType.RATIONAL_CHOICE.ordinal()] = VoterBehaviorConfig.PROB_RATIONAL_CHOICE;
+        typeWeights[VoterType.AFFECTIVE.ordinal()] = VoterBehaviorConfig.PROB_AFFECTIVE;
+        typeWeights[VoterType.HEURISTIC.ordinal()] = VoterBehaviorConfig.PROB_HEURISTIC;
 
-        double remainder = 1.0 - typeWeights.stream().mapToDouble(Pair::getSecond).sum();
-        typeWeights.add(new Pair<>(VoterType.POLITIKFERN, Math.max(0, remainder)));
+        double assigned = 0.0;
+        for (double w : typeWeights) assigned += w;
+        typeWeights[VoterType.POLITIKFERN.ordinal()] = Math.max(0, 1.0 - assigned);
 
-        this.typeDistribution = new EnumeratedDistribution<>(randomGenerator, typeWeights);
+        this.typeTable = AliasTable.of(typeWeights);
+    }
+
+    /**
+     * Erzeugt unabhängige Zufallsquellen für die parallele Verarbeitung.
+     * Die Startwerte werden nacheinander aus dem Hauptgenerator gezogen, sodass Block {@code k}
+     * immer dieselbe Folge erhält, egal welcher Thread ihn bearbeitet.
+     * @param count Anzahl der Blöcke
+     * @return Je Block ein eigener Sampler
+     */
+    public VoterSampler[] createVoterSamplers(int count) {
+        return createVoterSamplers(count, randomGenerator.nextLong());
+    }
+
+    /**
+     * Wie {@link #createVoterSamplers(int)}, aber mit festem Startwert für reproduzierbare Populationen.
+     * @param count Anzahl der Blöcke
+     * @param seed Startwert des Wurzelgenerators
+     * @return Je Block ein eigener Sampler
+     */
+    public VoterSampler[] createVoterSamplers(int count, long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        VoterSampler[] samplers = new VoterSampler[count];
+        for (int i = 0; i < count; i++) {
+            samplers[i] = new VoterSampler(root.split(), typeTable, loyaltyMean, SimulationConfig.DEFAULT_LOYALTY_STD_DEV);
+        }
+        return samplers;
+    }
+
+    /**
+     * Erzeugt je Block eine eigene Zufallsquelle für einen parallelen Durchlauf über die Population.
+     * Wie bei {@link #createVoterSamplers(int)} stammt der Startwert aus dem Hauptgenerator, der Durchlauf
+     * ist damit bei gleichem Zustand reproduzierbar.
+     * @param count Anzahl der Blöcke
+     * @return Je Block ein eigener Generator
+     */
+    public SplittableRandom[] createChunkRandoms(int count) {
+        SplittableRandom root = new SplittableRandom(randomGenerator.nextLong());
+        SplittableRandom[] randoms = new SplittableRandom[count];
+        for (int i = 0; i < count; i++) randoms[i] = root.split();
+        return randoms;
     }
 
     public double sampleLoyalty() {
-        return Math.max(LOYALTY_MIN, Math.min(LOYALTY_MAX, loyaltyDistribution.sample()));
+        return clampLoyalty(loyaltyDistribution.sample());
     }
 
     public double sampleUniform() {
@@ -103,11 +151,41 @@ public class DistributionProvider {
         return scandalDistribution.sample();
     }
 
+    /**
+     * @return Zustand des Hauptgenerators; das Auslesen verändert die Zufallsfolge nicht
+     */
+    public long getRandomState() {
+        return randomGenerator.getState();
+    }
+
+    /**
+     * @param state Zuvor über {@link #getRandomState()} gelesener Zustand
+     */
+    public void restoreRandomState(long state) {
+        randomGenerator.setState(state);
+    }
+
+    /**
+     * Startet den Hauptgenerator mit einer neuen, aus {@code seed} abgeleiteten Folge.
+     * @param seed Beliebiger Startwert
+     */
+    public void reseed(long seed) {
+        randomGenerator.setSeed(seed);
+    }
+
     public RandomGenerator getRandomGenerator() {
         return randomGenerator;
     }
 
     public VoterType sampleVoterType() {
-        return typeDistribution.sample();
+        return VoterType.values()[typeTable.sample(randomGenerator.nextDouble())];
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    static double clampLoyalty(double loyalty) {
+        return Math.max(LOYALTY_MIN, Math.min(LOYALTY_MAX, loyalty));
     }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package de.schulprojekt.duv.model.random;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import java.util.Random;
+
+/**
+ * Zufallsgenerator nach SplitMix64, dessen gesamter Zustand aus einem einzigen {@code long} besteht.
+ * <p>
+ * Anders als {@link Random} lässt sich der Zustand über {@link #getState()} auslesen, ohne die Folge zu
+ * verändern, und über {@link #setState(long)} exakt wiederherstellen. Momentaufnahmen der Engine können
+ * den Generator so erfassen, ohne den laufenden Lauf zu beeinflussen. {@link #nextGaussian()} verwirft den
+ * zweiten Wert des Polarverfahrens, damit kein zwischengespeicherter Wert außerhalb des Zustands liegt.
+ * Nicht threadsicher.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class SplitMixRandom extends Random implements RandomGenerator {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    // Ohne Initialisierer: der Konstruktor von Random ruft setSeed() bereits vor der Feldinitialisierung auf
+    private long state;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public SplitMixRandom() {
+        super();
+    }
+
+    public SplitMixRandom(long seed) {
+        super(seed);
+    }
+
+    // ========================================
+    // Getter & Setter Methods
+    // ========================================
+
+    /**
+     * @return Aktueller Zustand; das Auslesen verändert die Folge nicht
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * @param state Zuvor über {@link #getState()} gelesener Zustand
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Setzt den Zustand aus einem durchmischten Startwert, damit benachbarte Startwerte unabhängige Folgen liefern.
+     * @param seed Beliebiger Startwert
+     */
+    @Override
+    public void setSeed(long seed) {
+        this.state = mix64(seed);
+    }
+
+    @Override
+    public void setSeed(int seed) {
+        setSeed((long) seed);
+    }
+
+    @Override
+    public void setSeed(int[] seed) {
+        long combined = 0L;
+        for (int s : seed) combined = combined * GOLDEN_GAMMA + s;
+        setSeed(combined);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public double nextGaussian() {
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2.0 * nextDouble() - 1.0;
+            v2 = 2.0 * nextDouble() - 1.0;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1.0 || s == 0.0);
+        return v1 * Math.sqrt(-2.0 * Math.log(s) / s);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
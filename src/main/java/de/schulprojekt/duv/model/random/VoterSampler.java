@@ -0,0 +1,82 @@
+package de.schulprojekt.duv.model.random;
+
+import de.schulprojekt.duv.model.voter.VoterType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zufallsquelle für die Initialisierung eines zusammenhängenden Blocks von Wählern.
+ * <p>
+ * Jede Instanz besitzt einen eigenen {@link SplittableRandom} und wird nur von einem Thread benutzt.
+ * Die Verteilungstabellen werden aus dem {@link DistributionProvider} geteilt und nur gelesen.
+ * Dadurch laufen parallele Blöcke ohne gemeinsamen Zustand, und bei gleichem Startwert ist das
+ * Ergebnis unabhängig von der Thread-Verteilung reproduzierbar.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class VoterSampler {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final VoterType[] TYPES = VoterType.values();
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final SplittableRandom rnd;
+    private final AliasTable typeTable;
+    private final double loyaltyMean;
+    private final double loyaltyStdDev;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    VoterSampler(SplittableRandom rnd, AliasTable typeTable, double loyaltyMean, double loyaltyStdDev) {
+        this.rnd = rnd;
+        this.typeTable = typeTable;
+        this.loyaltyMean = loyaltyMean;
+        this.loyaltyStdDev = loyaltyStdDev;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    public VoterType sampleVoterType() {
+        return TYPES[typeTable.sample(rnd.nextDouble())];
+    }
+
+    /**
+     * @return Loyalität, begrenzt auf [0, 100]
+     */
+    public double sampleLoyalty() {
+        return DistributionProvider.clampLoyalty(ZigguratGaussian.next(rnd, loyaltyMean, loyaltyStdDev));
+    }
+
+    /**
+     * @param mean Mittelwert der Verteilung
+     * @param stdDev Standardabweichung der Verteilung
+     * @return Normalverteilter Wert
+     */
+    public double sampleGaussian(double mean, double stdDev) {
+        return ZigguratGaussian.next(rnd, mean, stdDev);
+    }
+
+    public double nextDouble() {
+        return rnd.nextDouble();
+    }
+
+    /**
+     * @param bound Obere Grenze (exklusiv)
+     * @return Gleichverteilte Ganzzahl aus [0, bound)
+     */
+    public int nextInt(int bound) {
+        return rnd.nextInt(bound);
+    }
+}
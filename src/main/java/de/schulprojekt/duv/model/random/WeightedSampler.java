@@ -0,0 +1,151 @@
+package de.schulprojekt.duv.model.random;
+
+import java.util.Arrays;
+
+/**
+ * Dynamische gewichtete Stichprobe auf Basis eines Fenwick-Baums (Binary Indexed Tree).
+ * <p>
+ * Gewichte können einzeln in O(log n) geändert werden, eine Ziehung proportional zum Gewicht kostet
+ * ebenfalls O(log n). Damit eignet sich die Klasse für Verteilungen, deren Gewichte sich in jedem Tick
+ * ändern, etwa die Anhängerzahlen der Parteien. Nicht threadsicher.
+ * </p>
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class WeightedSampler {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final double[] weights;
+    private final double[] tree;
+    private final int highestPowerOfTwo;
+    private double total;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * Erstellt einen Sampler mit allen Gewichten 0.
+     * @param size Anzahl der Einträge
+     */
+    public WeightedSampler(int size) {
+        if (size < 0) throw new IllegalArgumentException("Size cannot be negative: " + size);
+        this.weights = new double[size];
+        this.tree = new double[size + 1];
+        this.highestPowerOfTwo = size == 0 ? 0 : Integer.highestOneBit(size);
+    }
+
+    /**
+     * Erstellt einen Sampler aus vorhandenen Gewichten in O(n).
+     * @param initialWeights Nicht-negative Gewichte
+     * @return Der befüllte Sampler
+     */
+    public static WeightedSampler of(double[] initialWeights) {
+        WeightedSampler sampler = new WeightedSampler(initialWeights.length);
+        for (int i = 0; i < initialWeights.length; i++) {
+            sampler.weights[i] = checkWeight(initialWeights[i]);
+        }
+        sampler.rebuild();
+        return sampler;
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public int size() {
+        return weights.length;
+    }
+
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Setzt das Gewicht eines Eintrags in O(log n).
+     * @param index Position des Eintrags
+     * @param weight Neues, nicht-negatives Gewicht
+     */
+    public void set(int index, double weight) {
+        double delta = checkWeight(weight) - weights[index];
+        if (delta == 0.0) return;
+        weights[index] = weight;
+        total += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Zieht einen Index proportional zu seinem Gewicht.
+     * @param uniform Gleichverteilte Zufallszahl aus [0, 1)
+     * @return Gezogener Index oder -1, wenn alle Gewichte 0 sind
+     */
+    public int sample(double uniform) {
+        if (total <= 0.0) return -1;
+        double target = uniform * total;
+
+        int position = 0;
+        for (int step = highestPowerOfTwo; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= target) {
+                target -= tree[next];
+                position = next;
+            }
+        }
+        return skipEmpty(Math.min(position, weights.length - 1));
+    }
+
+    /**
+     * Baut den Baum in O(n) aus den gespeicherten Gewichten neu auf und beseitigt so angesammelte
+     * Rundungsfehler nach sehr vielen Änderungen.
+     */
+    public void rebuild() {
+        Arrays.fill(tree, 0.0);
+        double sum = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            int node = i + 1;
+            tree[node] += weights[i];
+            int parent = node + (node & -node);
+            if (parent < tree.length) tree[parent] += tree[node];
+        }
+        total = sum;
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    /**
+     * Rundungsfehler im Baum können die Suche auf einen Eintrag mit Gewicht 0 führen; dann wird
+     * der nächste Eintrag mit positivem Gewicht gewählt.
+     */
+    private int skipEmpty(int index) {
+        for (int i = index; i < weights.length; i++) {
+            if (weights[i] > 0.0) return i;
+        }
+        for (int i = index - 1; i >= 0; i--) {
+            if (weights[i] > 0.0) return i;
+        }
+        return -1;
+    }
+
+    private static double checkWeight(double weight) {
+        if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Weight must be finite and non-negative: " + weight);
+        }
+        return weight;
+    }
+}
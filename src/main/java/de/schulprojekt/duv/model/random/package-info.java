@@ -1,6 +1,8 @@
 /**
  * Statistical distribution providers for realistic randomization.
- * Supplies various probability distributions for voter attributes and events.
+ * Supplies various probability distributions for voter attributes and events,
+ * plus a dynamic Fenwick-tree sampler for weighted selection and thread-confined
+ * samplers (alias table, ziggurat Gaussian) for parallel population setup.
  * @author Nico Hoffmann
  * @version 1.0
  */
@@ -0,0 +1,140 @@
+package de.schulprojekt.duv.model.scandal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hält die aktiven Skandale nach Parteiindex geordnet und lässt sie über ein Hashed Timing Wheel ablaufen.
+ * <p>
+ * Jeder Skandal wird beim Einfügen in den Slot seines Ablaufschritts gelegt. Pro Tick wird nur dieser
+ * eine Slot betrachtet, statt alle aktiven Skandale zu durchsuchen. Da alle Skandale dieselbe Lebensdauer
+ * haben, ist der ablaufende Skandal stets der älteste seiner Partei und kann in O(1) vorne aus deren
+ * Warteschlange entnommen werden.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class ActiveScandalStore {
+
+    // ========================================
+    // Inner Types
+    // ========================================
+
+    private record WheelEntry(int partyIndex, int expiresAtStep) {
+    }
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int WHEEL_SLOTS = 256;
+    private static final int WHEEL_MASK = WHEEL_SLOTS - 1;
+    private static final int INITIAL_PARTY_CAPACITY = 16;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final int maxAgeTicks;
+    private final List<List<WheelEntry>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private final List<ArrayDeque<ScandalEvent>> byParty = new ArrayList<>(INITIAL_PARTY_CAPACITY);
+    private int size = 0;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * @param maxAgeTicks Alter, nach dessen Überschreiten ein Skandal entfernt wird.
+     */
+    public ActiveScandalStore(int maxAgeTicks) {
+        this.maxAgeTicks = maxAgeTicks;
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param partyIndex Index der Partei in der Parteiliste.
+     * @return Aktive Skandale dieser Partei, älteste zuerst (nur lesend).
+     */
+    public Collection<ScandalEvent> getForParty(int partyIndex) {
+        if (partyIndex < 0 || partyIndex >= byParty.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(byParty.get(partyIndex));
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param event Der neue Skandal.
+     * @param partyIndex Index der betroffenen Partei in der Parteiliste.
+     */
+    public void add(ScandalEvent event, int partyIndex) {
+        if (partyIndex < 0) return;
+        while (byParty.size() <= partyIndex) {
+            byParty.add(new ArrayDeque<>());
+        }
+        byParty.get(partyIndex).addLast(event);
+
+        int expiresAt = event.occurredAtStep() + maxAgeTicks + 1;
+        wheel.get(expiresAt & WHEEL_MASK).add(new WheelEntry(partyIndex, expiresAt));
+        size++;
+    }
+
+    /**
+     * Entfernt alle Skandale, die im angegebenen Schritt ihr Höchstalter überschreiten.
+     * Muss in jedem Schritt aufgerufen werden; Einträge späterer Umläufe bleiben im Slot liegen.
+     *
+     * @param currentStep Der aktuelle Simulationsschritt.
+     * @return Anzahl der entfernten Skandale.
+     */
+    public int expire(int currentStep) {
+        List<WheelEntry> slot = wheel.get(currentStep & WHEEL_MASK);
+        if (slot.isEmpty()) return 0;
+
+        int removed = 0;
+        for (int i = slot.size() - 1; i >= 0; i--) {
+            WheelEntry entry = slot.get(i);
+            if (entry.expiresAtStep() > currentStep) continue;
+
+            if (byParty.get(entry.partyIndex()).pollFirst() != null) {
+                size--;
+                removed++;
+            }
+            int last = slot.size() - 1;
+            slot.set(i, slot.get(last));
+            slot.remove(last);
+        }
+        return removed;
+    }
+
+    public void clear() {
+        for (ArrayDeque<ScandalEvent> queue : byParty) {
+            queue.clear();
+        }
+        for (List<WheelEntry> slot : wheel) {
+            slot.clear();
+        }
+        size = 0;
+    }
+}
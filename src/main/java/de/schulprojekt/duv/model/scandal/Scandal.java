@@ -4,26 +4,52 @@ package de.schulprojekt.duv.model.scandal;
  * Repräsentiert einen Skandal-Datensatz.
  * @param id Eindeutige Kennung des Skandals
  * @param type Kategorie des Skandals
- * @param title Titel für die Anzeige
- * @param description Kurze Beschreibung
  * @param strength Intensitätsfaktor
+ * @param text Quelle für Titel und Beschreibung, ggf. erst beim Zugriff dekodiert
  * @author Nico Hoffmann
  * @version 1.0
  */
 public record Scandal(
         int id,
         String type,
-        String title,
-        String description,
-        double strength
+        double strength,
+        ScandalText text
 ) {
 
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * Erstellt einen Skandal mit bereits vorliegenden Texten.
+     * @param id Eindeutige Kennung des Skandals
+     * @param type Kategorie des Skandals
+     * @param title Titel für die Anzeige
+     * @param description Kurze Beschreibung
+     * @param strength Intensitätsfaktor
+     */
+    public Scandal(int id, String type, String title, String description, double strength) {
+        this(id, type, strength, new ScandalText.Resolved(title, description));
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public String title() {
+        return text.title();
+    }
+
+    public String description() {
+        return text.description();
+    }
+
     // ========================================
     // Utility Methods
     // ========================================
 
     @Override
     public String toString() {
-        return title + " (" + (int) (strength * 100) + "%)";
+        return title() + " (" + (int) (strength * 100) + "%)";
     }
-}
\ No newline at end of file
+}
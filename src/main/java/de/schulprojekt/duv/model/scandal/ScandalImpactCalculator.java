@@ -2,12 +2,19 @@ package de.schulprojekt.duv.model.scandal;
 
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.util.config.ScandalConfig;
+import de.schulprojekt.duv.util.config.SimulationConfig;
 
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * Berechnet die Auswirkungen von Skandalen auf Wähler und Parteien.
+ * <p>
+ * Im Simulationsbetrieb wird der akute Druck inkrementell geführt: Beim Auftreten eines Skandals wird
+ * sein gesamter zukünftiger Druckverlauf einmalig in einen Ringpuffer je Schritt und Partei eingetragen.
+ * Pro Tick wird dann nur noch die Zeile des aktuellen Schritts gelesen und geleert. Die Kosten hängen
+ * damit von der Zahl neuer Skandale ab, nicht von der Zahl aktiver.
+ * </p>
  * @author Nico Hoffmann
  * @version 1.0
  */
@@ -17,7 +24,18 @@ public class ScandalImpactCalculator {
     // Instance Variables
     // ========================================
 
+    /**
+     * Anzahl der Schritte, in denen ein Skandal wirkt. Er wirkt höchstens {@link ScandalConfig#SCANDAL_DURATION}
+     * Ticks und wird nach {@link SimulationConfig#SCANDAL_MAX_AGE_TICKS} aus der Liste der aktiven Skandale entfernt.
+     */
+    private static final int ACTIVE_WINDOW = Math.min(ScandalConfig.SCANDAL_DURATION, SimulationConfig.SCANDAL_MAX_AGE_TICKS) + 1;
+
+    private static final int CAPACITY_MARGIN = 10;
+
     private final double[] partyPermanentDamage;
+    private final double[][] pressureRing;
+    private final double[][] damageRing;
+    private double[] acutePressure = new double[0];
 
     // ========================================
     // Constructors
@@ -28,7 +46,9 @@ public class ScandalImpactCalculator {
      * @param maxParties Maximale Anzahl der erwarteten Parteien
      */
     public ScandalImpactCalculator(int maxParties) {
-        this.partyPermanentDamage = new double[maxParties + 10];
+        this.partyPermanentDamage = new double[maxParties + CAPACITY_MARGIN];
+        this.pressureRing = new double[ACTIVE_WINDOW][partyPermanentDamage.length];
+        this.damageRing = new double[ACTIVE_WINDOW][partyPermanentDamage.length];
     }
 
     // ========================================
@@ -42,28 +62,116 @@ public class ScandalImpactCalculator {
         return 0.0;
     }
 
+    /**
+     * @param partyIndex Index der Partei.
+     * @return Akuter Druck aus dem letzten {@link #advance(int, int)}.
+     */
+    public double getAcutePressure(int partyIndex) {
+        if (partyIndex >= 0 && partyIndex < acutePressure.length) {
+            return acutePressure[partyIndex];
+        }
+        return 0.0;
+    }
+
+    /**
+     * @return Kopie des permanenten Schadens je Partei.
+     */
+    public double[] copyPermanentDamage() {
+        return partyPermanentDamage.clone();
+    }
+
+    /**
+     * @return Kopie des vorgemerkten akuten Drucks je Schritt und Partei.
+     */
+    public double[][] copyPressureRing() {
+        return copyRing(pressureRing);
+    }
+
+    /**
+     * @return Kopie des vorgemerkten permanenten Schadens je Schritt und Partei.
+     */
+    public double[][] copyDamageRing() {
+        return copyRing(damageRing);
+    }
+
     // ========================================
     // Business Logic Methods
     // ========================================
 
-    public double[] calculateAcutePressure(List<ScandalEvent> activeScandals, List<Party> parties, int currentStep) {
-        double[] acutePressure = new double[parties.size()];
+    /**
+     * @return Unabhängige Kopie mit gleicher Kapazität und gleichem Zustand, etwa für einen Fork der Engine.
+     */
+    public ScandalImpactCalculator copy() {
+        ScandalImpactCalculator copy = new ScandalImpactCalculator(partyPermanentDamage.length - CAPACITY_MARGIN);
+        copy.restore(partyPermanentDamage, pressureRing, damageRing);
+        return copy;
+    }
 
-        for (ScandalEvent event : activeScandals) {
-            Party affected = event.affectedParty();
-            int pIndex = parties.indexOf(affected);
+    /**
+     * Übernimmt einen zuvor kopierten Zustand. Abweichende Breiten werden abgeschnitten bzw. mit null aufgefüllt.
+     *
+     * @param permanentDamage Permanenter Schaden je Partei.
+     * @param pressure Vorgemerkter akuter Druck.
+     * @param damage Vorgemerkter permanenter Schaden.
+     */
+    public void restore(double[] permanentDamage, double[][] pressure, double[][] damage) {
+        reset();
+        System.arraycopy(permanentDamage, 0, partyPermanentDamage, 0, Math.min(permanentDamage.length, partyPermanentDamage.length));
+        for (int row = 0; row < Math.min(ACTIVE_WINDOW, pressure.length); row++) {
+            System.arraycopy(pressure[row], 0, pressureRing[row], 0, Math.min(pressure[row].length, pressureRing[row].length));
+            System.arraycopy(damage[row], 0, damageRing[row], 0, Math.min(damage[row].length, damageRing[row].length));
+        }
+    }
 
-            if (pIndex == -1 || pIndex >= acutePressure.length) continue;
+    /**
+     * Trägt den vollständigen Druck- und Schadensverlauf eines neuen Skandals in die Ringpuffer ein.
+     * Alter 0 landet in der Zeile von {@link ScandalEvent#occurredAtStep()}; diese darf für den laufenden
+     * Schritt noch nicht von {@link #advance(int, int)} gelesen worden sein.
+     *
+     * @param event Der neue Skandal.
+     * @param partyIndex Index der betroffenen Partei.
+     */
+    public void registerScandal(ScandalEvent event, int partyIndex) {
+        if (!isValidIndex(partyIndex)) return;
+
+        double strength = event.scandal().strength();
+        double pressure = strength * ScandalConfig.ACUTE_PRESSURE_FACTOR;
+        double damagePerTick = ScandalConfig.calculatePermanentDamagePerTick(strength);
+        double[] timeFactors = ScandalConfig.getTimeFactorTable();
+        int slot = Math.floorMod(event.occurredAtStep(), ACTIVE_WINDOW);
+
+        for (int age = 0; age < ACTIVE_WINDOW; age++) {
+            pressureRing[slot][partyIndex] += pressure * timeFactors[age];
+            damageRing[slot][partyIndex] += damagePerTick;
+            if (++slot == ACTIVE_WINDOW) slot = 0;
+        }
+    }
 
-            int age = currentStep - event.occurredAtStep();
-            if (age > ScandalConfig.SCANDAL_DURATION) continue;
+    /**
+     * Liefert den akuten Druck des aktuellen Schritts und verbucht den permanenten Schaden.
+     * Muss genau einmal pro Schritt aufgerufen werden, da die gelesene Ringzeile danach geleert wird.
+     *
+     * @param currentStep Der aktuelle Simulationsschritt.
+     * @param partyCount Anzahl der Parteien.
+     * @return Wiederverwendetes Array mit dem Druck je Partei; gültig bis zum nächsten Aufruf.
+     */
+    public double[] advance(int currentStep, int partyCount) {
+        if (acutePressure.length != partyCount) {
+            acutePressure = new double[partyCount];
+        }
 
-            double strength = event.scandal().strength();
-            double timeFactor = ScandalConfig.calculateTimeFactor(age);
+        int slot = Math.floorMod(currentStep, ACTIVE_WINDOW);
+        double[] pressureRow = pressureRing[slot];
+        double[] damageRow = damageRing[slot];
+        int limit = Math.min(partyCount, partyPermanentDamage.length);
 
-            acutePressure[pIndex] += strength * ScandalConfig.ACUTE_PRESSURE_FACTOR * timeFactor;
-            accumulatePermanentDamage(pIndex, strength);
+        Arrays.fill(acutePressure, 0.0);
+        for (int i = 0; i < limit; i++) {
+            acutePressure[i] = pressureRow[i];
+            partyPermanentDamage[i] += damageRow[i];
         }
+        Arrays.fill(pressureRow, 0.0);
+        Arrays.fill(damageRow, 0.0);
         return acutePressure;
     }
 
@@ -85,17 +193,20 @@ public class ScandalImpactCalculator {
 
     public void reset() {
         Arrays.fill(partyPermanentDamage, 0.0);
+        for (int i = 0; i < ACTIVE_WINDOW; i++) {
+            Arrays.fill(pressureRing[i], 0.0);
+            Arrays.fill(damageRing[i], 0.0);
+        }
     }
 
     // ========================================
     // Utility Methods
     // ========================================
 
-    private void accumulatePermanentDamage(int index, double strength) {
-        if (isValidIndex(index)) {
-            double damageBuildUp = ScandalConfig.calculatePermanentDamagePerTick(strength);
-            partyPermanentDamage[index] += damageBuildUp;
-        }
+    private static double[][] copyRing(double[][] ring) {
+        double[][] copy = new double[ring.length][];
+        for (int i = 0; i < ring.length; i++) copy[i] = ring[i].clone();
+        return copy;
     }
 
     private boolean isValidIndex(int index) {
@@ -25,6 +25,18 @@ public class ScandalScheduler {
         reset();
     }
 
+    // ========================================
+    // Getter & Setter Methods
+    // ========================================
+
+    public double getTimeUntilNextScandal() {
+        return timeUntilNextScandal;
+    }
+
+    public void setTimeUntilNextScandal(double timeUntilNextScandal) {
+        this.timeUntilNextScandal = timeUntilNextScandal;
+    }
+
     // ========================================
     // Business Logic Methods
     // ========================================
@@ -0,0 +1,101 @@
+package de.schulprojekt.duv.model.scandal;
+
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.random.WeightedSampler;
+import de.schulprojekt.duv.util.config.ScandalConfig;
+import de.schulprojekt.duv.util.config.SimulationConfig;
+
+import java.util.List;
+
+/**
+ * Wählt das Ziel des nächsten Skandals gewichtet nach Wähleranteil, Budget und Skandalhistorie.
+ * <p>
+ * Die Gewichte liegen in einem {@link WeightedSampler}. Nach jedem Tick werden nur die Parteien
+ * aktualisiert, deren Anhängerzahl sich geändert hat, jeweils in O(log n). Die unentschlossenen
+ * Wähler erhalten das Gewicht 0 und können nie Ziel eines Skandals werden.
+ * </p>
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class ScandalTargetSelector {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private WeightedSampler sampler = new WeightedSampler(0);
+    private int[] knownSupporters = new int[0];
+    private boolean[] targetable = new boolean[0];
+    private double maxBudget = 1.0;
+    private int totalVoters = 1;
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Baut alle Gewichte für eine neue Parteiliste auf.
+     *
+     * @param parties Die aktuelle Parteiliste
+     * @param totalVoters Größe der Population
+     */
+    public void rebuild(List<Party> parties, int totalVoters) {
+        int n = parties.size();
+        this.sampler = new WeightedSampler(n);
+        this.knownSupporters = new int[n];
+        this.targetable = new boolean[n];
+        this.totalVoters = Math.max(1, totalVoters);
+        this.maxBudget = 1.0;
+
+        for (Party p : parties) {
+            maxBudget = Math.max(maxBudget, p.getCampaignBudget());
+        }
+        for (int i = 0; i < n; i++) {
+            Party p = parties.get(i);
+            targetable[i] = !p.getName().equals(SimulationConfig.UNDECIDED_NAME);
+            refresh(i, p);
+        }
+    }
+
+    /**
+     * Übernimmt geänderte Anhängerzahlen. Unveränderte Parteien kosten nur einen Vergleich.
+     *
+     * @param parties Die Parteiliste in derselben Reihenfolge wie beim Aufbau
+     * @param counts Neue Anhängerzahlen je Parteiindex
+     */
+    public void updateSupporters(List<Party> parties, int[] counts) {
+        int limit = Math.min(counts.length, knownSupporters.length);
+        for (int i = 0; i < limit; i++) {
+            if (counts[i] != knownSupporters[i]) {
+                refresh(i, parties.get(i));
+            }
+        }
+    }
+
+    /**
+     * Aktualisiert das Gewicht einer Partei, etwa nach einem neuen Skandal.
+     *
+     * @param index Parteiindex
+     * @param party Die Partei
+     */
+    public void refresh(int index, Party party) {
+        if (index < 0 || index >= knownSupporters.length) return;
+        knownSupporters[index] = party.getCurrentSupporterCount();
+        if (!targetable[index]) {
+            sampler.set(index, 0.0);
+            return;
+        }
+
+        double voterShare = (double) party.getCurrentSupporterCount() / totalVoters;
+        double budgetShare = party.getCampaignBudget() / maxBudget;
+        sampler.set(index, ScandalConfig.calculateTargetWeight(voterShare, budgetShare, party.getScandalCount()));
+    }
+
+    /**
+     * @param uniform Gleichverteilte Zufallszahl aus [0, 1)
+     * @return Index der getroffenen Partei oder -1, falls keine Partei infrage kommt
+     */
+    public int selectTarget(double uniform) {
+        return sampler.sample(uniform);
+    }
+}
@@ -0,0 +1,26 @@
+package de.schulprojekt.duv.model.scandal;
+
+/**
+ * Quelle der Anzeigetexte eines Skandals.
+ * <p>
+ * Die Simulation selbst benötigt nur Kennung, Kategorie und Stärke. Titel und Beschreibung werden
+ * erst gebraucht, wenn ein Ereignis angezeigt wird; große externe Kataloge liefern sie daher über
+ * eine Implementierung, die den Text erst beim ersten Zugriff dekodiert.
+ * </p>
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public interface ScandalText {
+
+    String title();
+
+    String description();
+
+    /**
+     * Bereits vorliegende Texte.
+     * @param title Titel für die Anzeige
+     * @param description Kurze Beschreibung
+     */
+    record Resolved(String title, String description) implements ScandalText {
+    }
+}
@@ -0,0 +1,216 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Misst die pro Tick allokierten Bytes und die in den Tick fallenden GC-Pausen.
+ * <p>
+ * Gezählt werden der Simulations-Thread und die Worker des gemeinsamen ForkJoin-Pools, auf denen die
+ * parallelen Streams der Wählerverarbeitung laufen. Die Thread-IDs werden nur neu ermittelt, wenn sich
+ * die Größe des Pools ändert; pro Tick fallen damit zwei Aufrufe von
+ * {@code getThreadAllocatedBytes(long[])} an. Die Ergebnisse werden mit ihrer Tick-Nummer in einem
+ * Ringpuffer abgelegt. Geschrieben wird nur vom Simulations-Thread, gelesen von beliebigen Threads.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class AllocationTracker {
+
+    // ========================================
+    // Inner Types
+    // ========================================
+
+    /**
+     * Messwerte eines Ticks.
+     *
+     * @param tick Simulationsschritt.
+     * @param allocatedBytes Allokierte Bytes, -1 falls die JVM keine Messung unterstützt.
+     * @param gcPauseNanos Summe der in diesem Tick gemeldeten GC-Pausen.
+     */
+    public record TickAllocation(int tick, long allocatedBytes, long gcPauseNanos) {
+    }
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int RING_CAPACITY = 1024;
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = resolveThreadBean();
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final int[] ringTicks = new int[RING_CAPACITY];
+    private final long[] ringBytes = new long[RING_CAPACITY];
+    private final long[] ringGcNanos = new long[RING_CAPACITY];
+    private volatile long ringCount = 0;
+
+    private long[] threadIds = new long[0];
+    private long[] bytesAtStart = new long[0];
+    private Thread trackedOwner;
+    private int trackedPoolSize = -1;
+    private long gcAtStart;
+    private int currentTick;
+
+    private volatile long lastTickBytes = 0;
+    private volatile long lastTickGcPauseNanos = 0;
+    private volatile long totalBytes = 0;
+    private volatile long totalGcPauseNanos = 0;
+    private volatile long trackedTicks = 0;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public AllocationTracker() {
+        GcPauseMonitor.install();
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    /**
+     * @return Allokierte Bytes des letzten Ticks, -1 falls nicht messbar.
+     */
+    public long getLastTickBytes() {
+        return lastTickBytes;
+    }
+
+    public long getLastTickGcPauseNanos() {
+        return lastTickGcPauseNanos;
+    }
+
+    /**
+     * @return Summe der allokierten Bytes aller gemessenen Ticks.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getTotalGcPauseNanos() {
+        return totalGcPauseNanos;
+    }
+
+    public long getTrackedTicks() {
+        return trackedTicks;
+    }
+
+    /**
+     * @param max Maximale Anzahl der Einträge.
+     * @return Die jüngsten Tick-Messwerte, neueste zuerst. Schwach konsistent gegenüber dem Schreiber.
+     */
+    public List<TickAllocation> getRecentTicks(int max) {
+        int count = (int) Math.min(Math.min(max, ringCount), RING_CAPACITY);
+        long newest = ringCount - 1;
+        List<TickAllocation> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int slot = Math.floorMod(newest - i, RING_CAPACITY);
+            result.add(new TickAllocation(ringTicks[slot], ringBytes[slot], ringGcNanos[slot]));
+        }
+        return result;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Merkt sich die Zählerstände zu Beginn eines Ticks. Muss auf dem Simulations-Thread aufgerufen werden.
+     *
+     * @param tick Nummer des beginnenden Schritts.
+     */
+    public void beginTick(int tick) {
+        currentTick = tick;
+        GcPauseMonitor.setCurrentTick(tick);
+        gcAtStart = GcPauseMonitor.getTotalPauseNanos();
+        if (THREAD_BEAN == null) return;
+
+        refreshThreadIds();
+        bytesAtStart = THREAD_BEAN.getThreadAllocatedBytes(threadIds);
+    }
+
+    /**
+     * Berechnet die Differenzen seit {@link #beginTick(int)} und legt sie im Ringpuffer ab.
+     */
+    public void endTick() {
+        long gcPause = GcPauseMonitor.getTotalPauseNanos() - gcAtStart;
+        long bytes = -1;
+        if (THREAD_BEAN != null) {
+            long[] end = THREAD_BEAN.getThreadAllocatedBytes(threadIds);
+            bytes = 0;
+            for (int i = 0; i < end.length; i++) {
+                if (end[i] >= 0 && bytesAtStart[i] >= 0) bytes += end[i] - bytesAtStart[i];
+            }
+            totalBytes += bytes;
+        }
+
+        int slot = (int) (ringCount % RING_CAPACITY);
+        ringTicks[slot] = currentTick;
+        ringBytes[slot] = bytes;
+        ringGcNanos[slot] = gcPause;
+        ringCount++;
+
+        lastTickBytes = bytes;
+        lastTickGcPauseNanos = gcPause;
+        totalGcPauseNanos += gcPause;
+        trackedTicks++;
+    }
+
+    public void reset() {
+        ringCount = 0;
+        lastTickBytes = 0;
+        lastTickGcPauseNanos = 0;
+        totalBytes = 0;
+        totalGcPauseNanos = 0;
+        trackedTicks = 0;
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    /**
+     * Ermittelt die Worker des gemeinsamen Pools über die Thread-Gruppen, ohne Stacktraces zu erzeugen.
+     */
+    private void refreshThreadIds() {
+        Thread owner = Thread.currentThread();
+        ForkJoinPool common = ForkJoinPool.commonPool();
+        int poolSize = common.getPoolSize();
+        if (owner == trackedOwner && poolSize == trackedPoolSize) return;
+
+        ThreadGroup root = owner.getThreadGroup();
+        while (root.getParent() != null) root = root.getParent();
+        Thread[] threads = new Thread[root.activeCount() + 16];
+        int n = root.enumerate(threads, true);
+
+        List<Long> ids = new ArrayList<>();
+        ids.add(owner.threadId());
+        for (int i = 0; i < n; i++) {
+            if (threads[i] instanceof ForkJoinWorkerThread worker && worker.getPool() == common) {
+                ids.add(worker.threadId());
+            }
+        }
+
+        threadIds = ids.stream().mapToLong(Long::longValue).toArray();
+        trackedOwner = owner;
+        trackedPoolSize = poolSize;
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,134 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Empfängt die GC-Benachrichtigungen der JVM und summiert die Pausenzeiten.
+ * <p>
+ * Der Listener wird genau einmal pro JVM registriert. Jede Pause wird dem Tick zugeordnet, der beim
+ * Eintreffen der Benachrichtigung läuft. Da die JVM die Meldung erst nach Ende der Sammlung verschickt,
+ * kann eine Pause am Tick-Ende dem Folgetick zugeschrieben werden. Laufzeiten nebenläufiger Zyklen
+ * (G1 Concurrent, ZGC Cycles) sind keine Pausen und werden ignoriert.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class GcPauseMonitor {
+
+    // ========================================
+    // Inner Types
+    // ========================================
+
+    /**
+     * Eine einzelne GC-Pause.
+     *
+     * @param tick Simulationsschritt, in dem die Pause gemeldet wurde.
+     * @param collector Name des Kollektors.
+     * @param cause Auslöser laut JVM.
+     * @param durationNanos Pausendauer.
+     */
+    public record GcPause(int tick, String collector, String cause, long durationNanos) {
+    }
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int RECENT_CAPACITY = 32;
+    private static final LongAdder TOTAL_PAUSE_NANOS = new LongAdder();
+    private static final LongAdder PAUSE_COUNT = new LongAdder();
+    private static final GcPause[] RECENT = new GcPause[RECENT_CAPACITY];
+
+    private static volatile int currentTick = 0;
+    private static int recentHead = 0;
+    private static int recentSize = 0;
+    private static boolean installed = false;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private GcPauseMonitor() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public static long getTotalPauseNanos() {
+        return TOTAL_PAUSE_NANOS.sum();
+    }
+
+    public static long getPauseCount() {
+        return PAUSE_COUNT.sum();
+    }
+
+    /**
+     * @return Die letzten Pausen, neueste zuerst.
+     */
+    public static synchronized List<GcPause> getRecentPauses() {
+        List<GcPause> result = new ArrayList<>(recentSize);
+        for (int i = 0; i < recentSize; i++) {
+            result.add(RECENT[(recentHead - 1 - i + RECENT_CAPACITY) % RECENT_CAPACITY]);
+        }
+        return result;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Registriert den Listener an allen Kollektoren, die Benachrichtigungen unterstützen. Idempotent.
+     */
+    public static synchronized void install() {
+        if (installed) return;
+        installed = true;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(GcPauseMonitor::handleNotification, null, null);
+            }
+        }
+    }
+
+    /**
+     * @param tick Der aktuell laufende Simulationsschritt.
+     */
+    static void setCurrentTick(int tick) {
+        currentTick = tick;
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        String name = info.getGcName();
+        if (name.contains("Concurrent") || name.contains("Cycles")) return;
+
+        long nanos = info.getGcInfo().getDuration() * 1_000_000L;
+        TOTAL_PAUSE_NANOS.add(nanos);
+        PAUSE_COUNT.increment();
+        addRecent(new GcPause(currentTick, name, info.getGcCause(), nanos));
+    }
+
+    private static synchronized void addRecent(GcPause pause) {
+        RECENT[recentHead] = pause;
+        recentHead = (recentHead + 1) % RECENT_CAPACITY;
+        recentSize = Math.min(recentSize + 1, RECENT_CAPACITY);
+    }
+}
@@ -0,0 +1,146 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sperrfreies Latenz-Histogramm mit logarithmischen Eimern.
+ * <p>
+ * Jede Zweierpotenz wird in {@value #SUB_BUCKETS} lineare Untereimer geteilt, der relative Fehler
+ * eines Perzentils liegt damit unter 25 %. Das Erfassen ist ein einzelnes {@code incrementAndGet}
+ * und damit aus beliebigen Threads ohne Sperren möglich. Leser sehen eine schwach konsistente Sicht,
+ * was für die Anzeige ausreicht.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT + 1) * SUB_BUCKETS;
+    /** Erster logarithmischer Eimer; die Indizes zwischen den linearen Eimern und ihm bleiben leer. */
+    private static final int FIRST_LOG_BUCKET = SUB_BUCKET_BITS * SUB_BUCKETS;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    /**
+     * @return Anzahl aller erfassten Werte.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) total += buckets.get(i);
+        return total;
+    }
+
+    /**
+     * Schätzt die Anzahl der Werte bis einschließlich einer Grenze, für die Ausgabe als kumulatives
+     * Histogramm mit festen Grenzen.
+     * <p>
+     * Eimer unterhalb der Grenze zählen vollständig. Den Eimer, in den die Grenze fällt, teilt die Methode
+     * linear unter der Annahme gleichverteilter Werte und rundet ab. Auf einer Eimergrenze ist das
+     * Ergebnis exakt, dazwischen ein Schätzwert. Er steigt mit der Grenze monoton.
+     * </p>
+     *
+     * @param upperNanos Obergrenze in Nanosekunden (einschließlich).
+     * @return Geschätzte Anzahl der Werte bis zur Grenze.
+     */
+    public long getCountAtOrBelow(long upperNanos) {
+        if (upperNanos < 0) return 0;
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (i == SUB_BUCKETS) i = FIRST_LOG_BUCKET;
+            long upper = upperBound(i);
+            if (upper <= upperNanos) {
+                total += buckets.get(i);
+                continue;
+            }
+            long lower = lowerBound(i);
+            double fraction = (double) (upperNanos - lower + 1) / (upper - lower + 1);
+            total += (long) (buckets.get(i) * fraction);
+            break;
+        }
+        return total;
+    }
+
+    /**
+     * Schätzt ein Perzentil als Obergrenze des Eimers, in den es fällt.
+     *
+     * @param percentile Wert zwischen 0 und 100.
+     * @return Geschätzte Dauer in Nanosekunden, 0 falls noch nichts erfasst wurde.
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(total * Math.clamp(percentile, 0.0, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(BUCKET_COUNT - 1);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param nanos Gemessene Dauer in Nanosekunden.
+     */
+    public void record(long nanos) {
+        buckets.incrementAndGet(bucketIndex(nanos));
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) buckets.set(i, 0);
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) Math.max(0, nanos);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) return BUCKET_COUNT - 1;
+        int sub = (int) ((nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int index) {
+        int exponent = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (exponent < SUB_BUCKET_BITS) return index;
+        long base = 1L << exponent;
+        return base + sub * (base >>> SUB_BUCKET_BITS);
+    }
+
+    static long upperBound(int index) {
+        int exponent = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (exponent < SUB_BUCKET_BITS) return index;
+        long base = 1L << exponent;
+        long step = base >>> SUB_BUCKET_BITS;
+        return base + (sub + 1) * step - 1;
+    }
+}
@@ -0,0 +1,148 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import de.schulprojekt.duv.model.party.Party;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sammelt langlebige Betriebskennzahlen der Simulation für externe Überwachung.
+ * <p>
+ * Alle Aktualisierungen sind sperrfrei ({@link LongAdder}, volatile Felder, unveränderliche Arrays),
+ * damit sie weder den Simulations-Thread noch die parallele Wählerverarbeitung ausbremsen.
+ * Zähler laufen über Resets der Simulation hinweg monoton weiter, wie es Prometheus erwartet.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class MetricsRegistry {
+
+    // ========================================
+    // Inner Types
+    // ========================================
+
+    /**
+     * Momentaufnahme der Anhängerzahl einer Partei.
+     *
+     * @param name Anzeigename der Partei.
+     * @param supporters Aktuelle Anhängerzahl.
+     */
+    public record PartyGauge(String name, int supporters) {
+    }
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder switches = new LongAdder();
+    private final LongAdder scandals = new LongAdder();
+    private final LongAdder tickNanosSum = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder gcPauseNanos = new LongAdder();
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+
+    private volatile long lastTickSwitches = 0;
+    private volatile long lastTickAllocatedBytes = 0;
+    private volatile long lastTickGcPauseNanos = 0;
+    private volatile PartyGauge[] partyGauges = new PartyGauge[0];
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public long getTicks() {
+        return ticks.sum();
+    }
+
+    public long getSwitches() {
+        return switches.sum();
+    }
+
+    public long getScandals() {
+        return scandals.sum();
+    }
+
+    public long getLastTickSwitches() {
+        return lastTickSwitches;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * @return Allokierte Bytes des letzten Ticks, -1 falls die JVM keine Messung unterstützt.
+     */
+    public long getLastTickAllocatedBytes() {
+        return lastTickAllocatedBytes;
+    }
+
+    /**
+     * @return Summe aller GC-Pausen, die in einen Tick fielen.
+     */
+    public long getGcPauseNanos() {
+        return gcPauseNanos.sum();
+    }
+
+    public long getLastTickGcPauseNanos() {
+        return lastTickGcPauseNanos;
+    }
+
+    public long getTickNanosSum() {
+        return tickNanosSum.sum();
+    }
+
+    public LatencyHistogram getTickLatency() {
+        return tickLatency;
+    }
+
+    public List<PartyGauge> getPartyGauges() {
+        return List.of(partyGauges);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Erfasst einen abgeschlossenen Tick.
+     *
+     * @param durationNanos Gesamtdauer des Ticks.
+     * @param tickSwitches Anzahl der Parteiwechsel in diesem Tick.
+     * @param tickAllocatedBytes Allokierte Bytes, negativ falls unbekannt.
+     * @param tickGcPauseNanos GC-Pausen während des Ticks.
+     */
+    public void recordTick(long durationNanos, long tickSwitches, long tickAllocatedBytes, long tickGcPauseNanos) {
+        ticks.increment();
+        switches.add(tickSwitches);
+        tickNanosSum.add(durationNanos);
+        tickLatency.record(durationNanos);
+        lastTickSwitches = tickSwitches;
+        lastTickAllocatedBytes = tickAllocatedBytes;
+        lastTickGcPauseNanos = tickGcPauseNanos;
+        gcPauseNanos.add(tickGcPauseNanos);
+        if (tickAllocatedBytes > 0) {
+            allocatedBytes.add(tickAllocatedBytes);
+        }
+    }
+
+    public void recordScandal() {
+        scandals.increment();
+    }
+
+    /**
+     * Veröffentlicht die aktuellen Anhängerzahlen als neues, unveränderliches Array.
+     *
+     * @param parties Aktuelle Parteiliste mit bereits aktualisierten Zählern.
+     */
+    public void updatePartyGauges(List<Party> parties) {
+        PartyGauge[] gauges = new PartyGauge[parties.size()];
+        for (int i = 0; i < gauges.length; i++) {
+            Party p = parties.get(i);
+            gauges[i] = new PartyGauge(p.getName(), p.getCurrentSupporterCount());
+        }
+        partyGauges = gauges;
+    }
+}
@@ -0,0 +1,23 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für einen gezeichneten Frame des Dashboard-Canvas. Die Dauer ergibt sich aus begin/commit.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+@Name("de.schulprojekt.duv.RendererFrame")
+@Label("Renderer Frame")
+@Category({"DUV", "UI"})
+@Description("Zeichenzeit eines Frames im Dashboard-Canvas")
+public class RendererFrameEvent extends Event {
+
+    @Label("Active Particles")
+    public int particles;
+}
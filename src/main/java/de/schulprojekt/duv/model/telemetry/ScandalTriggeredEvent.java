@@ -0,0 +1,32 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für einen neu ausgelösten Skandal.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+@Name("de.schulprojekt.duv.ScandalTriggered")
+@Label("Scandal Triggered")
+@Category({"DUV", "Simulation"})
+@Description("Ein Skandal trifft eine Partei")
+public class ScandalTriggeredEvent extends Event {
+
+    @Label("Step")
+    public int step;
+
+    @Label("Party")
+    public String party;
+
+    @Label("Scandal")
+    public String title;
+
+    @Label("Strength")
+    public double strength;
+}
@@ -0,0 +1,39 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR-Ereignis für einen vollständigen Simulationsschritt. Die Dauer ergibt sich aus begin/commit.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+@Name("de.schulprojekt.duv.SimulationTick")
+@Label("Simulation Tick")
+@Category({"DUV", "Simulation"})
+@Description("Ein Schritt der Simulationsschleife")
+public class SimulationTickEvent extends Event {
+
+    @Label("Step")
+    public int step;
+
+    @Label("Voter Switches")
+    public long switches;
+
+    @Label("Population")
+    public int population;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+
+    @Label("GC Pause")
+    @Timespan(Timespan.NANOSECONDS)
+    public long gcPause;
+}
@@ -0,0 +1,29 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR-Ereignis für die Übergabe eines Tick-Ergebnisses vom Simulations-Thread an den FX-Thread.
+ * Wird auf dem FX-Thread festgeschrieben, sobald das Dashboard die Daten verarbeitet.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+@Name("de.schulprojekt.duv.SnapshotHandoff")
+@Label("Snapshot Handoff")
+@Category({"DUV", "UI"})
+@Description("Wartezeit zwischen Tick-Ende und Verarbeitung auf dem FX-Thread")
+public class SnapshotHandoffEvent extends Event {
+
+    @Label("Step")
+    public int step;
+
+    @Label("Queue Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    public long latency;
+}
@@ -0,0 +1,43 @@
+package de.schulprojekt.duv.model.telemetry;
+
+/**
+ * Messbare Phasen eines Simulationsschrittes in Ausführungsreihenfolge.
+ * {@link #TOTAL} umfasst den gesamten Schritt.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public enum TickPhase {
+
+    SCANDAL_EXPIRY("EXPIRY"),
+    SCANDAL_TRIGGER("TRIGGER"),
+    ZEITGEIST("ZEITGEIST"),
+    EVOLVE_POPULATION("EVOLVE"),
+    ACUTE_PRESSURE("PRESSURE"),
+    RECOVERY("RECOVERY"),
+    VOTER_DECISIONS("DECISIONS"),
+    RECALCULATE_COUNTS("COUNTS"),
+    TOTAL("TOTAL");
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final String shortLabel;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    TickPhase(String shortLabel) {
+        this.shortLabel = shortLabel;
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public String getShortLabel() {
+        return shortLabel;
+    }
+}
@@ -0,0 +1,118 @@
+package de.schulprojekt.duv.model.telemetry;
+
+/**
+ * Misst die Dauer der einzelnen Phasen eines Simulationsschrittes.
+ * <p>
+ * Die Engine ruft {@link #startTick(int)} zu Beginn auf und nach jeder Phase {@link #lap(TickPhase, long)}.
+ * Pro Messpunkt fällt genau ein {@link System#nanoTime()}-Aufruf an, die Werte landen in sperrfreien
+ * Histogrammen. Die Anzeige liest von einem anderen Thread und benötigt daher keine Synchronisation.
+ * Zusätzlich misst ein {@link AllocationTracker} Allokationen und GC-Pausen je Tick.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class TickProfiler {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final boolean enabled;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[TickPhase.values().length];
+    private final AllocationTracker allocations = new AllocationTracker();
+    private volatile long completedTicks = 0;
+    private long tickStart;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public TickProfiler() {
+        this(true);
+    }
+
+    private TickProfiler(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Erzeugt einen Profiler, der nichts misst, etwa für Forecast-Zweige. Deren Ticks laufen auf fremden
+     * Threads und würden sonst Messwerte und GC-Zuordnung der laufenden Simulation verfälschen.
+     */
+    public static TickProfiler disabled() {
+        return new TickProfiler(false);
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public LatencyHistogram getHistogram(TickPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public AllocationTracker getAllocations() {
+        return allocations;
+    }
+
+    /**
+     * @return Anzahl der seit dem letzten Zurücksetzen abgeschlossenen Ticks.
+     */
+    public long getCompletedTicks() {
+        return completedTicks;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param tick Nummer des beginnenden Schritts, unter der Allokationen und GC-Pausen abgelegt werden.
+     * @return Startzeitpunkt für die erste Phase.
+     */
+    public long startTick(int tick) {
+        if (!enabled) return 0;
+        allocations.beginTick(tick);
+        tickStart = System.nanoTime();
+        return tickStart;
+    }
+
+    /**
+     * Erfasst die Dauer einer Phase.
+     *
+     * @param phase Die abgeschlossene Phase.
+     * @param phaseStart Zeitpunkt, an dem die Phase begann.
+     * @return Aktueller Zeitpunkt, zugleich Start der nächsten Phase.
+     */
+    public long lap(TickPhase phase, long phaseStart) {
+        if (!enabled) return phaseStart;
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - phaseStart);
+        return now;
+    }
+
+    /**
+     * Schließt den Tick ab und erfasst seine Gesamtdauer.
+     *
+     * @param now Zeitpunkt des Endes, üblicherweise der Rückgabewert des letzten {@link #lap(TickPhase, long)}.
+     * @return Gesamtdauer des Ticks in Nanosekunden.
+     */
+    public long endTick(long now) {
+        if (!enabled) return 0;
+        long duration = now - tickStart;
+        histograms[TickPhase.TOTAL.ordinal()].record(duration);
+        allocations.endTick();
+        completedTicks++;
+        return duration;
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) histogram.reset();
+        allocations.reset();
+        completedTicks = 0;
+    }
+}
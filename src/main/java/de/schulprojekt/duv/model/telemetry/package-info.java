@@ -0,0 +1,9 @@
+/**
+ * Low-overhead runtime instrumentation of the simulation loop.
+ * Contains phase definitions, lock-free latency histograms, the per-tick profiler,
+ * allocation and GC pause tracking, the metrics registry and custom Flight Recorder
+ * events for ticks, scandals, UI handoff and renderer frames.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.model.telemetry;
@@ -0,0 +1,89 @@
+package de.schulprojekt.duv.model.voter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Seitenweise gespeicherte {@code byte}-Spalte mit Copy-on-Write.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class PagedByteColumn extends PagedColumn<ByteBuffer> {
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PagedByteColumn(ByteBuffer[] pages, boolean owned) {
+        super(pages, owned);
+    }
+
+    /**
+     * @param size Anzahl der Werte.
+     * @return Neue, mit Nullen gefüllte Spalte im Heap.
+     */
+    static PagedByteColumn allocate(int size) {
+        ByteBuffer[] pages = new ByteBuffer[pageCount(size)];
+        for (int p = 0; p < pages.length; p++) {
+            pages[p] = ByteBuffer.allocate(pageLength(size, p));
+        }
+        return new PagedByteColumn(pages, true);
+    }
+
+    /**
+     * Legt die Seiten als Sichten über einen vorhandenen Puffer, ohne zu kopieren.
+     *
+     * @param source Quellpuffer.
+     * @param offset Byte-Offset der Spalte im Puffer.
+     * @param size Anzahl der Werte.
+     * @return Spalte, die direkt in den Puffer schreibt.
+     */
+    static PagedByteColumn view(ByteBuffer source, int offset, int size) {
+        ByteBuffer[] pages = new ByteBuffer[pageCount(size)];
+        for (int p = 0; p < pages.length; p++) {
+            int start = offset + (p << PAGE_SHIFT);
+            pages[p] = source.slice(start, pageLength(size, p));
+        }
+        return new PagedByteColumn(pages, true);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    byte get(int i) {
+        return pages[i >>> PAGE_SHIFT].get(i & PAGE_MASK);
+    }
+
+    void set(int i, byte value) {
+        writablePage(i >>> PAGE_SHIFT).put(i & PAGE_MASK, value);
+    }
+
+    /**
+     * @return Neue Spalte, die sich alle Seiten mit dieser teilt.
+     */
+    PagedByteColumn fork() {
+        markShared();
+        return new PagedByteColumn(pages.clone(), false);
+    }
+
+    void copyTo(ByteBuffer target) {
+        for (int p = 0; p < pages.length; p++) {
+            target.put(p << PAGE_SHIFT, pages[p], 0, pages[p].capacity());
+        }
+    }
+
+    void copyFrom(ByteBuffer source) {
+        for (int p = 0; p < pages.length; p++) {
+            ByteBuffer page = writablePage(p);
+            page.put(0, source, p << PAGE_SHIFT, page.capacity());
+        }
+    }
+
+    @Override
+    ByteBuffer copyPage(ByteBuffer page) {
+        ByteBuffer copy = ByteBuffer.allocate(page.capacity());
+        copy.put(0, page, 0, page.capacity());
+        return copy;
+    }
+}
@@ -0,0 +1,114 @@
+package de.schulprojekt.duv.model.voter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.Buffer;
+import java.util.Arrays;
+
+/**
+ * Spalte der Wählerpopulation, aufgeteilt in Seiten fester Größe mit Copy-on-Write zwischen Forks.
+ * <p>
+ * Nach einem Fork verweisen Eltern- und Kindspalte auf dieselben Seiten. Die erste
+ * Schreiboperation auf eine geteilte Seite kopiert sie in den eigenen Besitz; unveränderte Seiten kosten
+ * dadurch keinen zusätzlichen Speicher. Die geteilten Seiten selbst werden nie verändert, Leser sehen
+ * also auch während einer Kopie stets gültige Werte.
+ * </p>
+ * <p>
+ * Schreibzugriffe dürfen parallel erfolgen, solange jeder Index nur von einem Thread geschrieben wird.
+ * Der Besitzwechsel wird mit Release/Acquire veröffentlicht, damit kein Thread nach der Kopie noch in
+ * die geteilte Seite schreibt.
+ * </p>
+ *
+ * @param <B> Puffertyp einer Seite.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+abstract class PagedColumn<B extends Buffer> {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    static final int PAGE_SHIFT = 12;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final VarHandle OWNED = MethodHandles.arrayElementVarHandle(boolean[].class);
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    final B[] pages;
+    private final boolean[] owned;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    PagedColumn(B[] pages, boolean owned) {
+        this.pages = pages;
+        this.owned = new boolean[pages.length];
+        if (owned) Arrays.fill(this.owned, true);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    static int pageCount(int size) {
+        return (size + PAGE_MASK) >>> PAGE_SHIFT;
+    }
+
+    static int pageLength(int size, int page) {
+        return Math.min(PAGE_SIZE, size - (page << PAGE_SHIFT));
+    }
+
+    /**
+     * Markiert alle eigenen Seiten als geteilt, bevor ein Fork sie übernimmt.
+     * Darf nur aufgerufen werden, während die Spalte nicht beschrieben wird.
+     */
+    final void markShared() {
+        Arrays.fill(owned, false);
+    }
+
+    /**
+     * @return Anzahl der Seiten, die diese Spalte bereits selbst besitzt.
+     */
+    int ownedPageCount() {
+        int count = 0;
+        for (int p = 0; p < owned.length; p++) {
+            if ((boolean) OWNED.getAcquire(owned, p)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Liefert die Seite zum Schreiben und kopiert sie bei Bedarf vorher in den eigenen Besitz.
+     *
+     * @param page Seitenindex.
+     * @return Beschreibbare, nur dieser Spalte gehörende Seite.
+     */
+    final B writablePage(int page) {
+        if (!(boolean) OWNED.getAcquire(owned, page)) {
+            copyOnWrite(page);
+        }
+        return pages[page];
+    }
+
+    /**
+     * @param page Seite, deren Inhalt kopiert wird.
+     * @return Neue Heap-Seite mit demselben Inhalt.
+     */
+    abstract B copyPage(B page);
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private synchronized void copyOnWrite(int page) {
+        if (owned[page]) return;
+        pages[page] = copyPage(pages[page]);
+        OWNED.setRelease(owned, page, true);
+    }
+}
@@ -0,0 +1,91 @@
+package de.schulprojekt.duv.model.voter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Seitenweise gespeicherte {@code float}-Spalte mit Copy-on-Write.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class PagedFloatColumn extends PagedColumn<FloatBuffer> {
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PagedFloatColumn(FloatBuffer[] pages, boolean owned) {
+        super(pages, owned);
+    }
+
+    /**
+     * @param size Anzahl der Werte.
+     * @return Neue, mit Nullen gefüllte Spalte im Heap.
+     */
+    static PagedFloatColumn allocate(int size) {
+        FloatBuffer[] pages = new FloatBuffer[pageCount(size)];
+        for (int p = 0; p < pages.length; p++) {
+            pages[p] = FloatBuffer.allocate(pageLength(size, p));
+        }
+        return new PagedFloatColumn(pages, true);
+    }
+
+    /**
+     * Legt die Seiten als Sichten über einen vorhandenen Puffer, ohne zu kopieren.
+     *
+     * @param source Puffer im Little-Endian-Format.
+     * @param offset Byte-Offset der Spalte im Puffer.
+     * @param size Anzahl der Werte.
+     * @return Spalte, die direkt in den Puffer schreibt.
+     */
+    static PagedFloatColumn view(ByteBuffer source, int offset, int size) {
+        FloatBuffer[] pages = new FloatBuffer[pageCount(size)];
+        for (int p = 0; p < pages.length; p++) {
+            int start = offset + (p << PAGE_SHIFT) * Float.BYTES;
+            pages[p] = source.slice(start, pageLength(size, p) * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        }
+        return new PagedFloatColumn(pages, true);
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    float get(int i) {
+        return pages[i >>> PAGE_SHIFT].get(i & PAGE_MASK);
+    }
+
+    void set(int i, float value) {
+        writablePage(i >>> PAGE_SHIFT).put(i & PAGE_MASK, value);
+    }
+
+    /**
+     * @return Neue Spalte, die sich alle Seiten mit dieser teilt.
+     */
+    PagedFloatColumn fork() {
+        markShared();
+        return new PagedFloatColumn(pages.clone(), false);
+    }
+
+    void copyTo(FloatBuffer target) {
+        for (int p = 0; p < pages.length; p++) {
+            target.put(p << PAGE_SHIFT, pages[p], 0, pages[p].capacity());
+        }
+    }
+
+    void copyFrom(FloatBuffer source) {
+        for (int p = 0; p < pages.length; p++) {
+            FloatBuffer page = writablePage(p);
+            page.put(0, source, p << PAGE_SHIFT, page.capacity());
+        }
+    }
+
+    @Override
+    FloatBuffer copyPage(FloatBuffer page) {
+        FloatBuffer copy = FloatBuffer.allocate(page.capacity());
+        copy.put(0, page, 0, page.capacity());
+        return copy;
+    }
+}
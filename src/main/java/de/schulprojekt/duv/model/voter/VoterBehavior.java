@@ -5,27 +5,44 @@ import de.schulprojekt.duv.model.calculation.VoterDecisionContext;
 import de.schulprojekt.duv.model.calculation.PartyEvaluationResult;
 import de.schulprojekt.duv.model.core.SimulationParameters;
 import de.schulprojekt.duv.model.dto.VoterTransition;
+import de.schulprojekt.duv.model.indicators.PopulationHistogram;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.model.random.DistributionProvider;
+import de.schulprojekt.duv.model.random.VoterSampler;
 import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
+import de.schulprojekt.duv.util.config.IndicatorConfig;
 import de.schulprojekt.duv.util.config.SimulationConfig;
 import de.schulprojekt.duv.util.config.VoterBehaviorConfig;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
 
 /**
  * Steuert das Verhalten und die Entscheidungsfindung der Wählerpopulation.
+ * <p>
+ * Alle Zufallszüge stammen aus dem übergebenen {@link DistributionProvider}: Die parallelen Durchläufe erhalten
+ * je Block einen eigenen, aus dem Hauptgenerator abgeleiteten {@link SplittableRandom}. Bei gleichem Zustand des
+ * Hauptgenerators ist ein Schritt damit unabhängig von der Thread-Verteilung reproduzierbar.
+ * </p>
  * @author Nico Hoffmann
  * @version 1.0
  */
 public class VoterBehavior {
 
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final LongAdder switchCounter = new LongAdder();
+    private volatile long lastSwitchCount = 0;
+    private volatile PopulationHistogram lastHistogram = emptyHistogram();
+
     // ========================================
     // Constructors
     // ========================================
@@ -34,53 +51,127 @@ public class VoterBehavior {
         // Standard-Konstruktor
     }
 
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    /**
+     * @return Anzahl der Parteiwechsel im zuletzt verarbeiteten Schritt.
+     */
+    public long getLastSwitchCount() {
+        return lastSwitchCount;
+    }
+
+    /**
+     * @return Verteilung von Loyalität und Position am Ende des zuletzt verarbeiteten Schritts.
+     */
+    public PopulationHistogram getLastHistogram() {
+        return lastHistogram;
+    }
+
     // ========================================
     // Public Control Methods
     // ========================================
 
+    /**
+     * Erzeugt die Startpopulation parallel in Blöcken von {@link VoterBehaviorConfig#INIT_CHUNK_SIZE}.
+     * Jeder Block erhält einen eigenen {@link VoterSampler}, daher teilen sich die Threads keinen Zufallszustand.
+     */
     public void initializePopulation(VoterPopulation pop, int totalVoters, int partyCount, DistributionProvider dist) {
         pop.allocate(totalVoters);
-        IntStream.range(0, totalVoters).parallel().forEach(i -> {
-            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        populate(pop, partyCount, dist.createVoterSamplers(chunkCount(totalVoters)));
+    }
 
-            boolean isUndecided = rnd.nextDouble() < VoterBehaviorConfig.UNDECIDED_RATIO;
-            int assignedParty = (!isUndecided && partyCount > 1) ? 1 + rnd.nextInt(partyCount - 1) : 0;
-            pop.setPartyIndexRaw(i, (byte) assignedParty);
+    /**
+     * Füllt eine bereits angelegte Population.
+     * @param pop Population mit fester Größe
+     * @param partyCount Anzahl der Parteien inklusive "Unsicher"
+     * @param samplers Je Block ein Sampler, siehe {@link #chunkCount(int)}
+     */
+    public void populate(VoterPopulation pop, int partyCount, VoterSampler[] samplers) {
+        int totalVoters = pop.size();
+        int chunkSize = VoterBehaviorConfig.INIT_CHUNK_SIZE;
+        if (samplers.length < chunkCount(totalVoters)) {
+            throw new IllegalArgumentException("Expected " + chunkCount(totalVoters) + " samplers, got " + samplers.length);
+        }
 
-            pop.setVoterTypeRaw(i, (byte) dist.sampleVoterType().ordinal());
-            pop.setLoyaltyRaw(i, (float) dist.sampleLoyalty());
+        IntStream.range(0, chunkCount(totalVoters)).parallel().forEach(chunk -> {
+            VoterSampler sampler = samplers[chunk];
+            int end = Math.min(totalVoters, (chunk + 1) * chunkSize);
 
-            double rawPos = VoterBehaviorConfig.POS_MEAN + (rnd.nextGaussian() * VoterBehaviorConfig.POS_STD_DEV);
-            pop.setPositionRaw(i, (float) Math.max(0, Math.min(100, rawPos)));
-            pop.setMediaInfluenceRaw(i, (float) Math.pow(rnd.nextDouble(), VoterBehaviorConfig.MEDIA_INFLUENCE_EXPONENT));
+            for (int i = chunk * chunkSize; i < end; i++) {
+                boolean isUndecided = sampler.nextDouble() < VoterBehaviorConfig.UNDECIDED_RATIO;
+                int assignedParty = (!isUndecided && partyCount > 1) ? 1 + sampler.nextInt(partyCount - 1) : 0;
+                pop.setPartyIndexRaw(i, (byte) assignedParty);
+
+                pop.setVoterTypeRaw(i, (byte) sampler.sampleVoterType().ordinal());
+                pop.setLoyaltyRaw(i, (float) sampler.sampleLoyalty());
+
+                double rawPos = sampler.sampleGaussian(VoterBehaviorConfig.POS_MEAN, VoterBehaviorConfig.POS_STD_DEV);
+                pop.setPositionRaw(i, (float) Math.max(0, Math.min(100, rawPos)));
+                pop.setMediaInfluenceRaw(i, (float) Math.pow(sampler.nextDouble(), VoterBehaviorConfig.MEDIA_INFLUENCE_EXPONENT));
+            }
         });
     }
 
     /**
-     * Berechnet die dynamische Entwicklung der Wählerattribute.
+     * @param totalVoters Größe der Population
+     * @return Anzahl der Initialisierungsblöcke
      */
-    public void evolvePopulation(VoterPopulation pop, SimulationParameters params) {
-        double volatilityFactor = params.volatilityRate() / 50.0;
-
-        IntStream.range(0, pop.size()).parallel().forEach(i -> {
-            ThreadLocalRandom rnd = ThreadLocalRandom.current();
-
-            float currentLoyalty = pop.getLoyaltyRaw(i);
-            float deltaLoyalty = (float) ((rnd.nextDouble() - 0.5) * VoterBehaviorConfig.LOYALTY_FLUCTUATION * volatilityFactor);
-            pop.setLoyaltyRaw(i, Math.max(0, Math.min(100, currentLoyalty + deltaLoyalty)));
+    public static int chunkCount(int totalVoters) {
+        return (totalVoters + VoterBehaviorConfig.INIT_CHUNK_SIZE - 1) / VoterBehaviorConfig.INIT_CHUNK_SIZE;
+    }
 
-            float currentMedia = pop.getMediaInfluenceRaw(i);
-            float deltaMedia = (float) ((rnd.nextDouble() - 0.5) * VoterBehaviorConfig.MEDIA_INFLUENCE_DRIFT * volatilityFactor);
-            pop.setMediaInfluenceRaw(i, Math.max(0.0f, Math.min(1.0f, currentMedia + deltaMedia)));
+    /**
+     * Zählt Loyalität und Position der gesamten Population in einem eigenen parallelen Durchlauf.
+     * Nur für Zeitpunkte ohne Entscheidungsdurchlauf gedacht, etwa nach Initialisierung oder Laden.
+     */
+    public PopulationHistogram measureHistogram(VoterPopulation pop) {
+        int size = pop.size();
+        int chunkSize = VoterBehaviorConfig.DECISION_CHUNK_SIZE;
+        int[][] partial = new int[(size + chunkSize - 1) / chunkSize][];
+
+        IntStream.range(0, partial.length).parallel().forEach(chunk -> {
+            int[] bins = new int[IndicatorConfig.HISTOGRAM_SLOTS];
+            int end = Math.min(size, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) countHistogram(pop, i, bins);
+            partial[chunk] = bins;
+        });
+        return mergeHistograms(partial);
+    }
 
-            if (rnd.nextDouble() < (VoterBehaviorConfig.TYPE_CHANGE_PROBABILITY * volatilityFactor)) {
-                pop.setVoterTypeRaw(i, (byte) rnd.nextInt(VoterType.values().length));
+    /**
+     * Berechnet die dynamische Entwicklung der Wählerattribute.
+     * @param dist Liefert je Block eine eigene Zufallsquelle
+     */
+    public void evolvePopulation(VoterPopulation pop, SimulationParameters params, DistributionProvider dist) {
+        double volatilityFactor = params.volatilityRate() / 50.0;
+        int size = pop.size();
+        int chunkSize = VoterBehaviorConfig.DECISION_CHUNK_SIZE;
+        SplittableRandom[] randoms = dist.createChunkRandoms((size + chunkSize - 1) / chunkSize);
+
+        IntStream.range(0, randoms.length).parallel().forEach(chunk -> {
+            SplittableRandom rnd = randoms[chunk];
+            int end = Math.min(size, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                float currentLoyalty = pop.getLoyaltyRaw(i);
+                float deltaLoyalty = (float) ((rnd.nextDouble() - 0.5) * VoterBehaviorConfig.LOYALTY_FLUCTUATION * volatilityFactor);
+                pop.setLoyaltyRaw(i, Math.max(0, Math.min(100, currentLoyalty + deltaLoyalty)));
+
+                float currentMedia = pop.getMediaInfluenceRaw(i);
+                float deltaMedia = (float) ((rnd.nextDouble() - 0.5) * VoterBehaviorConfig.MEDIA_INFLUENCE_DRIFT * volatilityFactor);
+                pop.setMediaInfluenceRaw(i, Math.max(0.0f, Math.min(1.0f, currentMedia + deltaMedia)));
+
+                if (rnd.nextDouble() < (VoterBehaviorConfig.TYPE_CHANGE_PROBABILITY * volatilityFactor)) {
+                    pop.setVoterTypeRaw(i, (byte) rnd.nextInt(VoterType.values().length));
+                }
             }
         });
     }
 
     /**
      * Verarbeitet die Wahlentscheidungen der gesamten Population.
+     * @param dist Liefert die Tagesform der Parteien und je Block eine eigene Zufallsquelle
      */
     public List<VoterTransition> processVoterDecisions(
             VoterPopulation population,
@@ -88,55 +179,72 @@ public class VoterBehavior {
             SimulationParameters params,
             double[] acutePressures,
             ScandalImpactCalculator impactCalculator,
-            double activeZeitgeist
+            double activeZeitgeist,
+            DistributionProvider dist
     ) {
         ConcurrentLinkedQueue<VoterTransition> visualTransitions = new ConcurrentLinkedQueue<>();
         int partyCount = parties.size();
 
         AtomicInteger[] partyDeltas = initDeltas(partyCount);
-        PartyCalculationCache cache = createPartyCache(parties, params);
-
-        IntStream.range(0, population.size()).parallel().forEach(i -> {
-            Random rnd = ThreadLocalRandom.current();
-
-            applyOpinionDrift(population, i, rnd, activeZeitgeist);
-
-            int currentIdx = population.getPartyIndexRaw(i);
-            if (currentIdx >= partyCount) {
-                currentIdx = 0;
-                population.setPartyIndexRaw(i, (byte) 0);
-            }
+        PartyCalculationCache cache = createPartyCache(parties, params, dist);
+        switchCounter.reset();
+
+        // Blöcke statt Einzelindizes, damit jeder Block seine Histogramme ohne Synchronisation zählen kann
+        int size = population.size();
+        int chunkSize = VoterBehaviorConfig.DECISION_CHUNK_SIZE;
+        int[][] histogramParts = new int[(size + chunkSize - 1) / chunkSize][];
+        SplittableRandom[] randoms = dist.createChunkRandoms(histogramParts.length);
+
+        IntStream.range(0, histogramParts.length).parallel().forEach(chunk -> {
+            RandomGenerator rnd = randoms[chunk];
+            int[] bins = new int[IndicatorConfig.HISTOGRAM_SLOTS];
+            int end = Math.min(size, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                applyOpinionDrift(population, i, rnd, activeZeitgeist);
+
+                int currentIdx = population.getPartyIndexRaw(i);
+                if (currentIdx >= partyCount) {
+                    currentIdx = 0;
+                    population.setPartyIndexRaw(i, (byte) 0);
+                }
 
-            VoterType voterType = VoterType.values()[population.getVoterTypeRaw(i)];
-            double totalPenalty = calculatePenalty(currentIdx, acutePressures, impactCalculator);
+                VoterType voterType = VoterType.values()[population.getVoterTypeRaw(i)];
+                double totalPenalty = calculatePenalty(currentIdx, acutePressures, impactCalculator);
 
-            VoterDecisionContext context = new VoterDecisionContext(
-                    population.getPositionRaw(i),
-                    population.getLoyaltyRaw(i),
-                    population.getMediaInfluenceRaw(i),
-                    voterType,
-                    currentIdx,
-                    totalPenalty
-            );
+                VoterDecisionContext context = new VoterDecisionContext(
+                        population.getPositionRaw(i),
+                        population.getLoyaltyRaw(i),
+                        population.getMediaInfluenceRaw(i),
+                        voterType,
+                        currentIdx,
+                        totalPenalty
+                );
 
-            double switchProb = calculateSwitchProbability(context, params);
+                double switchProb = calculateSwitchProbability(context, params);
 
-            if (rnd.nextDouble() < switchProb) {
-                int targetIdx = findBestTargetParty(context, partyCount, cache, acutePressures, impactCalculator, rnd);
+                if (rnd.nextDouble() < switchProb) {
+                    int targetIdx = findBestTargetParty(context, partyCount, cache, acutePressures, impactCalculator, rnd);
 
-                if (targetIdx != currentIdx) {
-                    population.setPartyIndexRaw(i, (byte) targetIdx);
-                    partyDeltas[currentIdx].decrementAndGet();
-                    partyDeltas[targetIdx].incrementAndGet();
+                    if (targetIdx != currentIdx) {
+                        population.setPartyIndexRaw(i, (byte) targetIdx);
+                        partyDeltas[currentIdx].decrementAndGet();
+                        partyDeltas[targetIdx].incrementAndGet();
+                        switchCounter.increment();
 
-                    if (rnd.nextDouble() < SimulationConfig.VISUALIZATION_SAMPLE_RATE) {
-                        visualTransitions.add(new VoterTransition(parties.get(currentIdx), parties.get(targetIdx)));
+                        if (rnd.nextDouble() < SimulationConfig.VISUALIZATION_SAMPLE_RATE) {
+                            visualTransitions.add(new VoterTransition(parties.get(currentIdx), parties.get(targetIdx)));
+                        }
                     }
                 }
+
+                countHistogram(population, i, bins);
             }
+            histogramParts[chunk] = bins;
         });
 
         applyPopulationChanges(parties, partyDeltas);
+        lastSwitchCount = switchCounter.sum();
+        lastHistogram = mergeHistograms(histogramParts);
         return new ArrayList<>(visualTransitions);
     }
 
@@ -144,7 +252,7 @@ public class VoterBehavior {
     // Internal Calculation Logic
     // ========================================
 
-    private void applyOpinionDrift(VoterPopulation population, int index, Random rnd, double globalTrend) {
+    private void applyOpinionDrift(VoterPopulation population, int index, RandomGenerator rnd, double globalTrend) {
         double individualDrift = (rnd.nextDouble() - 0.5) * VoterBehaviorConfig.OPINION_DRIFT_FACTOR;
         double totalDrift = individualDrift + (globalTrend * VoterBehaviorConfig.GLOBAL_TREND_WEIGHT);
 
@@ -181,7 +289,7 @@ public class VoterBehavior {
     }
 
     private int findBestTargetParty(VoterDecisionContext context, int partyCount, PartyCalculationCache cache,
-                                    double[] acutePressures, ScandalImpactCalculator impactCalc, Random rnd) {
+                                    double[] acutePressures, ScandalImpactCalculator impactCalc, RandomGenerator rnd) {
         boolean isPanicMode = context.currentPenalty() > VoterBehaviorConfig.DISASTER_FLIGHT_THRESHOLD;
 
         if (!isPanicMode && context.currentPartyIndex() != 0 &&
@@ -207,7 +315,7 @@ public class VoterBehavior {
     }
 
     private PartyEvaluationResult evaluateParty(int partyIdx, VoterDecisionContext context, PartyCalculationCache cache,
-                                                double[] acutePressures, ScandalImpactCalculator impactCalc, double campaignEffectiveness, Random rnd) {
+                                                double[] acutePressures, ScandalImpactCalculator impactCalc, double campaignEffectiveness, RandomGenerator rnd) {
         double dist = Math.abs(context.position() - cache.positions()[partyIdx]);
         double typeSensitivity = VoterBehaviorConfig.DISTANCE_SENSITIVITY * context.voterType().getDistanceSensitivity();
         double distScore = VoterBehaviorConfig.DISTANCE_SCORE_BASE / (1.0 + (dist * typeSensitivity));
@@ -226,6 +334,33 @@ public class VoterBehavior {
     // Internal State Management
     // ========================================
 
+    private static void countHistogram(VoterPopulation pop, int i, int[] bins) {
+        bins[IndicatorConfig.binOf(pop.getLoyaltyRaw(i))]++;
+        bins[IndicatorConfig.HISTOGRAM_BINS + IndicatorConfig.bucketOf(pop.getPositionRaw(i))]++;
+    }
+
+    /**
+     * Führt die Blockzähler zusammen. Das grobe Positionshistogramm wird aus den feinen Dichteklassen
+     * abgeleitet, statt im Durchlauf separat gezählt zu werden.
+     */
+    private static PopulationHistogram mergeHistograms(int[][] parts) {
+        PopulationHistogram merged = emptyHistogram();
+        int binCount = IndicatorConfig.HISTOGRAM_BINS;
+        int bucketCount = IndicatorConfig.DENSITY_BUCKETS;
+        for (int[] part : parts) {
+            for (int b = 0; b < binCount; b++) merged.loyalty()[b] += part[b];
+            for (int d = 0; d < bucketCount; d++) merged.density()[d] += part[binCount + d];
+        }
+        int bucketsPerBin = bucketCount / binCount;
+        for (int d = 0; d < bucketCount; d++) merged.position()[d / bucketsPerBin] += merged.density()[d];
+        return merged;
+    }
+
+    private static PopulationHistogram emptyHistogram() {
+        return new PopulationHistogram(new int[IndicatorConfig.HISTOGRAM_BINS], new int[IndicatorConfig.HISTOGRAM_BINS],
+                new int[IndicatorConfig.DENSITY_BUCKETS]);
+    }
+
     private AtomicInteger[] initDeltas(int size) {
         AtomicInteger[] deltas = new AtomicInteger[size];
         for (int i = 0; i < size; i++) deltas[i] = new AtomicInteger(0);
@@ -242,8 +377,7 @@ public class VoterBehavior {
         }
     }
 
-    private PartyCalculationCache createPartyCache(List<Party> parties, SimulationParameters params) {
-        Random rnd = new Random();
+    private PartyCalculationCache createPartyCache(List<Party> parties, SimulationParameters params, DistributionProvider dist) {
         int size = parties.size();
         double[] positions = new double[size];
         double[] budgetScores = new double[size];
@@ -253,7 +387,7 @@ public class VoterBehavior {
             Party p = parties.get(k);
             positions[k] = p.getPoliticalPosition();
             budgetScores[k] = (p.getCampaignBudget() / SimulationConfig.CAMPAIGN_BUDGET_FACTOR) * VoterBehaviorConfig.BUDGET_SCORE_MULTIPLIER;
-            momentum[k] = VoterBehaviorConfig.MOMENTUM_BASE + (rnd.nextDouble() * VoterBehaviorConfig.MOMENTUM_VARIANCE);
+            momentum[k] = VoterBehaviorConfig.MOMENTUM_BASE + (dist.getRandomGenerator().nextDouble() * VoterBehaviorConfig.MOMENTUM_VARIANCE);
         }
 
         return new PartyCalculationCache(positions, budgetScores, momentum, params.chaosFactor(), params.mediaInfluence() / 100.0);
@@ -1,21 +1,42 @@
 package de.schulprojekt.duv.model.voter;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
 /**
  * Structure-of-Arrays für die Wählerpopulation.
+ * <p>
+ * Die Spalten liegen entweder im Heap ({@link #allocate(int)}) oder in einem gemeinsamen Puffer, etwa
+ * einer Copy-on-Write-Abbildung einer Populationsdatei ({@link #attach(ByteBuffer, int)}). Die
+ * Zugriffsmethoden sind in beiden Fällen identisch.
+ * </p>
+ * <p>
+ * Jede Spalte ist in Seiten zu 4096 Wählern aufgeteilt. {@link #fork()} teilt alle Seiten mit der neuen
+ * Population; erst beim ersten Schreibzugriff auf eine Seite wird diese für die schreibende Seite kopiert.
+ * </p>
  * @author Nico Hoffmann
  * @version 1.0
  */
 public class VoterPopulation {
 
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    /** Speicherbedarf eines Wählers über alle Spalten in Byte. */
+    public static final int BYTES_PER_VOTER = 3 * Float.BYTES + 2;
+
     // ========================================
     // Instance Variables (SoA-Arrays)
     // ========================================
 
-    private byte[] voterPartyIndices;
-    private byte[] voterTypes;
-    private float[] voterLoyalties;
-    private float[] voterPositions;
-    private float[] voterMediaInfluence;
+    private int size = 0;
+    private PagedByteColumn voterPartyIndices;
+    private PagedByteColumn voterTypes;
+    private PagedFloatColumn voterLoyalties;
+    private PagedFloatColumn voterPositions;
+    private PagedFloatColumn voterMediaInfluence;
 
     // ========================================
     // Lifecycle & Memory Management
@@ -26,15 +47,95 @@ public class VoterPopulation {
      * @param size Die Anzahl der zu simulierenden Wähler.
      */
     public void allocate(int size) {
-        this.voterPartyIndices = new byte[size];
-        this.voterTypes = new byte[size];
-        this.voterLoyalties = new float[size];
-        this.voterPositions = new float[size];
-        this.voterMediaInfluence = new float[size];
+        this.size = size;
+        this.voterPartyIndices = PagedByteColumn.allocate(size);
+        this.voterTypes = PagedByteColumn.allocate(size);
+        this.voterLoyalties = PagedFloatColumn.allocate(size);
+        this.voterPositions = PagedFloatColumn.allocate(size);
+        this.voterMediaInfluence = PagedFloatColumn.allocate(size);
+    }
+
+    /**
+     * Legt die Spalten als Sichten über einen vorhandenen Puffer.
+     * Layout ab Position 0, Little Endian: Loyalität, Position, Medieneinfluss (je {@code float[size]}),
+     * danach Parteiindex und Wählertyp (je {@code byte[size]}).
+     * @param columns Puffer mit mindestens {@code size * BYTES_PER_VOTER} Byte
+     * @param size Die Anzahl der Wähler
+     */
+    public void attach(ByteBuffer columns, int size) {
+        ByteBuffer source = columns.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int floatBytes = size * Float.BYTES;
+        this.size = size;
+        this.voterLoyalties = PagedFloatColumn.view(source, 0, size);
+        this.voterPositions = PagedFloatColumn.view(source, floatBytes, size);
+        this.voterMediaInfluence = PagedFloatColumn.view(source, 2 * floatBytes, size);
+        this.voterPartyIndices = PagedByteColumn.view(source, 3 * floatBytes, size);
+        this.voterTypes = PagedByteColumn.view(source, 3 * floatBytes + size, size);
     }
 
     public int size() {
-        return voterPartyIndices != null ? voterPartyIndices.length : 0;
+        return size;
+    }
+
+    /**
+     * Erzeugt eine Population, die sich alle Seiten mit dieser teilt.
+     * Darf nur aufgerufen werden, während die Population nicht beschrieben wird, also zwischen zwei Ticks.
+     * Danach kopieren beide Seiten eine Seite erst, wenn sie darauf schreiben.
+     *
+     * @return Neue Population mit identischem Inhalt.
+     */
+    public VoterPopulation fork() {
+        VoterPopulation child = new VoterPopulation();
+        child.size = size;
+        if (size == 0) return child;
+        child.voterPartyIndices = voterPartyIndices.fork();
+        child.voterTypes = voterTypes.fork();
+        child.voterLoyalties = voterLoyalties.fork();
+        child.voterPositions = voterPositions.fork();
+        child.voterMediaInfluence = voterMediaInfluence.fork();
+        return child;
+    }
+
+    /**
+     * @return Ungefährer Speicher in Byte, den diese Population exklusiv hält, ohne mit Forks geteilte Seiten.
+     */
+    public long getOwnedBytes() {
+        if (size == 0) return 0;
+        long floatPages = voterLoyalties.ownedPageCount() + voterPositions.ownedPageCount() + voterMediaInfluence.ownedPageCount();
+        long bytePages = voterPartyIndices.ownedPageCount() + voterTypes.ownedPageCount();
+        return (floatPages * Float.BYTES + bytePages) * PagedColumn.PAGE_SIZE;
+    }
+
+    /**
+     * Kopiert alle Spalten per Bulk-Transfer in einen neuen Puffer im Layout von {@link #attach(ByteBuffer, int)}.
+     * @return Unabhängige Kopie der Population
+     */
+    public ByteBuffer exportColumns() {
+        ByteBuffer target = ByteBuffer.allocate(size * BYTES_PER_VOTER).order(ByteOrder.LITTLE_ENDIAN);
+        int floatBytes = size * Float.BYTES;
+        if (size == 0) return target;
+        voterLoyalties.copyTo(floatView(target, 0));
+        voterPositions.copyTo(floatView(target, floatBytes));
+        voterMediaInfluence.copyTo(floatView(target, 2 * floatBytes));
+        voterPartyIndices.copyTo(target.slice(3 * floatBytes, size));
+        voterTypes.copyTo(target.slice(3 * floatBytes + size, size));
+        return target;
+    }
+
+    /**
+     * Legt die Population im Heap neu an und übernimmt die Spalten aus einem Puffer.
+     * @param columns Puffer im Layout von {@link #attach(ByteBuffer, int)}
+     * @param size Die Anzahl der Wähler
+     */
+    public void importColumns(ByteBuffer columns, int size) {
+        ByteBuffer source = columns.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int floatBytes = size * Float.BYTES;
+        allocate(size);
+        voterLoyalties.copyFrom(floatView(source, 0));
+        voterPositions.copyFrom(floatView(source, floatBytes));
+        voterMediaInfluence.copyFrom(floatView(source, 2 * floatBytes));
+        voterPartyIndices.copyFrom(source.slice(3 * floatBytes, size));
+        voterTypes.copyFrom(source.slice(3 * floatBytes + size, size));
     }
 
     // ========================================
@@ -42,32 +143,40 @@ public class VoterPopulation {
     // ========================================
 
     /** @return Der Index der Partei, die der Wähler an Stelle i unterstützt. */
-    public byte getPartyIndexRaw(int i) { return voterPartyIndices[i]; }
+    public byte getPartyIndexRaw(int i) { return voterPartyIndices.get(i); }
 
     /** Setzt den Parteien-Index für den Wähler an Stelle i. */
-    public void setPartyIndexRaw(int i, byte val) { voterPartyIndices[i] = val; }
+    public void setPartyIndexRaw(int i, byte val) { voterPartyIndices.set(i, val); }
 
     /** @return Der ordinale Wert des VoterType für den Wähler an Stelle i. */
-    public byte getVoterTypeRaw(int i) { return voterTypes[i]; }
+    public byte getVoterTypeRaw(int i) { return voterTypes.get(i); }
 
     /** Setzt den Wählertyp-Index für den Wähler an Stelle i. */
-    public void setVoterTypeRaw(int i, byte val) { voterTypes[i] = val; }
+    public void setVoterTypeRaw(int i, byte val) { voterTypes.set(i, val); }
 
     /** @return Die politische Position (0-100) des Wählers an Stelle i. */
-    public float getPositionRaw(int i) { return voterPositions[i]; }
+    public float getPositionRaw(int i) { return voterPositions.get(i); }
 
     /** Setzt die politische Position für den Wähler an Stelle i. */
-    public void setPositionRaw(int i, float val) { voterPositions[i] = val; }
+    public void setPositionRaw(int i, float val) { voterPositions.set(i, val); }
 
     /** @return Der Loyalitätswert des Wählers an Stelle i. */
-    public float getLoyaltyRaw(int i) { return voterLoyalties[i]; }
+    public float getLoyaltyRaw(int i) { return voterLoyalties.get(i); }
 
     /** Setzt den Loyalitätswert für den Wähler an Stelle i. */
-    public void setLoyaltyRaw(int i, float val) { voterLoyalties[i] = val; }
+    public void setLoyaltyRaw(int i, float val) { voterLoyalties.set(i, val); }
 
     /** @return Der Medieneinfluss-Faktor (0.0-1.0) des Wählers an Stelle i. */
-    public float getMediaInfluenceRaw(int i) { return voterMediaInfluence[i]; }
+    public float getMediaInfluenceRaw(int i) { return voterMediaInfluence.get(i); }
 
     /** Setzt den Medieneinfluss-Faktor für den Wähler an Stelle i. */
-    public void setMediaInfluenceRaw(int i, float val) { voterMediaInfluence[i] = val; }
-}
\ No newline at end of file
+    public void setMediaInfluenceRaw(int i, float val) { voterMediaInfluence.set(i, val); }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private FloatBuffer floatView(ByteBuffer buffer, int offset) {
+        return buffer.slice(offset, size * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+    }
+}
@@ -1,7 +1,7 @@
 package de.schulprojekt.duv.model.voter;
 
+import de.schulprojekt.duv.model.random.SplitMixRandom;
 import de.schulprojekt.duv.util.config.VoterBehaviorConfig;
-import java.util.Random;
 
 /**
  * Verwaltet die globale politische Stimmung in der Simulation.
@@ -15,7 +15,7 @@ public class ZeitgeistManager {
     // ========================================
 
     private volatile double currentZeitgeist;
-    private final Random random = new Random();
+    private final SplitMixRandom random = new SplitMixRandom();
 
     // ========================================
     // Getter & Setter Methoden
@@ -29,6 +29,22 @@ public class ZeitgeistManager {
         return currentZeitgeist;
     }
 
+    /**
+     * @return Zustand des Zufallsgenerators, siehe
+     * {@link de.schulprojekt.duv.model.random.DistributionProvider#getRandomState()}
+     */
+    public long getRandomState() {
+        return random.getState();
+    }
+
+    public void restoreRandomState(long state) {
+        random.setState(state);
+    }
+
+    public void reseed(long seed) {
+        random.setSeed(seed);
+    }
+
     // ========================================
     // Logik-Methoden
     // ========================================
@@ -2,6 +2,7 @@
  * Voter behavior modeling based on scientific electoral research.
  * Implements six distinct voter archetypes with different decision-making patterns:
  * Pragmatic, Ideological, Rational-Choice, Affective, Heuristic, and Politically Disengaged voters.
+ * Voter columns are stored in copy-on-write pages so a population can be forked cheaply.
  * @author Nico Hoffmann
  * @version 1.0
  */
@@ -0,0 +1,64 @@
+package de.schulprojekt.duv.util.config;
+
+import java.util.Set;
+
+/**
+ * Konfiguration für das Laden der Partei- und Skandalkataloge.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class CatalogueConfig {
+
+    // ========================================
+    // Resources
+    // ========================================
+
+    public static final String PARTY_FILE_BASE = "de/schulprojekt/duv/data/party_names";
+    public static final String SCANDAL_FILE_BASE = "de/schulprojekt/duv/data/scandals";
+
+    /**
+     * Sprachen, für die Kataloge mitgeliefert werden. Andere Sprachen fallen auf {@link #DEFAULT_LANGUAGE} zurück.
+     */
+    public static final Set<String> SUPPORTED_LANGUAGES = Set.of("de", "en");
+    public static final String DEFAULT_LANGUAGE = "de";
+
+    // ========================================
+    // Binary Cache
+    // ========================================
+
+    /**
+     * Schaltet den binären Katalog-Cache ein oder aus ({@code true}/{@code false}, Standard {@code false}).
+     */
+    public static final String PROP_BINARY_CACHE = "duv.catalogue.binaryCache";
+
+    /**
+     * Verzeichnis der Cache-Dateien. Standard ist ein Unterordner des temporären Verzeichnisses.
+     */
+    public static final String PROP_CACHE_DIR = "duv.catalogue.cacheDir";
+
+    public static final String DEFAULT_CACHE_SUBDIR = "duv-catalogue-cache";
+
+    // ========================================
+    // External Catalogues
+    // ========================================
+
+    /**
+     * Pfad zu einer externen Skandaldatei. Ist er gesetzt, wird die Datei per Memory-Mapping gestreamt
+     * und ersetzt den mitgelieferten Skandalkatalog für alle Sprachen.
+     */
+    public static final String PROP_SCANDAL_FILE = "duv.catalogue.scandalFile";
+
+    /**
+     * Pfad zu einer externen Parteidatei, analog zu {@link #PROP_SCANDAL_FILE}.
+     */
+    public static final String PROP_PARTY_FILE = "duv.catalogue.partyFile";
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private CatalogueConfig() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,77 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Konfiguration der optionalen Diagnosewerkzeuge (Flight Recorder, Metriken).
+ * Alle Werkzeuge sind standardmäßig deaktiviert und werden über System-Properties beim Start aktiviert,
+ * z. B. {@code -Dduv.jfr=true}.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class DiagnosticsConfig {
+
+    // ========================================
+    // Flight Recorder
+    // ========================================
+
+    /**
+     * Aktiviert eine durchgehende JFR-Aufzeichnung ({@code true}/{@code false}).
+     */
+    public static final String PROP_JFR_ENABLED = "duv.jfr";
+
+    /**
+     * Zielverzeichnis für die beim Beenden geschriebene Aufzeichnung.
+     */
+    public static final String PROP_JFR_DIRECTORY = "duv.jfr.dir";
+
+    /**
+     * Maximale Größe des Ringpuffers auf der Festplatte in Megabyte.
+     */
+    public static final String PROP_JFR_MAX_SIZE_MB = "duv.jfr.maxSizeMb";
+
+    /**
+     * Maximales Alter der gehaltenen Daten in Minuten.
+     */
+    public static final String PROP_JFR_MAX_AGE_MINUTES = "duv.jfr.maxAgeMinutes";
+
+    public static final String DEFAULT_JFR_DIRECTORY = "recordings";
+    public static final long DEFAULT_JFR_MAX_SIZE_MB = 256;
+    public static final long DEFAULT_JFR_MAX_AGE_MINUTES = 30;
+
+    // ========================================
+    // Metrics
+    // ========================================
+
+    /**
+     * Port des lokalen Metrik-Endpunkts ({@code http://127.0.0.1:PORT/metrics}), 0 deaktiviert ihn.
+     */
+    public static final String PROP_METRICS_PORT = "duv.metrics.port";
+
+    /**
+     * Datei, in die die Metriken periodisch geschrieben werden. Leer deaktiviert die Ausgabe.
+     */
+    public static final String PROP_METRICS_FILE = "duv.metrics.file";
+
+    /**
+     * Intervall der Dateiausgabe in Sekunden.
+     */
+    public static final String PROP_METRICS_INTERVAL_SECONDS = "duv.metrics.intervalSeconds";
+
+    public static final String METRICS_PATH = "/metrics";
+    public static final long DEFAULT_METRICS_INTERVAL_SECONDS = 15;
+
+    /**
+     * Grenzen des Tick-Latenz-Histogramms in Sekunden.
+     */
+    public static final double[] METRICS_TICK_BUCKETS_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0
+    };
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private DiagnosticsConfig() {
+        // Prevent instantiation
+    }
+}
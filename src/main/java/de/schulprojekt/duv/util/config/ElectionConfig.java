@@ -0,0 +1,55 @@
+package de.schulprojekt.duv.util.config;
+
+import de.schulprojekt.duv.model.election.ApportionmentMethod;
+
+/**
+ * Konfiguration der Wahlauswertung.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class ElectionConfig {
+
+    // ========================================
+    // Parliament
+    // ========================================
+
+    /** Anzahl der Sitze in der Parlamentsansicht. */
+    public static final int PARLIAMENT_SEATS = 400;
+
+    /** Sperrklausel in Prozent der gültigen Stimmen. */
+    public static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+
+    public static final ApportionmentMethod DEFAULT_METHOD = ApportionmentMethod.SAINTE_LAGUE;
+
+    /** Anzahl der Koalitionen, die die Parlamentsansicht anzeigt. */
+    public static final int COALITION_LIMIT = 8;
+
+    // ========================================
+    // Turnout
+    // ========================================
+
+    /**
+     * Wahrscheinlichkeit der Stimmabgabe je Wählertyp, indiziert über die Ordinalzahl von
+     * {@link de.schulprojekt.duv.model.voter.VoterType}. Politikferne Wähler bleiben am häufigsten zu Hause.
+     */
+    public static final double[] TURNOUT_BY_TYPE = {
+            0.72, // PRAGMATIC
+            0.92, // IDEOLOGICAL
+            0.85, // RATIONAL_CHOICE
+            0.68, // AFFECTIVE
+            0.74, // HEURISTIC
+            0.38  // POLITIKFERN
+    };
+
+    /** Größe der Wählerblöcke, die bei der Auszählung parallel verarbeitet werden. */
+    public static final int TALLY_CHUNK_SIZE = 65_536;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private ElectionConfig() {
+        // Prevent instantiation
+    }
+}
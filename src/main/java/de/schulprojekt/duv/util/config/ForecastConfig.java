@@ -0,0 +1,61 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Konfiguration der Hintergrundprognose.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class ForecastConfig {
+
+    // ========================================
+    // Forecast
+    // ========================================
+
+    /**
+     * Anzahl der zufälligen Fortsetzungen je Prognose. 0 schaltet die Prognose ab.
+     */
+    public static final String PROP_RUNS = "duv.forecast.runs";
+
+    public static final int DEFAULT_RUNS = 8;
+
+    /** Prognosezeitraum in Ticks. */
+    public static final int HORIZON = 500;
+
+    /** Abstand der Stützpunkte im Fächer in Ticks. */
+    public static final int SAMPLE_INTERVAL = 10;
+
+    /** Frühestens nach so vielen Live-Ticks wird eine neue Prognose gestartet. */
+    public static final int REFRESH_INTERVAL = 100;
+
+    /** Perzentile des Fächers, aufsteigend und symmetrisch um den Median. */
+    public static final int[] PERCENTILES = {10, 25, 50, 75, 90};
+
+    // ========================================
+    // Throttling
+    // ========================================
+
+    /**
+     * Liegt der Abstand zweier Live-Ticks um diesen Faktor über dem Soll, pausieren die Prognose-Threads.
+     */
+    public static final double LAG_TOLERANCE = 1.25;
+
+    /** Wartezeit eines gedrosselten Prognose-Threads, bevor er erneut prüft. */
+    public static final long THROTTLE_PARK_MS = 20;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private ForecastConfig() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    public static int getRuns() {
+        return Math.max(0, Integer.getInteger(PROP_RUNS, DEFAULT_RUNS));
+    }
+}
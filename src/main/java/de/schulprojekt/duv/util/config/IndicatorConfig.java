@@ -0,0 +1,61 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Konfiguration der politischen Kennzahlen.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class IndicatorConfig {
+
+    // ========================================
+    // Histograms
+    // ========================================
+
+    /** Anzahl der Klassen für Loyalitäts- und Positionshistogramm über den Wertebereich 0 bis 100. */
+    public static final int HISTOGRAM_BINS = 20;
+
+    /** Obergrenze von Loyalität und politischer Position. */
+    public static final float VALUE_RANGE = 100f;
+
+    // ========================================
+    // Position Density
+    // ========================================
+
+    /** Feine Positionsklassen für die Dichte-Heatmap; ein Vielfaches von {@link #HISTOGRAM_BINS}. */
+    public static final int DENSITY_BUCKETS = 100;
+
+    /** Anzahl der Ticks, die der Ringpuffer der Positionsdichte vorhält. */
+    public static final int DENSITY_CAPACITY = 2_048;
+
+    /** Länge eines Zählpuffers im Entscheidungsdurchlauf: Loyalitätsklassen gefolgt von Dichteklassen. */
+    public static final int HISTOGRAM_SLOTS = HISTOGRAM_BINS + DENSITY_BUCKETS;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private IndicatorConfig() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    /**
+     * @param value Loyalität oder Position zwischen 0 und {@link #VALUE_RANGE}.
+     * @return Klasse zwischen 0 und {@code HISTOGRAM_BINS - 1}.
+     */
+    public static int binOf(float value) {
+        return Math.clamp((int) (value * HISTOGRAM_BINS / VALUE_RANGE), 0, HISTOGRAM_BINS - 1);
+    }
+
+    /**
+     * @param position Politische Position zwischen 0 und {@link #VALUE_RANGE}.
+     * @return Dichteklasse zwischen 0 und {@code DENSITY_BUCKETS - 1}.
+     */
+    public static int bucketOf(float position) {
+        return Math.clamp((int) (position * DENSITY_BUCKETS / VALUE_RANGE), 0, DENSITY_BUCKETS - 1);
+    }
+}
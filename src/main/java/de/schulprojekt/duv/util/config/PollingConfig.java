@@ -0,0 +1,68 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Konfiguration der simulierten Meinungsumfragen.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class PollingConfig {
+
+    // ========================================
+    // Sampling
+    // ========================================
+
+    /**
+     * Anzahl der angefragten Personen je Umfrage. 0 schaltet die Umfragen ab.
+     */
+    public static final String PROP_SAMPLE_SIZE = "duv.poll.sample";
+
+    public static final int DEFAULT_SAMPLE_SIZE = 2_000;
+
+    /**
+     * Abstand zweier Umfragen in Ticks.
+     */
+    public static final String PROP_INTERVAL = "duv.poll.interval";
+
+    public static final int DEFAULT_INTERVAL = 50;
+
+    // ========================================
+    // Response Bias
+    // ========================================
+
+    /**
+     * Wahrscheinlichkeit, dass eine angefragte Person antwortet, indiziert über die Ordinalzahl von
+     * {@link de.schulprojekt.duv.model.voter.VoterType}. Politikferne Wähler sind in Umfragen unterrepräsentiert.
+     */
+    public static final double[] RESPONSE_RATE_BY_TYPE = {
+            0.55, // PRAGMATIC
+            0.80, // IDEOLOGICAL
+            0.70, // RATIONAL_CHOICE
+            0.50, // AFFECTIVE
+            0.60, // HEURISTIC
+            0.20  // POLITIKFERN
+    };
+
+    /** z-Wert für das 95-%-Konfidenzintervall der Fehlerspanne. */
+    public static final double CONFIDENCE_Z = 1.96;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PollingConfig() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    public static int getSampleSize() {
+        return Math.max(0, Integer.getInteger(PROP_SAMPLE_SIZE, DEFAULT_SAMPLE_SIZE));
+    }
+
+    public static int getInterval() {
+        return Math.max(1, Integer.getInteger(PROP_INTERVAL, DEFAULT_INTERVAL));
+    }
+}
@@ -0,0 +1,35 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Konfiguration der vorberechneten Populationsbibliothek.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class PopulationConfig {
+
+    // ========================================
+    // Population Library
+    // ========================================
+
+    /**
+     * Verzeichnis der Populationsbibliothek. Ist es gesetzt, werden Startpopulationen einmalig erzeugt,
+     * dort abgelegt und bei späteren Starts per Memory-Mapping übernommen.
+     */
+    public static final String PROP_LIBRARY_DIR = "duv.population.library";
+
+    /**
+     * Startwert für bibliotheksgestützte Populationen. Gleicher Startwert ergibt dieselbe Population.
+     */
+    public static final String PROP_SEED = "duv.population.seed";
+
+    public static final long DEFAULT_SEED = 20_250_101L;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PopulationConfig() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,69 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Konfiguration des Rückspulpuffers.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class RewindConfig {
+
+    // ========================================
+    // Recording
+    // ========================================
+
+    /**
+     * Speicherbudget des Rückspulpuffers in Megabyte. Ältere Abschnitte werden verworfen, sobald es überschritten ist.
+     */
+    public static final String PROP_BUDGET_MB = "duv.rewind.budgetMb";
+
+    /**
+     * Abstand der aufgezeichneten Frames in Ticks. Größere Abstände verlängern den erreichbaren Zeitraum und
+     * senken die Kosten je Tick, da jeder Frame Zustand und nahezu volle Gleitkommaspalten kopiert; ein Delta
+     * ist daher kaum kleiner als ein Keyframe.
+     * 0 schaltet die Aufzeichnung ab.
+     */
+    public static final String PROP_INTERVAL = "duv.rewind.interval";
+
+    public static final long DEFAULT_BUDGET_MB = 256;
+    public static final int DEFAULT_INTERVAL = 25;
+
+    /**
+     * Nach so vielen Delta-Frames folgt wieder ein vollständiger Keyframe. Begrenzt die Kosten einer Rekonstruktion.
+     */
+    public static final int KEYFRAME_INTERVAL = 25;
+
+    /**
+     * Größe der Wählerblöcke, die beim Kodieren eines Deltas parallel verarbeitet werden.
+     */
+    public static final int DELTA_CHUNK_SIZE = 65_536;
+
+    /**
+     * Anteil geänderter Wähler eines Blocks, ab dem eine Spalte im Delta roh statt als Abstand und XOR abgelegt wird.
+     * Ein geänderter Gleitkommawert kostet als Varint-Paar meist mehr als seine 4 Byte, eine Bytespalte mindestens 2 Byte.
+     */
+    public static final double DELTA_RAW_RATIO = 0.5;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private RewindConfig() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    public static long getBudgetBytes() {
+        return Math.max(1, Long.getLong(PROP_BUDGET_MB, DEFAULT_BUDGET_MB)) * 1024 * 1024;
+    }
+
+    /**
+     * @return Abstand der Frames in Ticks oder 0, wenn die Aufzeichnung abgeschaltet ist.
+     */
+    public static int getInterval() {
+        return Math.max(0, Integer.getInteger(PROP_INTERVAL, DEFAULT_INTERVAL));
+    }
+}
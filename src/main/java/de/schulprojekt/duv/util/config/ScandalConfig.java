@@ -1,5 +1,8 @@
 package de.schulprojekt.duv.util.config;
 
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Konfigurationskonstanten für Skandal-Mechaniken und Auswirkungsberechnungen.
  * Steuert, wie Skandale Parteien über die Zeit beeinflussen und wie deren Erholung verläuft.
@@ -39,27 +42,101 @@ public final class ScandalConfig {
      */
     public static final double VOTER_SHARE_RECOVERY_FACTOR = 0.04;
 
+    /**
+     * Grundgewicht jeder Partei bei der Wahl des Skandalziels, damit auch kleine Parteien getroffen werden können.
+     */
+    public static final double TARGET_BASE_WEIGHT = 0.2;
+
+    /**
+     * Gewicht des Wähleranteils bei der Zielwahl. Große Parteien stehen stärker im Fokus der Medien.
+     */
+    public static final double TARGET_SIZE_WEIGHT = 1.0;
+
+    /**
+     * Gewicht des Kampagnenbudgets (relativ zum Höchstbudget) bei der Zielwahl.
+     */
+    public static final double TARGET_BUDGET_WEIGHT = 0.3;
+
+    /**
+     * Zuschlag je bisherigem Skandal einer Partei. Skandalträchtige Parteien werden genauer beobachtet.
+     */
+    public static final double TARGET_HISTORY_WEIGHT = 0.15;
+
+    /**
+     * Obergrenze des Zuschlags aus bisherigen Skandalen.
+     */
+    public static final double TARGET_HISTORY_CAP = 1.5;
+
+    /**
+     * Relative Häufigkeit der Skandalkategorien aus den CSV-Katalogen. Unbekannte Kategorien erhalten 1.0.
+     */
+    private static final Map<String, Double> CATEGORY_WEIGHTS = Map.of(
+            "CORRUPTION", 1.2,
+            "FINANCE", 1.2,
+            "POLITICAL", 1.1,
+            "STATEMENT", 1.0,
+            "MORAL", 0.9,
+            "DATA", 0.9,
+            "ENV", 0.9,
+            "PERSONAL", 0.8,
+            "MILITARY", 0.6,
+            "RELIGION", 0.6
+    );
+
+    /**
+     * Permanenter Schaden pro Tick je Einheit Skandalstärke.
+     */
+    public static final double PERMANENT_DAMAGE_PER_STRENGTH = PERMANENT_DAMAGE_FACTOR / SCANDAL_DURATION;
+
+    /**
+     * System-Property zur Wahl des Druckverlaufs, z. B. {@code -Dduv.scandal.curve=EXPONENTIAL}.
+     */
+    public static final String PROP_DECAY_CURVE = "duv.scandal.curve";
+
+    public static final ScandalDecayCurve DEFAULT_DECAY_CURVE = ScandalDecayCurve.FADE_IN_LINEAR;
+
+    private static volatile ScandalDecayCurve decayCurve = resolveDecayCurve();
+    private static volatile double[] timeFactorTable = decayCurve.buildTable(SCANDAL_DURATION);
+
     private ScandalConfig() {
         throw new UnsupportedOperationException("Configuration class cannot be instantiated");
     }
 
+    public static ScandalDecayCurve getDecayCurve() {
+        return decayCurve;
+    }
+
+    /**
+     * Wählt einen anderen Druckverlauf und erzeugt dessen Tabelle neu.
+     * Bereits registrierte Skandale behalten den Verlauf, mit dem sie eingetragen wurden.
+     *
+     * @param curve der neue Verlauf
+     */
+    public static synchronized void setDecayCurve(ScandalDecayCurve curve) {
+        timeFactorTable = curve.buildTable(SCANDAL_DURATION);
+        decayCurve = curve;
+    }
+
+    /**
+     * Liefert die vorberechnete Tabelle der Zeitfaktoren, Index ist das Alter in Ticks.
+     * Das Array darf nicht verändert werden.
+     *
+     * @return Tabelle mit {@code SCANDAL_DURATION + 1} Einträgen
+     */
+    public static double[] getTimeFactorTable() {
+        return timeFactorTable;
+    }
+
     /**
-     * Berechnet den zeitbasierten Einflussfaktor für einen Skandal in einem bestimmten Alter.
-     * Der Einfluss folgt einer quadratischen Anstiegskurve und danach einem linearen Abfall.
+     * Liefert den zeitbasierten Einflussfaktor für einen Skandal in einem bestimmten Alter
+     * aus der vorberechneten Tabelle des aktiven Verlaufs.
      *
      * @param age das Alter des Skandals in Ticks
      * @return Einflussfaktor
      */
     public static double calculateTimeFactor(int age) {
-        if (age < 0) return 0.0;
-        if (age >= SCANDAL_DURATION) return 0.0;
-
-        if (age < FADE_IN_TICKS) {
-            double progress = (double) age / FADE_IN_TICKS;
-            return progress * progress;
-        }
-
-        return 1.0 - ((double) (age - FADE_IN_TICKS) / (SCANDAL_DURATION - FADE_IN_TICKS));
+        if (age < 0 || age >= SCANDAL_DURATION) return 0.0;
+        return timeFactorTable[age];
     }
 
     /**
@@ -69,7 +146,32 @@ public final class ScandalConfig {
      * @return Schadenszuwachs pro Tick
      */
     public static double calculatePermanentDamagePerTick(double scandalStrength) {
-        return (scandalStrength * PERMANENT_DAMAGE_FACTOR) / (double) SCANDAL_DURATION;
+        return scandalStrength * PERMANENT_DAMAGE_PER_STRENGTH;
+    }
+
+    /**
+     * Berechnet das Gewicht einer Partei bei der Wahl des nächsten Skandalziels.
+     *
+     * @param voterShare Wähleranteil zwischen 0 und 1
+     * @param budgetShare Kampagnenbudget relativ zum höchsten Budget, zwischen 0 und 1
+     * @param scandalCount bisherige Skandale der Partei
+     * @return Nicht-negatives Gewicht
+     */
+    public static double calculateTargetWeight(double voterShare, double budgetShare, int scandalCount) {
+        double base = TARGET_BASE_WEIGHT + TARGET_SIZE_WEIGHT * voterShare + TARGET_BUDGET_WEIGHT * budgetShare;
+        return base * (1.0 + Math.min(TARGET_HISTORY_CAP, scandalCount * TARGET_HISTORY_WEIGHT));
+    }
+
+    /**
+     * Berechnet das Ziehungsgewicht eines Skandals aus dem Katalog.
+     *
+     * @param category Kategorie laut CSV
+     * @param strength Intensitätsfaktor des Skandals
+     * @return Nicht-negatives Gewicht
+     */
+    public static double calculateCatalogueWeight(String category, double strength) {
+        double categoryWeight = CATEGORY_WEIGHTS.getOrDefault(category == null ? "" : category.toUpperCase(Locale.ROOT), 1.0);
+        return Double.isFinite(strength) ? categoryWeight * Math.max(0.0, strength) : 0.0;
     }
 
     /**
@@ -81,4 +183,14 @@ public final class ScandalConfig {
     public static double calculateRecoveryRate(double voterSharePercent) {
         return BASE_RECOVERY_RATE + (voterSharePercent * VOTER_SHARE_RECOVERY_FACTOR);
     }
-}
\ No newline at end of file
+
+    private static ScandalDecayCurve resolveDecayCurve() {
+        String name = System.getProperty(PROP_DECAY_CURVE);
+        if (name == null || name.isBlank()) return DEFAULT_DECAY_CURVE;
+        try {
+            return ScandalDecayCurve.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_DECAY_CURVE;
+        }
+    }
+}
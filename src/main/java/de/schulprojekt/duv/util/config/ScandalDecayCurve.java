@@ -0,0 +1,92 @@
+package de.schulprojekt.duv.util.config;
+
+/**
+ * Verlaufsformen des akuten Skandaldrucks über das Alter eines Skandals.
+ * Jede Form liefert einen Faktor zwischen 0 und 1 und wird von {@link ScandalConfig} einmalig
+ * in eine Tabelle über die gesamte {@link ScandalConfig#SCANDAL_DURATION} übersetzt.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public enum ScandalDecayCurve {
+
+    /**
+     * Quadratischer Anstieg bis {@link ScandalConfig#FADE_IN_TICKS}, danach linearer Abfall auf 0.
+     * Entspricht dem ursprünglichen Verhalten der Simulation.
+     */
+    FADE_IN_LINEAR {
+        @Override
+        double evaluate(int age, int duration) {
+            int fadeIn = ScandalConfig.FADE_IN_TICKS;
+            if (age < fadeIn) {
+                double progress = (double) age / fadeIn;
+                return progress * progress;
+            }
+            return 1.0 - ((double) (age - fadeIn) / (duration - fadeIn));
+        }
+    },
+
+    /**
+     * Sofort volle Wirkung, danach linearer Abfall auf 0.
+     */
+    LINEAR {
+        @Override
+        double evaluate(int age, int duration) {
+            return 1.0 - (double) age / duration;
+        }
+    },
+
+    /**
+     * Sofort volle Wirkung, danach exponentieller Abfall mit einer Zeitkonstante von einem Viertel der Dauer.
+     */
+    EXPONENTIAL {
+        @Override
+        double evaluate(int age, int duration) {
+            return Math.exp(-age / (duration * EXPONENTIAL_TAU_SHARE));
+        }
+    },
+
+    /**
+     * Quadratischer Anstieg, ein Plateau voller Wirkung und ein linearer Abfall im letzten Viertel.
+     */
+    FADE_IN_PLATEAU {
+        @Override
+        double evaluate(int age, int duration) {
+            int fadeIn = ScandalConfig.FADE_IN_TICKS;
+            int fadeOutStart = (int) (duration * (1.0 - PLATEAU_FADE_OUT_SHARE));
+            if (age < fadeIn) {
+                double progress = (double) age / fadeIn;
+                return progress * progress;
+            }
+            if (age < fadeOutStart) return 1.0;
+            return 1.0 - (double) (age - fadeOutStart) / (duration - fadeOutStart);
+        }
+    };
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final double EXPONENTIAL_TAU_SHARE = 0.25;
+    private static final double PLATEAU_FADE_OUT_SHARE = 0.25;
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Erzeugt die Nachschlagetabelle für alle Alter von 0 bis einschließlich {@code duration}.
+     * Der letzte Eintrag ist stets 0, da ein Skandal mit Erreichen der Dauer wirkungslos wird.
+     *
+     * @param duration Gesamtdauer eines Skandals in Ticks.
+     * @return Tabelle mit {@code duration + 1} Einträgen.
+     */
+    public double[] buildTable(int duration) {
+        double[] table = new double[duration + 1];
+        for (int age = 0; age < duration; age++) {
+            table[age] = Math.clamp(evaluate(age, duration), 0.0, 1.0);
+        }
+        return table;
+    }
+
+    abstract double evaluate(int age, int duration);
+}
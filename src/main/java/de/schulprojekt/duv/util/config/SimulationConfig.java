@@ -28,7 +28,8 @@ public class SimulationConfig {
     // ========================================
 
     public static final double VISUALIZATION_SAMPLE_RATE = 0.0005;
-    public static final int HISTORY_LENGTH = 500;
+    /** Anzahl der Ticks, die das Live-Trenddiagramm vorhält (ein Messwert pro Tick). */
+    public static final int HISTORY_LENGTH = 2500;
     public static final double DEFAULT_LOYALTY_STD_DEV = 15.0;
     public static final double CAMPAIGN_BUDGET_FACTOR = 100000.0;
     public static final String UNDECIDED_NAME = "Unsicher";
@@ -48,6 +48,12 @@ public final class VoterBehaviorConfig {
     /** Exponent zur Berechnung des medialen Einflusses. */
     public static final double MEDIA_INFLUENCE_EXPONENT = 0.7;
 
+    /** Anzahl der Wähler, die bei der Initialisierung gemeinsam einen Zufallsstrom nutzen. */
+    public static final int INIT_CHUNK_SIZE = 16_384;
+
+    /** Blockgröße des parallelen Entscheidungsdurchlaufs; jeder Block zählt seine Histogramme lokal. */
+    public static final int DECISION_CHUNK_SIZE = 8_192;
+
     // ========================================
     // Dynamics Constants (Externalisiert aus VoterPopulation)
     // ========================================
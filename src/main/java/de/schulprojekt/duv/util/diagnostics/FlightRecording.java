@@ -0,0 +1,83 @@
+package de.schulprojekt.duv.util.diagnostics;
+
+import de.schulprojekt.duv.util.config.DiagnosticsConfig;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Startet bei Bedarf eine durchgehende Flight-Recorder-Aufzeichnung.
+ * <p>
+ * Die Aufzeichnung läuft als Ringpuffer mit begrenzter Größe und begrenztem Alter und wird beim
+ * Beenden der JVM in eine Datei geschrieben. Ohne {@code -Dduv.jfr=true} passiert nichts.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class FlightRecording {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(FlightRecording.class.getName());
+    private static final String JFR_SETTINGS = "default";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static Recording recording;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private FlightRecording() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Startet die Aufzeichnung, falls sie per System-Property angefordert wurde.
+     * Fehler werden nur protokolliert, da die Anwendung auch ohne Aufzeichnung lauffähig ist.
+     */
+    public static synchronized void startIfRequested() {
+        if (recording != null || !Boolean.getBoolean(DiagnosticsConfig.PROP_JFR_ENABLED)) {
+            return;
+        }
+
+        long maxSizeMb = Long.getLong(DiagnosticsConfig.PROP_JFR_MAX_SIZE_MB, DiagnosticsConfig.DEFAULT_JFR_MAX_SIZE_MB);
+        long maxAgeMinutes = Long.getLong(DiagnosticsConfig.PROP_JFR_MAX_AGE_MINUTES, DiagnosticsConfig.DEFAULT_JFR_MAX_AGE_MINUTES);
+        Path directory = Path.of(System.getProperty(DiagnosticsConfig.PROP_JFR_DIRECTORY, DiagnosticsConfig.DEFAULT_JFR_DIRECTORY));
+
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve("duv-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+
+            Recording r = new Recording(Configuration.getConfiguration(JFR_SETTINGS));
+            r.setName("DUV");
+            r.setToDisk(true);
+            r.setMaxSize(maxSizeMb * 1024 * 1024);
+            r.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+            r.setDumpOnExit(true);
+            r.setDestination(target);
+            r.start();
+
+            recording = r;
+            LOGGER.log(Level.INFO, "Flight recording started, dump on exit to {0}", target.toAbsolutePath());
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LOGGER.log(Level.WARNING, "Failed to start flight recording.", e);
+        }
+    }
+}
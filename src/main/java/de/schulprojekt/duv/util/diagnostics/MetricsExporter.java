@@ -0,0 +1,158 @@
+package de.schulprojekt.duv.util.diagnostics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.schulprojekt.duv.model.telemetry.MetricsRegistry;
+import de.schulprojekt.duv.util.config.DiagnosticsConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stellt eine {@link MetricsRegistry} nach außen bereit, wahlweise als HTTP-Endpunkt auf localhost
+ * oder als periodisch geschriebene Datei.
+ * <p>
+ * Beide Wege sind standardmäßig aus und werden über {@code -Dduv.metrics.port=9464} bzw.
+ * {@code -Dduv.metrics.file=metrics.prom} aktiviert. Das Lesen der Registry erfolgt auf eigenen
+ * Daemon-Threads und berührt den Simulations-Thread nicht.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class MetricsExporter {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(MetricsExporter.class.getName());
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final MetricsRegistry metrics;
+    private HttpServer server;
+    private ScheduledExecutorService fileWriter;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private MetricsExporter(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Startet Endpunkt und/oder Dateiausgabe gemäß den System-Properties.
+     *
+     * @param metrics Die auszugebende Registry.
+     * @return Der laufende Exporter oder {@code null}, falls nichts angefordert wurde.
+     */
+    public static MetricsExporter startIfRequested(MetricsRegistry metrics) {
+        int port = Integer.getInteger(DiagnosticsConfig.PROP_METRICS_PORT, 0);
+        String file = System.getProperty(DiagnosticsConfig.PROP_METRICS_FILE, "");
+        if (port <= 0 && file.isBlank()) {
+            return null;
+        }
+
+        MetricsExporter exporter = new MetricsExporter(metrics);
+        if (port > 0) {
+            exporter.startServer(port);
+        }
+        if (!file.isBlank()) {
+            long interval = Long.getLong(DiagnosticsConfig.PROP_METRICS_INTERVAL_SECONDS,
+                    DiagnosticsConfig.DEFAULT_METRICS_INTERVAL_SECONDS);
+            exporter.startFileDump(Path.of(file), Math.max(1, interval));
+        }
+        return exporter;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (fileWriter != null) {
+            fileWriter.shutdownNow();
+            fileWriter = null;
+        }
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private void startServer(int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext(DiagnosticsConfig.METRICS_PATH, this::handleScrape);
+            server.setExecutor(Executors.newSingleThreadExecutor(r -> daemon(r, "Metrics-Http")));
+            server.start();
+            LOGGER.log(Level.INFO, "Metrics endpoint listening on http://127.0.0.1:{0}{1}",
+                    new Object[]{String.valueOf(port), DiagnosticsConfig.METRICS_PATH});
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to start metrics endpoint on port " + port, e);
+            server = null;
+        }
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = PrometheusFormatter.format(metrics).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusFormatter.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void startFileDump(Path target, long intervalSeconds) {
+        fileWriter = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "Metrics-File"));
+        fileWriter.scheduleAtFixedRate(() -> writeFile(target), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        LOGGER.log(Level.INFO, "Writing metrics every {0}s to {1}",
+                new Object[]{intervalSeconds, target.toAbsolutePath()});
+    }
+
+    /**
+     * Schreibt zunächst in eine temporäre Datei und ersetzt dann atomar, damit Leser nie halbe Dateien sehen.
+     */
+    private void writeFile(Path target) {
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.writeString(tmp, PrometheusFormatter.format(metrics), StandardCharsets.UTF_8);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to write metrics file: " + target, e);
+        }
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+}
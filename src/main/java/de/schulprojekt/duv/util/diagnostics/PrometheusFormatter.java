@@ -0,0 +1,114 @@
+package de.schulprojekt.duv.util.diagnostics;
+
+import de.schulprojekt.duv.model.telemetry.LatencyHistogram;
+import de.schulprojekt.duv.model.telemetry.MetricsRegistry;
+import de.schulprojekt.duv.util.config.DiagnosticsConfig;
+
+import java.util.Locale;
+
+/**
+ * Wandelt den Inhalt einer {@link MetricsRegistry} in das Prometheus-Textformat (Version 0.0.4) um.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class PrometheusFormatter {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PrometheusFormatter() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param metrics Die auszugebende Registry.
+     * @return Alle Kennzahlen im Prometheus-Textformat.
+     */
+    public static String format(MetricsRegistry metrics) {
+        StringBuilder sb = new StringBuilder(2048);
+
+        writeHeader(sb, "duv_ticks_total", "counter", "Processed simulation ticks.");
+        writeSample(sb, "duv_ticks_total", null, metrics.getTicks());
+
+        writeHeader(sb, "duv_voter_switches_total", "counter", "Voter party switches over all ticks.");
+        writeSample(sb, "duv_voter_switches_total", null, metrics.getSwitches());
+
+        writeHeader(sb, "duv_voter_switches_last_tick", "gauge", "Voter party switches in the most recent tick.");
+        writeSample(sb, "duv_voter_switches_last_tick", null, metrics.getLastTickSwitches());
+
+        writeHeader(sb, "duv_scandals_total", "counter", "Triggered scandals.");
+        writeSample(sb, "duv_scandals_total", null, metrics.getScandals());
+
+        writeHeader(sb, "duv_party_supporters", "gauge", "Current supporters per party.");
+        for (MetricsRegistry.PartyGauge gauge : metrics.getPartyGauges()) {
+            writeSample(sb, "duv_party_supporters", "party=\"" + escapeLabel(gauge.name()) + "\"", gauge.supporters());
+        }
+
+        writeHeader(sb, "duv_tick_allocated_bytes_total", "counter", "Bytes allocated by the simulation thread and ForkJoin workers during ticks.");
+        writeSample(sb, "duv_tick_allocated_bytes_total", null, metrics.getAllocatedBytes());
+
+        writeHeader(sb, "duv_tick_allocated_bytes", "gauge", "Bytes allocated during the most recent tick, -1 if unsupported.");
+        writeSample(sb, "duv_tick_allocated_bytes", null, metrics.getLastTickAllocatedBytes());
+
+        writeHeader(sb, "duv_tick_gc_pause_seconds_total", "counter", "GC pause time reported while a tick was running.");
+        sb.append("duv_tick_gc_pause_seconds_total ").append(formatDouble(metrics.getGcPauseNanos() / NANOS_PER_SECOND)).append('\n');
+
+        writeHeader(sb, "duv_tick_gc_pause_seconds", "gauge", "GC pause time during the most recent tick.");
+        sb.append("duv_tick_gc_pause_seconds ").append(formatDouble(metrics.getLastTickGcPauseNanos() / NANOS_PER_SECOND)).append('\n');
+
+        writeTickHistogram(sb, metrics);
+        return sb.toString();
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static void writeTickHistogram(StringBuilder sb, MetricsRegistry metrics) {
+        String name = "duv_tick_duration_seconds";
+        LatencyHistogram histogram = metrics.getTickLatency();
+        writeHeader(sb, name, "histogram", "Wall-clock duration of a simulation tick.");
+
+        for (double bound : DiagnosticsConfig.METRICS_TICK_BUCKETS_SECONDS) {
+            long count = histogram.getCountAtOrBelow((long) (bound * NANOS_PER_SECOND));
+            writeSample(sb, name + "_bucket", "le=\"" + formatDouble(bound) + "\"", count);
+        }
+        long total = histogram.getCount();
+        writeSample(sb, name + "_bucket", "le=\"+Inf\"", total);
+        sb.append(name).append("_sum ").append(formatDouble(metrics.getTickNanosSum() / NANOS_PER_SECOND)).append('\n');
+        writeSample(sb, name + "_count", null, total);
+    }
+
+    private static void writeHeader(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder sb, String name, String labels, long value) {
+        sb.append(name);
+        if (labels != null) sb.append('{').append(labels).append('}');
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static String formatDouble(double value) {
+        return String.format(Locale.ROOT, "%s", value);
+    }
+
+    static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
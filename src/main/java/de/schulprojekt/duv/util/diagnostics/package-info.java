@@ -0,0 +1,11 @@
+/**
+ * Optional runtime diagnostics.
+ *
+ * <p>Contains opt-in tooling such as continuous Flight Recorder sessions and a
+ * Prometheus metrics exporter. Everything is enabled via system properties
+ * and has no effect on normal runs.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+package de.schulprojekt.duv.util.diagnostics;
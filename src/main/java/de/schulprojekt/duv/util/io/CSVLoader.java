@@ -1,22 +1,18 @@
 package de.schulprojekt.duv.util.io;
 
 import de.schulprojekt.duv.model.party.PartyTemplate;
+import de.schulprojekt.duv.model.random.WeightedSampler;
 import de.schulprojekt.duv.model.scandal.Scandal;
+import de.schulprojekt.duv.util.config.ScandalConfig;
+import org.apache.commons.math3.random.RandomGenerator;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Function;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Utility-Klasse zum Laden von Spieldaten aus CSV-Dateien.
- * Unterstützt Lokalisierung und stellt eindeutige Farben sicher.
+ * Utility-Klasse für den Zugriff auf die Spieldaten aus den CSV-Katalogen.
+ * Unterstützt Lokalisierung und stellt eindeutige Farben sicher. Die Kataloge selbst werden
+ * einmalig vom {@link CatalogueRepository} geladen und hier nur noch gelesen.
  * @author Nico Hoffmann
  * @version 1.0
  */
@@ -27,16 +23,13 @@ public class CSVLoader {
     // ========================================
 
     private static final Logger LOGGER = Logger.getLogger(CSVLoader.class.getName());
-    private static final String CSV_SEPARATOR_REGEX = "[,;]";
-
-    private static final String PARTY_FILE_BASE = "de/schulprojekt/duv/data/party_names";
-    private static final String SCANDAL_FILE_BASE = "de/schulprojekt/duv/data/scandals";
 
     // ========================================
     // Instance Variables
     // ========================================
 
-    private List<Scandal> cachedScandals = null;
+    /** Katalog und Sampler werden gemeinsam veröffentlicht, da Forecast-Zweige den Loader parallel nutzen. */
+    private volatile ScandalCatalogue scandalCatalogue = null;
     private final Locale currentLocale;
 
     // ========================================
@@ -59,17 +52,20 @@ public class CSVLoader {
      * Ruft eine Menge zufälliger Parteivorlagen ab.
      * Stellt sicher, dass keine zwei Parteien die gleiche Farbe teilen.
      * @param count Anzahl der zurückzugebenden Vorlagen
+     * @param random Zufallsquelle der Engine, damit die Auswahl bei gleichem Startwert reproduzierbar ist
      * @return Liste der Parteivorlagen
      */
-    public List<PartyTemplate> getRandomPartyTemplates(int count) {
-        List<PartyTemplate> allTemplates = loadAllParties();
+    public List<PartyTemplate> getRandomPartyTemplates(int count, RandomGenerator random) {
+        List<PartyTemplate> allTemplates = new ArrayList<>(CatalogueRepository.get(currentLocale).parties());
 
         if (allTemplates.isEmpty()) {
             LOGGER.warning("No party templates found!");
             return new ArrayList<>();
         }
 
-        Collections.shuffle(allTemplates);
+        for (int i = allTemplates.size() - 1; i > 0; i--) {
+            Collections.swap(allTemplates, i, random.nextInt(i + 1));
+        }
 
         List<PartyTemplate> selection = new ArrayList<>();
         Set<String> usedColors = new HashSet<>();
@@ -88,105 +84,57 @@ public class CSVLoader {
         return selection;
     }
 
-    public Scandal getRandomScandal() {
-        if (cachedScandals == null) {
-            cachedScandals = loadAllScandals();
+    /**
+     * Zieht einen Skandal aus dem Katalog, gewichtet nach Stärke und Kategorie.
+     * @param random Zufallsquelle der Engine, damit die Auswahl bei gleichem Startwert reproduzierbar ist
+     * @return Der gezogene Skandal oder ein Platzhalter, falls kein Katalog geladen werden konnte
+     */
+    public Scandal getRandomScandal(RandomGenerator random) {
+        ScandalCatalogue catalogue = scandalCatalogue;
+        if (catalogue == null) {
+            // Gleichzeitiges Erstellen ist unschädlich, beide Ergebnisse sind identisch
+            List<Scandal> scandals = CatalogueRepository.get(currentLocale).scandals();
+            catalogue = new ScandalCatalogue(scandals, buildScandalSampler(scandals));
+            scandalCatalogue = catalogue;
         }
 
+        List<Scandal> cachedScandals = catalogue.scandals();
         if (cachedScandals.isEmpty()) {
             LOGGER.warning("No scandals loaded. Creating fallback.");
             return new Scandal(0, "SCANDAL", "Unknown", "No data loaded.", 0.5);
         }
 
-        return cachedScandals.get(ThreadLocalRandom.current().nextInt(cachedScandals.size()));
+        int index = catalogue.sampler().sample(random.nextDouble());
+        if (index < 0) {
+            index = random.nextInt(cachedScandals.size());
+        }
+        return cachedScandals.get(index);
     }
 
     // ========================================
     // Utility Methods
     // ========================================
 
-    private String getLocalizedFilePath(String basePath) {
-        String lang = currentLocale.getLanguage().toLowerCase();
-        // Support 'de' and 'en', default to 'de' if unknown
-        if (!lang.equals("de") && !lang.equals("en")) {
-            lang = "de";
-        }
-        return basePath + "_" + lang + ".csv";
-    }
-
-    private List<PartyTemplate> loadAllParties() {
-        String filePath = getLocalizedFilePath(PARTY_FILE_BASE);
-        LOGGER.info("Loading parties from: " + filePath);
-
-        return loadCsvFile(filePath, line -> {
-            String[] parts = line.split(CSV_SEPARATOR_REGEX);
-            return (parts.length >= 3) ? new PartyTemplate(parts[0].trim(), parts[1].trim(), parts[2].trim()) : null;
-        });
-    }
-
-    private List<Scandal> loadAllScandals() {
-        String filePath = getLocalizedFilePath(SCANDAL_FILE_BASE);
-        LOGGER.info("Loading scandals from: " + filePath);
-
-        return loadCsvFile(filePath, line -> {
-            if (line.trim().toLowerCase().startsWith("id")) return null;
-            String[] parts = line.split(CSV_SEPARATOR_REGEX, -1);
-
-            if (parts.length >= 5) {
-                try {
-                    int id = Integer.parseInt(parts[0].trim());
-                    String type = cleanCsvString(parts[1]);
-                    String name = cleanCsvString(parts[2]);
-                    String desc = cleanCsvString(parts[3]);
-                    double str = Double.parseDouble(cleanCsvString(parts[4]).replace(",", "."));
-                    return new Scandal(id, type, name, desc, str);
-                } catch (NumberFormatException e) {
-                    LOGGER.warning("Failed to parse scandal line: " + line);
-                    return null;
-                }
+    private WeightedSampler buildScandalSampler(List<Scandal> scandals) {
+        double[] weights = new double[scandals.size()];
+        if (scandals instanceof MappedScandalList mapped) {
+            // Direkt aus den Spalten, ohne je Zeile einen Skandal samt Textverweis zu erzeugen
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = ScandalConfig.calculateCatalogueWeight(mapped.type(i), mapped.strength(i));
             }
-            return null;
-        });
-    }
-
-    private <T> List<T> loadCsvFile(String filePath, Function<String, T> mapper) {
-        List<T> resultList = new ArrayList<>();
-
-        InputStream is = getClass().getResourceAsStream("/" + filePath);
-        if (is == null) is = getClass().getResourceAsStream(filePath);
-        if (is == null) is = Thread.currentThread().getContextClassLoader().getResourceAsStream(filePath);
-
-        if (is == null) {
-            LOGGER.log(Level.SEVERE, "CSV file not found in classpath: {0}", filePath);
-            return resultList;
-        }
-
-        try (InputStream stream = is;
-             BufferedReader br = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-            String line;
-            boolean isFirstLine = true;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                if (isFirstLine && isHeader(line.toLowerCase())) {
-                    isFirstLine = false;
-                    continue;
-                }
-                isFirstLine = false;
-                T item = mapper.apply(line);
-                if (item != null) resultList.add(item);
+        } else {
+            for (int i = 0; i < weights.length; i++) {
+                Scandal scandal = scandals.get(i);
+                weights[i] = ScandalConfig.calculateCatalogueWeight(scandal.type(), scandal.strength());
             }
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error reading CSV: " + filePath, e);
         }
-        return resultList;
+        return WeightedSampler.of(weights);
     }
 
-    private boolean isHeader(String line) {
-        return line.startsWith("id") || line.startsWith("kuerzel") || line.startsWith("name") ||
-                line.startsWith("partei") || line.contains("color") || line.contains("farbe") || line.contains("Abbreviation");
-    }
+    // ========================================
+    // Inner Classes / Records
+    // ========================================
 
-    private String cleanCsvString(String input) {
-        return (input == null) ? "" : input.trim().replace("\"", "");
+    private record ScandalCatalogue(List<Scandal> scandals, WeightedSampler sampler) {
     }
-}
\ No newline at end of file
+}
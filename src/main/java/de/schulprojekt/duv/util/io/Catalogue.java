@@ -0,0 +1,35 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.party.PartyTemplate;
+import de.schulprojekt.duv.model.scandal.Scandal;
+
+import java.util.List;
+
+/**
+ * Unveränderlicher Partei- und Skandalkatalog einer Sprache.
+ * Wird einmal geladen und anschließend von allen Simulationsläufen geteilt.
+ * Gemappte Skandallisten externer Kataloge sind bereits unveränderlich und werden nicht kopiert.
+ *
+ * @param parties Alle Parteivorlagen in Dateireihenfolge
+ * @param scandals Alle Skandale in Dateireihenfolge
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public record Catalogue(
+        List<PartyTemplate> parties,
+        List<Scandal> scandals
+) {
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    public Catalogue {
+        parties = List.copyOf(parties);
+        scandals = (scandals instanceof MappedScandalList) ? scandals : List.copyOf(scandals);
+    }
+
+    public static Catalogue empty() {
+        return new Catalogue(List.of(), List.of());
+    }
+}
@@ -0,0 +1,138 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.party.PartyTemplate;
+import de.schulprojekt.duv.model.scandal.Scandal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kompaktes Binärformat eines {@link Catalogue}, das per Memory-Mapping geladen wird.
+ * <p>
+ * Aufbau: Magic, Formatversion, CRC32 der Quell-CSVs, danach Parteien und Skandale mit
+ * längenpräfixierten UTF-8-Strings. Passt die Prüfsumme nicht zur aktuellen Ressource, gilt der Cache
+ * als veraltet und wird ignoriert.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class CatalogueBinaryCache {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int MAGIC = 0x44555643; // "DUVC"
+    private static final int FORMAT_VERSION = 1;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private CatalogueBinaryCache() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * @param file Cache-Datei
+     * @param checksum Erwartete Prüfsumme der Quell-CSVs
+     * @return Der Katalog oder {@code null}, wenn die Datei fehlt, beschädigt oder veraltet ist
+     */
+    static Catalogue read(Path file, long checksum) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != checksum) {
+                return null;
+            }
+
+            int partyCount = buffer.getInt();
+            List<PartyTemplate> parties = new ArrayList<>(partyCount);
+            for (int i = 0; i < partyCount; i++) {
+                parties.add(new PartyTemplate(readString(buffer), readString(buffer), readString(buffer)));
+            }
+
+            int scandalCount = buffer.getInt();
+            List<Scandal> scandals = new ArrayList<>(scandalCount);
+            for (int i = 0; i < scandalCount; i++) {
+                int id = buffer.getInt();
+                double strength = buffer.getDouble();
+                scandals.add(new Scandal(id, readString(buffer), readString(buffer), readString(buffer), strength));
+            }
+            return new Catalogue(parties, scandals);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Schreibt zunächst in eine temporäre Datei und ersetzt dann atomar.
+     */
+    static void write(Path file, long checksum, Catalogue catalogue) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(checksum);
+
+                out.writeInt(catalogue.parties().size());
+                for (PartyTemplate p : catalogue.parties()) {
+                    writeString(out, p.name());
+                    writeString(out, p.abbreviation());
+                    writeString(out, p.colorCode());
+                }
+
+                out.writeInt(catalogue.scandals().size());
+                for (Scandal s : catalogue.scandals()) {
+                    out.writeInt(s.id());
+                    out.writeDouble(s.strength());
+                    writeString(out, s.type());
+                    writeString(out, s.title());
+                    writeString(out, s.description());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) throw new IllegalArgumentException("Corrupt string length: " + length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
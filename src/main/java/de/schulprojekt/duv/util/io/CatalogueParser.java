@@ -0,0 +1,137 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.party.PartyTemplate;
+import de.schulprojekt.duv.model.scandal.Scandal;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Zerlegt die CSV-Inhalte der Kataloge in Parteivorlagen und Skandale.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class CatalogueParser {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(CatalogueParser.class.getName());
+    private static final String CSV_SEPARATOR_REGEX = "[,;]";
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private CatalogueParser() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    static List<PartyTemplate> parseParties(byte[] content) {
+        return parseLines(content, line -> {
+            String[] parts = line.split(CSV_SEPARATOR_REGEX);
+            return (parts.length >= 3) ? new PartyTemplate(parts[0].trim(), parts[1].trim(), parts[2].trim()) : null;
+        });
+    }
+
+    /**
+     * Liest eine Parteidatei über den gemappten Tokenizer.
+     * @param tokenizer Tokenizer am Dateianfang
+     * @return Alle Parteivorlagen ohne Kopfzeile
+     */
+    static List<PartyTemplate> parseParties(MappedCsvTokenizer tokenizer) {
+        List<PartyTemplate> result = new ArrayList<>();
+        boolean isFirstRow = true;
+        while (tokenizer.nextRow()) {
+            if (isFirstRow && isHeader(joinFields(tokenizer).toLowerCase())) {
+                isFirstRow = false;
+                continue;
+            }
+            isFirstRow = false;
+            if (tokenizer.fieldCount() >= 3) {
+                result.add(new PartyTemplate(tokenizer.decode(0), tokenizer.decode(1), tokenizer.decode(2)));
+            }
+        }
+        return result;
+    }
+
+    static List<Scandal> parseScandals(byte[] content) {
+        return parseLines(content, line -> {
+            if (line.trim().toLowerCase().startsWith("id")) return null;
+            String[] parts = line.split(CSV_SEPARATOR_REGEX, -1);
+
+            if (parts.length >= 5) {
+                try {
+                    int id = Integer.parseInt(parts[0].trim());
+                    String type = cleanCsvString(parts[1]);
+                    String name = cleanCsvString(parts[2]);
+                    String desc = cleanCsvString(parts[3]);
+                    double str = Double.parseDouble(cleanCsvString(parts[4]).replace(",", "."));
+                    return new Scandal(id, type, name, desc, str);
+                } catch (NumberFormatException e) {
+                    LOGGER.warning("Failed to parse scandal line: " + line);
+                    return null;
+                }
+            }
+            return null;
+        });
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static <T> List<T> parseLines(byte[] content, Function<String, T> mapper) {
+        List<T> resultList = new ArrayList<>();
+
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8))) {
+            String line;
+            boolean isFirstLine = true;
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                if (isFirstLine && isHeader(line.toLowerCase())) {
+                    isFirstLine = false;
+                    continue;
+                }
+                isFirstLine = false;
+                T item = mapper.apply(line);
+                if (item != null) resultList.add(item);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error parsing CSV content", e);
+        }
+        return resultList;
+    }
+
+    private static String joinFields(MappedCsvTokenizer tokenizer) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokenizer.fieldCount(); i++) {
+            if (i > 0) sb.append(';');
+            sb.append(tokenizer.decode(i));
+        }
+        return sb.toString();
+    }
+
+    static boolean isHeader(String line) {
+        return line.startsWith("id") || line.startsWith("kuerzel") || line.startsWith("name") ||
+                line.startsWith("partei") || line.contains("color") || line.contains("farbe") || line.contains("Abbreviation");
+    }
+
+    static String cleanCsvString(String input) {
+        return (input == null) ? "" : input.trim().replace("\"", "");
+    }
+}
@@ -0,0 +1,207 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.party.PartyTemplate;
+import de.schulprojekt.duv.model.scandal.Scandal;
+import de.schulprojekt.duv.util.config.CatalogueConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Lädt die Kataloge genau einmal pro Sprache und hält sie unveränderlich im Speicher.
+ * <p>
+ * {@link #preload(Locale)} startet das Laden auf einem Hintergrund-Thread, {@link #get(Locale)} wartet
+ * bei Bedarf auf das Ergebnis. Ist der Binär-Cache aktiv, wird eine passende Cache-Datei per
+ * Memory-Mapping gelesen und das CSV-Parsing übersprungen. Die Gültigkeit ergibt sich aus einer
+ * CRC32-Prüfsumme über die mitgelieferten CSV-Ressourcen.
+ * Externe Dateien ({@link CatalogueConfig#PROP_SCANDAL_FILE}, {@link CatalogueConfig#PROP_PARTY_FILE})
+ * werden stattdessen per Memory-Mapping gestreamt, damit auch sehr große Kataloge kaum Heap belegen.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class CatalogueRepository {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(CatalogueRepository.class.getName());
+    private static final Map<String, CompletableFuture<Catalogue>> CATALOGUES = new ConcurrentHashMap<>();
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Catalogue-Loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private CatalogueRepository() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Startet das Laden im Hintergrund, falls der Katalog noch nicht geladen wird.
+     * @param locale Sprache des Katalogs
+     */
+    public static void preload(Locale locale) {
+        future(locale);
+    }
+
+    /**
+     * @param locale Sprache des Katalogs
+     * @return Der geladene Katalog; blockiert, bis das Laden abgeschlossen ist
+     */
+    public static Catalogue get(Locale locale) {
+        return future(locale).join();
+    }
+
+    /**
+     * Bildet ein Locale auf eine mitgelieferte Katalogsprache ab.
+     * @param locale Gewünschtes Locale
+     * @return Sprachkürzel, für das Dateien existieren
+     */
+    public static String resolveLanguage(Locale locale) {
+        String lang = locale.getLanguage().toLowerCase(Locale.ROOT);
+        return CatalogueConfig.SUPPORTED_LANGUAGES.contains(lang) ? lang : CatalogueConfig.DEFAULT_LANGUAGE;
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static CompletableFuture<Catalogue> future(Locale locale) {
+        return CATALOGUES.computeIfAbsent(resolveLanguage(locale),
+                lang -> CompletableFuture.supplyAsync(() -> load(lang), LOADER));
+    }
+
+    private static Catalogue load(String lang) {
+        Path externalScandals = externalFile(CatalogueConfig.PROP_SCANDAL_FILE);
+        Path externalParties = externalFile(CatalogueConfig.PROP_PARTY_FILE);
+        if (externalScandals == null && externalParties == null) {
+            return loadBundled(lang);
+        }
+
+        long start = System.nanoTime();
+        Catalogue bundled = null;
+        try {
+            List<PartyTemplate> parties;
+            if (externalParties != null) {
+                parties = CatalogueParser.parseParties(MappedCsvTokenizer.open(externalParties));
+            } else {
+                bundled = loadBundled(lang);
+                parties = bundled.parties();
+            }
+
+            List<Scandal> scandals;
+            if (externalScandals != null) {
+                scandals = MappedScandalList.open(externalScandals);
+            } else {
+                if (bundled == null) bundled = loadBundled(lang);
+                scandals = bundled.scandals();
+            }
+
+            LOGGER.log(Level.INFO, "External catalogue mapped in {0} ms ({1} parties, {2} scandals)",
+                    new Object[]{(System.nanoTime() - start) / 1_000_000, parties.size(), scandals.size()});
+            return new Catalogue(parties, scandals);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to map external catalogue, falling back to bundled files", e);
+            return (bundled != null) ? bundled : loadBundled(lang);
+        }
+    }
+
+    private static Catalogue loadBundled(String lang) {
+        long start = System.nanoTime();
+        String partyPath = CatalogueConfig.PARTY_FILE_BASE + "_" + lang + ".csv";
+        String scandalPath = CatalogueConfig.SCANDAL_FILE_BASE + "_" + lang + ".csv";
+
+        byte[] partyBytes = readResource(partyPath);
+        byte[] scandalBytes = readResource(scandalPath);
+        if (partyBytes == null || scandalBytes == null) {
+            return Catalogue.empty();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(partyBytes);
+        crc.update(scandalBytes);
+        long checksum = crc.getValue();
+
+        Path cacheFile = cacheFile(lang);
+        if (cacheFile != null) {
+            try {
+                Catalogue cached = CatalogueBinaryCache.read(cacheFile, checksum);
+                if (cached != null) {
+                    LOGGER.log(Level.INFO, "Catalogue ''{0}'' loaded from binary cache in {1} ms",
+                            new Object[]{lang, (System.nanoTime() - start) / 1_000_000});
+                    return cached;
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to read catalogue cache: " + cacheFile, e);
+            }
+        }
+
+        Catalogue parsed = new Catalogue(CatalogueParser.parseParties(partyBytes), CatalogueParser.parseScandals(scandalBytes));
+        LOGGER.log(Level.INFO, "Catalogue ''{0}'' parsed from CSV in {1} ms ({2} parties, {3} scandals)",
+                new Object[]{lang, (System.nanoTime() - start) / 1_000_000, parsed.parties().size(), parsed.scandals().size()});
+
+        if (cacheFile != null) {
+            try {
+                CatalogueBinaryCache.write(cacheFile, checksum, parsed);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to write catalogue cache: " + cacheFile, e);
+            }
+        }
+        return parsed;
+    }
+
+    private static Path externalFile(String property) {
+        String value = System.getProperty(property);
+        return (value == null || value.isBlank()) ? null : Path.of(value);
+    }
+
+    private static Path cacheFile(String lang) {
+        String enabled = System.getProperty(CatalogueConfig.PROP_BINARY_CACHE, "false");
+        if (!Boolean.parseBoolean(enabled)) return null;
+
+        String dir = System.getProperty(CatalogueConfig.PROP_CACHE_DIR);
+        Path base = (dir == null || dir.isBlank())
+                ? Path.of(System.getProperty("java.io.tmpdir"), CatalogueConfig.DEFAULT_CACHE_SUBDIR)
+                : Path.of(dir);
+        return base.resolve("catalogue_" + lang + ".bin");
+    }
+
+    private static byte[] readResource(String filePath) {
+        InputStream is = CatalogueRepository.class.getResourceAsStream("/" + filePath);
+        if (is == null) is = Thread.currentThread().getContextClassLoader().getResourceAsStream(filePath);
+
+        if (is == null) {
+            LOGGER.log(Level.SEVERE, "CSV file not found in classpath: {0}", filePath);
+            return null;
+        }
+
+        try (InputStream stream = is) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error reading CSV: " + filePath, e);
+            return null;
+        }
+    }
+}
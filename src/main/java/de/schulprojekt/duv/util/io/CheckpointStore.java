@@ -0,0 +1,264 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.core.EngineSnapshot;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.scandal.Scandal;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Liest und schreibt {@link EngineSnapshot}s als kompakte Binärdatei.
+ * <p>
+ * Aufbau: Magic, Formatversion, Länge des Metadatenblocks, Metadaten (Parameter, Generatorzustände,
+ * Parteien, Skandalzustand), danach die Wählerspalten als ein zusammenhängender Block. Der Spaltenblock
+ * macht bei großen Populationen fast die gesamte Datei aus und wird per Gathering-Write bzw. einem
+ * einzigen Lesevorgang ohne Umweg über Streams übertragen.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class CheckpointStore {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int MAGIC = 0x44555653; // "DUVS"
+    private static final int FORMAT_VERSION = 2;
+    private static final int PREFIX_SIZE = 3 * Integer.BYTES;
+
+    /** Dateiendung für Spielstände. */
+    public static final String FILE_EXTENSION = ".duvsave";
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private CheckpointStore() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Schreibt zunächst in eine temporäre Datei und ersetzt dann atomar.
+     * @param file Zieldatei
+     * @param snapshot Zu speichernder Zustand
+     */
+    public static void write(Path file, EngineSnapshot snapshot) throws IOException {
+        byte[] meta = encodeMeta(snapshot);
+        ByteBuffer prefix = ByteBuffer.allocate(PREFIX_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).putInt(meta.length).flip();
+        ByteBuffer columns = snapshot.populationColumns().duplicate().clear();
+        ByteBuffer metaBuffer = ByteBuffer.wrap(meta);
+        ByteBuffer[] buffers = {prefix, metaBuffer, columns};
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (prefix.hasRemaining() || metaBuffer.hasRemaining() || columns.hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(false);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @param file Gespeicherter Spielstand
+     * @return Der Zustand
+     * @throws IOException falls die Datei fehlt, beschädigt ist oder ein anderes Format hat
+     */
+    public static EngineSnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer prefix = readFully(channel, PREFIX_SIZE);
+            if (prefix.getInt() != MAGIC) throw new IOException("Not a checkpoint file: " + file);
+            int version = prefix.getInt();
+            if (version != FORMAT_VERSION) throw new IOException("Unsupported checkpoint version: " + version);
+            int metaLength = prefix.getInt();
+            if (metaLength < 0 || metaLength > channel.size() - PREFIX_SIZE) throw new IOException("Corrupt checkpoint header");
+
+            ByteBuffer meta = readFully(channel, metaLength);
+            try {
+                return decode(meta, channel);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupt checkpoint: " + file, e);
+            }
+        }
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static byte[] encodeMeta(EngineSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            SimulationParameters p = snapshot.parameters();
+            out.writeInt(p.populationSize());
+            out.writeDouble(p.mediaInfluence());
+            out.writeDouble(p.volatilityRate());
+            out.writeDouble(p.scandalProbability());
+            out.writeDouble(p.loyaltyAverage());
+            out.writeInt(p.tickRate());
+            out.writeDouble(p.chaosFactor());
+            out.writeInt(p.partyCount());
+            out.writeDouble(p.budgetEffectiveness());
+
+            out.writeInt(snapshot.step());
+            out.writeDouble(snapshot.zeitgeist());
+            out.writeLong(snapshot.randomState());
+            out.writeLong(snapshot.zeitgeistRandomState());
+            out.writeDouble(snapshot.timeUntilNextScandal());
+
+            out.writeInt(snapshot.parties().size());
+            for (EngineSnapshot.PartyState party : snapshot.parties()) {
+                writeString(out, party.name());
+                writeString(out, party.abbreviation());
+                writeString(out, party.colorCode());
+                out.writeDouble(party.politicalPosition());
+                out.writeDouble(party.campaignBudget());
+                out.writeInt(party.supporterCount());
+                out.writeInt(party.scandalCount());
+            }
+
+            writeDoubles(out, snapshot.permanentDamage());
+            out.writeInt(snapshot.pressureRing().length);
+            for (int i = 0; i < snapshot.pressureRing().length; i++) {
+                writeDoubles(out, snapshot.pressureRing()[i]);
+                writeDoubles(out, snapshot.damageRing()[i]);
+            }
+
+            out.writeInt(snapshot.activeScandals().size());
+            for (EngineSnapshot.ActiveScandal active : snapshot.activeScandals()) {
+                Scandal s = active.scandal();
+                out.writeInt(active.partyIndex());
+                out.writeInt(active.occurredAtStep());
+                out.writeInt(s.id());
+                out.writeDouble(s.strength());
+                writeString(out, s.type());
+                // Texte erst hier dekodieren, Momentaufnahmen tragen nur den Katalogeintrag
+                writeString(out, s.title());
+                writeString(out, s.description());
+            }
+
+            out.writeInt(snapshot.populationSize());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static EngineSnapshot decode(ByteBuffer meta, FileChannel channel) throws IOException {
+        SimulationParameters params = new SimulationParameters(
+                meta.getInt(), meta.getDouble(), meta.getDouble(), meta.getDouble(), meta.getDouble(),
+                meta.getInt(), meta.getDouble(), meta.getInt(), meta.getDouble());
+
+        int step = meta.getInt();
+        double zeitgeist = meta.getDouble();
+        long randomState = meta.getLong();
+        long zeitgeistRandomState = meta.getLong();
+        double timeUntilNextScandal = meta.getDouble();
+
+        int partyCount = readCount(meta);
+        List<EngineSnapshot.PartyState> parties = new ArrayList<>(partyCount);
+        for (int i = 0; i < partyCount; i++) {
+            parties.add(new EngineSnapshot.PartyState(readString(meta), readString(meta), readString(meta),
+                    meta.getDouble(), meta.getDouble(), meta.getInt(), meta.getInt()));
+        }
+
+        double[] permanentDamage = readDoubles(meta);
+        int ringRows = readCount(meta);
+        double[][] pressureRing = new double[ringRows][];
+        double[][] damageRing = new double[ringRows][];
+        for (int i = 0; i < ringRows; i++) {
+            pressureRing[i] = readDoubles(meta);
+            damageRing[i] = readDoubles(meta);
+        }
+
+        int scandalCount = readCount(meta);
+        List<EngineSnapshot.ActiveScandal> scandals = new ArrayList<>(scandalCount);
+        for (int i = 0; i < scandalCount; i++) {
+            int partyIndex = meta.getInt();
+            int occurredAt = meta.getInt();
+            int id = meta.getInt();
+            double strength = meta.getDouble();
+            Scandal scandal = new Scandal(id, readString(meta), readString(meta), readString(meta), strength);
+            scandals.add(new EngineSnapshot.ActiveScandal(partyIndex, occurredAt, scandal));
+        }
+
+        int populationSize = meta.getInt();
+        long columnBytes = (long) populationSize * VoterPopulation.BYTES_PER_VOTER;
+        if (populationSize < 0 || columnBytes != channel.size() - channel.position()) {
+            throw new IOException("Population block does not match header");
+        }
+        ByteBuffer columns = readFully(channel, (int) columnBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        return new EngineSnapshot(params, step, zeitgeist, randomState, zeitgeistRandomState, timeUntilNextScandal,
+                List.copyOf(parties), permanentDamage, pressureRing, damageRing, List.copyOf(scandals),
+                populationSize, columns);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("Unexpected end of checkpoint file");
+        }
+        return buffer.flip();
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) throw new IllegalArgumentException("Corrupt count: " + count);
+        return count;
+    }
+
+    private static double[] readDoubles(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || (long) length * Double.BYTES > buffer.remaining()) {
+            throw new IllegalArgumentException("Corrupt array length: " + length);
+        }
+        double[] values = new double[length];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + length * Double.BYTES);
+        return values;
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double v : values) out.writeDouble(v);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) throw new IllegalArgumentException("Corrupt string length: " + length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,276 @@
+package de.schulprojekt.duv.util.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Zerlegt eine per Memory-Mapping eingeblendete CSV-Datei zeilenweise in Felder, ohne Kopien anzulegen.
+ * <p>
+ * Felder werden nur als Byte-Bereiche ({@link #fieldStart(int)}, {@link #fieldEnd(int)}) im gemappten
+ * Puffer beschrieben. Zahlen werden direkt aus den Bytes gelesen; nur Textfelder werden bei Bedarf mit
+ * {@link #decode(ByteBuffer, int, int)} in Strings umgewandelt. Als Trenner gelten {@code ,} und
+ * {@code ;}, Felder dürfen in Anführungszeichen stehen. Dateien bis 2 GB werden unterstützt.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class MappedCsvTokenizer {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final int MAX_FAST_DIGITS = 18;
+    private static final double[] POW10 = new double[MAX_FAST_DIGITS + 1];
+
+    static {
+        POW10[0] = 1.0;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10.0;
+    }
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private int fieldCount;
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    MappedCsvTokenizer(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.position = hasUtf8Bom(buffer) ? 3 : 0;
+    }
+
+    /**
+     * Blendet eine Datei schreibgeschützt ein.
+     * @param file Die CSV-Datei
+     * @return Tokenizer am Dateianfang
+     */
+    static MappedCsvTokenizer open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Catalogue files larger than 2 GB are not supported: " + file);
+            }
+            return new MappedCsvTokenizer(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    int fieldStart(int field) {
+        return starts[field];
+    }
+
+    int fieldEnd(int field) {
+        return ends[field];
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Springt zur nächsten nicht-leeren Zeile und zerlegt sie.
+     * @return {@code false} am Dateiende
+     */
+    boolean nextRow() {
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == '\n' || b == '\r') {
+                position++;
+                continue;
+            }
+            tokenizeRow();
+            if (fieldCount > 1 || ends[0] > starts[0]) return true;
+        }
+        fieldCount = 0;
+        return false;
+    }
+
+    /**
+     * Liest eine Ganzzahl direkt aus den Bytes des Feldes.
+     * @throws NumberFormatException falls das Feld keine Ganzzahl enthält
+     */
+    long parseLong(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (negative || (i < end && buffer.get(i) == '+')) i++;
+        if (i >= end) throw new NumberFormatException("Empty numeric field");
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) throw new NumberFormatException("Invalid digit in field " + field);
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Liest eine Dezimalzahl direkt aus den Bytes. Punkt und Komma gelten als Dezimaltrenner.
+     * Nur bei ungewöhnlich langen Zahlen oder Exponenten wird auf {@link Double#parseDouble(String)} ausgewichen.
+     * @throws NumberFormatException falls das Feld keine Zahl enthält
+     */
+    double parseDouble(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (negative || (i < end && buffer.get(i) == '+')) i++;
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (digits == MAX_FAST_DIGITS) return slowParseDouble(field);
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (inFraction) fractionDigits++;
+            } else if ((b == '.' || b == ',') && !inFraction) {
+                inFraction = true;
+            } else {
+                return slowParseDouble(field);
+            }
+        }
+        if (digits == 0) throw new NumberFormatException("Empty numeric field");
+
+        double value = mantissa / POW10[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Prüft, ob das Feld ohne Beachtung der Groß-/Kleinschreibung mit einem ASCII-Präfix beginnt.
+     */
+    boolean startsWithIgnoreCase(int field, String asciiPrefix) {
+        int start = starts[field];
+        if (ends[field] - start < asciiPrefix.length()) return false;
+        for (int k = 0; k < asciiPrefix.length(); k++) {
+            if (Character.toLowerCase((char) buffer.get(start + k)) != Character.toLowerCase(asciiPrefix.charAt(k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String decode(int field) {
+        return decode(buffer, starts[field], ends[field]);
+    }
+
+    /**
+     * Wandelt einen Byte-Bereich in einen String um und entfernt Anführungszeichen wie {@code cleanCsvString}.
+     */
+    static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        return text.indexOf('"') >= 0 ? text.replace("\"", "") : text;
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private void tokenizeRow() {
+        fieldCount = 0;
+        while (true) {
+            ensureCapacity(fieldCount + 1);
+            int i = skipBlanks(position);
+            int start;
+            int end;
+
+            if (i < limit && buffer.get(i) == '"') {
+                start = i + 1;
+                i = start;
+                while (i < limit) {
+                    if (buffer.get(i) == '"') {
+                        if (i + 1 < limit && buffer.get(i + 1) == '"') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                end = i;
+                if (i < limit) i++;
+                while (i < limit && !isDelimiter(buffer.get(i))) i++;
+            } else {
+                start = i;
+                while (i < limit && !isDelimiter(buffer.get(i))) i++;
+                end = trimEnd(start, i);
+            }
+
+            starts[fieldCount] = start;
+            ends[fieldCount] = end;
+            fieldCount++;
+
+            if (i < limit && (buffer.get(i) == ',' || buffer.get(i) == ';')) {
+                position = i + 1;
+                continue;
+            }
+            position = i < limit ? i + 1 : limit;
+            return;
+        }
+    }
+
+    private double slowParseDouble(int field) {
+        return Double.parseDouble(decode(field).trim().replace(',', '.'));
+    }
+
+    private int skipBlanks(int i) {
+        while (i < limit && (buffer.get(i) == ' ' || buffer.get(i) == '\t')) i++;
+        return i;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start) {
+            byte b = buffer.get(end - 1);
+            if (b != ' ' && b != '\t' && b != '\r') break;
+            end--;
+        }
+        return end;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > starts.length) {
+            starts = Arrays.copyOf(starts, starts.length * 2);
+            ends = Arrays.copyOf(ends, ends.length * 2);
+        }
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == ';' || b == '\n';
+    }
+
+    private static boolean hasUtf8Bom(ByteBuffer buffer) {
+        return buffer.limit() >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB && (buffer.get(2) & 0xFF) == 0xBF;
+    }
+}
@@ -0,0 +1,237 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.scandal.Scandal;
+import de.schulprojekt.duv.model.scandal.ScandalText;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Unveränderliche Skandalliste über einer per Memory-Mapping eingeblendeten CSV-Datei.
+ * <p>
+ * Beim Öffnen wird die Datei einmal durchlaufen und nur ein spaltenweiser Index aufgebaut: Kennung,
+ * Stärke, Kategorie (als Verweis in ein kleines Wörterbuch) sowie Byte-Offsets von Titel und
+ * Beschreibung. Die Texte bleiben im gemappten Puffer und werden erst dekodiert, wenn ein Ereignis
+ * angezeigt wird. Pro Skandal fallen so etwa 30 Byte Heap an, unabhängig von der Textlänge.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+final class MappedScandalList extends AbstractList<Scandal> implements RandomAccess {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(MappedScandalList.class.getName());
+    private static final int MIN_FIELDS = 5;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final ByteBuffer buffer;
+    private final String[] types;
+    private final int size;
+    private final int[] ids;
+    private final double[] strengths;
+    private final short[] typeIndex;
+    private final int[] titleStart;
+    private final int[] titleEnd;
+    private final int[] descriptionStart;
+    private final int[] descriptionEnd;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private MappedScandalList(ByteBuffer buffer, String[] types, int size, int[] ids, double[] strengths,
+                              short[] typeIndex, int[] titleStart, int[] titleEnd,
+                              int[] descriptionStart, int[] descriptionEnd) {
+        this.buffer = buffer;
+        this.types = types;
+        this.size = size;
+        this.ids = ids;
+        this.strengths = strengths;
+        this.typeIndex = typeIndex;
+        this.titleStart = titleStart;
+        this.titleEnd = titleEnd;
+        this.descriptionStart = descriptionStart;
+        this.descriptionEnd = descriptionEnd;
+    }
+
+    /**
+     * Blendet eine Skandaldatei ein und indiziert sie.
+     * Erwartetes Format wie beim mitgelieferten Katalog: {@code id;typ;titel;beschreibung;stärke}.
+     * @param file Pfad zur CSV-Datei
+     * @return Liste mit allen gültigen Zeilen in Dateireihenfolge
+     */
+    static MappedScandalList open(Path file) throws IOException {
+        return index(MappedCsvTokenizer.open(file));
+    }
+
+    static MappedScandalList index(MappedCsvTokenizer tokenizer) {
+        Map<String, Short> typeIds = new HashMap<>();
+        List<String> types = new ArrayList<>();
+
+        int capacity = INITIAL_CAPACITY;
+        int[] ids = new int[capacity];
+        double[] strengths = new double[capacity];
+        short[] typeIndex = new short[capacity];
+        int[] titleStart = new int[capacity];
+        int[] titleEnd = new int[capacity];
+        int[] descStart = new int[capacity];
+        int[] descEnd = new int[capacity];
+
+        int count = 0;
+        int skipped = 0;
+        while (tokenizer.nextRow()) {
+            if (tokenizer.fieldCount() < MIN_FIELDS || tokenizer.startsWithIgnoreCase(0, "id")) {
+                skipped++;
+                continue;
+            }
+
+            int id;
+            double strength;
+            try {
+                id = Math.toIntExact(tokenizer.parseLong(0));
+                strength = tokenizer.parseDouble(4);
+            } catch (NumberFormatException | ArithmeticException e) {
+                skipped++;
+                continue;
+            }
+
+            if (count == capacity) {
+                capacity *= 2;
+                ids = Arrays.copyOf(ids, capacity);
+                strengths = Arrays.copyOf(strengths, capacity);
+                typeIndex = Arrays.copyOf(typeIndex, capacity);
+                titleStart = Arrays.copyOf(titleStart, capacity);
+                titleEnd = Arrays.copyOf(titleEnd, capacity);
+                descStart = Arrays.copyOf(descStart, capacity);
+                descEnd = Arrays.copyOf(descEnd, capacity);
+            }
+
+            ids[count] = id;
+            strengths[count] = strength;
+            typeIndex[count] = internType(tokenizer.decode(1), typeIds, types);
+            titleStart[count] = tokenizer.fieldStart(2);
+            titleEnd[count] = tokenizer.fieldEnd(2);
+            descStart[count] = tokenizer.fieldStart(3);
+            descEnd[count] = tokenizer.fieldEnd(3);
+            count++;
+        }
+
+        if (skipped > 0) {
+            LOGGER.log(Level.INFO, "Skipped {0} header or malformed scandal rows", skipped);
+        }
+        return new MappedScandalList(tokenizer.buffer(), types.toArray(String[]::new), count,
+                ids, strengths, typeIndex, titleStart, titleEnd, descStart, descEnd);
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    @Override
+    public Scandal get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return new Scandal(ids[index], types[typeIndex[index]], strengths[index], new MappedScandalText(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Spaltenzugriff ohne Objekterzeugung, etwa zum Aufbau des Gewichtungs-Samplers.
+     * @param index Zeile im Katalog
+     * @return Stärke des Skandals
+     */
+    double strength(int index) {
+        return strengths[index];
+    }
+
+    /**
+     * @param index Zeile im Katalog
+     * @return Kategorie des Skandals aus dem Wörterbuch
+     */
+    String type(int index) {
+        return types[typeIndex[index]];
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static short internType(String type, Map<String, Short> typeIds, List<String> types) {
+        Short existing = typeIds.get(type);
+        if (existing != null) return existing;
+        if (types.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many distinct scandal categories");
+        }
+        short id = (short) types.size();
+        typeIds.put(type, id);
+        types.add(type);
+        return id;
+    }
+
+    // ========================================
+    // Inner Classes
+    // ========================================
+
+    /**
+     * Dekodiert Titel und Beschreibung beim ersten Zugriff aus dem gemappten Puffer und merkt sie sich.
+     */
+    private final class MappedScandalText implements ScandalText {
+
+        private final int row;
+        private String title;
+        private String description;
+
+        private MappedScandalText(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String title() {
+            if (title == null) title = MappedCsvTokenizer.decode(buffer, titleStart[row], titleEnd[row]);
+            return title;
+        }
+
+        @Override
+        public String description() {
+            if (description == null) {
+                description = MappedCsvTokenizer.decode(buffer, descriptionStart[row], descriptionEnd[row]);
+            }
+            return description;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MappedScandalText other && other.row == row && other.owner() == owner();
+        }
+
+        @Override
+        public int hashCode() {
+            return row;
+        }
+
+        private MappedScandalList owner() {
+            return MappedScandalList.this;
+        }
+    }
+}
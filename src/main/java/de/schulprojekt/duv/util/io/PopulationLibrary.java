@@ -0,0 +1,156 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.random.DistributionProvider;
+import de.schulprojekt.duv.model.voter.VoterBehavior;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.util.config.PopulationConfig;
+import de.schulprojekt.duv.util.config.VoterBehaviorConfig;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bibliothek vorberechneter Startpopulationen als Binärdateien.
+ * <p>
+ * Eine Population ist eindeutig durch Größe, Parteienzahl, durchschnittliche Loyalität und Startwert
+ * bestimmt. Beim ersten Bedarf wird sie erzeugt und als Datei mit den Spalten von
+ * {@link VoterPopulation} abgelegt. Spätere Läufe blenden die Datei mit
+ * {@link FileChannel.MapMode#PRIVATE} ein: Seiten werden erst beim Zugriff geladen, und Änderungen
+ * der Simulation landen in privaten Kopien, sodass die Bibliotheksdatei unverändert bleibt.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class PopulationLibrary {
+
+    // ========================================
+    // Static Variables
+    // ========================================
+
+    private static final Logger LOGGER = Logger.getLogger(PopulationLibrary.class.getName());
+    private static final int MAGIC = 0x44555650; // "DUVP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    private PopulationLibrary() {
+        // Prevent instantiation
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Übernimmt die passende Population aus der Bibliothek, sofern {@link PopulationConfig#PROP_LIBRARY_DIR} gesetzt ist.
+     * @param pop Zielpopulation
+     * @param size Anzahl der Wähler
+     * @param partyCount Anzahl der Parteien inklusive "Unsicher"
+     * @param loyaltyAverage Durchschnittliche Loyalität
+     * @param behavior Erzeugt fehlende Populationen
+     * @param dist Liefert die Verteilungen für fehlende Populationen
+     * @return {@code false}, wenn die Bibliothek deaktiviert ist oder nicht genutzt werden konnte
+     */
+    public static boolean tryLoad(VoterPopulation pop, int size, int partyCount, double loyaltyAverage,
+                                  VoterBehavior behavior, DistributionProvider dist) {
+        String dir = System.getProperty(PopulationConfig.PROP_LIBRARY_DIR);
+        if (dir == null || dir.isBlank()) return false;
+
+        long seed = Long.getLong(PopulationConfig.PROP_SEED, PopulationConfig.DEFAULT_SEED);
+        try {
+            load(Path.of(dir), pop, size, partyCount, loyaltyAverage, seed, behavior, dist);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Population library unavailable, generating population in memory", e);
+            return false;
+        }
+    }
+
+    /**
+     * Blendet die Population ein und erzeugt sie zuvor, falls sie noch nicht existiert.
+     */
+    static void load(Path dir, VoterPopulation pop, int size, int partyCount, double loyaltyAverage, long seed,
+                     VoterBehavior behavior, DistributionProvider dist) throws IOException {
+        if ((long) size * VoterPopulation.BYTES_PER_VOTER > Integer.MAX_VALUE) {
+            throw new IOException("Population too large for a single mapping: " + size);
+        }
+        Path file = dir.resolve(fileName(size, partyCount, loyaltyAverage, seed));
+        if (!mapPrivate(file, pop, size, partyCount, loyaltyAverage, seed)) {
+            long start = System.nanoTime();
+            generate(dir, file, size, partyCount, loyaltyAverage, seed, behavior, dist);
+            LOGGER.log(Level.INFO, "Generated population library entry {0} in {1} ms",
+                    new Object[]{file.getFileName(), (System.nanoTime() - start) / 1_000_000});
+            if (!mapPrivate(file, pop, size, partyCount, loyaltyAverage, seed)) {
+                throw new IOException("Generated population file is not readable: " + file);
+            }
+        }
+    }
+
+    static String fileName(int size, int partyCount, double loyaltyAverage, long seed) {
+        return String.format(Locale.ROOT, "population_%d_%d_%016x_%d.bin",
+                size, partyCount, Double.doubleToLongBits(loyaltyAverage), seed);
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private static boolean mapPrivate(Path file, VoterPopulation pop, int size, int partyCount,
+                                      double loyaltyAverage, long seed) throws IOException {
+        if (!Files.isRegularFile(file)) return false;
+
+        long expectedLength = HEADER_SIZE + (long) size * VoterPopulation.BYTES_PER_VOTER;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() != expectedLength) return false;
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.PRIVATE, 0, expectedLength);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION
+                    || mapped.getInt() != size || mapped.getInt() != partyCount
+                    || mapped.getDouble() != loyaltyAverage || mapped.getLong() != seed
+                    || mapped.getInt() != VoterBehaviorConfig.INIT_CHUNK_SIZE) {
+                return false;
+            }
+            pop.attach(mapped.slice(HEADER_SIZE, size * VoterPopulation.BYTES_PER_VOTER), size);
+            return true;
+        }
+    }
+
+    private static void generate(Path dir, Path file, int size, int partyCount, double loyaltyAverage, long seed,
+                                 VoterBehavior behavior, DistributionProvider dist) throws IOException {
+        ByteBuffer columns = ByteBuffer.allocate(size * VoterPopulation.BYTES_PER_VOTER);
+        VoterPopulation staging = new VoterPopulation();
+        staging.attach(columns, size);
+        behavior.populate(staging, partyCount, dist.createVoterSamplers(VoterBehavior.chunkCount(size), seed));
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(size).putInt(partyCount)
+                .putDouble(loyaltyAverage).putLong(seed).putInt(VoterBehaviorConfig.INIT_CHUNK_SIZE);
+        header.clear();
+
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "population", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) channel.write(header);
+                while (columns.hasRemaining()) channel.write(columns);
+                channel.force(false);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
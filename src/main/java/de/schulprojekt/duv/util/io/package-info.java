@@ -1,6 +1,8 @@
 /**
  * Input/Output utilities for loading external data.
- * Handles CSV file parsing for parties and scandal data.
+ * Handles CSV file parsing for parties and scandal data and keeps one immutable
+ * catalogue per language, optionally backed by a memory-mapped binary cache.
+ * Also stores pre-generated voter populations that are mapped copy-on-write.
  * @author Nico Hoffmann
  * @version 1.0
  */
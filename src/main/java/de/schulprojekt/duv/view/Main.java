@@ -1,5 +1,7 @@
 package de.schulprojekt.duv.view;
 
+import de.schulprojekt.duv.util.diagnostics.FlightRecording;
+import de.schulprojekt.duv.util.io.CatalogueRepository;
 import de.schulprojekt.duv.view.controllers.DashboardController;
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -45,6 +47,9 @@ public class Main extends Application {
     // ========================================
 
     public static void main(String[] args) {
+        FlightRecording.startIfRequested();
+        CatalogueRepository.preload(Locale.GERMAN);
+        CatalogueRepository.preload(Locale.ENGLISH);
         launch(args);
     }
 
@@ -96,6 +101,7 @@ public class Main extends Application {
 
     public static void setLocale(Locale locale) {
         currentLocale = locale;
+        CatalogueRepository.preload(locale);
     }
 
     // ========================================
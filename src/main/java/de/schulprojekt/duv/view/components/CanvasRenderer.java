@@ -2,8 +2,10 @@ package de.schulprojekt.duv.view.components;
 
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.model.dto.VoterTransition;
+import de.schulprojekt.duv.model.telemetry.RendererFrameEvent;
 import de.schulprojekt.duv.util.config.SimulationConfig;
 import de.schulprojekt.duv.view.managers.AdaptiveParticleManager;
+import de.schulprojekt.duv.view.util.SpatialGridIndex;
 import javafx.animation.AnimationTimer;
 import javafx.beans.InvalidationListener;
 import javafx.scene.canvas.Canvas;
@@ -35,6 +37,9 @@ public class CanvasRenderer {
     private static final double TARGET_LOCK_SCALE = 1.3;
     private static final int INITIAL_POOL_SIZE = 300;
 
+    /** Maximaler Trefferradius eines Parteiknotens (Basis 40 px plus 60 px bei 100 % Anteil). */
+    public static final double NODE_HIT_RADIUS_MAX = 100.0;
+
     private static final Color GRID_COLOR = Color.web("#D4AF37", 0.1);
     private static final Color TEXT_COLOR = Color.web("#e0e0e0");
     private static final Color PERCENTAGE_COLOR = Color.web("#D4AF37");
@@ -50,6 +55,7 @@ public class CanvasRenderer {
     private final AdaptiveParticleManager adaptiveManager;
 
     private final Map<String, Point> partyPositions = new HashMap<>();
+    private final SpatialGridIndex<Integer> partyIndex = new SpatialGridIndex<>(NODE_HIT_RADIUS_MAX);
     private volatile List<Party> currentParties = new ArrayList<>();
     private volatile int currentTotalVoters = 1;
     private volatile double currentScaleFactor = 1.0;
@@ -114,6 +120,15 @@ public class CanvasRenderer {
         return partyPositions;
     }
 
+    /**
+     * Liefert den räumlichen Index der Parteiknoten. Die Elemente sind Indizes in die Parteiliste,
+     * aus der die Positionen zuletzt berechnet wurden.
+     * @return Der Index für Treffertests.
+     */
+    public SpatialGridIndex<Integer> getPartyIndex() {
+        return partyIndex;
+    }
+
     // ========================================
     // Business-Logik-Methoden
     // ========================================
@@ -165,6 +180,9 @@ public class CanvasRenderer {
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
         if (currentParties.isEmpty()) return;
 
+        RendererFrameEvent frameEvent = new RendererFrameEvent();
+        frameEvent.begin();
+
         Party leader = currentParties.stream()
                 .filter(p -> !p.getName().equals(SimulationConfig.UNDECIDED_NAME))
                 .max(Comparator.comparingInt(Party::getCurrentSupporterCount))
@@ -173,6 +191,12 @@ public class CanvasRenderer {
         drawNetworkGrid();
         drawPartyNodes(leader);
         drawParticles();
+
+        frameEvent.end();
+        if (frameEvent.shouldCommit()) {
+            frameEvent.particles = activeParticles.size();
+            frameEvent.commit();
+        }
     }
 
     /**
@@ -349,6 +373,7 @@ public class CanvasRenderer {
      */
     private void recalculatePartyPositions(List<Party> parties) {
         partyPositions.clear();
+        partyIndex.clear();
         double centerX = canvas.getWidth() / 2;
         double centerY = canvas.getHeight() / 2;
         double minDim = Math.min(canvas.getWidth(), canvas.getHeight());
@@ -359,10 +384,14 @@ public class CanvasRenderer {
             Party p = parties.get(i);
             if (p.getName().equals(SimulationConfig.UNDECIDED_NAME)) {
                 partyPositions.put(p.getName(), new Point(centerX, centerY));
+                partyIndex.insert(i, centerX, centerY, NODE_HIT_RADIUS_MAX);
                 continue;
             }
             double angle = 2 * Math.PI * i / parties.size() - Math.PI / 2;
-            partyPositions.put(p.getName(), new Point(centerX + radius * Math.cos(angle), centerY + radius * Math.sin(angle)));
+            double x = centerX + radius * Math.cos(angle);
+            double y = centerY + radius * Math.sin(angle);
+            partyPositions.put(p.getName(), new Point(x, y));
+            partyIndex.insert(i, x, y, NODE_HIT_RADIUS_MAX);
         }
     }
 
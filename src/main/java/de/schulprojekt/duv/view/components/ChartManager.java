@@ -1,49 +1,48 @@
 package de.schulprojekt.duv.view.components;
 
+import de.schulprojekt.duv.model.forecast.ForecastResult;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.util.config.SimulationConfig;
-import javafx.scene.chart.LineChart;
-import javafx.scene.chart.XYChart;
+import de.schulprojekt.duv.view.Main;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.ResourceBundle;
 
 /**
  * Verwaltet die Live-Diagramme und die Visualisierung historischer Daten.
  * @author Nico Hoffmann
- * @version 1.1
+ * @version 1.2
  */
 public class ChartManager {
 
-    // ========================================
-    // Static Variables
-    // ========================================
-
-    private static final int UPDATE_INTERVAL = 5;
-
     // ========================================
     // Instance Variables
     // ========================================
 
-    private final LineChart<Number, Number> historyChart;
-    private final Map<String, XYChart.Series<Number, Number>> historySeriesMap = new HashMap<>();
+    private final StreamingLineChart historyChart;
+    private final Map<String, Integer> seriesIndexMap = new HashMap<>();
+    private float[] sampleBuffer = new float[0];
 
     // ========================================
     // Constructors
     // ========================================
 
     /**
-     * Initialisiert den Manager mit einer Referenz auf das UI-Diagramm.
-     * @param historyChart Das Liniendiagramm für die Verlaufsvisualisierung.
+     * Initialisiert den Manager und erzeugt das Trenddiagramm im übergebenen Container.
+     * @param historyContainer Der Container für die Verlaufsvisualisierung.
      */
-    public ChartManager(LineChart<Number, Number> historyChart) {
-        this.historyChart = historyChart;
-
+    public ChartManager(Pane historyContainer) {
+        this.historyChart = historyContainer != null
+                ? new StreamingLineChart(historyContainer, SimulationConfig.HISTORY_LENGTH)
+                : null;
         if (historyChart != null) {
-            historyChart.setAnimated(false);
-            historyChart.setCreateSymbols(false);
-            historyChart.setLegendVisible(false);
+            ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+            historyChart.setAxisLabels(bundle.getString("dash.ticks"), bundle.getString("dash.votes"));
         }
     }
 
@@ -52,45 +51,70 @@ public class ChartManager {
     // ========================================
 
     public void clear() {
-        historySeriesMap.clear();
+        seriesIndexMap.clear();
+        if (historyChart != null) {
+            historyChart.clear();
+        }
+    }
+
+    /**
+     * Beendet die Bildaktualisierung des Trenddiagramms, etwa beim Schließen des Fensters.
+     */
+    public void stop() {
         if (historyChart != null) {
-            historyChart.getData().clear();
+            historyChart.stop();
         }
     }
 
+    /**
+     * Zeichnet die aktuellen Anhängerzahlen aller Parteien (außer den Unentschlossenen) in jedem Tick auf.
+     * @param parties Die aktuelle Parteienliste.
+     * @param step Der aktuelle Simulationsschritt.
+     */
     public void update(List<Party> parties, int step) {
-        if (historyChart == null || step % UPDATE_INTERVAL != 0) return;
+        if (historyChart == null) return;
 
         for (Party p : parties) {
             if (p.getName().equals(SimulationConfig.UNDECIDED_NAME)) continue;
+            seriesIndexMap.computeIfAbsent(p.getName(), ignored -> historyChart.addSeries(p.getAbbreviation(), parseColor(p)));
+        }
+
+        if (sampleBuffer.length != historyChart.getSeriesCount()) {
+            sampleBuffer = new float[historyChart.getSeriesCount()];
+        }
+        Arrays.fill(sampleBuffer, Float.NaN);
+        for (Party p : parties) {
+            Integer index = seriesIndexMap.get(p.getName());
+            if (index != null) sampleBuffer[index] = p.getCurrentSupporterCount();
+        }
 
-            XYChart.Series<Number, Number> series = historySeriesMap.computeIfAbsent(
-                    p.getName(),
-                    ignored -> createSeries(p)
-            );
+        historyChart.append(step, sampleBuffer);
+    }
 
-            series.getData().add(new XYChart.Data<>(step, p.getCurrentSupporterCount()));
+    /**
+     * Übergibt den Perzentilfächer einer Prognose an das Trenddiagramm. Parteien werden über ihren Namen zugeordnet.
+     * @param forecast Die abgeschlossene Prognose.
+     */
+    public void showForecast(ForecastResult forecast) {
+        if (historyChart == null) return;
 
-            if (series.getData().size() > SimulationConfig.HISTORY_LENGTH) {
-                series.getData().removeFirst();
-            }
+        float[][][] bands = new float[historyChart.getSeriesCount()][][];
+        for (int p = 0; p < forecast.partyNames().size(); p++) {
+            Integer index = seriesIndexMap.get(forecast.partyNames().get(p));
+            if (index != null) bands[index] = forecast.bands()[p];
         }
+        historyChart.setForecast(forecast.horizon(), bands);
     }
 
     // ========================================
     // Utility Methods
     // ========================================
 
-    private XYChart.Series<Number, Number> createSeries(Party p) {
-        XYChart.Series<Number, Number> s = new XYChart.Series<>();
-        s.setName(p.getAbbreviation());
-
-        historyChart.getData().add(s);
-
-        if (s.getNode() != null) {
-            s.getNode().setStyle("-fx-stroke: " + p.getColorCode() + "; -fx-stroke-width: 2px;");
+    private Color parseColor(Party p) {
+        try {
+            return Color.web(p.getColorCode());
+        } catch (Exception e) {
+            return Color.GRAY;
         }
-
-        return s;
     }
-}
\ No newline at end of file
+}
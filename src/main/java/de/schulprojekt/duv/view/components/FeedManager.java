@@ -1,24 +1,38 @@
 package de.schulprojekt.duv.view.components;
 
+import de.schulprojekt.duv.model.polling.PollResult;
 import de.schulprojekt.duv.model.scandal.ScandalEvent;
 import de.schulprojekt.duv.view.Main;
+import de.schulprojekt.duv.view.util.BoundedFeedList;
 import de.schulprojekt.duv.view.util.VisualFX;
 import javafx.animation.*;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.*;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
+import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.ResourceBundle;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Verwaltet die Visualisierung des Nachrichten-Feeds in der Benutzeroberfläche.
  * Steuert sowohl den horizontalen Ticker als auch das vertikale Ereignis-Log.
+ * <p>
+ * Beide Feeds sind in der Knotenanzahl begrenzt: Das Log hält seine Einträge in einem Ringpuffer und
+ * zeigt sie über ein virtualisiertes {@link ListView} an, in dem nur sichtbare Zeilen als Knoten existieren.
+ * Ticker-Karten werden aus einem Pool wiederverwendet, sobald sie aus dem sichtbaren Bereich fallen.
+ * </p>
  *
  * @author Nico Hoffmann
  * @version 1.0
@@ -32,6 +46,10 @@ public class FeedManager {
     private static final double TICKER_CARD_WIDTH = 450.0;
     private static final int ANIMATION_DURATION_MS = 600;
     private static final double CRITICAL_THRESHOLD = 0.5;
+    private static final int FEED_CAPACITY = 200;
+    private static final int TICKER_MAX_CARDS = 12;
+    private static final String CRITICAL_CLASS = "critical";
+    private static final int POLL_LEADERS = 3;
 
     // ========================================
     // Instanzvariablen
@@ -40,6 +58,10 @@ public class FeedManager {
     private final HBox tickerBox;
     private final ScrollPane tickerScroll;
     private final Pane eventFeedPane;
+    private final BoundedFeedList<FeedEntry> feedEntries = new BoundedFeedList<>(FEED_CAPACITY);
+    private final ArrayDeque<TickerCard> tickerPool = new ArrayDeque<>();
+    private ListView<FeedEntry> feedView;
+    private FeedEntry pendingAnimation;
 
     // ========================================
     // Konstruktoren
@@ -64,8 +86,14 @@ public class FeedManager {
     // ========================================
 
     public void clear() {
-        if (eventFeedPane != null) eventFeedPane.getChildren().clear();
-        if (tickerBox != null) tickerBox.getChildren().clear();
+        feedEntries.clear();
+        pendingAnimation = null;
+        if (tickerBox != null) {
+            for (Node node : tickerBox.getChildren()) {
+                if (node.getUserData() instanceof TickerCard card) recycle(card);
+            }
+            tickerBox.getChildren().clear();
+        }
     }
 
     /**
@@ -80,6 +108,25 @@ public class FeedManager {
         if (tickerBox != null) addScandalCardToTicker(scandal);
     }
 
+    /**
+     * Fügt das Ergebnis einer Meinungsumfrage dem Ereignis-Log hinzu: die führenden Parteien mit Fehlerspanne.
+     *
+     * @param poll Das Umfrageergebnis.
+     */
+    public void processPoll(PollResult poll) {
+        if (poll == null || eventFeedPane == null) return;
+        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+
+        String leaders = IntStream.range(0, poll.shares().length).boxed()
+                .sorted(Comparator.comparingDouble((Integer p) -> poll.shares()[p]).reversed())
+                .limit(POLL_LEADERS)
+                .map(p -> String.format(Main.getLocale(), "%s %.1f%%", poll.partyNames().get(p), poll.shares()[p] * 100))
+                .collect(Collectors.joining(" | "));
+        String title = String.format(Main.getLocale(), bundle.getString("feed.poll_title"), poll.respondents(), poll.sampleSize());
+        String margin = String.format(Main.getLocale(), bundle.getString("feed.poll_margin"), poll.maxMargin() * 100);
+        pushFeedEntry(new FeedEntry(nextLogId(), poll.step(), title, ">>> " + leaders, margin, false));
+    }
+
     // ========================================
     // Hilfsmethoden (Utility)
     // ========================================
@@ -99,131 +146,219 @@ public class FeedManager {
         }
     }
 
+    /**
+     * Schiebt eine Karte vorne in den Ticker. Überzählige Karten am Ende werden entfernt
+     * und für spätere Ereignisse im Pool abgelegt.
+     */
     private void addScandalCardToTicker(ScandalEvent scandal) {
-        HBox card = createTickerCard(scandal);
-        StackPane wrapper = new StackPane(card);
-        wrapper.setAlignment(Pos.CENTER_LEFT);
-        wrapper.setMinWidth(0);
-        wrapper.setPrefWidth(0);
+        TickerCard card = tickerPool.isEmpty() ? new TickerCard() : tickerPool.pop();
+        card.bind(scandal);
 
-        Rectangle clip = new Rectangle(0, 1000);
-        clip.widthProperty().bind(wrapper.widthProperty());
-        wrapper.setClip(clip);
-
-        tickerBox.getChildren().addFirst(wrapper);
-
-        Timeline slideIn = new Timeline();
-        slideIn.getKeyFrames().add(new KeyFrame(Duration.millis(ANIMATION_DURATION_MS),
-                new KeyValue(wrapper.prefWidthProperty(), TICKER_CARD_WIDTH, Interpolator.EASE_OUT),
-                new KeyValue(wrapper.minWidthProperty(), TICKER_CARD_WIDTH, Interpolator.EASE_OUT)));
-        slideIn.play();
+        while (tickerBox.getChildren().size() >= TICKER_MAX_CARDS) {
+            Node last = tickerBox.getChildren().removeLast();
+            if (last.getUserData() instanceof TickerCard old) recycle(old);
+        }
+        tickerBox.getChildren().addFirst(card.wrapper);
 
+        card.slideIn.playFromStart();
         if (tickerScroll != null) tickerScroll.setHvalue(0);
     }
 
-    private HBox createTickerCard(ScandalEvent scandal) {
-        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
-        HBox alertPanel = new HBox(15);
-        alertPanel.setAlignment(Pos.CENTER_LEFT);
-        alertPanel.setPrefWidth(TICKER_CARD_WIDTH - 10);
-        alertPanel.getStyleClass().add("scandal-card");
-
-        boolean isCritical = scandal.scandal().strength() > CRITICAL_THRESHOLD;
-        if (isCritical) alertPanel.getStyleClass().add("critical");
-
-        Label warningBadge = new Label(isCritical ? bundle.getString("feed.alert") : bundle.getString("feed.warning"));
-        warningBadge.getStyleClass().add("scandal-badge");
-        if (isCritical) warningBadge.getStyleClass().add("critical");
-
-        VBox textBox = new VBox(2);
-        textBox.setAlignment(Pos.CENTER_LEFT);
-        HBox.setHgrow(textBox, Priority.ALWAYS);
-
-        Label titleLabel = new Label(scandal.scandal().title());
-        titleLabel.getStyleClass().add("scandal-title");
-        if (isCritical) titleLabel.getStyleClass().add("critical");
-
-        Label descLabel = new Label(bundle.getString("feed.target") + " " + scandal.affectedParty().getAbbreviation());
-        descLabel.getStyleClass().add("scandal-desc");
-        textBox.getChildren().addAll(titleLabel, descLabel);
-
-        VBox impactBox = new VBox(2);
-        impactBox.setAlignment(Pos.CENTER_RIGHT);
-        Label impactTitle = new Label("-" + (int)(scandal.scandal().strength() * 100) + "%");
-        impactTitle.getStyleClass().add("scandal-impact-text");
-        if (isCritical) impactTitle.getStyleClass().add("critical");
-
-        ProgressBar impactBar = new ProgressBar(scandal.scandal().strength());
-        impactBar.setPrefWidth(60);
-        impactBar.getStyleClass().add("scandal-impact-bar");
-        if (isCritical) impactBar.getStyleClass().add("critical");
-
-        impactBox.getChildren().addAll(impactTitle, impactBar);
-        alertPanel.getChildren().addAll(warningBadge, textBox, impactBox);
-        return alertPanel;
+    private void recycle(TickerCard card) {
+        card.slideIn.stop();
+        tickerPool.push(card);
     }
 
     private void addToVerticalFeed(ScandalEvent event, int step) {
-        VBox contentBox;
-        if (eventFeedPane.getChildren().isEmpty()) {
-            contentBox = initializeVerticalFeedStructure();
-        } else {
-            contentBox = (VBox) ((ScrollPane) eventFeedPane.getChildren().getFirst()).getContent();
-        }
+        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+        double strength = event.scandal().strength();
+        pushFeedEntry(new FeedEntry(nextLogId(), step, event.scandal().title(),
+                ">>> " + bundle.getString("feed.target") + " " + event.affectedParty().getName(),
+                bundle.getString("feed.impact") + " -" + (int) (strength * 100) + "% " + bundle.getString("feed.stability"),
+                strength > CRITICAL_THRESHOLD));
+    }
 
-        VBox newEntry = createLogEntry(event, step);
-        contentBox.getChildren().addFirst(newEntry);
-        newEntry.setOpacity(0);
-        newEntry.setTranslateY(-20);
-
-        ParallelTransition anim = new ParallelTransition(
-                new FadeTransition(Duration.millis(400), newEntry),
-                new TranslateTransition(Duration.millis(400), newEntry)
-        );
-        ((FadeTransition)anim.getChildren().get(0)).setToValue(1);
-        ((TranslateTransition)anim.getChildren().get(1)).setToY(0);
-        anim.play();
+    private void pushFeedEntry(FeedEntry entry) {
+        if (feedView == null) feedView = initializeVerticalFeedStructure();
+        pendingAnimation = entry;
+        feedEntries.push(entry);
+        feedView.scrollTo(0);
     }
 
-    private VBox initializeVerticalFeedStructure() {
-        ScrollPane scrollWrapper = new ScrollPane();
-        scrollWrapper.setFitToWidth(true);
-        scrollWrapper.getStyleClass().add("ticker-scroll");
-        scrollWrapper.prefWidthProperty().bind(eventFeedPane.widthProperty());
-        scrollWrapper.prefHeightProperty().bind(eventFeedPane.heightProperty());
-
-        VBox contentBox = new VBox();
-        contentBox.setPadding(new Insets(0, 10, 0, 0));
-        scrollWrapper.setContent(contentBox);
-        eventFeedPane.getChildren().add(scrollWrapper);
-        return contentBox;
+    private static String nextLogId() {
+        return String.format("%04d", ThreadLocalRandom.current().nextInt(9999));
     }
 
-    private VBox createLogEntry(ScandalEvent event, int step) {
-        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
-        VBox entry = new VBox(2);
-        entry.getStyleClass().add("log-entry");
+    private ListView<FeedEntry> initializeVerticalFeedStructure() {
+        ListView<FeedEntry> view = new ListView<>(feedEntries);
+        view.getStyleClass().add("event-feed-list");
+        view.setFocusTraversable(false);
+        view.setCellFactory(ignored -> new LogEntryCell());
+        view.prefWidthProperty().bind(eventFeedPane.widthProperty());
+        view.prefHeightProperty().bind(eventFeedPane.heightProperty());
+        eventFeedPane.getChildren().add(view);
+        return view;
+    }
 
-        HBox header = new HBox(10);
-        Label idLbl = new Label(String.format(bundle.getString("feed.log_prefix"), String.format("%04d", ThreadLocalRandom.current().nextInt(9999))));
-        idLbl.getStyleClass().add("log-id");
+    private static void setCritical(Node node, boolean critical) {
+        if (critical) {
+            if (!node.getStyleClass().contains(CRITICAL_CLASS)) node.getStyleClass().add(CRITICAL_CLASS);
+        } else {
+            node.getStyleClass().remove(CRITICAL_CLASS);
+        }
+    }
+
+    // ========================================
+    // Innere Klassen / Records
+    // ========================================
+
+    /**
+     * Unveränderliche, bereits formatierte Daten eines Log-Eintrags. Knoten werden erst von der sichtbaren Zelle erzeugt.
+     */
+    private record FeedEntry(String logId, int step, String title, String target, String impact, boolean critical) {}
+
+    /**
+     * Wiederverwendbare Zelle für das Ereignis-Log. Die Knotenstruktur wird einmal pro Zelle aufgebaut;
+     * beim Scrollen werden nur Texte und Stilklassen ausgetauscht.
+     */
+    private final class LogEntryCell extends ListCell<FeedEntry> {
+
+        private final VBox entry = new VBox(2);
+        private final Label idLbl = new Label();
+        private final Label timeLbl = new Label();
+        private final Label msg = new Label();
+        private final Label target = new Label();
+        private final Label impact = new Label();
+        private final ParallelTransition appear;
+        private Timeline typewriter;
+
+        LogEntryCell() {
+            entry.getStyleClass().add("log-entry");
+            HBox header = new HBox(10);
+            idLbl.getStyleClass().add("log-id");
+            timeLbl.getStyleClass().add("log-time");
+            header.getChildren().addAll(idLbl, timeLbl);
+            msg.getStyleClass().add("log-message");
+            target.getStyleClass().add("log-target");
+            impact.getStyleClass().add("log-impact");
+            entry.getChildren().addAll(header, msg, target, impact);
+
+            FadeTransition fade = new FadeTransition(Duration.millis(400), entry);
+            fade.setFromValue(0);
+            fade.setToValue(1);
+            TranslateTransition slide = new TranslateTransition(Duration.millis(400), entry);
+            slide.setFromY(-20);
+            slide.setToY(0);
+            appear = new ParallelTransition(fade, slide);
+
+            setText(null);
+            getStyleClass().add("event-feed-cell");
+        }
+
+        @Override
+        protected void updateItem(FeedEntry item, boolean empty) {
+            super.updateItem(item, empty);
+            if (typewriter != null) typewriter.stop();
+            appear.stop();
+            entry.setOpacity(1);
+            entry.setTranslateY(0);
+
+            if (empty || item == null) {
+                setGraphic(null);
+                return;
+            }
+
+            ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+            idLbl.setText(String.format(bundle.getString("feed.log_prefix"), item.logId()));
+            timeLbl.setText(bundle.getString("feed.tick") + " " + item.step());
+            target.setText(item.target());
+            impact.setText(item.impact());
+            setCritical(impact, item.critical());
+
+            if (item == pendingAnimation) {
+                // Nur der neueste Eintrag wird einmalig animiert
+                pendingAnimation = null;
+                typewriter = VisualFX.playTypewriterAnimation(msg, item.title(), 15);
+                appear.playFromStart();
+            } else {
+                typewriter = null;
+                msg.setText(item.title());
+            }
+            setGraphic(entry);
+        }
+    }
 
-        Label timeLbl = new Label(bundle.getString("feed.tick") + " " + step);
-        timeLbl.getStyleClass().add("log-time");
-        header.getChildren().addAll(idLbl, timeLbl);
+    /**
+     * Wiederverwendbare Ticker-Karte samt Einblend-Animation.
+     */
+    private final class TickerCard {
+
+        private final StackPane wrapper;
+        private final HBox alertPanel = new HBox(15);
+        private final Label warningBadge = new Label();
+        private final Label titleLabel = new Label();
+        private final Label descLabel = new Label();
+        private final Label impactTitle = new Label();
+        private final ProgressBar impactBar = new ProgressBar();
+        private final Timeline slideIn = new Timeline();
+
+        TickerCard() {
+            alertPanel.setAlignment(Pos.CENTER_LEFT);
+            alertPanel.setPrefWidth(TICKER_CARD_WIDTH - 10);
+            alertPanel.getStyleClass().add("scandal-card");
+
+            warningBadge.getStyleClass().add("scandal-badge");
+
+            VBox textBox = new VBox(2);
+            textBox.setAlignment(Pos.CENTER_LEFT);
+            HBox.setHgrow(textBox, Priority.ALWAYS);
+            titleLabel.getStyleClass().add("scandal-title");
+            descLabel.getStyleClass().add("scandal-desc");
+            textBox.getChildren().addAll(titleLabel, descLabel);
+
+            VBox impactBox = new VBox(2);
+            impactBox.setAlignment(Pos.CENTER_RIGHT);
+            impactTitle.getStyleClass().add("scandal-impact-text");
+            impactBar.setPrefWidth(60);
+            impactBar.getStyleClass().add("scandal-impact-bar");
+            impactBox.getChildren().addAll(impactTitle, impactBar);
+
+            alertPanel.getChildren().addAll(warningBadge, textBox, impactBox);
+
+            wrapper = new StackPane(alertPanel);
+            wrapper.setAlignment(Pos.CENTER_LEFT);
+            wrapper.setUserData(this);
+            Rectangle clip = new Rectangle(0, 1000);
+            clip.widthProperty().bind(wrapper.widthProperty());
+            wrapper.setClip(clip);
+
+            slideIn.getKeyFrames().addAll(
+                    new KeyFrame(Duration.ZERO,
+                            new KeyValue(wrapper.prefWidthProperty(), 0),
+                            new KeyValue(wrapper.minWidthProperty(), 0)),
+                    new KeyFrame(Duration.millis(ANIMATION_DURATION_MS),
+                            new KeyValue(wrapper.prefWidthProperty(), TICKER_CARD_WIDTH, Interpolator.EASE_OUT),
+                            new KeyValue(wrapper.minWidthProperty(), TICKER_CARD_WIDTH, Interpolator.EASE_OUT)));
+        }
 
-        Label msg = new Label();
-        msg.getStyleClass().add("log-message");
-        VisualFX.playTypewriterAnimation(msg, event.scandal().title(), 15);
+        void bind(ScandalEvent scandal) {
+            ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+            boolean isCritical = scandal.scandal().strength() > CRITICAL_THRESHOLD;
 
-        Label target = new Label(">>> " + bundle.getString("feed.target") + " " + event.affectedParty().getName());
-        target.getStyleClass().add("log-target");
+            warningBadge.setText(isCritical ? bundle.getString("feed.alert") : bundle.getString("feed.warning"));
+            titleLabel.setText(scandal.scandal().title());
+            descLabel.setText(bundle.getString("feed.target") + " " + scandal.affectedParty().getAbbreviation());
+            impactTitle.setText("-" + (int) (scandal.scandal().strength() * 100) + "%");
+            impactBar.setProgress(scandal.scandal().strength());
 
-        Label impact = new Label(bundle.getString("feed.impact") + " -" + (int)(event.scandal().strength() * 100) + "% " + bundle.getString("feed.stability"));
-        impact.getStyleClass().add("log-impact");
-        if (event.scandal().strength() > CRITICAL_THRESHOLD) impact.getStyleClass().add("critical");
+            setCritical(alertPanel, isCritical);
+            setCritical(warningBadge, isCritical);
+            setCritical(titleLabel, isCritical);
+            setCritical(impactTitle, isCritical);
+            setCritical(impactBar, isCritical);
 
-        entry.getChildren().addAll(header, msg, target, impact);
-        return entry;
+            wrapper.setPrefWidth(0);
+            wrapper.setMinWidth(0);
+        }
     }
-}
\ No newline at end of file
+}
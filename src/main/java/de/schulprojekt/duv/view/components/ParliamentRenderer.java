@@ -1,12 +1,16 @@
 package de.schulprojekt.duv.view.components;
 
 import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.util.config.ElectionConfig;
 import de.schulprojekt.duv.util.config.SimulationConfig;
+import de.schulprojekt.duv.view.util.SpatialGridIndex;
 import javafx.animation.AnimationTimer;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.Bloom;
 import javafx.scene.effect.Glow;
+import javafx.scene.image.Image;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
@@ -18,10 +22,20 @@ import javafx.scene.text.TextAlignment;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * Rendert die Sitzplatzverteilung im Parlament in einem Halbkreis.
+ * <p>
+ * Die Darstellung ist auf drei übereinanderliegende Canvas-Ebenen verteilt: statischer Hintergrund,
+ * animierter Scan-Ring und Sitze. Nur der Scan-Ring wird in jedem Frame neu gezeichnet, die übrigen
+ * Ebenen nur, wenn sich Geometrie, Auswahl oder Hover-Zustand geändert haben. Die Sitze selbst werden
+ * als vorgerenderte Sprites pro Parteifarbe und Zustand per {@code drawImage} gezeichnet. Der Bloom-Effekt
+ * liegt allein auf der Sitzebene.
+ * </p>
  *
  * @author Nico Hoffmann
  * @version 1.2
@@ -32,7 +46,7 @@ public class ParliamentRenderer {
     // Statische Variablen (Konstanten)
     // ========================================
 
-    private static final int TOTAL_SEATS = 400;
+    private static final int TOTAL_SEATS = ElectionConfig.PARLIAMENT_SEATS;
     private static final int ROWS = 14;
     private static final double START_RADIUS = 80.0;
     private static final double ROW_STEP = 18.0;
@@ -41,6 +55,10 @@ public class ParliamentRenderer {
     private static final double SEAT_SIZE_OUTER = 8.5;
     private static final double SEAT_SIZE_INNER = 3.5;
     private static final double SEAT_HIT_RADIUS_BASE = 12.0;
+    private static final double SPRITE_PADDING = 1.0;
+
+    /** Dauer der Einblend-Welle, bis auch die äußerste Reihe vollständig sichtbar ist (Sekunden). */
+    private static final double INTRO_DURATION = (1.0 + ROWS * 0.1) / 2.0;
 
     private static final Color COL_GOLD = Color.web("#D4AF37");
     private static final Color COL_GOLD_DIM = Color.web("#D4AF37", 0.3);
@@ -52,10 +70,20 @@ public class ParliamentRenderer {
     // Instanzvariablen
     // ========================================
 
+    private final Canvas backgroundCanvas;
+    private final Canvas scanCanvas;
     private final Canvas canvas;
     private final List<Seat> seats = new ArrayList<>();
+    private final SpatialGridIndex<Seat> seatIndex = new SpatialGridIndex<>(SEAT_HIT_RADIUS_BASE * 2);
     private AnimationTimer animationLoop;
 
+    private final Map<String, Image[]> seatSprites = new HashMap<>();
+    private Image emptySeatSprite;
+    private double spriteScale = -1.0;
+
+    private boolean backgroundDirty = true;
+    private boolean seatsDirty = true;
+
     private double time = 0.0;
     private double lastCx, lastCy, lastScale;
     private Party selectedParty = null;
@@ -68,18 +96,21 @@ public class ParliamentRenderer {
     /**
      * Initialisiert den Renderer und bindet ihn an das übergeordnete Pane.
      *
-     * @param parentPane Das Pane, in welches das Canvas eingefügt wird.
+     * @param parentPane Das Pane, in welches die Canvas-Ebenen eingefügt werden.
      */
     public ParliamentRenderer(Pane parentPane) {
-        this.canvas = new Canvas(0, 0);
-        canvas.widthProperty().bind(parentPane.widthProperty());
-        canvas.heightProperty().bind(parentPane.heightProperty());
+        this.backgroundCanvas = createLayer(parentPane);
+        this.scanCanvas = createLayer(parentPane);
+        this.canvas = createLayer(parentPane);
 
+        // Bloom nur auf der Sitzebene: Mit Cache wird der Effekt lediglich bei Neuzeichnen der Sitze
+        // berechnet und nicht in jedem Frame, in dem sich der Scan-Ring darunter bewegt.
         Bloom bloom = new Bloom();
         bloom.setThreshold(0.6);
         canvas.setEffect(bloom);
+        canvas.setCache(true);
 
-        parentPane.getChildren().add(canvas);
+        parentPane.getChildren().addAll(backgroundCanvas, scanCanvas, canvas);
         canvas.widthProperty().addListener(ignored -> requestDraw());
         canvas.heightProperty().addListener(ignored -> requestDraw());
     }
@@ -97,11 +128,12 @@ public class ParliamentRenderer {
      */
     public Party getPartyAt(double screenX, double screenY) {
         if (lastScale <= 0) return null;
-        double hitRadius = SEAT_HIT_RADIUS_BASE * lastScale;
-        for (Seat seat : seats) {
-            if (seat.party() == null) continue;
-            double dist = Math.sqrt(Math.pow(screenX - (lastCx + seat.x() * lastScale), 2) + Math.pow(screenY - (lastCy + seat.y() * lastScale), 2));
-            if (dist < hitRadius) return seat.party();
+        // Index liegt in unskalierten Sitzkoordinaten und bleibt daher bei Größenänderungen gültig
+        double localX = (screenX - lastCx) / lastScale;
+        double localY = (screenY - lastCy) / lastScale;
+        for (Seat seat : seatIndex.query(localX, localY)) {
+            double dist = Math.sqrt(Math.pow(localX - seat.x(), 2) + Math.pow(localY - seat.y(), 2));
+            if (dist < SEAT_HIT_RADIUS_BASE) return seat.party();
         }
         return null;
     }
@@ -142,14 +174,16 @@ public class ParliamentRenderer {
     // ========================================
 
     public void setSelectedParty(Party p) {
-        this.selectedParty = p;
-        requestDraw();
+        if (this.selectedParty != p) {
+            this.selectedParty = p;
+            markSeatsDirty();
+        }
     }
 
     public void setHoveredParty(Party p) {
         if (this.hoveredParty != p) {
             this.hoveredParty = p;
-            requestDraw();
+            markSeatsDirty();
         }
     }
 
@@ -158,11 +192,13 @@ public class ParliamentRenderer {
     // ========================================
 
     /**
-     * Berechnet die Sitzverteilung basierend auf den aktuellen Wählerstimmen und startet die Animation.
+     * Ordnet die zugeteilten Sitze im Halbkreis an und startet die Animation.
      * @param parties Liste der Parteien mit ihren aktuellen Werten.
+     * @param seatCounts Sitze je Partei in der Reihenfolge von {@code parties}, etwa aus der Wahlauswertung.
      */
-    public void renderDistribution(List<Party> parties) {
-        calculateSeatPositions(parties);
+    public void renderDistribution(List<Party> parties, int[] seatCounts) {
+        calculateSeatPositions(parties, seatCounts);
+        seatsDirty = true;
         startAnimation();
     }
 
@@ -174,21 +210,24 @@ public class ParliamentRenderer {
     // Hilfsmethoden (Utility)
     // ========================================
 
-    private void calculateSeatPositions(List<Party> parties) {
+    private Canvas createLayer(Pane parentPane) {
+        Canvas layer = new Canvas(0, 0);
+        layer.widthProperty().bind(parentPane.widthProperty());
+        layer.heightProperty().bind(parentPane.heightProperty());
+        return layer;
+    }
+
+    private void calculateSeatPositions(List<Party> parties, int[] seatCounts) {
         seats.clear();
-        List<Party> sorted = parties.stream()
-                .filter(p -> !p.getName().equals(SimulationConfig.UNDECIDED_NAME))
-                .sorted(Comparator.comparingDouble(Party::getPoliticalPosition))
+        seatIndex.clear();
+        List<Integer> order = IntStream.range(0, Math.min(parties.size(), seatCounts.length)).boxed()
+                .filter(i -> !parties.get(i).getName().equals(SimulationConfig.UNDECIDED_NAME))
+                .sorted(Comparator.comparingDouble(i -> parties.get(i).getPoliticalPosition()))
                 .toList();
 
-        double total = sorted.stream().mapToDouble(Party::getCurrentSupporterCount).sum();
-        List<Party> seatMap = new ArrayList<>();
-
-        if (total > 0) {
-            for (Party p : sorted) {
-                int count = (int) Math.round((p.getCurrentSupporterCount() / total) * TOTAL_SEATS);
-                for (int i = 0; i < count; i++) seatMap.add(p);
-            }
+        List<Party> seatMap = new ArrayList<>(TOTAL_SEATS);
+        for (int index : order) {
+            for (int i = 0; i < seatCounts[index]; i++) seatMap.add(parties.get(index));
         }
 
         while (seatMap.size() > TOTAL_SEATS) seatMap.removeLast();
@@ -198,7 +237,9 @@ public class ParliamentRenderer {
         for (int i = 0; i < Math.min(layout.size(), seatMap.size()); i++) {
             Point pt = layout.get(i);
             int row = (int) Math.round((Math.sqrt(pt.x() * pt.x() + pt.y() * pt.y()) - START_RADIUS) / ROW_STEP);
-            seats.add(new Seat(pt.x(), pt.y(), pt.angle(), row, seatMap.get(i)));
+            Seat seat = new Seat(pt.x(), pt.y(), pt.angle(), row, seatMap.get(i));
+            seats.add(seat);
+            if (seat.party() != null) seatIndex.insert(seat, seat.x(), seat.y(), SEAT_HIT_RADIUS_BASE);
         }
     }
 
@@ -239,35 +280,77 @@ public class ParliamentRenderer {
     }
 
     /**
-     * Löst einen Zeichenvorgang aus, sofern Daten vorhanden sind.
+     * Markiert alle Ebenen als veraltet. Läuft die Animation noch nicht, wird sofort gezeichnet,
+     * ansonsten übernimmt der nächste Frame.
      */
     private void requestDraw() {
-        if (!seats.isEmpty()) draw(time > 0 ? time : 10.0);
+        backgroundDirty = true;
+        seatsDirty = true;
+        if (animationLoop == null && !seats.isEmpty()) draw(time > 0 ? time : 10.0);
+    }
+
+    private void markSeatsDirty() {
+        seatsDirty = true;
+        if (animationLoop == null && !seats.isEmpty()) draw(time > 0 ? time : 10.0);
     }
 
     /**
-     * Haupt-Zeichenmethode. Berechnet Skalierung und koordiniert die Sub-Zeichenschritte.
+     * Haupt-Zeichenmethode. Aktualisiert die Geometrie und zeichnet nur die Ebenen neu,
+     * deren Inhalt sich seit dem letzten Frame geändert hat.
      * @param t Die aktuelle Zeit für Animationseffekte.
      */
     private void draw(double t) {
         if (canvas.getWidth() < 1 || canvas.getHeight() < 1) return;
-        GraphicsContext gc = canvas.getGraphicsContext2D();
-        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-
-        lastCx = canvas.getWidth() / 2;
-        lastCy = canvas.getHeight() * 0.9;
-        lastScale = Math.min(canvas.getWidth() / (MAX_RADIUS * 2 + 80), canvas.getHeight() / (MAX_RADIUS + 80));
 
+        updateGeometry();
         if (lastScale < 0.1) return;
 
-        drawBackground(gc, lastCx, lastCy, lastScale, t);
-        drawNetwork(gc, lastCx, lastCy, lastScale, t);
-        drawSeats(gc, t);
-        drawMarkers(gc, lastCx, lastCy, lastScale);
-        drawHUD(gc, canvas.getWidth(), canvas.getHeight());
+        if (backgroundDirty) {
+            GraphicsContext bg = backgroundCanvas.getGraphicsContext2D();
+            bg.clearRect(0, 0, backgroundCanvas.getWidth(), backgroundCanvas.getHeight());
+            drawBackground(bg, lastCx, lastCy, lastScale);
+            backgroundDirty = false;
+        }
+
+        drawScanRing(scanCanvas.getGraphicsContext2D(), lastCx, lastCy, lastScale, t);
+
+        boolean introRunning = t < INTRO_DURATION;
+        if (seatsDirty || introRunning) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            drawNetwork(gc, lastCx, lastCy, lastScale, t);
+            drawSeats(gc, t);
+            drawMarkers(gc, lastCx, lastCy, lastScale);
+            drawHUD(gc, canvas.getWidth(), canvas.getHeight());
+            // Nach dem letzten Intro-Frame einmal im Endzustand zeichnen
+            seatsDirty = introRunning;
+        }
     }
 
-    private void drawBackground(GraphicsContext gc, double cx, double cy, double scale, double t) {
+    /**
+     * Berechnet Mittelpunkt und Skalierung aus der Canvas-Größe und invalidiert bei Änderungen
+     * die statischen Ebenen sowie den Sprite-Cache.
+     */
+    private void updateGeometry() {
+        double cx = canvas.getWidth() / 2;
+        double cy = canvas.getHeight() * 0.9;
+        double scale = Math.min(canvas.getWidth() / (MAX_RADIUS * 2 + 80), canvas.getHeight() / (MAX_RADIUS + 80));
+
+        if (cx != lastCx || cy != lastCy || scale != lastScale) {
+            lastCx = cx;
+            lastCy = cy;
+            lastScale = scale;
+            backgroundDirty = true;
+            seatsDirty = true;
+        }
+        if (scale != spriteScale) {
+            seatSprites.clear();
+            emptySeatSprite = null;
+            spriteScale = scale;
+        }
+    }
+
+    private void drawBackground(GraphicsContext gc, double cx, double cy, double scale) {
         double outerR = (MAX_RADIUS + 20) * scale;
         gc.setStroke(Color.web("#222222")); gc.setLineDashes(5, 5);
         gc.strokeOval(cx - outerR, cy - outerR, outerR * 2, outerR * 2);
@@ -276,6 +359,10 @@ public class ParliamentRenderer {
             double r = Math.toRadians(ang);
             gc.strokeLine(cx, cy, cx + Math.cos(r) * (MAX_RADIUS + 40) * scale, cy - Math.sin(r) * (MAX_RADIUS + 40) * scale);
         }
+    }
+
+    private void drawScanRing(GraphicsContext gc, double cx, double cy, double scale, double t) {
+        gc.clearRect(0, 0, scanCanvas.getWidth(), scanCanvas.getHeight());
         double rSc = ((t * 250) % (MAX_RADIUS * 1.5)) * scale;
         gc.setStroke(new LinearGradient(0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
                 new Stop(0, Color.TRANSPARENT),
@@ -293,41 +380,96 @@ public class ParliamentRenderer {
     }
 
     private void drawSeats(GraphicsContext gc, double t) {
-        final double outerHalf = (SEAT_SIZE_OUTER * lastScale) / 2.0;
-        final double innerHalf = (SEAT_SIZE_INNER * lastScale) / 2.0;
+        boolean anySelected = selectedParty != null;
 
         for (Seat seat : seats) {
             double wave = t * 2.0 - (seat.row() * 0.1);
             if (wave <= 0) continue;
 
-            boolean empty = seat.party() == null;
-            boolean selected = !empty && selectedParty != null && selectedParty.equals(seat.party());
-            boolean hovered = !empty && hoveredParty != null && hoveredParty.equals(seat.party());
-            boolean anySelected = selectedParty != null;
-
-            if (selected) { gc.setGlobalAlpha(1.0); gc.setEffect(new Glow(0.8)); }
-            else if (hovered && !anySelected) { gc.setGlobalAlpha(1.0); gc.setEffect(new Glow(0.5)); }
-            else if (anySelected) { gc.setGlobalAlpha(0.2); gc.setEffect(null); }
-            else { gc.setGlobalAlpha(empty ? 0.3 : Math.min(1.0, wave)); gc.setEffect(null); }
-
-            double sc = lastScale * (1.0 + Math.max(0, 1.0 - wave) * 0.5);
-            Color c = empty ? COL_EMPTY_SEAT : Color.GRAY;
-            if (!empty) {
-                try { c = Color.web(seat.party().getColorCode()); } catch (Exception ignored) {}
+            Party party = seat.party();
+            Image sprite;
+            double alpha;
+
+            if (party == null) {
+                sprite = getEmptySeatSprite();
+                alpha = anySelected ? 0.2 : 0.3;
+            } else {
+                Image[] sprites = getSeatSprites(party.getColorCode());
+                if (anySelected && selectedParty.equals(party)) {
+                    sprite = sprites[SeatState.SELECTED.ordinal()];
+                    alpha = 1.0;
+                } else if (anySelected) {
+                    sprite = sprites[SeatState.NORMAL.ordinal()];
+                    alpha = 0.2;
+                } else if (hoveredParty != null && hoveredParty.equals(party)) {
+                    sprite = sprites[SeatState.HOVERED.ordinal()];
+                    alpha = 1.0;
+                } else {
+                    sprite = sprites[SeatState.NORMAL.ordinal()];
+                    alpha = Math.min(1.0, wave);
+                }
             }
 
+            double sc = lastScale * (1.0 + Math.max(0, 1.0 - wave) * 0.5);
             double posX = lastCx + seat.x() * sc;
             double posY = lastCy + seat.y() * sc;
 
-            gc.setFill(c.deriveColor(0, 1, 1, 0.4));
-            gc.fillRect(posX - outerHalf, posY - outerHalf, SEAT_SIZE_OUTER * lastScale, SEAT_SIZE_OUTER * lastScale);
+            gc.setGlobalAlpha(alpha);
+            gc.drawImage(sprite, posX - sprite.getWidth() / 2.0, posY - sprite.getHeight() / 2.0);
+        }
+        gc.setGlobalAlpha(1.0);
+    }
 
-            if (!empty) {
-                gc.setFill(c);
-                gc.fillRect(posX - innerHalf, posY - innerHalf, SEAT_SIZE_INNER * lastScale, SEAT_SIZE_INNER * lastScale);
+    /**
+     * Liefert die Sprites aller Zustände für eine Parteifarbe und erzeugt sie bei Bedarf.
+     * @param colorCode Der Farbcode der Partei.
+     * @return Sprites, indiziert über {@link SeatState#ordinal()}.
+     */
+    private Image[] getSeatSprites(String colorCode) {
+        return seatSprites.computeIfAbsent(colorCode, code -> {
+            Color c;
+            try { c = Color.web(code); } catch (Exception e) { c = Color.GRAY; }
+            Image[] sprites = new Image[SeatState.values().length];
+            for (SeatState state : SeatState.values()) {
+                sprites[state.ordinal()] = renderSeatSprite(c, true, state.glowLevel);
             }
+            return sprites;
+        });
+    }
+
+    private Image getEmptySeatSprite() {
+        if (emptySeatSprite == null) {
+            emptySeatSprite = renderSeatSprite(COL_EMPTY_SEAT, false, 0.0);
         }
-        gc.setGlobalAlpha(1.0); gc.setEffect(null);
+        return emptySeatSprite;
+    }
+
+    /**
+     * Rendert einen einzelnen Sitz in ein transparentes Bild für die aktuelle Skalierung.
+     * @param c Die Sitzfarbe.
+     * @param filled Ob der innere Kern gezeichnet wird (nur bei besetzten Sitzen).
+     * @param glowLevel Stärke des Glow-Effekts, 0 für keinen Effekt.
+     * @return Das vorgerenderte Sprite.
+     */
+    private Image renderSeatSprite(Color c, boolean filled, double glowLevel) {
+        double outer = SEAT_SIZE_OUTER * lastScale;
+        double inner = SEAT_SIZE_INNER * lastScale;
+        double size = Math.ceil(outer + 2 * SPRITE_PADDING);
+        double mid = size / 2.0;
+
+        Canvas spriteCanvas = new Canvas(size, size);
+        GraphicsContext g = spriteCanvas.getGraphicsContext2D();
+        g.setFill(c.deriveColor(0, 1, 1, 0.4));
+        g.fillRect(mid - outer / 2.0, mid - outer / 2.0, outer, outer);
+        if (filled) {
+            g.setFill(c);
+            g.fillRect(mid - inner / 2.0, mid - inner / 2.0, inner, inner);
+        }
+        if (glowLevel > 0) spriteCanvas.setEffect(new Glow(glowLevel));
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return spriteCanvas.snapshot(params, null);
     }
 
     /**
@@ -365,6 +507,21 @@ public class ParliamentRenderer {
     // Innere Klassen / Records
     // ========================================
 
+    /**
+     * Darstellungszustände eines besetzten Sitzes mit zugehöriger Glow-Stärke.
+     */
+    private enum SeatState {
+        NORMAL(0.0),
+        HOVERED(0.5),
+        SELECTED(0.8);
+
+        private final double glowLevel;
+
+        SeatState(double glowLevel) {
+            this.glowLevel = glowLevel;
+        }
+    }
+
     private record Point(double x, double y, double angle) {}
     private record Seat(double x, double y, double angle, int row, Party party) {}
-}
\ No newline at end of file
+}
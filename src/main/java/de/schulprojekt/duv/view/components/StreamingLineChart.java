@@ -0,0 +1,512 @@
+package de.schulprojekt.duv.view.components;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Canvas-basiertes Zeitreihen-Diagramm für Live-Daten.
+ * <p>
+ * Die Messwerte liegen in primitiven Ringpuffern (ein {@code float[]} pro Reihe, gemeinsamer Kopf).
+ * Jede Pixelspalte fasst mehrere Ticks zusammen und wird als Min/Max-Hülle gezeichnet. Beim Anhängen
+ * eines Wertes wird nur die jüngste Spalte neu berechnet; sobald eine neue Spalte beginnt, wird der
+ * Pixelpuffer per {@link System#arraycopy} um eine Spalte nach links verschoben. Ein vollständiges
+ * Neuzeichnen ist nur bei Größenänderung oder Änderung des Wertebereichs nötig. Das Hochladen in die
+ * Grafikkarte erfolgt höchstens einmal pro Frame.
+ * </p>
+ * <p>
+ * Der Wertebereich richtet sich nach dem Maximum des sichtbaren Fensters und schrumpft wieder, sobald
+ * hohe Werte herausgeschoben wurden. Das Maximum wird beim Anhängen mitgeführt; das Fenster wird nur
+ * dann erneut durchsucht, wenn der herausgeschobene Wert das bisherige Maximum war. Achsentitel und Skalenwerte werden als Vektorgrafik über das Bild gelegt.
+ * </p>
+ * <p>
+ * Optional wird rechts ein Prognosefächer eingeblendet ({@link #setForecast(int, float[][][])}). Der
+ * Verlauf rückt dafür nach links; Bänder und Median werden als Vektorgrafik über das Bild gelegt.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class StreamingLineChart {
+
+    // ========================================
+    // Statische Variablen
+    // ========================================
+
+    private static final int COLOR_BACKGROUND = 0x00000000;
+    private static final int COLOR_GRID = 0x26D4AF37;
+    private static final int GRID_LINES = 4;
+    private static final double HEADROOM = 1.1;
+    private static final double FORECAST_FRACTION = 0.25;
+    private static final double[] BAND_OPACITY = {0.12, 0.25};
+
+    private static final Color LABEL_COLOR = Color.web("#888888");
+    private static final Font LABEL_FONT = Font.font("Consolas", 9);
+
+    // ========================================
+    // Instanzvariablen
+    // ========================================
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final AnimationTimer flushTimer;
+    private final int capacity;
+
+    private final List<Series> series = new ArrayList<>();
+    private int head = 0;
+    private int count = 0;
+    private long totalSamples = 0;
+    private int lastTick = 0;
+
+    private int width = 0;
+    private int height = 0;
+    private int[] pixels = new int[0];
+    private WritableImage image;
+    private int ticksPerColumn = 1;
+    private long newestColumn = -1;
+    private double yMax = 0;
+    private float windowMax = 0;
+    private boolean windowMaxStale = false;
+    private float forecastMax = 0;
+    private String xAxisLabel = "";
+    private String yAxisLabel = "";
+
+    private float[][][] forecast;
+    private int forecastHorizon = 0;
+
+    private boolean pixelsDirty = false;
+    private boolean fullRedraw = true;
+
+    // ========================================
+    // Konstruktoren
+    // ========================================
+
+    /**
+     * Erstellt das Diagramm und bindet das Canvas an die Größe des Containers.
+     *
+     * @param container Das Pane, in welches das Canvas eingefügt wird.
+     * @param capacity Anzahl der Ticks, die pro Reihe vorgehalten werden.
+     */
+    public StreamingLineChart(Pane container, int capacity) {
+        this.capacity = Math.max(2, capacity);
+        this.canvas = new Canvas(0, 0);
+        this.canvas.widthProperty().bind(container.widthProperty());
+        this.canvas.heightProperty().bind(container.heightProperty());
+        container.getChildren().add(canvas);
+        this.gc = canvas.getGraphicsContext2D();
+
+        InvalidationListener resizeListener = ignored -> {
+            fullRedraw = true;
+            pixelsDirty = true;
+        };
+        canvas.widthProperty().addListener(resizeListener);
+        canvas.heightProperty().addListener(resizeListener);
+
+        this.flushTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                flush();
+            }
+        };
+        this.flushTimer.start();
+    }
+
+    // ========================================
+    // Getter-Methoden
+    // ========================================
+
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    public String getSeriesName(int index) {
+        return series.get(index).name();
+    }
+
+    public Color getSeriesColor(int index) {
+        return series.get(index).color();
+    }
+
+    /**
+     * @return Anzahl der aktuell vorgehaltenen Ticks pro Reihe.
+     */
+    public int getSampleCount() {
+        return count;
+    }
+
+    /**
+     * @return Tick des jüngsten Messwertes.
+     */
+    public int getLastTick() {
+        return lastTick;
+    }
+
+    /**
+     * Liest einen Messwert aus dem Ringpuffer.
+     *
+     * @param seriesIndex Index der Reihe.
+     * @param age 0 für den ältesten vorgehaltenen Wert, {@code getSampleCount() - 1} für den jüngsten.
+     * @return Der Wert oder {@code NaN}, falls die Reihe zu diesem Zeitpunkt noch nicht existierte.
+     */
+    public float getValue(int seriesIndex, int age) {
+        return series.get(seriesIndex).values()[physicalIndex(age)];
+    }
+
+    /**
+     * @return Obergrenze der Werteachse.
+     */
+    public double getYMax() {
+        return yMax;
+    }
+
+    // ========================================
+    // Business-Logik-Methoden
+    // ========================================
+
+    /**
+     * Registriert eine neue Reihe. Bereits vorhandene Zeitpunkte werden als fehlend markiert.
+     *
+     * @param name Anzeigename der Reihe.
+     * @param color Linienfarbe.
+     * @return Index der Reihe für {@link #append(int, float[])}.
+     */
+    public int addSeries(String name, Color color) {
+        float[] values = new float[capacity];
+        Arrays.fill(values, Float.NaN);
+        series.add(new Series(name, color, toArgb(color), values));
+        return series.size() - 1;
+    }
+
+    /**
+     * Hängt einen Zeitpunkt an alle Reihen an. Muss auf dem FX-Thread aufgerufen werden.
+     *
+     * @param tick Aktueller Simulationstick.
+     * @param values Ein Wert pro Reihe, in der Reihenfolge der Registrierung.
+     */
+    public void append(int tick, float[] values) {
+        for (int i = 0; i < series.size(); i++) {
+            float v = i < values.length ? values[i] : Float.NaN;
+            float[] ring = series.get(i).values();
+            if (count == capacity && ring[head] >= windowMax) windowMaxStale = true;
+            ring[head] = v;
+            if (v > windowMax) windowMax = v;
+            if (v > yMax) {
+                yMax = niceCeiling(v * HEADROOM);
+                fullRedraw = true;
+            }
+        }
+        head = (head + 1) % capacity;
+        if (count < capacity) count++;
+        totalSamples++;
+        lastTick = tick;
+
+        if (!fullRedraw && width > 0) {
+            long column = (totalSamples - 1) / ticksPerColumn;
+            if (column != newestColumn) {
+                scrollLeft((int) Math.min(width, column - newestColumn));
+                newestColumn = column;
+            }
+            drawColumn(width - 1, column);
+        }
+        pixelsDirty = true;
+    }
+
+    /**
+     * Blendet einen Prognosefächer rechts neben dem Verlauf ein.
+     *
+     * @param horizon Prognosezeitraum in Ticks, wird nur beschriftet.
+     * @param bands Je Reihe {@code [Perzentil][Stützpunkt]} aufsteigend und symmetrisch um den Median,
+     *              oder {@code null} für Reihen ohne Prognose. {@code null} insgesamt entfernt den Fächer.
+     */
+    public void setForecast(int horizon, float[][][] bands) {
+        this.forecast = bands;
+        this.forecastHorizon = horizon;
+        this.forecastMax = 0;
+        if (bands != null) {
+            for (float[][] band : bands) {
+                if (band == null) continue;
+                for (float v : band[band.length - 1]) forecastMax = Math.max(forecastMax, v);
+            }
+        }
+        rescale();
+        fullRedraw = true;
+        pixelsDirty = true;
+    }
+
+    /**
+     * Setzt die Achsentitel, etwa aus dem Sprachpaket.
+     *
+     * @param xAxisLabel Titel der Zeitachse.
+     * @param yAxisLabel Titel der Werteachse.
+     */
+    public void setAxisLabels(String xAxisLabel, String yAxisLabel) {
+        this.xAxisLabel = xAxisLabel;
+        this.yAxisLabel = yAxisLabel;
+        pixelsDirty = true;
+    }
+
+    /**
+     * Entfernt alle Reihen und Messwerte.
+     */
+    public void clear() {
+        series.clear();
+        forecast = null;
+        forecastMax = 0;
+        head = 0;
+        count = 0;
+        totalSamples = 0;
+        lastTick = 0;
+        yMax = 0;
+        windowMax = 0;
+        windowMaxStale = false;
+        fullRedraw = true;
+        pixelsDirty = true;
+    }
+
+    /**
+     * Beendet die Bildaktualisierung. Danach wird das Canvas nicht mehr neu gezeichnet.
+     */
+    public void stop() {
+        flushTimer.stop();
+    }
+
+    // ========================================
+    // Hilfsmethoden (Utility)
+    // ========================================
+
+    /**
+     * Berechnet die Obergrenze der Werteachse aus dem Maximum des sichtbaren Fensters und der Prognose neu.
+     * Das Fenster wird nur durchsucht, wenn sein Maximum herausgeschoben wurde.
+     * Setzt {@link #fullRedraw}, falls sich der Wertebereich geändert hat.
+     */
+    private void rescale() {
+        if (windowMaxStale) {
+            windowMax = 0;
+            for (Series s : series) {
+                float[] values = s.values();
+                for (int age = 0; age < count; age++) {
+                    float v = values[physicalIndex(age)];
+                    if (v > windowMax) windowMax = v;
+                }
+            }
+            windowMaxStale = false;
+        }
+        float max = forecast != null ? Math.max(windowMax, forecastMax) : windowMax;
+        double target = max > 0 ? niceCeiling(max * HEADROOM) : 0;
+        if (target != yMax) {
+            yMax = target;
+            fullRedraw = true;
+        }
+    }
+
+    /**
+     * Überträgt den Pixelpuffer auf das Canvas, sofern sich seit dem letzten Frame etwas geändert hat.
+     */
+    private void flush() {
+        if (!pixelsDirty) return;
+        int canvasWidth = canvas.widthProperty().intValue();
+        int h = canvas.heightProperty().intValue();
+        int w = forecast != null ? canvasWidth - (int) (canvasWidth * FORECAST_FRACTION) : canvasWidth;
+        if (w < 1 || h < 1) return;
+
+        if (w != width || h != height) resize(w, h);
+        rescale();
+        if (fullRedraw) redrawAll();
+
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        gc.clearRect(0, 0, canvasWidth, height);
+        gc.drawImage(image, 0, 0);
+        if (forecast != null) drawForecast(canvasWidth);
+        drawLabels();
+        pixelsDirty = false;
+    }
+
+    private void resize(int w, int h) {
+        width = w;
+        height = h;
+        pixels = new int[w * h];
+        image = new WritableImage(w, h);
+        fullRedraw = true;
+    }
+
+    private void redrawAll() {
+        ticksPerColumn = Math.max(1, (capacity + width - 1) / width);
+        newestColumn = totalSamples == 0 ? -1 : (totalSamples - 1) / ticksPerColumn;
+        for (int x = width - 1; x >= 0; x--) {
+            drawColumn(x, newestColumn - (width - 1 - x));
+        }
+        fullRedraw = false;
+    }
+
+    /**
+     * Verschiebt den Pixelpuffer zeilenweise nach links und leert die frei gewordenen Spalten.
+     */
+    private void scrollLeft(int columns) {
+        if (columns <= 0) return;
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            System.arraycopy(pixels, row + columns, pixels, row, width - columns);
+            Arrays.fill(pixels, row + width - columns, row + width, COLOR_BACKGROUND);
+        }
+    }
+
+    /**
+     * Zeichnet eine Pixelspalte aus den Ringpuffern. Jede Reihe wird als senkrechte Strecke zwischen
+     * Minimum und Maximum der Spalte gezeichnet, erweitert um den letzten Wert der Vorgängerspalte,
+     * damit die Linie zusammenhängend bleibt.
+     */
+    private void drawColumn(int x, long column) {
+        for (int y = 0; y < height; y++) {
+            pixels[y * width + x] = isGridRow(y) ? COLOR_GRID : COLOR_BACKGROUND;
+        }
+        if (column < 0 || yMax <= 0) return;
+
+        long oldest = totalSamples - count;
+        long from = Math.max(column * ticksPerColumn, oldest);
+        long to = Math.min((column + 1) * ticksPerColumn, totalSamples);
+        if (from >= to) return;
+
+        for (Series s : series) {
+            float min = Float.POSITIVE_INFINITY;
+            float max = Float.NEGATIVE_INFINITY;
+            long start = from > oldest ? from - 1 : from;
+            for (long i = start; i < to; i++) {
+                float v = s.values()[physicalIndex((int) (i - oldest))];
+                if (Float.isNaN(v)) continue;
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            if (min > max) continue;
+
+            int yTop = Math.max(0, toPixelY(max) - 1);
+            int yBottom = Math.min(height - 1, toPixelY(min));
+            for (int y = yTop; y <= yBottom; y++) {
+                pixels[y * width + x] = s.argb();
+            }
+        }
+    }
+
+    /**
+     * Beschriftet die Werteachse an jeder Gitterlinie und die Zeitachse mit ältestem und jüngstem Tick.
+     */
+    private void drawLabels() {
+        gc.setFont(LABEL_FONT);
+        gc.setFill(LABEL_COLOR);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.fillText(yMax > 0 ? String.format(Locale.ROOT, "%s %,d", yAxisLabel, (long) yMax) : yAxisLabel, 2, 10);
+        if (yMax > 0) {
+            for (int i = 1; i < GRID_LINES; i++) {
+                long value = Math.round(yMax * (GRID_LINES - i) / GRID_LINES);
+                gc.fillText(String.format(Locale.ROOT, "%,d", value), 2, (height * i) / GRID_LINES - 2);
+            }
+        }
+        if (count > 0) gc.fillText(String.valueOf(lastTick - count + 1), 2, height - 3);
+
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText(xAxisLabel, width / 2.0, height - 3);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.fillText(String.valueOf(lastTick), width - 2, height - 3);
+    }
+
+    /**
+     * Zeichnet je Reihe die Perzentilbänder als Flächen, von außen nach innen dunkler, und den Median als Linie.
+     */
+    private void drawForecast(int canvasWidth) {
+        int fanWidth = canvasWidth - width;
+        gc.setStroke(LABEL_COLOR);
+        gc.setLineDashes(2, 3);
+        gc.strokeLine(width + 0.5, 0, width + 0.5, height);
+        gc.setLineDashes();
+
+        for (int s = 0; s < forecast.length && s < series.size(); s++) {
+            float[][] band = forecast[s];
+            if (band == null || band[0].length < 2) continue;
+            Color color = series.get(s).color();
+            int points = band[0].length;
+            double[] xs = new double[2 * points];
+            double[] ys = new double[2 * points];
+
+            for (int outer = 0; outer < band.length / 2; outer++) {
+                float[] lower = band[outer];
+                float[] upper = band[band.length - 1 - outer];
+                for (int i = 0; i < points; i++) {
+                    xs[i] = forecastX(i, points, fanWidth);
+                    ys[i] = toPixelY(upper[i]);
+                    xs[2 * points - 1 - i] = xs[i];
+                    ys[2 * points - 1 - i] = toPixelY(lower[i]);
+                }
+                gc.setFill(color.deriveColor(0, 1, 1, BAND_OPACITY[Math.min(outer, BAND_OPACITY.length - 1)]));
+                gc.fillPolygon(xs, ys, 2 * points);
+            }
+
+            float[] median = band[band.length / 2];
+            gc.setStroke(color);
+            gc.beginPath();
+            for (int i = 0; i < points; i++) {
+                double x = forecastX(i, points, fanWidth);
+                if (i == 0) gc.moveTo(x, toPixelY(median[i]));
+                else gc.lineTo(x, toPixelY(median[i]));
+            }
+            gc.stroke();
+        }
+
+        gc.setFont(LABEL_FONT);
+        gc.setFill(LABEL_COLOR);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.fillText("+" + forecastHorizon, canvasWidth - 2, height - 3);
+    }
+
+    private double forecastX(int point, int points, int fanWidth) {
+        return width + (double) point / (points - 1) * (fanWidth - 1);
+    }
+
+    private boolean isGridRow(int y) {
+        for (int i = 1; i < GRID_LINES; i++) {
+            if (y == (height * i) / GRID_LINES) return true;
+        }
+        return false;
+    }
+
+    private int toPixelY(float value) {
+        return (int) Math.round((height - 1) * (1.0 - value / yMax));
+    }
+
+    private int physicalIndex(int age) {
+        return Math.floorMod(head - count + age, capacity);
+    }
+
+    private static double niceCeiling(double value) {
+        if (value <= 0) return 1;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(value)));
+        double[] steps = {1, 2, 2.5, 5, 10};
+        for (double step : steps) {
+            if (value <= step * magnitude) return step * magnitude;
+        }
+        return 10 * magnitude;
+    }
+
+    private static int toArgb(Color c) {
+        return (0xFF << 24)
+                | ((int) Math.round(c.getRed() * 255) << 16)
+                | ((int) Math.round(c.getGreen() * 255) << 8)
+                | (int) Math.round(c.getBlue() * 255);
+    }
+
+    // ========================================
+    // Innere Klassen / Records
+    // ========================================
+
+    private record Series(String name, Color color, int argb, float[] values) {}
+}
@@ -3,6 +3,7 @@ package de.schulprojekt.duv.view.components;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.util.config.SimulationConfig;
 import de.schulprojekt.duv.view.Main;
+import de.schulprojekt.duv.view.util.SpatialGridIndex;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.ScaleTransition;
@@ -127,18 +128,23 @@ public class TooltipManager {
 
     /**
      * Verarbeitet Mausbewegungen auf dem Dashboard, um Tooltips bei Annäherung an Parteiknoten anzuzeigen.
+     * Geprüft werden nur die Kandidaten aus der Rasterzelle unter dem Mauszeiger.
      *
      * @param mx Aktuelle X-Koordinate der Maus.
      * @param my Aktuelle Y-Koordinate der Maus.
      * @param parties Liste der zu prüfenden Parteien.
      * @param positions Map der aktuellen Knoten-Positionen auf dem Canvas.
+     * @param index Räumlicher Index mit Indizes in die Parteiliste.
      * @param total Gesamtanzahl der Wähler für die Prozentberechnung.
      */
-    public void handleMouseMove(double mx, double my, List<Party> parties, Map<String, CanvasRenderer.Point> positions, int total) {
-        if (parties == null || positions == null) return;
+    public void handleMouseMove(double mx, double my, List<Party> parties, Map<String, CanvasRenderer.Point> positions,
+                                SpatialGridIndex<Integer> index, int total) {
+        if (parties == null || positions == null || index == null) return;
 
         boolean foundAny = false;
-        for (Party p : parties) {
+        for (int i : index.query(mx, my)) {
+            if (i >= parties.size()) continue;
+            Party p = parties.get(i);
             CanvasRenderer.Point pt = positions.get(p.getName());
             if (pt != null) {
                 double share = (double) p.getCurrentSupporterCount() / Math.max(1, total);
@@ -2,9 +2,12 @@ package de.schulprojekt.duv.view.controllers;
 
 import de.schulprojekt.duv.controller.SimulationController;
 import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.forecast.ForecastResult;
 import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.polling.PollResult;
 import de.schulprojekt.duv.model.scandal.ScandalEvent;
 import de.schulprojekt.duv.model.dto.VoterTransition;
+import de.schulprojekt.duv.util.io.CheckpointStore;
 import de.schulprojekt.duv.util.validation.ParameterValidator;
 import de.schulprojekt.duv.view.Main;
 import de.schulprojekt.duv.view.components.CanvasRenderer;
@@ -13,18 +16,20 @@ import de.schulprojekt.duv.view.components.FeedManager;
 import de.schulprojekt.duv.view.components.TooltipManager;
 import de.schulprojekt.duv.view.managers.ParameterManager;
 import de.schulprojekt.duv.view.managers.SimulationStateManager;
+import de.schulprojekt.duv.view.managers.TickRateHud;
 import de.schulprojekt.duv.view.managers.UIControlManager;
 import de.schulprojekt.duv.view.util.VisualFX;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
-import javafx.scene.chart.LineChart;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.ResourceBundle;
@@ -69,8 +74,10 @@ public class DashboardController {
     @FXML private Label durationOverlay;
     @FXML private Label randomOverlay;
 
-    @FXML private LineChart<Number, Number> historyChart;
+    @FXML private Pane historyChartPane;
     @FXML private Label timeStepLabel;
+    @FXML private Label tickRateLabel;
+    @FXML private Slider rewindSlider;
 
     @FXML private TextField voterCountField;
     @FXML private TextField partyCountField;
@@ -87,6 +94,7 @@ public class DashboardController {
     @FXML private Button resetButton;
     @FXML private Button intelButton;
     @FXML private Button parliamentButton;
+    @FXML private Button saveCheckpointButton;
 
     @FXML private Button speed1xBtn;
     @FXML private Button speed2xBtn;
@@ -101,6 +109,7 @@ public class DashboardController {
     private ChartManager chartManager;
     private FeedManager feedManager;
     private TooltipManager tooltipManager;
+    private TickRateHud tickRateHud;
 
     private ResourceBundle bundle;
 
@@ -145,13 +154,43 @@ public class DashboardController {
 
         handleStepLogic(parties, step);
         updateControlElements();
+        updateRewindSlider(step);
         updateVisualizations(parties, transitions, scandal, step);
     }
 
+    /**
+     * Übernimmt einen geladenen Spielstand oder zurückgespulten Zustand in die Oberfläche.
+     * Diagramm, Feed und Partikel beginnen neu.
+     */
+    public void onStateRestored(List<Party> parties, SimulationParameters params, int step) {
+        parameterManager.synchronizeWithParameters(params);
+        chartManager.clear();
+        canvasRenderer.clear(parties);
+        feedManager.clear();
+        stateManager.pauseTimer();
+        updateDashboard(parties, List.of(), null, step);
+    }
+
+    /**
+     * Blendet eine abgeschlossene Hintergrundprognose im Trenddiagramm ein.
+     */
+    public void onForecast(ForecastResult forecast) {
+        chartManager.showForecast(forecast);
+    }
+
+    /**
+     * Zeigt eine abgeschlossene Meinungsumfrage im Ereignis-Log an.
+     */
+    public void onPoll(PollResult poll) {
+        feedManager.processPoll(poll);
+    }
+
     public void shutdown() {
         if (controller != null) controller.shutdown();
         if (canvasRenderer != null) canvasRenderer.stop();
+        if (chartManager != null) chartManager.stop();
         if (stateManager != null) stateManager.stopTimer();
+        if (tickRateHud != null) tickRateHud.stop();
     }
 
     // ========================================
@@ -248,15 +287,43 @@ public class DashboardController {
     public void handleShowStatistics() {
         navigate("/de/schulprojekt/duv/view/StatisticsView.fxml", (loader, ignoredRoot) -> {
             StatisticsController statsCtrl = loader.getController();
-            statsCtrl.initData(controller.getParties(), historyChart.getData(), stateManager.getCurrentTick(), executeToggleButton.getScene().getRoot());
+            statsCtrl.initData(controller.getParties(), controller.getHistory().snapshot(), controller.getIndicators(), controller.getProfiler(), stateManager.getCurrentTick(), executeToggleButton.getScene().getRoot());
         });
     }
 
     @FXML
     public void handleShowParliament() {
-        navigate("/de/schulprojekt/duv/view/ParliamentView.fxml", (loader, ignoredRoot) -> {
-            ParliamentController parliamentController = loader.getController();
-            parliamentController.initData(controller.getParties(), executeToggleButton.getScene().getRoot());
+        controller.evaluateElection((parties, result) ->
+                navigate("/de/schulprojekt/duv/view/ParliamentView.fxml", (loader, ignoredRoot) -> {
+                    ParliamentController parliamentController = loader.getController();
+                    parliamentController.initData(parties, result, executeToggleButton.getScene().getRoot());
+                }));
+    }
+
+    @FXML
+    public void handleSaveCheckpoint() {
+        if (controller == null) return;
+        FileChooser chooser = createCheckpointChooser("checkpoint.save_title");
+        chooser.setInitialFileName("simulation" + CheckpointStore.FILE_EXTENSION);
+        File file = chooser.showSaveDialog(executeToggleButton.getScene().getWindow());
+        if (file == null) return;
+
+        if (saveCheckpointButton != null) saveCheckpointButton.setDisable(true);
+        controller.saveCheckpoint(file.toPath(), error -> {
+            if (saveCheckpointButton != null) saveCheckpointButton.setDisable(false);
+            if (error != null) showCheckpointError(error);
+        });
+    }
+
+    @FXML
+    public void handleLoadCheckpoint() {
+        if (controller == null) return;
+        FileChooser chooser = createCheckpointChooser("checkpoint.load_title");
+        File file = chooser.showOpenDialog(executeToggleButton.getScene().getWindow());
+        if (file == null) return;
+
+        controller.loadCheckpoint(file.toPath(), error -> {
+            if (error != null) showCheckpointError(error);
         });
     }
 
@@ -264,6 +331,23 @@ public class DashboardController {
     // Utility Methods
     // ========================================
 
+    private FileChooser createCheckpointChooser(String titleKey) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(bundle.getString(titleKey));
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(
+                bundle.getString("checkpoint.file_type"), "*" + CheckpointStore.FILE_EXTENSION));
+        return chooser;
+    }
+
+    private void showCheckpointError(Throwable error) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle(bundle.getString("alert.abort"));
+        alert.setHeaderText(bundle.getString("checkpoint.failed"));
+        alert.setContentText(error.getMessage());
+        applyAlertStyling(alert);
+        alert.showAndWait();
+    }
+
     private void handleStepLogic(List<Party> parties, int step) {
         stateManager.setCurrentTick(step);
         if (step == 0) {
@@ -304,7 +388,7 @@ public class DashboardController {
 
     private void initializeComponents() {
         canvasRenderer = new CanvasRenderer(animationPane);
-        chartManager = new ChartManager(historyChart);
+        chartManager = new ChartManager(historyChartPane);
         feedManager = new FeedManager(scandalTickerBox, scandalTickerScroll, eventFeedPane);
         tooltipManager = new TooltipManager(animationPane);
         canvasRenderer.startVisualTimer();
@@ -314,16 +398,32 @@ public class DashboardController {
     private void setupEventHandlers() {
         if (canvasRenderer != null && tooltipManager != null) {
             canvasRenderer.getCanvas().setOnMouseMoved(e -> {
-                if (controller != null) tooltipManager.handleMouseMove(e.getX(), e.getY(), controller.getParties(), canvasRenderer.getPartyPositions(), controller.getCurrentParameters().populationSize());
+                if (controller != null) tooltipManager.handleMouseMove(e.getX(), e.getY(), controller.getParties(), canvasRenderer.getPartyPositions(), canvasRenderer.getPartyIndex(), controller.getCurrentParameters().populationSize());
             });
             canvasRenderer.getCanvas().setOnMouseExited(ignored -> tooltipManager.hideTooltip());
         }
         if (intelButton != null) intelButton.setOnMouseEntered(e -> VisualFX.stopPulse(intelButton));
         if (parliamentButton != null) parliamentButton.setOnMouseEntered(e -> VisualFX.stopPulse(parliamentButton));
+        if (rewindSlider != null) rewindSlider.setOnMouseReleased(ignored -> requestRewind());
+    }
+
+    private void updateRewindSlider(int step) {
+        if (rewindSlider == null || rewindSlider.isValueChanging() || rewindSlider.isPressed()) return;
+        rewindSlider.setMin(controller.getRewindOldestStep());
+        rewindSlider.setMax(Math.max(step, rewindSlider.getMin()));
+        rewindSlider.setValue(step);
+    }
+
+    private void requestRewind() {
+        int target = (int) Math.round(rewindSlider.getValue());
+        if (controller == null || target >= stateManager.getCurrentTick()) return;
+        controller.rewindTo(target);
     }
 
     private void initializeController() {
         controller = new SimulationController(this);
+        tickRateHud = new TickRateHud(controller.getProfiler(), tickRateLabel);
+        tickRateHud.start();
         parameterManager.synchronizeWithParameters(controller.getCurrentParameters());
         stateManager.updateStatusDisplay(false);
         handleSpeed1x();
@@ -1,5 +1,9 @@
 package de.schulprojekt.duv.view.controllers;
 
+import de.schulprojekt.duv.model.election.Coalition;
+import de.schulprojekt.duv.model.election.CoalitionAnalyzer;
+import de.schulprojekt.duv.model.election.CoalitionReport;
+import de.schulprojekt.duv.model.election.ElectionResult;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.view.Main;
 import de.schulprojekt.duv.view.components.ParliamentRenderer;
@@ -9,9 +13,12 @@ import javafx.fxml.FXML;
 import javafx.scene.Parent;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.stream.Collectors;
 
 /**
  * Controller für die Parlamentsansicht.
@@ -26,6 +33,8 @@ public class ParliamentController {
 
     @FXML private Pane canvasContainer;
     @FXML private Label totalSeatsLabel;
+    @FXML private Label coalitionSummaryLabel;
+    @FXML private VBox coalitionBox;
 
     private ParliamentRenderer renderer;
     private TooltipManager tooltipManager;
@@ -38,19 +47,22 @@ public class ParliamentController {
     /**
      * Initialisiert die Ansicht mit Parteidaten und einer Referenz auf die vorherige Ansicht.
      * @param parties Liste der zu rendernden Parteien
+     * @param election Wahlergebnis mit Sitzen je Partei in der Reihenfolge von {@code parties}
      * @param previousView die Dashboard-Wurzel für die Rücknavigation
      */
-    public void initData(List<Party> parties, Parent previousView) {
+    public void initData(List<Party> parties, ElectionResult election, Parent previousView) {
         this.previousView = previousView;
         this.renderer = new ParliamentRenderer(canvasContainer);
         this.tooltipManager = new TooltipManager(canvasContainer);
 
-        this.renderer.renderDistribution(parties);
+        this.renderer.renderDistribution(parties, election.seats());
 
+        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
         if (totalSeatsLabel != null) {
-            ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
-            totalSeatsLabel.setText(renderer.getTotalSeats() + bundle.getString("parl.seats_suffix"));
+            totalSeatsLabel.setText(renderer.getTotalSeats() + bundle.getString("parl.seats_suffix")
+                    + bundle.getString("parl.turnout") + String.format(Main.getLocale(), "%.1f%%", election.turnoutPercent()));
         }
+        showCoalitions(parties, new CoalitionAnalyzer().analyze(parties, election.seats()), bundle);
 
         setupInteractions();
     }
@@ -59,6 +71,28 @@ public class ParliamentController {
     // Utility Methods
     // ========================================
 
+    private void showCoalitions(List<Party> parties, CoalitionReport report, ResourceBundle bundle) {
+        if (coalitionSummaryLabel == null || coalitionBox == null) return;
+
+        coalitionBox.getChildren().clear();
+        if (report.ranked().isEmpty()) {
+            coalitionSummaryLabel.setText(bundle.getString("parl.coalitions_none"));
+            return;
+        }
+
+        coalitionSummaryLabel.setText(String.format(Main.getLocale(), bundle.getString("parl.coalitions_summary"),
+                report.majority(), report.minimalWinningCount()));
+        for (Coalition coalition : report.ranked()) {
+            String members = Arrays.stream(coalition.partyIndices())
+                    .mapToObj(i -> parties.get(i).getAbbreviation())
+                    .collect(Collectors.joining(" + "));
+            Label entry = new Label(String.format(Main.getLocale(), "%s | %d%s | \u0394 %.1f",
+                    members, coalition.seats(), bundle.getString("parl.seats_suffix"), coalition.spread()));
+            entry.getStyleClass().add("coalition-entry");
+            coalitionBox.getChildren().add(entry);
+        }
+    }
+
     private void setupInteractions() {
         canvasContainer.setOnMouseMoved(event -> {
             if (renderer != null) {
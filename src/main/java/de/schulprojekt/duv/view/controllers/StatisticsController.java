@@ -1,12 +1,15 @@
 package de.schulprojekt.duv.view.controllers;
 
+import de.schulprojekt.duv.model.history.SimulationHistory;
+import de.schulprojekt.duv.model.indicators.IndicatorSnapshot;
 import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.telemetry.TickProfiler;
 import de.schulprojekt.duv.view.Main;
+import de.schulprojekt.duv.view.managers.IndicatorChartManager;
 import de.schulprojekt.duv.view.managers.StatisticsChartManager;
 import de.schulprojekt.duv.view.managers.TelemetryManager;
 import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
-import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -14,8 +17,8 @@ import javafx.scene.Parent;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.PieChart;
-import javafx.scene.chart.XYChart;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 
 import java.util.List;
@@ -37,10 +40,18 @@ public class StatisticsController {
     @FXML private PieChart distributionChart;
     @FXML private BarChart<String, Number> scandalChart;
     @FXML private BarChart<String, Number> budgetChart;
+    @FXML private LineChart<Number, Number> indicatorChart;
+    @FXML private BarChart<String, Number> migrationChart;
+    @FXML private BarChart<String, Number> histogramChart;
+    @FXML private Label indicatorSummaryLabel;
+    @FXML private ImageView heatmapView;
+    @FXML private Label heatmapLabel;
     @FXML private Label totalTicksLabel;
+    @FXML private Label historyRangeLabel;
 
     @FXML private Label statusLabelArchived, statusLabelCalculated, statusLabelReview, statusLabelVerified;
     @FXML private Label cpuLabel, gpuLabel, serverLoadLabel, ramLabel, uptimeLabel;
+    @FXML private Label tickRateLabel, tickProfileLabel, allocationLabel;
 
     private Parent dashboardRoot;
     private TelemetryManager telemetryManager;
@@ -52,11 +63,13 @@ public class StatisticsController {
     /**
      * Initialisiert den Controller und startet die Manager-Dienste.
      * @param parties Liste der Parteien
-     * @param historyData Historische Daten
+     * @param history Vollständiger Verlauf der Anhängerzahlen
+     * @param indicators Politische Kennzahlen samt Verlauf
+     * @param profiler Phasenmessungen der Simulationsschleife
      * @param currentTick Letzter Tick der Simulation
      * @param dashboardRoot Rücksprungziel
      */
-    public void initData(List<Party> parties, ObservableList<XYChart.Series<Number, Number>> historyData, int currentTick, Parent dashboardRoot) {
+    public void initData(List<Party> parties, SimulationHistory.Snapshot history, IndicatorSnapshot indicators, TickProfiler profiler, int currentTick, Parent dashboardRoot) {
         this.dashboardRoot = dashboardRoot;
         ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
 
@@ -64,10 +77,14 @@ public class StatisticsController {
 
         // Initialize Managers
         StatisticsChartManager chartManager = new StatisticsChartManager(historyChart, distributionChart, scandalChart, budgetChart);
+        chartManager.setRangeLabel(historyRangeLabel);
         this.telemetryManager = new TelemetryManager(cpuLabel, gpuLabel, serverLoadLabel, ramLabel, uptimeLabel);
+        this.telemetryManager.attachProfiler(profiler, tickRateLabel, tickProfileLabel, allocationLabel);
 
         // Execute Logic
-        chartManager.setupCharts(parties, historyData);
+        chartManager.setupCharts(parties, history);
+        new IndicatorChartManager(indicatorChart, migrationChart, histogramChart, indicatorSummaryLabel, heatmapView, heatmapLabel)
+                .setupCharts(parties, indicators);
         this.telemetryManager.start();
 
         startStatusAnimations();
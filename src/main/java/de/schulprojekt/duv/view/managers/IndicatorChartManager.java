@@ -0,0 +1,194 @@
+package de.schulprojekt.duv.view.managers;
+
+import de.schulprojekt.duv.model.history.DensityHistory;
+import de.schulprojekt.duv.model.history.IndicatorHistory;
+import de.schulprojekt.duv.model.history.LttbDownsampler;
+import de.schulprojekt.duv.model.indicators.IndicatorSnapshot;
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.util.config.IndicatorConfig;
+import de.schulprojekt.duv.util.config.SimulationConfig;
+import de.schulprojekt.duv.view.Main;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+
+/**
+ * Manager für die Diagramme der politischen Kennzahlen in der Statistik-Ansicht:
+ * Verlauf von effektiver Parteienanzahl und Volatilität, Wanderungssaldo je Partei sowie
+ * Loyalitäts- und Positionshistogramm sowie die Heatmap der Positionsdichte über die Zeit.
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class IndicatorChartManager {
+
+    // ========================================
+    // Static Constants
+    // ========================================
+
+    private static final String STYLE_BAR_FILL = "-fx-bar-fill: %s;";
+    private static final int MAX_POINTS = 600;
+    private static final Color HEAT_COLD = Color.web("#0a0a0a");
+    private static final Color HEAT_HOT = Color.web("#D4AF37");
+    private static final int[] HEAT_PALETTE = buildPalette(256);
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final LineChart<Number, Number> indicatorChart;
+    private final BarChart<String, Number> migrationChart;
+    private final BarChart<String, Number> histogramChart;
+    private final Label summaryLabel;
+    private final ImageView heatmapView;
+    private final Label heatmapLabel;
+
+    // ========================================
+    // Constructor
+    // ========================================
+
+    public IndicatorChartManager(LineChart<Number, Number> indicatorChart, BarChart<String, Number> migrationChart,
+                                 BarChart<String, Number> histogramChart, Label summaryLabel,
+                                 ImageView heatmapView, Label heatmapLabel) {
+        this.indicatorChart = indicatorChart;
+        this.migrationChart = migrationChart;
+        this.histogramChart = histogramChart;
+        this.summaryLabel = summaryLabel;
+        this.heatmapView = heatmapView;
+        this.heatmapLabel = heatmapLabel;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Füllt alle Kennzahlendiagramme.
+     * @param parties Liste der Parteien in der Reihenfolge der Kennzahlen
+     * @param indicators Stand der Kennzahlen
+     */
+    public void setupCharts(List<Party> parties, IndicatorSnapshot indicators) {
+        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+        setupIndicatorChart(indicators.history(), bundle);
+        setupMigrationChart(parties, indicators);
+        setupHistogramChart(indicators, bundle);
+        setupHeatmap(indicators.density(), bundle);
+
+        if (summaryLabel != null) {
+            summaryLabel.setText(String.format(Main.getLocale(), bundle.getString("stats.indicator_summary"),
+                    indicators.effectiveParties(), indicators.runVolatility(), indicators.volatility()));
+        }
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private void setupIndicatorChart(IndicatorHistory.Snapshot history, ResourceBundle bundle) {
+        indicatorChart.getData().clear();
+        if (history.size() == 0) return;
+
+        indicatorChart.getData().add(series(history, IndicatorHistory.EFFECTIVE_PARTIES, bundle.getString("stats.series_enp")));
+        indicatorChart.getData().add(series(history, IndicatorHistory.VOLATILITY, bundle.getString("stats.series_volatility")));
+    }
+
+    private XYChart.Series<Number, Number> series(IndicatorHistory.Snapshot history, int column, String name) {
+        int[] selected = LttbDownsampler.downsample(i -> history.get(column, i), 0, history.size(), MAX_POINTS);
+        List<XYChart.Data<Number, Number>> points = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            points.add(new XYChart.Data<>(history.tickAt(index), history.get(column, index)));
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setName(name);
+        series.getData().setAll(points);
+        return series;
+    }
+
+    private void setupMigrationChart(List<Party> parties, IndicatorSnapshot indicators) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        int count = Math.min(parties.size(), indicators.currentCounts().length);
+        for (int p = 0; p < count; p++) {
+            Party party = parties.get(p);
+            XYChart.Data<String, Number> data = new XYChart.Data<>(party.getAbbreviation(), indicators.netMigration(p));
+            series.getData().add(data);
+            String color = party.getName().equals(SimulationConfig.UNDECIDED_NAME) ? "#666666"
+                    : (party.getColorCode().startsWith("#") ? party.getColorCode() : "#" + party.getColorCode());
+            data.nodeProperty().addListener((obs, old, node) -> {
+                if (node != null) node.setStyle(String.format(STYLE_BAR_FILL, color));
+            });
+        }
+        migrationChart.getData().add(series);
+    }
+
+    private void setupHistogramChart(IndicatorSnapshot indicators, ResourceBundle bundle) {
+        if (indicators.histogram() == null) return;
+
+        XYChart.Series<String, Number> loyalty = new XYChart.Series<>();
+        loyalty.setName(bundle.getString("stats.series_loyalty"));
+        XYChart.Series<String, Number> position = new XYChart.Series<>();
+        position.setName(bundle.getString("stats.series_position"));
+
+        float width = IndicatorConfig.VALUE_RANGE / IndicatorConfig.HISTOGRAM_BINS;
+        for (int b = 0; b < IndicatorConfig.HISTOGRAM_BINS; b++) {
+            String label = String.valueOf(Math.round(b * width));
+            loyalty.getData().add(new XYChart.Data<>(label, indicators.histogram().loyalty()[b]));
+            position.getData().add(new XYChart.Data<>(label, indicators.histogram().position()[b]));
+        }
+        histogramChart.getData().add(loyalty);
+        histogramChart.getData().add(position);
+    }
+
+    /**
+     * Zeichnet die Positionsdichte als Bild mit einem Pixel je Tick und Positionsklasse. Rechts liegt der
+     * jüngste Tick, oben die rechte Seite des Spektrums. Die Wurzelskala hebt dünn besetzte Ränder hervor.
+     */
+    private void setupHeatmap(DensityHistory.Snapshot density, ResourceBundle bundle) {
+        if (heatmapView == null || density.size() == 0) return;
+
+        int width = density.size();
+        int height = density.buckets();
+        int[] pixels = new int[width * height];
+        double scale = density.maxCount() > 0 ? (HEAT_PALETTE.length - 1) / Math.sqrt(density.maxCount()) : 0;
+        for (int x = 0; x < width; x++) {
+            for (int bucket = 0; bucket < height; bucket++) {
+                int level = (int) (Math.sqrt(density.get(x, bucket)) * scale);
+                pixels[(height - 1 - bucket) * width + x] = HEAT_PALETTE[level];
+            }
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        heatmapView.setImage(image);
+        if (heatmapView.getParent() instanceof Region container) {
+            heatmapView.fitWidthProperty().bind(container.widthProperty());
+            heatmapView.fitHeightProperty().bind(container.heightProperty());
+        }
+
+        if (heatmapLabel != null) {
+            heatmapLabel.setText(String.format(Main.getLocale(), bundle.getString("stats.heatmap_range"),
+                    density.tickAt(0), density.tickAt(width - 1)));
+        }
+    }
+
+    private static int[] buildPalette(int levels) {
+        int[] palette = new int[levels];
+        for (int i = 0; i < levels; i++) {
+            Color c = HEAT_COLD.interpolate(HEAT_HOT, i / (double) (levels - 1));
+            palette[i] = (0xFF << 24)
+                    | ((int) Math.round(c.getRed() * 255) << 16)
+                    | ((int) Math.round(c.getGreen() * 255) << 8)
+                    | (int) Math.round(c.getBlue() * 255);
+        }
+        return palette;
+    }
+}
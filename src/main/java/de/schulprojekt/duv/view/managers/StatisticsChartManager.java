@@ -1,19 +1,23 @@
 package de.schulprojekt.duv.view.managers;
 
+import de.schulprojekt.duv.model.history.LttbDownsampler;
+import de.schulprojekt.duv.model.history.SimulationHistory;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.util.config.SimulationConfig;
 import de.schulprojekt.duv.view.Main;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
-import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.chart.*;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.function.Consumer;
@@ -32,6 +36,14 @@ public class StatisticsChartManager {
     private static final String STYLE_PIE_COLOR = "-fx-pie-color: %s;";
     private static final String STYLE_BAR_FILL = "-fx-bar-fill: %s;";
     private static final String STYLE_LEGEND_SYMBOL = "-fx-background-color: %s;";
+    private static final String STYLE_LINE_STROKE = "-fx-stroke: %s; -fx-stroke-width: 2px;";
+
+    private static final int MIN_VISIBLE_TICKS = 20;
+    private static final int MIN_POINTS = 50;
+    private static final int FALLBACK_POINTS = 800;
+    private static final double ZOOM_IN_FACTOR = 0.8;
+    private static final int TRACE_BATCHES = 30;
+    private static final double TRACE_DURATION_MS = 1500;
 
     // ========================================
     // Instance Variables
@@ -42,6 +54,14 @@ public class StatisticsChartManager {
     private final BarChart<String, Number> scandalChart;
     private final BarChart<String, Number> budgetChart;
 
+    private final List<XYChart.Series<Number, Number>> historySeries = new ArrayList<>();
+    private final List<Integer> historySeriesIndices = new ArrayList<>();
+    private SimulationHistory.Snapshot history;
+    private Label rangeLabel;
+    private Timeline traceAnimation;
+    private int viewFrom;
+    private int viewTo;
+
     // ========================================
     // Constructor
     // ========================================
@@ -53,6 +73,17 @@ public class StatisticsChartManager {
         this.budgetChart = budget;
     }
 
+    // ========================================
+    // Setter Methods
+    // ========================================
+
+    /**
+     * @param rangeLabel Label, in dem der aktuell sichtbare Tick-Bereich angezeigt wird (optional).
+     */
+    public void setRangeLabel(Label rangeLabel) {
+        this.rangeLabel = rangeLabel;
+    }
+
     // ========================================
     // Business Logic Methods
     // ========================================
@@ -60,10 +91,10 @@ public class StatisticsChartManager {
     /**
      * Initialisiert alle Diagramme mit den Simulationsdaten.
      * @param parties Liste der Parteien
-     * @param historyData Historische Datenreihen
+     * @param history Vollständiger Verlauf der Anhängerzahlen
      */
-    public void setupCharts(List<Party> parties, ObservableList<XYChart.Series<Number, Number>> historyData) {
-        setupHistoryChartAnimated(historyData);
+    public void setupCharts(List<Party> parties, SimulationHistory.Snapshot history) {
+        setupHistoryChartAnimated(parties, history);
         setupDistributionChart(parties);
         setupScandalChart(parties);
         setupBudgetChart(parties);
@@ -73,32 +104,134 @@ public class StatisticsChartManager {
     // Utility Methods (Ausgelagert aus Controller)
     // ========================================
 
-    private void setupHistoryChartAnimated(ObservableList<XYChart.Series<Number, Number>> historyData) {
+    /**
+     * Legt eine Datenreihe pro Partei an, zeigt den gesamten Verlauf per LTTB reduziert an
+     * und aktiviert Zoom (Mausrad) sowie Zurücksetzen (Doppelklick).
+     */
+    private void setupHistoryChartAnimated(List<Party> parties, SimulationHistory.Snapshot snapshot) {
         historyChart.getData().clear();
+        historySeries.clear();
+        historySeriesIndices.clear();
+        this.history = snapshot;
         ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
 
-        for (XYChart.Series<Number, Number> sourceSeries : historyData) {
-            XYChart.Series<Number, Number> newSeries = new XYChart.Series<>();
-            newSeries.setName(sourceSeries.getName());
-            historyChart.getData().add(newSeries);
+        int seriesCount = Math.min(parties.size(), snapshot.seriesCount());
+        for (int i = 0; i < seriesCount; i++) {
+            Party p = parties.get(i);
+            if (p.getName().equals(SimulationConfig.UNDECIDED_NAME)) continue;
+
+            XYChart.Series<Number, Number> series = new XYChart.Series<>();
+            series.setName(p.getAbbreviation());
+            historyChart.getData().add(series);
+            historySeries.add(series);
+            historySeriesIndices.add(i);
+
+            runOnNode(series, node -> {
+                node.setStyle(String.format(STYLE_LINE_STROKE, getPartyColorString(p)));
+                installTooltipOnNode(node, bundle.getString("tt.trace").formatted(series.getName()));
+            });
+        }
 
-            runOnNode(newSeries, node -> installTooltipOnNode(node, bundle.getString("tt.trace").formatted(newSeries.getName())));
+        NumberAxis xAxis = (NumberAxis) historyChart.getXAxis();
+        xAxis.setAutoRanging(false);
+        historyChart.setOnScroll(this::handleHistoryScroll);
+        historyChart.setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.PRIMARY && e.getClickCount() == 2) showHistoryRange(0, history.size() - 1, false);
+        });
+
+        showHistoryRange(0, snapshot.size() - 1, true);
+    }
 
-            Timeline trace = new Timeline();
-            int delayCounter = 0;
+    /**
+     * Zoomt um die Mausposition herum. Jeder Zoomschritt berechnet die Reduktion neu,
+     * sodass im sichtbaren Bereich stets die volle Detailtiefe bis zur Pixelbreite erhalten bleibt.
+     */
+    private void handleHistoryScroll(ScrollEvent e) {
+        if (history == null || history.size() < 2 || e.getDeltaY() == 0) return;
 
-            for (XYChart.Data<Number, Number> data : sourceSeries.getData()) {
-                KeyFrame kf = new KeyFrame(Duration.millis(delayCounter),
-                        ignored -> newSeries.getData().add(new XYChart.Data<>(data.getXValue(), data.getYValue()))
-                );
-                trace.getKeyFrames().add(kf);
-                delayCounter += 20;
+        NumberAxis xAxis = (NumberAxis) historyChart.getXAxis();
+        double localX = xAxis.sceneToLocal(e.getSceneX(), e.getSceneY()).getX();
+        int centerIndex = history.indexOfTick(Math.round(xAxis.getValueForDisplay(localX).doubleValue()));
+
+        double factor = e.getDeltaY() > 0 ? ZOOM_IN_FACTOR : 1.0 / ZOOM_IN_FACTOR;
+        int maxSpan = history.size() - 1;
+        int span = (int) Math.round((viewTo - viewFrom) * factor);
+        span = Math.clamp(span, Math.min(MIN_VISIBLE_TICKS, maxSpan), maxSpan);
+
+        double ratio = (viewTo > viewFrom) ? (double) (centerIndex - viewFrom) / (viewTo - viewFrom) : 0.5;
+        int from = (int) Math.round(centerIndex - ratio * span);
+        from = Math.clamp(from, 0, maxSpan - span);
+        showHistoryRange(from, from + span, false);
+        e.consume();
+    }
+
+    /**
+     * Zeigt den Indexbereich [from, to] des Verlaufs an, reduziert auf etwa die Breite der Zeichenfläche.
+     * @param animated Ob die Punkte schrittweise eingeblendet werden (nur beim ersten Aufbau).
+     */
+    private void showHistoryRange(int from, int to, boolean animated) {
+        if (history == null || history.size() == 0) return;
+        viewFrom = Math.max(0, from);
+        viewTo = Math.min(history.size() - 1, Math.max(viewFrom, to));
+
+        int width = historyChart.getXAxis().widthProperty().intValue();
+        int threshold = width > 0 ? Math.max(MIN_POINTS, width) : FALLBACK_POINTS;
+
+        List<List<XYChart.Data<Number, Number>>> pointSets = new ArrayList<>();
+        for (int s = 0; s < historySeries.size(); s++) {
+            int seriesIndex = historySeriesIndices.get(s);
+            int[] selected = LttbDownsampler.downsample(i -> history.get(seriesIndex, i), viewFrom, viewTo + 1, threshold);
+            List<XYChart.Data<Number, Number>> points = new ArrayList<>(selected.length);
+            for (int index : selected) {
+                points.add(new XYChart.Data<>(history.tickAt(index), history.get(seriesIndex, index)));
             }
-            trace.setDelay(Duration.millis(500));
-            trace.play();
+            pointSets.add(points);
+        }
+
+        updateHistoryAxis();
+        if (traceAnimation != null) traceAnimation.stop();
+
+        if (!animated) {
+            for (int s = 0; s < historySeries.size(); s++) historySeries.get(s).getData().setAll(pointSets.get(s));
+            return;
+        }
+
+        traceAnimation = new Timeline();
+        for (int batch = 1; batch <= TRACE_BATCHES; batch++) {
+            final int b = batch;
+            traceAnimation.getKeyFrames().add(new KeyFrame(Duration.millis(TRACE_DURATION_MS * batch / TRACE_BATCHES), ignored -> {
+                for (int s = 0; s < historySeries.size(); s++) {
+                    List<XYChart.Data<Number, Number>> points = pointSets.get(s);
+                    historySeries.get(s).getData().setAll(points.subList(0, points.size() * b / TRACE_BATCHES));
+                }
+            }));
+        }
+        traceAnimation.setDelay(Duration.millis(500));
+        traceAnimation.play();
+    }
+
+    private void updateHistoryAxis() {
+        NumberAxis xAxis = (NumberAxis) historyChart.getXAxis();
+        int lower = history.tickAt(viewFrom);
+        int upper = Math.max(lower + 1, history.tickAt(viewTo));
+        xAxis.setLowerBound(lower);
+        xAxis.setUpperBound(upper);
+        xAxis.setTickUnit(niceTickUnit((upper - lower) / 10.0));
+
+        if (rangeLabel != null) {
+            ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+            rangeLabel.setText(String.format(bundle.getString("stats.zoom_range"), lower, upper));
         }
     }
 
+    private double niceTickUnit(double raw) {
+        if (raw <= 1) return 1;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+        double normalized = raw / magnitude;
+        double step = normalized <= 1 ? 1 : normalized <= 2 ? 2 : normalized <= 5 ? 5 : 10;
+        return step * magnitude;
+    }
+
     private void setupDistributionChart(List<Party> parties) {
         ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
         double total = parties.stream().mapToDouble(Party::getCurrentSupporterCount).sum();
@@ -1,5 +1,9 @@
 package de.schulprojekt.duv.view.managers;
 
+import de.schulprojekt.duv.model.telemetry.AllocationTracker;
+import de.schulprojekt.duv.model.telemetry.LatencyHistogram;
+import de.schulprojekt.duv.model.telemetry.TickPhase;
+import de.schulprojekt.duv.model.telemetry.TickProfiler;
 import de.schulprojekt.duv.view.Main;
 import javafx.application.Platform;
 import javafx.scene.control.Label;
@@ -25,6 +29,13 @@ public class TelemetryManager {
     private final Label cpuLabel, gpuLabel, serverLoadLabel, ramLabel, uptimeLabel;
     private ScheduledExecutorService telemetryExecutor;
 
+    private TickProfiler profiler;
+    private TickRateHud tickRate;
+    private Label tickRateLabel, phaseLabel, allocationLabel;
+    private long lastAllocTicks = -1;
+    private long lastAllocBytes;
+    private long lastGcPauseNanos;
+
     // ========================================
     // Constructor
     // ========================================
@@ -37,6 +48,26 @@ public class TelemetryManager {
         this.uptimeLabel = uptime;
     }
 
+    // ========================================
+    // Setter Methods
+    // ========================================
+
+    /**
+     * Bindet den Tick-Profiler der Simulation an. Alle Labels sind optional.
+     *
+     * @param profiler Quelle der Phasenmessungen.
+     * @param tickRateLabel Label für Ticks pro Sekunde und p99 des gesamten Ticks.
+     * @param phaseLabel Mehrzeiliges Label für p50/p99 je Phase.
+     * @param allocationLabel Label für Bytes pro Tick und GC-Pausen während der Ticks.
+     */
+    public void attachProfiler(TickProfiler profiler, Label tickRateLabel, Label phaseLabel, Label allocationLabel) {
+        this.profiler = profiler;
+        this.tickRate = new TickRateHud(profiler, null);
+        this.tickRateLabel = tickRateLabel;
+        this.phaseLabel = phaseLabel;
+        this.allocationLabel = allocationLabel;
+    }
+
     // ========================================
     // Business Logic Methods
     // ========================================
@@ -83,17 +114,71 @@ public class TelemetryManager {
     }
 
     private void updateSystemTelemetry() {
-        String ramText = getRealSystemRam();
-        String loadText = getRealCpuLoad();
-        String timeText = getUptimeText();
+        String ramText = ramLabel != null ? getRealSystemRam() : null;
+        String loadText = serverLoadLabel != null ? getRealCpuLoad() : null;
+        String timeText = uptimeLabel != null ? getUptimeText() : null;
+        String rateText = (profiler != null && tickRateLabel != null) ? tickRate.sample() : null;
+        String phaseText = (profiler != null && phaseLabel != null) ? getPhaseTable() : null;
+        String allocText = (profiler != null && allocationLabel != null) ? getAllocationText() : null;
 
         Platform.runLater(() -> {
-            if (ramLabel != null) ramLabel.setText(ramText);
-            if (serverLoadLabel != null) serverLoadLabel.setText(loadText);
-            if (uptimeLabel != null) uptimeLabel.setText(timeText);
+            if (ramText != null) ramLabel.setText(ramText);
+            if (loadText != null) serverLoadLabel.setText(loadText);
+            if (timeText != null) uptimeLabel.setText(timeText);
+            if (rateText != null) tickRateLabel.setText(rateText);
+            if (phaseText != null) phaseLabel.setText(phaseText);
+            if (allocText != null) allocationLabel.setText(allocText);
         });
     }
 
+    /**
+     * Mittelt die Allokation über die Ticks seit der letzten Abfrage und nennt die GC-Pausen in diesem Fenster
+     * samt dem Tick der längsten Pause.
+     */
+    private String getAllocationText() {
+        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+        AllocationTracker tracker = profiler.getAllocations();
+        long ticks = tracker.getTrackedTicks();
+        long bytes = tracker.getTotalBytes();
+        long gcNanos = tracker.getTotalGcPauseNanos();
+
+        long deltaTicks = (lastAllocTicks >= 0 && ticks >= lastAllocTicks) ? ticks - lastAllocTicks : 0;
+        long bytesPerTick = deltaTicks > 0 ? (bytes - lastAllocBytes) / deltaTicks : tracker.getLastTickBytes();
+        long gcWindow = deltaTicks > 0 ? gcNanos - lastGcPauseNanos : 0;
+
+        String worst = "-";
+        if (gcWindow > 0) {
+            AllocationTracker.TickAllocation max = null;
+            for (AllocationTracker.TickAllocation a : tracker.getRecentTicks((int) Math.min(deltaTicks, Integer.MAX_VALUE))) {
+                if (max == null || a.gcPauseNanos() > max.gcPauseNanos()) max = a;
+            }
+            if (max != null) worst = "#" + max.tick();
+        }
+
+        lastAllocTicks = ticks;
+        lastAllocBytes = bytes;
+        lastGcPauseNanos = gcNanos;
+
+        return String.format(Locale.US, bundle.getString("telemetry.allocation"), formatBytes(bytesPerTick), TickRateHud.formatNanos(gcWindow), worst);
+    }
+
+    private String formatBytes(long bytes) {
+        if (bytes < 0) return "N/A";
+        if (bytes >= 1_048_576) return String.format(Locale.US, "%.1fMB", bytes / 1_048_576.0);
+        if (bytes >= 1_024) return String.format(Locale.US, "%.1fKB", bytes / 1_024.0);
+        return bytes + "B";
+    }
+
+    private String getPhaseTable() {
+        StringBuilder sb = new StringBuilder();
+        for (TickPhase phase : TickPhase.values()) {
+            LatencyHistogram h = profiler.getHistogram(phase);
+            if (!sb.isEmpty()) sb.append('\n');
+            sb.append(String.format(Locale.US, "%-9s %8s %8s", phase.getShortLabel(), TickRateHud.formatNanos(h.getPercentile(50)), TickRateHud.formatNanos(h.getPercentile(99))));
+        }
+        return sb.toString();
+    }
+
     private String getRealSystemRam() {
         ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
         java.lang.management.OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
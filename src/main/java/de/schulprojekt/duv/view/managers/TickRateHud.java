@@ -0,0 +1,97 @@
+package de.schulprojekt.duv.view.managers;
+
+import de.schulprojekt.duv.model.telemetry.TickPhase;
+import de.schulprojekt.duv.model.telemetry.TickProfiler;
+import de.schulprojekt.duv.view.Main;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.control.Label;
+import javafx.util.Duration;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Zeigt Tickrate und p99 der Tickdauer im HUD des Dashboards an.
+ * <p>
+ * Liest nur zwei Zähler des {@link TickProfiler} und läuft daher als {@link Timeline} direkt auf dem
+ * FX-Thread, ohne die Systemabfragen des {@link TelemetryManager}.
+ * </p>
+ *
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public class TickRateHud {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final TickProfiler profiler;
+    private final Label label;
+    private Timeline timer;
+    private long lastTickCount = -1;
+    private long lastSampleNanos;
+
+    // ========================================
+    // Constructor
+    // ========================================
+
+    /**
+     * @param profiler Quelle der Tickmessungen.
+     * @param label Ziel der Anzeige; darf {@code null} sein, wenn nur {@link #sample()} genutzt wird.
+     */
+    public TickRateHud(TickProfiler profiler, Label label) {
+        this.profiler = profiler;
+        this.label = label;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    public void start() {
+        if (timer != null || label == null) return;
+        timer = new Timeline(new KeyFrame(Duration.seconds(1), e -> label.setText(sample())));
+        timer.setCycleCount(Timeline.INDEFINITE);
+        timer.play();
+    }
+
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+    }
+
+    /**
+     * Berechnet die Tickrate aus der Differenz der abgeschlossenen Ticks seit der letzten Abfrage.
+     * Jede Instanz darf nur von einem Thread abgefragt werden.
+     *
+     * @return Formatierter Text aus Tickrate und p99 des gesamten Ticks.
+     */
+    public String sample() {
+        ResourceBundle bundle = ResourceBundle.getBundle("de.schulprojekt.duv.messages", Main.getLocale());
+        long now = System.nanoTime();
+        long ticks = profiler.getCompletedTicks();
+        double rate = 0.0;
+        if (lastTickCount >= 0 && ticks >= lastTickCount && now > lastSampleNanos) {
+            rate = (ticks - lastTickCount) * 1e9 / (now - lastSampleNanos);
+        }
+        lastTickCount = ticks;
+        lastSampleNanos = now;
+
+        long p99 = profiler.getHistogram(TickPhase.TOTAL).getPercentile(99);
+        return String.format(Locale.US, bundle.getString("telemetry.tick_rate"), rate, formatNanos(p99));
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000) return String.format(Locale.US, "%.1fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000) return String.format(Locale.US, "%.1fus", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+}
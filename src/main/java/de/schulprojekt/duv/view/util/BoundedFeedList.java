@@ -0,0 +1,100 @@
+package de.schulprojekt.duv.view.util;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * Beobachtbare Liste fester Kapazität auf Basis eines Ringpuffers, neueste Einträge zuerst.
+ * <p>
+ * Ein neuer Eintrag landet an Index 0; ist die Kapazität erreicht, fällt der älteste Eintrag am Ende
+ * heraus. Beide Operationen sind O(1) und melden sich als eine einzige Änderung, sodass ein
+ * {@code ListView} nur die betroffenen Zellen aktualisiert.
+ * </p>
+ *
+ * @param <E> Typ der Einträge.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class BoundedFeedList<E> extends ObservableListBase<E> {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final Object[] buffer;
+    private int head = 0;
+    private int size = 0;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * @param capacity Maximale Anzahl gehaltener Einträge.
+     */
+    public BoundedFeedList(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.buffer = new Object[capacity];
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return (E) buffer[(head + index) % buffer.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    /**
+     * Fügt einen Eintrag vorne ein und verdrängt bei voller Kapazität den ältesten.
+     *
+     * @param element Der neue Eintrag.
+     */
+    public void push(E element) {
+        beginChange();
+        if (size == buffer.length) {
+            int tail = (head + size - 1) % buffer.length;
+            @SuppressWarnings("unchecked")
+            E evicted = (E) buffer[tail];
+            buffer[tail] = null;
+            size--;
+            nextRemove(size, evicted);
+        }
+        head = (head - 1 + buffer.length) % buffer.length;
+        buffer[head] = element;
+        size++;
+        nextAdd(0, 1);
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) return;
+        beginChange();
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = (head + i) % buffer.length;
+            @SuppressWarnings("unchecked")
+            E removed = (E) buffer[slot];
+            buffer[slot] = null;
+            nextRemove(i, removed);
+        }
+        head = 0;
+        size = 0;
+        endChange();
+    }
+}
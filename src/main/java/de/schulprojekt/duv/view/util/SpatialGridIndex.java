@@ -0,0 +1,110 @@
+package de.schulprojekt.duv.view.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gleichmäßiges Raster für Treffertests auf Canvas-Ansichten.
+ * <p>
+ * Jedes Element wird mit seinem Trefferradius in alle Zellen eingetragen, die sein Begrenzungsquadrat
+ * überdeckt. Eine Abfrage liefert dadurch nur die Kandidaten der Zelle unter dem Mauszeiger; die exakte
+ * Distanzprüfung bleibt beim Aufrufer. Der Index wird nur bei Layout-Änderungen neu aufgebaut.
+ * </p>
+ *
+ * @param <T> Typ der indizierten Elemente.
+ * @author Nico Hoffmann
+ * @version 1.0
+ */
+public final class SpatialGridIndex<T> {
+
+    // ========================================
+    // Instance Variables
+    // ========================================
+
+    private final double cellSize;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+    private int size = 0;
+
+    // ========================================
+    // Constructors
+    // ========================================
+
+    /**
+     * @param cellSize Kantenlänge einer Zelle; sinnvoll ist etwa der doppelte typische Trefferradius.
+     */
+    public SpatialGridIndex(double cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        this.cellSize = cellSize;
+    }
+
+    // ========================================
+    // Getter Methods
+    // ========================================
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ========================================
+    // Business Logic Methods
+    // ========================================
+
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+    /**
+     * Trägt ein Element in alle Zellen ein, die der Kreis um (x, y) berührt.
+     * Die Einfügereihenfolge bleibt innerhalb jeder Zelle erhalten.
+     *
+     * @param item Das Element.
+     * @param x X-Koordinate des Mittelpunkts.
+     * @param y Y-Koordinate des Mittelpunkts.
+     * @param radius Trefferradius des Elements.
+     */
+    public void insert(T item, double x, double y, double radius) {
+        int minCx = cellOf(x - radius);
+        int maxCx = cellOf(x + radius);
+        int minCy = cellOf(y - radius);
+        int maxCy = cellOf(y + radius);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                cells.computeIfAbsent(key(cx, cy), ignored -> new ArrayList<>(4)).add(item);
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Liefert alle Elemente, deren Trefferbereich die Zelle unter (x, y) berührt.
+     *
+     * @param x X-Koordinate der Abfrage.
+     * @param y Y-Koordinate der Abfrage.
+     * @return Unveränderliche Kandidatenliste in Einfügereihenfolge, niemals null.
+     */
+    public List<T> query(double x, double y) {
+        List<T> bucket = cells.get(key(cellOf(x), cellOf(y)));
+        return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket);
+    }
+
+    // ========================================
+    // Utility Methods
+    // ========================================
+
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
@@ -75,8 +75,8 @@ public final class VisualFX {
         );
     }
 
-    public static void playTypewriterAnimation(Label label, String content, int delayMillis) {
-        if (label == null || content == null) return;
+    public static Timeline playTypewriterAnimation(Label label, String content, int delayMillis) {
+        if (label == null || content == null) return null;
 
         final StringBuilder currentText = new StringBuilder();
         Timeline timeline = new Timeline();
@@ -98,6 +98,7 @@ public final class VisualFX {
 
         timeline.setOnFinished(e -> label.setText(content));
         timeline.play();
+        return timeline;
     }
 
     public static void startPulse(Node node, Color color) {
@@ -0,0 +1,45 @@
+package de.schulprojekt.duv.model.core;
+
+import de.schulprojekt.duv.model.party.PartyRegistry;
+import de.schulprojekt.duv.model.random.DistributionProvider;
+import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
+import de.schulprojekt.duv.model.scandal.ScandalScheduler;
+import de.schulprojekt.duv.model.voter.VoterBehavior;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.model.voter.ZeitgeistManager;
+import de.schulprojekt.duv.util.io.CSVLoader;
+
+import java.util.Locale;
+
+/**
+ * Baut vollständig verdrahtete und initialisierte Engines für Tests.
+ */
+public final class TestEngines {
+
+    private static final int MAX_PARTIES = 20;
+
+    private TestEngines() {}
+
+    public static SimulationEngine create(SimulationParameters params) {
+        return create(params, new VoterPopulation());
+    }
+
+    public static SimulationEngine create(SimulationParameters params, VoterPopulation population) {
+        return create(params, population, new ScandalImpactCalculator(MAX_PARTIES));
+    }
+
+    /**
+     * @param population Population der Engine, damit der Test ihre Spalten direkt prüfen kann.
+     * @param impact Skandalwirkung der Engine, damit der Test den Dauerschaden direkt prüfen kann.
+     * @return Engine nach {@link SimulationEngine#initializeSimulation()}.
+     */
+    public static SimulationEngine create(SimulationParameters params, VoterPopulation population,
+                                          ScandalImpactCalculator impact) {
+        CSVLoader loader = new CSVLoader(Locale.GERMAN);
+        DistributionProvider dist = new DistributionProvider(params);
+        SimulationEngine engine = new SimulationEngine(params, loader, dist, new PartyRegistry(loader), population,
+                new VoterBehavior(), new ZeitgeistManager(), new ScandalScheduler(dist), impact);
+        engine.initializeSimulation();
+        return engine;
+    }
+}
@@ -0,0 +1,36 @@
+package de.schulprojekt.duv.model.election;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApportionmentMethodTest {
+
+    private static final long[] VOTES = {100_000, 80_000, 30_000, 21_000};
+
+    @Test
+    @DisplayName("Sollte Sitze nach D'Hondt, Sainte-Laguë und Hare-Niemeyer wie im Lehrbuchbeispiel verteilen")
+    void testTextbookExample() {
+        assertArrayEquals(new int[]{4, 3, 1, 0}, ApportionmentMethod.D_HONDT.apportion(VOTES, 8));
+        assertArrayEquals(new int[]{3, 3, 1, 1}, ApportionmentMethod.SAINTE_LAGUE.apportion(VOTES, 8));
+        assertArrayEquals(new int[]{3, 3, 1, 1}, ApportionmentMethod.HARE_NIEMEYER.apportion(VOTES, 8));
+    }
+
+    @Test
+    @DisplayName("Sollte auch bei tausenden Sitzen exakt die Sitzzahl vergeben")
+    void testLargeParliament() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        long[] votes = new long[40];
+        for (int i = 0; i < votes.length; i++) votes[i] = rnd.nextLong(1, 5_000_000);
+
+        for (ApportionmentMethod method : ApportionmentMethod.values()) {
+            int[] seats = method.apportion(votes, 5_000);
+            assertEquals(5_000, Arrays.stream(seats).sum(), method.name());
+        }
+        assertEquals(0, Arrays.stream(ApportionmentMethod.D_HONDT.apportion(new long[3], 10)).sum());
+    }
+}
@@ -0,0 +1,42 @@
+package de.schulprojekt.duv.model.election;
+
+import de.schulprojekt.duv.model.party.Party;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Laufzeitmessung der Koalitionsanalyse für große Parlamente. Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class CoalitionAnalyzerBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(CoalitionAnalyzerBenchmarkTest.class.getName());
+    private static final int PARTIES = 30;
+
+    @Test
+    @DisplayName("Sollte 30 Parteien in unter einer Sekunde analysieren")
+    void benchmarkManyParties() {
+        Random random = new Random(11);
+        List<Party> parties = new ArrayList<>();
+        int[] seats = new int[PARTIES];
+        for (int i = 0; i < seats.length; i++) {
+            parties.add(new Party("P" + i, "P" + i, "#FFFFFF", random.nextDouble() * 100, 0, 0));
+            seats[i] = 5 + random.nextInt(20);
+        }
+
+        long start = System.nanoTime();
+        CoalitionReport report = new CoalitionAnalyzer(8).analyze(parties, seats);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        LOGGER.info(String.format("%d minimal winning coalitions in %d ms", report.minimalWinningCount(), millis));
+        assertTrue(millis < 1_000, "Analyse dauerte " + millis + " ms");
+    }
+}
@@ -0,0 +1,94 @@
+package de.schulprojekt.duv.model.election;
+
+import de.schulprojekt.duv.model.party.Party;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalitionAnalyzerTest {
+
+    @Test
+    @DisplayName("Sollte minimale Gewinnkoalitionen eines kleinen Parlaments finden und nach Spannweite ordnen")
+    void testSmallParliament() {
+        List<Party> parties = List.of(party("U", 0), party("A", 20), party("B", 45), party("C", 55), party("D", 90));
+        int[] seats = {0, 40, 30, 20, 10};
+
+        CoalitionReport report = new CoalitionAnalyzer(10).analyze(parties, seats);
+
+        // Mehrheit 51: {A,B}, {A,C}, {B,C,D} - {A,D} hat nur 50
+        assertEquals(51, report.majority());
+        assertEquals(3, report.minimalWinningCount());
+        assertEquals(3, report.ranked().size());
+        assertArrayEquals(new int[]{1, 2}, report.ranked().get(0).partyIndices());
+        assertEquals(25.0, report.ranked().get(0).spread(), 1e-9);
+        assertArrayEquals(new int[]{1, 3}, report.ranked().get(1).partyIndices());
+        assertArrayEquals(new int[]{2, 3, 4}, report.ranked().get(2).partyIndices());
+    }
+
+    @Test
+    @DisplayName("Sollte Zählung und Bestenliste mit vollständiger Aufzählung übereinstimmen")
+    void testMatchesBruteForce() {
+        Random random = new Random(7);
+        List<Party> parties = new ArrayList<>();
+        int[] seats = new int[16];
+        for (int i = 0; i < seats.length; i++) {
+            parties.add(party("P" + i, random.nextDouble() * 100));
+            seats[i] = 1 + random.nextInt(60);
+        }
+
+        CoalitionReport report = new CoalitionAnalyzer(5).analyze(parties, seats);
+
+        int total = 0;
+        for (int s : seats) total += s;
+        int majority = total / 2 + 1;
+        List<Coalition> all = new ArrayList<>();
+        for (int mask = 1; mask < 1 << seats.length; mask++) {
+            int sum = 0, smallest = Integer.MAX_VALUE;
+            double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+            for (int i = 0; i < seats.length; i++) {
+                if ((mask & (1 << i)) == 0) continue;
+                sum += seats[i];
+                smallest = Math.min(smallest, seats[i]);
+                min = Math.min(min, parties.get(i).getPoliticalPosition());
+                max = Math.max(max, parties.get(i).getPoliticalPosition());
+            }
+            if (sum >= majority && sum - smallest < majority) {
+                all.add(new Coalition(new int[Integer.bitCount(mask)], sum, max - min));
+            }
+        }
+        all.sort(CoalitionAnalyzer.RANKING);
+
+        assertEquals(all.size(), report.minimalWinningCount());
+        for (int k = 0; k < report.ranked().size(); k++) {
+            assertEquals(all.get(k).spread(), report.ranked().get(k).spread(), 1e-9);
+            assertEquals(all.get(k).size(), report.ranked().get(k).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte bei 30 Parteien Millionen Koalitionen zählen und nur die besten behalten")
+    void testManyParties() {
+        Random random = new Random(11);
+        List<Party> parties = new ArrayList<>();
+        int[] seats = new int[30];
+        for (int i = 0; i < seats.length; i++) {
+            parties.add(party("P" + i, random.nextDouble() * 100));
+            seats[i] = 5 + random.nextInt(20);
+        }
+
+        CoalitionReport report = new CoalitionAnalyzer(8).analyze(parties, seats);
+
+        assertTrue(report.minimalWinningCount() > 1_000_000, "Zu wenige Koalitionen für einen aussagekräftigen Test");
+        assertEquals(8, report.ranked().size());
+        for (Coalition c : report.ranked()) assertTrue(c.seats() >= report.majority());
+    }
+
+    private static Party party(String name, double position) {
+        return new Party(name, name, "#FFFFFF", position, 0, 0);
+    }
+}
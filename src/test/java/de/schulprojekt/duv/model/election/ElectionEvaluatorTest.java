@@ -0,0 +1,50 @@
+package de.schulprojekt.duv.model.election;
+
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElectionEvaluatorTest {
+
+    @Test
+    @DisplayName("Sollte Parteien unter der Sperrklausel keine Sitze geben und Unentschlossene nicht zählen")
+    void testThresholdAndUndecided() {
+        ElectionEvaluator evaluator = new ElectionEvaluator(ApportionmentMethod.SAINTE_LAGUE, 100, 5.0);
+        ElectionResult result = evaluator.apportion(new long[]{0, 600, 370, 30}, List.of("Unsicher", "A", "B", "C"), 2_000);
+
+        assertArrayEquals(new boolean[]{false, true, true, false}, result.aboveThreshold());
+        assertEquals(0, result.seatsFor("C"));
+        assertEquals(100, result.totalSeats());
+        assertEquals(50.0, result.turnoutPercent(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Sollte die Auszählung bei gleichem Startwert reproduzierbar halten")
+    void testTallyDeterministic() {
+        VoterPopulation pop = new VoterPopulation();
+        pop.allocate(200_000);
+        for (int i = 0; i < pop.size(); i++) {
+            pop.setPartyIndexRaw(i, (byte) (i % 4));
+            pop.setVoterTypeRaw(i, (byte) (i % 6));
+        }
+        List<Party> parties = List.of(
+                new Party("Unsicher", "UNS", "#6c757d", 50, 0, 0),
+                new Party("A", "A", "#ff0000", 20, 0, 0),
+                new Party("B", "B", "#00ff00", 50, 0, 0),
+                new Party("C", "C", "#0000ff", 80, 0, 0));
+
+        ElectionEvaluator evaluator = new ElectionEvaluator();
+        ElectionResult first = evaluator.evaluate(pop, parties, 99);
+        ElectionResult second = evaluator.evaluate(pop, parties, 99);
+
+        assertArrayEquals(first.votes(), second.votes());
+        assertEquals(0, first.votes()[0]);
+        assertTrue(first.turnoutPercent() > 40 && first.turnoutPercent() < 75, "Wahlbeteiligung: " + first.turnoutPercent());
+        assertEquals(400, first.totalSeats());
+    }
+}
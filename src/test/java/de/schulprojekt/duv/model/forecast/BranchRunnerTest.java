@@ -0,0 +1,56 @@
+package de.schulprojekt.duv.model.forecast;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BranchRunnerTest {
+
+    @Test
+    @DisplayName("Sollte Zweige mit erzwungenen Skandalen auseinanderlaufen lassen, ohne die Quelle zu verändern")
+    void testBranchesDivergeFromUntouchedSource() throws Exception {
+        // Bei Skandalwahrscheinlichkeit 0 stammen die Skandale der Zweige praktisch nur aus den Szenarien
+        SimulationParameters params = new SimulationParameters(20_000, 65.0, 35.0, 0.0, 50.0, 5, 1.0, 4, 1.0);
+        VoterPopulation population = new VoterPopulation();
+        SimulationEngine engine = TestEngines.create(params, population);
+        for (int i = 0; i < 10; i++) engine.runSimulationStep();
+
+        ByteBuffer sourceColumns = population.exportColumns();
+        int[] sourceScandals = scandalCounts(engine);
+        List<Consumer<SimulationEngine>> scenarios = List.of(e -> { }, e -> e.forceScandal(1), e -> e.forceScandal(2));
+
+        BranchRunner runner = new BranchRunner(3);
+        List<SimulationEngine> branches = runner.run(engine, scenarios, 15).get(30, TimeUnit.SECONDS);
+        runner.shutdown();
+
+        assertEquals(3, branches.size());
+        for (SimulationEngine branch : branches) {
+            assertEquals(25, branch.getCurrentStep());
+            assertEquals(params.populationSize(), branch.getParties().stream().mapToInt(Party::getCurrentSupporterCount).sum());
+            assertNotEquals(0, sourceColumns.compareTo(branch.getPopulation().exportColumns()));
+        }
+        assertArrayEquals(sourceScandals, scandalCounts(branches.get(0)));
+        assertEquals(sourceScandals[1] + 1, scandalCounts(branches.get(1))[1]);
+        assertEquals(sourceScandals[2] + 1, scandalCounts(branches.get(2))[2]);
+        assertNotEquals(0, branches.get(1).getPopulation().exportColumns().compareTo(branches.get(2).getPopulation().exportColumns()));
+
+        assertEquals(10, engine.getCurrentStep());
+        assertEquals(0, sourceColumns.compareTo(population.exportColumns()));
+        assertArrayEquals(sourceScandals, scandalCounts(engine));
+    }
+
+    private static int[] scandalCounts(SimulationEngine engine) {
+        return engine.getParties().stream().mapToInt(Party::getScandalCount).toArray();
+    }
+}
@@ -0,0 +1,65 @@
+package de.schulprojekt.duv.model.forecast;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import de.schulprojekt.duv.util.config.ForecastConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecasterTest {
+
+    @Test
+    @DisplayName("Sollte Perzentile je Partei und Stützpunkt nach Nearest-Rank bilden")
+    void testAggregatePercentiles() {
+        float[][][] samples = new float[11][1][2];
+        for (int r = 0; r < samples.length; r++) {
+            samples[r][0][0] = 100;
+            samples[r][0][1] = 10 - r;
+        }
+
+        ForecastResult result = Forecaster.aggregate(42, List.of("A"), samples);
+
+        assertEquals(42, result.originStep());
+        assertEquals(ForecastConfig.SAMPLE_INTERVAL, result.horizon());
+        assertArrayEquals(new float[]{1, 2.5f, 5, 7.5f, 9}, column(result, 1), 0.51f);
+        assertArrayEquals(new float[]{100, 100, 100, 100, 100}, column(result, 0));
+    }
+
+    @Test
+    @DisplayName("Sollte Fortsetzungen im Hintergrund rechnen, ohne die Quell-Engine zu verändern")
+    void testForecastLeavesSourceUntouched() throws Exception {
+        SimulationParameters params = new SimulationParameters(5_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+        SimulationEngine engine = TestEngines.create(params);
+
+        Forecaster forecaster = new Forecaster(4);
+        CompletableFuture<ForecastResult> done = new CompletableFuture<>();
+        assertTrue(forecaster.maybeStart(engine, done::complete));
+        assertFalse(forecaster.maybeStart(engine, done::complete), "Zweite Prognose trotz laufender gestartet");
+
+        ForecastResult result = done.get(60, TimeUnit.SECONDS);
+        forecaster.shutdown();
+
+        assertEquals(0, engine.getCurrentStep());
+        assertEquals(4, result.runs());
+        assertEquals(ForecastConfig.HORIZON, result.horizon());
+        assertEquals(engine.getParties().size(), result.bands().length);
+        for (float[][] band : result.bands()) {
+            for (int i = 0; i < band[0].length; i++) {
+                for (int q = 1; q < band.length; q++) assertTrue(band[q][i] >= band[q - 1][i]);
+            }
+        }
+    }
+
+    private static float[] column(ForecastResult result, int point) {
+        float[] values = new float[result.percentiles().length];
+        for (int q = 0; q < values.length; q++) values[q] = result.bands()[0][q][point];
+        return values;
+    }
+}
@@ -0,0 +1,27 @@
+package de.schulprojekt.duv.model.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DensityHistoryTest {
+
+    @Test
+    @DisplayName("Sollte bei vollem Ringpuffer den ältesten Tick verdrängen und chronologisch liefern")
+    void testRollingBuffer() {
+        DensityHistory history = new DensityHistory(2, 3);
+        history.reset(10);
+        for (int t = 0; t < 5; t++) history.append(new int[]{t, 10 * t});
+
+        DensityHistory.Snapshot snapshot = history.snapshot();
+        assertEquals(3, snapshot.size());
+        assertEquals(12, snapshot.tickAt(0));
+        assertEquals(14, snapshot.tickAt(2));
+        assertArrayEquals(new int[]{2, 20, 3, 30, 4, 40}, snapshot.counts());
+        assertEquals(40, snapshot.maxCount());
+
+        history.reset(0);
+        assertEquals(0, history.snapshot().size());
+    }
+}
@@ -0,0 +1,52 @@
+package de.schulprojekt.duv.model.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LttbDownsamplerTest {
+
+    @Test
+    @DisplayName("Sollte Endpunkte behalten und auf die Zielgröße reduzieren")
+    void testKeepsEndpointsAndThreshold() {
+        int[] selected = LttbDownsampler.downsample(i -> Math.sin(i / 50.0), 0, 10_000, 200);
+
+        assertEquals(200, selected.length);
+        assertEquals(0, selected[0]);
+        assertEquals(9_999, selected[selected.length - 1]);
+        for (int i = 1; i < selected.length; i++) {
+            assertTrue(selected[i] > selected[i - 1], "Indizes sollten streng aufsteigend sein");
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte einzelne Ausreißer im reduzierten Verlauf erhalten")
+    void testPreservesSpike() {
+        int[] selected = LttbDownsampler.downsample(i -> i == 4_321 ? 1_000.0 : 0.0, 0, 10_000, 100);
+
+        boolean containsSpike = false;
+        for (int index : selected) {
+            if (index == 4_321) containsSpike = true;
+        }
+        assertTrue(containsSpike, "Die Spitze sollte ausgewählt werden");
+    }
+
+    @Test
+    @DisplayName("Sollte Verlauf blockübergreifend speichern und Momentaufnahmen stabil halten")
+    void testHistorySnapshot() {
+        SimulationHistory history = new SimulationHistory();
+        history.reset(2, 0);
+        for (int t = 0; t < 70_000; t++) {
+            history.append(new int[]{t, 2 * t});
+        }
+
+        SimulationHistory.Snapshot snapshot = history.snapshot();
+        history.reset(2, 0);
+
+        assertEquals(70_000, snapshot.size());
+        assertEquals(69_999, snapshot.get(0, 69_999));
+        assertEquals(2 * 65_536, snapshot.get(1, 65_536));
+        assertEquals(0, history.size());
+    }
+}
@@ -0,0 +1,124 @@
+package de.schulprojekt.duv.model.history;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.util.config.RewindConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RewindBufferTest {
+
+    private static final SimulationParameters PARAMS = new SimulationParameters(20_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+
+    @BeforeAll
+    static void recordEveryTick() {
+        System.setProperty(RewindConfig.PROP_INTERVAL, "1");
+    }
+
+    @AfterAll
+    static void restoreInterval() {
+        System.clearProperty(RewindConfig.PROP_INTERVAL);
+    }
+
+    @Test
+    @DisplayName("Sollte die Population aus Keyframe und Deltas bitgenau rekonstruieren")
+    void testRewindRestoresPopulation() {
+        VoterPopulation population = new VoterPopulation();
+        SimulationEngine engine = TestEngines.create(PARAMS, population);
+        for (int i = 0; i < 40; i++) {
+            engine.runSimulationStep();
+            engine.recordRewindFrame();
+        }
+        ByteBuffer expected = population.exportColumns();
+        int[] expectedCounts = engine.getParties().stream().mapToInt(p -> p.getCurrentSupporterCount()).toArray();
+
+        for (int i = 0; i < 25; i++) {
+            engine.runSimulationStep();
+            engine.recordRewindFrame();
+        }
+
+        assertTrue(engine.rewindTo(40));
+        assertEquals(40, engine.getCurrentStep());
+        assertEquals(40, engine.getRewindBuffer().getNewestStep());
+        assertEquals(0, expected.compareTo(population.exportColumns()));
+        assertArrayEquals(expectedCounts, engine.getParties().stream().mapToInt(p -> p.getCurrentSupporterCount()).toArray());
+
+        engine.runSimulationStep();
+        engine.recordRewindFrame();
+        assertEquals(41, engine.getRewindBuffer().getNewestStep());
+    }
+
+    @Test
+    @DisplayName("Sollte das Budget nach jeder Aufzeichnung einhalten, auch innerhalb eines Abschnitts")
+    void testEvictsOverBudget() {
+        VoterPopulation population = new VoterPopulation();
+        SimulationEngine engine = TestEngines.create(PARAMS, population);
+        long keyframeBytes = (long) population.size() * VoterPopulation.BYTES_PER_VOTER;
+        long budget = keyframeBytes * 4;
+        // Ein voller Abschnitt aus 25 Frames passt nicht ins Budget
+        RewindBuffer buffer = new RewindBuffer(budget, 25);
+
+        long peak = 0;
+        for (int i = 0; i < 60; i++) {
+            engine.runSimulationStep();
+            buffer.record(engine.captureSnapshot(), population);
+            peak = Math.max(peak, buffer.getUsedBytes());
+        }
+        ByteBuffer expected = population.exportColumns();
+
+        assertTrue(peak <= budget, "Budget überschritten: " + peak);
+        assertTrue(buffer.getOldestStep() > 1, "Älteste Frames wurden nicht verworfen");
+        assertEquals(60, buffer.getNewestStep());
+        assertNull(buffer.reconstruct(buffer.getOldestStep() - 1));
+        assertNotNull(buffer.reconstruct(buffer.getOldestStep()));
+        assertEquals(0, expected.compareTo(buffer.reconstruct(60).populationColumns()));
+    }
+
+    @Test
+    @DisplayName("Sollte die Aufzeichnung einstellen, wenn nicht einmal ein Keyframe ins Budget passt")
+    void testStopsWhenKeyframeDoesNotFit() {
+        VoterPopulation population = new VoterPopulation();
+        SimulationEngine engine = TestEngines.create(PARAMS, population);
+        long keyframeBytes = (long) population.size() * VoterPopulation.BYTES_PER_VOTER;
+        RewindBuffer buffer = new RewindBuffer(keyframeBytes, 25);
+
+        engine.runSimulationStep();
+        buffer.record(engine.captureSnapshot(), population);
+
+        assertFalse(buffer.isRecording());
+        assertEquals(0, buffer.getUsedBytes());
+        assertEquals(-1, buffer.getOldestStep());
+
+        buffer.clear();
+        assertTrue(buffer.isRecording());
+    }
+
+    @Test
+    @DisplayName("Sollte dicht geänderte Spalten roh ablegen statt teurer als eine volle Kopie")
+    void testDenseColumnIsStoredRaw() {
+        VoterPopulation population = new VoterPopulation();
+        TestEngines.create(PARAMS, population);
+        ByteBuffer reference = population.exportColumns();
+        ByteBuffer previous = population.exportColumns();
+
+        // Jede Position ändert sich, das XOR kostet als Varint 5 Byte zuzüglich Abstand
+        for (int i = 0; i < population.size(); i++) {
+            population.setPositionRaw(i, -population.getPositionRaw(i) - 1.0f);
+        }
+        byte[] delta = PopulationDeltaCodec.encode(population, reference);
+        PopulationDeltaCodec.apply(delta, previous);
+
+        long rawColumnBytes = (long) population.size() * Float.BYTES;
+        assertTrue(delta.length <= rawColumnBytes + 64, "Delta größer als die rohe Spalte: " + delta.length);
+        assertEquals(0, population.exportColumns().compareTo(previous));
+        assertEquals(0, population.exportColumns().compareTo(reference));
+    }
+}
@@ -0,0 +1,42 @@
+package de.schulprojekt.duv.model.indicators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliticalIndicatorsTest {
+
+    @Test
+    @DisplayName("Sollte Pedersen-Index und effektive Parteienanzahl ohne Unentschlossene berechnen")
+    void testFormulas() {
+        // Index 0 sind Unentschlossene und zählen nicht mit
+        double[] before = PoliticalIndicators.shares(new int[]{500, 50, 50});
+        double[] after = PoliticalIndicators.shares(new int[]{0, 70, 30});
+
+        assertEquals(2.0, PoliticalIndicators.effectiveNumberOfParties(before), 1e-9);
+        assertEquals(1.0 / (0.49 + 0.09), PoliticalIndicators.effectiveNumberOfParties(after), 1e-9);
+        assertEquals(20.0, PoliticalIndicators.pedersen(before, after), 1e-9);
+        assertEquals(0.0, PoliticalIndicators.effectiveNumberOfParties(new double[3]));
+    }
+
+    @Test
+    @DisplayName("Sollte Wanderung je Tick und seit Beginn fortschreiben und den Verlauf speichern")
+    void testIncrementalUpdate() {
+        PoliticalIndicators indicators = new PoliticalIndicators();
+        PopulationHistogram histogram = new PopulationHistogram(new int[1], new int[1], new int[100]);
+        indicators.reset(new int[]{10, 45, 45}, 5, histogram);
+        indicators.update(new int[]{10, 50, 40}, histogram);
+        indicators.update(new int[]{4, 56, 40}, histogram);
+
+        IndicatorSnapshot snapshot = indicators.snapshot();
+        assertArrayEquals(new int[]{-6, 6, 0}, snapshot.lastNetMigration());
+        assertEquals(11, snapshot.netMigration(1));
+        assertEquals(-6, snapshot.netMigration(0));
+        assertEquals(3, snapshot.history().size());
+        assertEquals(7, snapshot.history().tickAt(2));
+        assertEquals(100.0 * 5 / 90, snapshot.history().get(0, 1), 1e-4);
+        assertEquals(snapshot.volatility(), snapshot.history().get(0, 2), 1e-4);
+        assertTrue(snapshot.runVolatility() > 0);
+    }
+}
@@ -0,0 +1,72 @@
+package de.schulprojekt.duv.model.polling;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollsterTest {
+
+    @Test
+    @DisplayName("Sollte verschiedene, sortierte Indizes gleichverteilt ohne Zurücklegen ziehen")
+    void testReservoirSample() {
+        int n = 1_000_000;
+        int[] sample = Pollster.drawSample(n, 5_000, 3);
+
+        assertEquals(5_000, sample.length);
+        for (int j = 1; j < sample.length; j++) assertTrue(sample[j] > sample[j - 1]);
+        assertTrue(sample[0] >= 0 && sample[sample.length - 1] < n);
+        double mean = Arrays.stream(sample).average().orElseThrow();
+        assertEquals(n / 2.0, mean, n * 0.02);
+
+        assertArrayEquals(new int[]{0, 1, 2}, Pollster.drawSample(3, 10, 1));
+    }
+
+    @Test
+    @DisplayName("Sollte Antwortverzerrung je Wählertyp anwenden und Fehlerspannen berechnen")
+    void testResponseBias() {
+        // Typ 0 antwortet immer, Typ 1 nie
+        Pollster pollster = new Pollster(4, 1, new double[]{1.0, 0.0});
+        byte[] parties = {1, 1, 2, 2};
+        byte[] types = {0, 0, 0, 1};
+
+        PollResult result = pollster.evaluate(7, parties, types, List.of("U", "A", "B"), 1);
+        pollster.shutdown();
+
+        assertEquals(7, result.step());
+        assertEquals(3, result.respondents());
+        assertEquals(2.0 / 3, result.shares()[1], 1e-9);
+        assertEquals(1.0 / 3, result.shares()[2], 1e-9);
+        assertEquals(1.96 * Math.sqrt(2.0 / 9 / 3), result.margins()[1], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Sollte die Umfrage zwischen zwei Ticks ziehen und die wahren Anteile treffen")
+    void testPollMatchesPopulation() throws Exception {
+        SimulationParameters params = new SimulationParameters(200_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+        SimulationEngine engine = TestEngines.create(params);
+
+        double[] noBias = new double[6];
+        Arrays.fill(noBias, 1.0);
+        Pollster pollster = new Pollster(5_000, 10, noBias);
+        CompletableFuture<PollResult> done = new CompletableFuture<>();
+        assertTrue(pollster.maybeConduct(engine, done::complete));
+        PollResult result = done.get(10, TimeUnit.SECONDS);
+        assertFalse(pollster.maybeConduct(engine, r -> fail("Umfrage vor Ablauf des Intervalls")));
+        pollster.shutdown();
+
+        assertEquals(5_000, result.respondents());
+        for (int p = 0; p < result.shares().length; p++) {
+            double truth = engine.getParties().get(p).getCurrentSupporterCount() / (double) params.populationSize();
+            assertEquals(truth, result.shares()[p], 2 * result.margins()[p] + 1e-3, "Partei " + p);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,4 +39,43 @@ class DistributionProviderTest {
             assertTrue(List.of(VoterType.values()).contains(type));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Sollte mit der Alias-Tabelle proportional zu den Gewichten ziehen")
+    void testAliasTableProportions() {
+        AliasTable table = AliasTable.of(new double[]{0.0, 1.0, 3.0, 6.0});
+        SplittableRandom rnd = new SplittableRandom(42);
+        int[] hits = new int[4];
+
+        for (int i = 0; i < 100_000; i++) {
+            hits[table.sample(rnd.nextDouble())]++;
+        }
+
+        assertEquals(0, hits[0], "Gewicht 0 darf nie gezogen werden");
+        assertEquals(0.1, hits[1] / 100_000.0, 0.01);
+        assertEquals(0.3, hits[2] / 100_000.0, 0.01);
+        assertEquals(0.6, hits[3] / 100_000.0, 0.01);
+    }
+
+    @Test
+    @DisplayName("Sollte mit dem Ziggurat-Verfahren standardnormalverteilte Werte liefern")
+    void testZigguratMoments() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        int n = 500_000;
+        double sum = 0.0;
+        double sumSq = 0.0;
+        int beyondTwoSigma = 0;
+
+        for (int i = 0; i < n; i++) {
+            double x = ZigguratGaussian.next(rnd);
+            sum += x;
+            sumSq += x * x;
+            if (Math.abs(x) > 2.0) beyondTwoSigma++;
+        }
+
+        double mean = sum / n;
+        assertEquals(0.0, mean, 0.01);
+        assertEquals(1.0, sumSq / n - mean * mean, 0.01);
+        assertEquals(0.0455, (double) beyondTwoSigma / n, 0.002);
+    }
+}
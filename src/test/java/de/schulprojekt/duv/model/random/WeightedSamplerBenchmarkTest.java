@@ -0,0 +1,65 @@
+package de.schulprojekt.duv.model.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Grober Durchsatzvergleich für große Skandalkataloge. Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WeightedSamplerBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(WeightedSamplerBenchmarkTest.class.getName());
+    private static final int CATALOGUE_SIZE = 1_000_000;
+    private static final int OPERATIONS = 200_000;
+
+    @Test
+    @DisplayName("Sollte große Kataloge deutlich schneller als ein linearer Scan bedienen")
+    void benchmarkAgainstLinearScan() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        double[] weights = new double[CATALOGUE_SIZE];
+        for (int i = 0; i < weights.length; i++) weights[i] = 0.1 + rnd.nextDouble();
+
+        long buildStart = System.nanoTime();
+        WeightedSampler sampler = WeightedSampler.of(weights);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        long checksum = 0;
+        long fenwickStart = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int index = rnd.nextInt(CATALOGUE_SIZE);
+            sampler.set(index, 0.1 + rnd.nextDouble());
+            weights[index] = sampler.getWeight(index);
+            checksum += sampler.sample(rnd.nextDouble());
+        }
+        long fenwickNanos = System.nanoTime() - fenwickStart;
+
+        int linearOps = OPERATIONS / 100;
+        long linearStart = System.nanoTime();
+        for (int i = 0; i < linearOps; i++) {
+            checksum += linearSample(weights, rnd.nextDouble());
+        }
+        long linearNanos = (System.nanoTime() - linearStart) * (OPERATIONS / linearOps);
+
+        LOGGER.info(String.format("build %.1f ms, fenwick %.1f ns/op, linear %.1f ns/op (checksum %d)",
+                buildNanos / 1e6, (double) fenwickNanos / OPERATIONS, (double) linearNanos / OPERATIONS, checksum));
+        assertTrue(fenwickNanos < linearNanos, "Fenwick-Baum sollte schneller als der lineare Scan sein");
+    }
+
+    private static int linearSample(double[] weights, double uniform) {
+        double total = 0.0;
+        for (double w : weights) total += w;
+        double target = uniform * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) return i;
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package de.schulprojekt.duv.model.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedSamplerTest {
+
+    @Test
+    @DisplayName("Sollte proportional zu den Gewichten ziehen")
+    void testSamplesProportionally() {
+        WeightedSampler sampler = WeightedSampler.of(new double[]{0.0, 1.0, 3.0, 6.0});
+        Random rnd = new Random(42);
+        int[] hits = new int[4];
+
+        for (int i = 0; i < 100_000; i++) {
+            hits[sampler.sample(rnd.nextDouble())]++;
+        }
+
+        assertEquals(0, hits[0], "Gewicht 0 darf nie gezogen werden");
+        assertEquals(0.1, hits[1] / 100_000.0, 0.01);
+        assertEquals(0.3, hits[2] / 100_000.0, 0.01);
+        assertEquals(0.6, hits[3] / 100_000.0, 0.01);
+    }
+
+    @Test
+    @DisplayName("Sollte Gewichtsänderungen sofort berücksichtigen")
+    void testWeightUpdates() {
+        WeightedSampler sampler = new WeightedSampler(5);
+        assertEquals(-1, sampler.sample(0.5), "Ohne Gewichte gibt es kein Ergebnis");
+
+        sampler.set(3, 2.0);
+        assertEquals(3, sampler.sample(0.0));
+        assertEquals(3, sampler.sample(0.999));
+
+        sampler.set(1, 2.0);
+        assertEquals(1, sampler.sample(0.25));
+        assertEquals(3, sampler.sample(0.75));
+        assertEquals(4.0, sampler.getTotal(), 1e-12);
+
+        sampler.set(3, 0.0);
+        assertEquals(1, sampler.sample(0.99));
+        assertThrows(IllegalArgumentException.class, () -> sampler.set(0, -1.0));
+    }
+}
@@ -1,6 +1,12 @@
 package de.schulprojekt.duv.model.scandal;
 
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
 import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import de.schulprojekt.duv.util.config.ScandalConfig;
+import de.schulprojekt.duv.util.config.ScandalDecayCurve;
 import de.schulprojekt.duv.util.config.SimulationConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,8 +41,10 @@ class ScandalImpactCalculatorTest {
         Scandal scandal = new Scandal(1, "POLITICAL", "Corruption", "Desc", 0.8);
         ScandalEvent event = new ScandalEvent(scandal, targetParty, 100);
 
+        calculator.registerScandal(event, 1);
+
         // Tick 150 (50 Ticks nach Auftreten)
-        double[] pressures = calculator.calculateAcutePressure(List.of(event), parties, 150);
+        double[] pressures = advanceTo(calculator, 100, 150);
 
         assertTrue(pressures[1] > 0, "Zielpartei sollte Druck verspüren");
         assertEquals(0.0, pressures[0], 0.001, "Nichtwähler sollten keinen Druck haben");
@@ -48,11 +56,121 @@ class ScandalImpactCalculatorTest {
         Scandal scandal = new Scandal(3, "MAJOR", "Major Scandal", "Desc", 1.0);
         ScandalEvent event = new ScandalEvent(scandal, targetParty, 100);
 
-        calculator.calculateAcutePressure(List.of(event), parties, 150);
+        calculator.registerScandal(event, 1);
+        advanceTo(calculator, 100, 150);
         double damageBefore = calculator.getPermanentDamage(1);
 
         calculator.processRecovery(parties, 1000);
 
         assertTrue(calculator.getPermanentDamage(1) < damageBefore, "Schaden sollte sinken");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Sollte inkrementell denselben Druck wie die Listenberechnung liefern")
+    void testIncrementalMatchesFullScan() {
+        ActiveScandalStore store = new ActiveScandalStore(SimulationConfig.SCANDAL_MAX_AGE_TICKS);
+        double[] expectedDamage = new double[parties.size()];
+        Party otherParty = parties.get(2);
+
+        for (int step = 1; step <= 600; step++) {
+            store.expire(step);
+            if (step % 37 == 0) {
+                Party target = (step % 2 == 0) ? targetParty : otherParty;
+                ScandalEvent event = new ScandalEvent(new Scandal(step, "TEST", "S" + step, "Desc", 0.3 + (step % 5) * 0.1), target, step);
+                store.add(event, parties.indexOf(target));
+                calculator.registerScandal(event, parties.indexOf(target));
+            }
+
+            double[] expected = fullScanPressure(store, expectedDamage, step);
+            double[] actual = calculator.advance(step, parties.size());
+
+            for (int p = 0; p < parties.size(); p++) {
+                assertEquals(expected[p], actual[p], 1e-9, "Druck weicht ab in Schritt " + step);
+                assertEquals(expectedDamage[p], calculator.getPermanentDamage(p), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte einen erzwungenen Skandal ab dem nächsten Tick mit Alter 0 wirken lassen")
+    void testForcedScandalAppliesOnNextTick() {
+        SimulationParameters params = new SimulationParameters(5_000, 65.0, 35.0, 0.0, 50.0, 5, 1.0, 4, 1.0);
+        ScandalImpactCalculator impact = new ScandalImpactCalculator(20);
+        SimulationEngine engine = TestEngines.create(params, new VoterPopulation(), impact);
+        for (int i = 0; i < 5; i++) engine.runSimulationStep();
+
+        ScandalEvent event = engine.forceScandal(1);
+        double pressure = event.scandal().strength() * ScandalConfig.ACUTE_PRESSURE_FACTOR;
+        double[] timeFactors = ScandalConfig.getTimeFactorTable();
+
+        engine.runSimulationStep();
+        assertEquals(engine.getCurrentStep(), event.occurredAtStep());
+        assertEquals(pressure * timeFactors[0], impact.getAcutePressure(1), 1e-12);
+
+        engine.runSimulationStep();
+        assertEquals(pressure * timeFactors[1], impact.getAcutePressure(1), 1e-12);
+        assertTrue(impact.getAcutePressure(1) > 0, "Zielpartei sollte Druck verspüren");
+    }
+
+    @Test
+    @DisplayName("Sollte Skandale nach Überschreiten des Höchstalters entfernen")
+    void testStoreExpiry() {
+        ActiveScandalStore store = new ActiveScandalStore(200);
+        Scandal scandal = new Scandal(1, "POLITICAL", "Corruption", "Desc", 0.5);
+        store.add(new ScandalEvent(scandal, targetParty, 10), 1);
+        store.add(new ScandalEvent(scandal, targetParty, 20), 1);
+
+        for (int step = 11; step <= 210; step++) {
+            store.expire(step);
+        }
+        assertEquals(2, store.size());
+
+        store.expire(211);
+        assertEquals(1, store.size());
+        assertEquals(20, store.getForParty(1).iterator().next().occurredAtStep());
+    }
+
+    @Test
+    @DisplayName("Sollte Zerfallskurven als Tabellen mit Werten zwischen 0 und 1 erzeugen")
+    void testDecayCurveTables() {
+        for (ScandalDecayCurve curve : ScandalDecayCurve.values()) {
+            double[] table = curve.buildTable(ScandalConfig.SCANDAL_DURATION);
+
+            assertEquals(ScandalConfig.SCANDAL_DURATION + 1, table.length);
+            assertEquals(0.0, table[ScandalConfig.SCANDAL_DURATION], 1e-12, curve + " sollte am Ende wirkungslos sein");
+            for (double v : table) {
+                assertTrue(v >= 0.0 && v <= 1.0, curve + " liefert Wert außerhalb [0, 1]: " + v);
+            }
+        }
+
+        double[] fadeIn = ScandalDecayCurve.FADE_IN_LINEAR.buildTable(ScandalConfig.SCANDAL_DURATION);
+        assertEquals(0.25, fadeIn[ScandalConfig.FADE_IN_TICKS / 2], 1e-12);
+        assertEquals(1.0, fadeIn[ScandalConfig.FADE_IN_TICKS], 1e-12);
+    }
+
+    private static double[] advanceTo(ScandalImpactCalculator calculator, int fromStep, int toStep) {
+        double[] pressures = new double[0];
+        for (int step = fromStep; step <= toStep; step++) {
+            pressures = calculator.advance(step, 3);
+        }
+        return pressures;
+    }
+
+    /**
+     * Referenz: berechnet Druck und Schadenszuwachs eines Schritts vollständig aus allen aktiven Skandalen.
+     */
+    private double[] fullScanPressure(ActiveScandalStore store, double[] damage, int currentStep) {
+        double[] pressure = new double[parties.size()];
+        for (int p = 0; p < parties.size(); p++) {
+            for (ScandalEvent event : store.getForParty(p)) {
+                int age = currentStep - event.occurredAtStep();
+                if (age > ScandalConfig.SCANDAL_DURATION) continue;
+
+                double strength = event.scandal().strength();
+                pressure[p] += strength * ScandalConfig.ACUTE_PRESSURE_FACTOR * ScandalConfig.calculateTimeFactor(age);
+                damage[p] += ScandalConfig.calculatePermanentDamagePerTick(strength);
+            }
+        }
+        return pressure;
+    }
+}
@@ -0,0 +1,29 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationTrackerTest {
+
+    @Test
+    @DisplayName("Sollte Allokationen dem richtigen Tick zuordnen")
+    void testRecordsAllocationsPerTick() {
+        AllocationTracker tracker = new AllocationTracker();
+
+        tracker.beginTick(7);
+        long[][] garbage = new long[64][];
+        for (int i = 0; i < garbage.length; i++) garbage[i] = new long[1024];
+        tracker.endTick();
+
+        List<AllocationTracker.TickAllocation> recent = tracker.getRecentTicks(10);
+        assertEquals(1, recent.size());
+        assertEquals(7, recent.getFirst().tick());
+        long bytes = recent.getFirst().allocatedBytes();
+        assertTrue(bytes == -1 || bytes >= 64L * 1024 * Long.BYTES, "Zu wenig Bytes gemessen: " + bytes);
+        assertEquals(garbage.length, 64);
+    }
+}
@@ -0,0 +1,49 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Sollte Perzentile mit begrenztem relativen Fehler schätzen")
+    void testPercentileAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 10_000; v++) {
+            histogram.record(v * 1_000);
+        }
+
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+
+        assertEquals(10_000, histogram.getCount());
+        assertTrue(p50 >= 5_000_000 && p50 <= 5_000_000 * 1.25, "p50 außerhalb der Toleranz: " + p50);
+        assertTrue(p99 >= 9_900_000 && p99 <= 9_900_000 * 1.25, "p99 außerhalb der Toleranz: " + p99);
+    }
+
+    @Test
+    @DisplayName("Sollte nach dem Zurücksetzen leer sein")
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(123);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    @DisplayName("Sollte kumulative Anzahlen für Histogrammgrenzen liefern")
+    void testCountAtOrBelow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(100_000);
+        histogram.record(10_000_000);
+
+        assertEquals(0, histogram.getCountAtOrBelow(500));
+        assertEquals(2, histogram.getCountAtOrBelow(1_000_000));
+        assertEquals(3, histogram.getCountAtOrBelow(Long.MAX_VALUE));
+    }
+}
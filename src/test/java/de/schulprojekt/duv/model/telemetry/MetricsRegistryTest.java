@@ -0,0 +1,66 @@
+package de.schulprojekt.duv.model.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Sollte Tickdauern auf Eimergrenzen exakt zählen")
+    void testTickLatencyBucketBoundaries() {
+        for (long nanos : new long[]{3, 4, 1_000, 1_000_000, 123_456_789}) {
+            MetricsRegistry metrics = new MetricsRegistry();
+            metrics.recordTick(nanos, 0, 0, 0);
+            LatencyHistogram histogram = metrics.getTickLatency();
+
+            int bucket = LatencyHistogram.bucketIndex(nanos);
+            long upper = LatencyHistogram.upperBound(bucket);
+            long lower = LatencyHistogram.lowerBound(bucket);
+
+            assertEquals(1, histogram.getCountAtOrBelow(upper), "Obergrenze des Eimers für " + nanos);
+            assertEquals(0, histogram.getCountAtOrBelow(lower - 1), "Unterhalb des Eimers für " + nanos);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte innerhalb eines Eimers linear und monoton interpolieren")
+    void testTickLatencyInterpolation() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        for (int i = 0; i < 100; i++) metrics.recordTick(1_000_000, 0, 0, 0);
+        LatencyHistogram histogram = metrics.getTickLatency();
+
+        int bucket = LatencyHistogram.bucketIndex(1_000_000);
+        long lower = LatencyHistogram.lowerBound(bucket);
+        long upper = LatencyHistogram.upperBound(bucket);
+        long middle = lower + (upper - lower + 1) / 2 - 1;
+
+        assertEquals(50, histogram.getCountAtOrBelow(middle));
+        long previous = 0;
+        for (long bound = lower - 1; bound <= upper; bound += 1_024) {
+            long count = histogram.getCountAtOrBelow(bound);
+            assertTrue(count >= previous, "Nicht monoton bei " + bound);
+            previous = count;
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Zähler aufsummieren und unbekannte Allokationen auslassen")
+    void testCounters() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.recordTick(2_000, 7, 512, 100);
+        metrics.recordTick(3_000, 5, -1, 0);
+        metrics.recordScandal();
+
+        assertEquals(2, metrics.getTicks());
+        assertEquals(12, metrics.getSwitches());
+        assertEquals(5, metrics.getLastTickSwitches());
+        assertEquals(5_000, metrics.getTickNanosSum());
+        assertEquals(512, metrics.getAllocatedBytes());
+        assertEquals(-1, metrics.getLastTickAllocatedBytes());
+        assertEquals(100, metrics.getGcPauseNanos());
+        assertEquals(1, metrics.getScandals());
+        assertEquals(2, metrics.getTickLatency().getCount());
+    }
+}
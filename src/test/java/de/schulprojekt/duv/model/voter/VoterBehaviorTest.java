@@ -2,6 +2,7 @@ package de.schulprojekt.duv.model.voter;
 
 import de.schulprojekt.duv.model.core.SimulationParameters;
 import de.schulprojekt.duv.model.dto.VoterTransition;
+import de.schulprojekt.duv.model.indicators.PopulationHistogram;
 import de.schulprojekt.duv.model.party.Party;
 import de.schulprojekt.duv.model.random.DistributionProvider;
 import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,7 +67,8 @@ class VoterBehaviorTest {
                 params,
                 acutePressures,
                 impactCalculator,
-                zeitgeistManager.getCurrentZeitgeist()
+                zeitgeistManager.getCurrentZeitgeist(),
+                distributionProvider
         );
 
         assertNotNull(transitions, "Die Ergebnisliste darf nicht null sein");
@@ -85,7 +88,7 @@ class VoterBehaviorTest {
 
         // Simulation von 100 Ticks Evolution
         for (int i = 0; i < 100; i++) {
-            voterBehavior.evolvePopulation(population, params);
+            voterBehavior.evolvePopulation(population, params, distributionProvider);
         }
 
         float finalLoyalty = population.getLoyaltyRaw(0);
@@ -107,10 +110,29 @@ class VoterBehaviorTest {
                 params,
                 acutePressures,
                 impactCalculator,
-                0.0
+                0.0,
+                distributionProvider
         );
 
         int finalSupporters = parties.get(1).getCurrentSupporterCount();
         assertTrue(finalSupporters <= initialSupporters, "Unterstützer sollten bei Skandalen abwandern");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Sollte Loyalitäts-, Positions- und Dichtehistogramm im Entscheidungsdurchlauf mitzählen")
+    void testHistogramMatchesPopulation() {
+        voterBehavior.processVoterDecisions(population, parties, params, new double[parties.size()], impactCalculator, 0.0, distributionProvider);
+
+        PopulationHistogram counted = voterBehavior.getLastHistogram();
+        PopulationHistogram measured = voterBehavior.measureHistogram(population);
+
+        assertEquals(population.size(), Arrays.stream(counted.loyalty()).sum());
+        assertEquals(population.size(), Arrays.stream(counted.position()).sum());
+        assertArrayEquals(measured.loyalty(), counted.loyalty());
+        assertArrayEquals(measured.position(), counted.position());
+        assertEquals(population.size(), Arrays.stream(counted.density()).sum());
+        assertArrayEquals(measured.density(), counted.density());
+        assertEquals(counted.density()[0] + counted.density()[1] + counted.density()[2] + counted.density()[3]
+                + counted.density()[4], counted.position()[0]);
+    }
+}
@@ -0,0 +1,57 @@
+package de.schulprojekt.duv.model.voter;
+
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.random.DistributionProvider;
+import de.schulprojekt.duv.util.config.VoterBehaviorConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Misst die parallele Initialisierung großer Populationen. Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class VoterInitializationBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(VoterInitializationBenchmarkTest.class.getName());
+    private static final int VOTERS = 2_000_000;
+    private static final int PARTIES = 6;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("Sollte zwei Millionen Wähler parallel und korrekt verteilt initialisieren")
+    void benchmarkInitialization() {
+        SimulationParameters params = new SimulationParameters(VOTERS, 50.0, 20.0, 10.0, 50.0, 50, 1.0, PARTIES - 1, 2.5);
+        DistributionProvider dist = new DistributionProvider(params);
+        VoterBehavior behavior = new VoterBehavior();
+        VoterPopulation population = new VoterPopulation();
+
+        behavior.initializePopulation(population, VOTERS, PARTIES, dist);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            behavior.initializePopulation(population, VOTERS, PARTIES, dist);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int undecided = 0;
+        int[] types = new int[VoterType.values().length];
+        double positionSum = 0.0;
+        for (int i = 0; i < VOTERS; i++) {
+            if (population.getPartyIndexRaw(i) == 0) undecided++;
+            types[population.getVoterTypeRaw(i)]++;
+            positionSum += population.getPositionRaw(i);
+        }
+
+        LOGGER.info(String.format("init %,d voters: best %.1f ms (%.1f ns/voter, %d cores)",
+                VOTERS, best / 1e6, (double) best / VOTERS, Runtime.getRuntime().availableProcessors()));
+
+        assertEquals(VoterBehaviorConfig.UNDECIDED_RATIO, (double) undecided / VOTERS, 0.005);
+        assertEquals(VoterBehaviorConfig.PROB_PRAGMATIC, (double) types[VoterType.PRAGMATIC.ordinal()] / VOTERS, 0.005);
+        assertEquals(VoterBehaviorConfig.POS_MEAN, positionSum / VOTERS, 0.5);
+    }
+}
@@ -0,0 +1,96 @@
+package de.schulprojekt.duv.model.voter;
+
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoterPopulationForkTest {
+
+    @Test
+    @DisplayName("Sollte Seiten erst beim Schreiben kopieren und Zweige voneinander trennen")
+    void testCopyOnWriteIsolation() {
+        VoterPopulation parent = new VoterPopulation();
+        parent.allocate(10_000);
+        for (int i = 0; i < parent.size(); i++) parent.setPositionRaw(i, i);
+
+        VoterPopulation child = parent.fork();
+        assertEquals(0, child.getOwnedBytes());
+        assertEquals(0, parent.getOwnedBytes());
+
+        child.setPositionRaw(5, -1f);
+        parent.setPartyIndexRaw(9_999, (byte) 3);
+
+        assertEquals(-1f, child.getPositionRaw(5));
+        assertEquals(5f, parent.getPositionRaw(5));
+        assertEquals(0, child.getPartyIndexRaw(9_999));
+        assertEquals(3, parent.getPartyIndexRaw(9_999));
+        assertEquals(4_000f, child.getPositionRaw(4_000));
+        assertEquals((long) PagedColumn.PAGE_SIZE * Float.BYTES, child.getOwnedBytes());
+    }
+
+    @Test
+    @DisplayName("Sollte parallele Schreibzugriffe auf geteilte Seiten nicht verlieren")
+    void testParallelWritesAfterFork() {
+        VoterPopulation parent = new VoterPopulation();
+        parent.allocate(200_000);
+        VoterPopulation child = parent.fork();
+
+        IntStream.range(0, child.size()).parallel().forEach(i -> child.setLoyaltyRaw(i, i));
+
+        for (int i = 0; i < child.size(); i++) {
+            assertEquals(i, child.getLoyaltyRaw(i));
+            assertEquals(0f, parent.getLoyaltyRaw(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte eine Engine verzweigen, ohne den Elternzustand zu verändern")
+    void testEngineFork() {
+        SimulationParameters params = new SimulationParameters(20_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+        VoterPopulation population = new VoterPopulation();
+        SimulationEngine engine = TestEngines.create(params, population);
+        for (int i = 0; i < 20; i++) engine.runSimulationStep();
+
+        int[] before = engine.getParties().stream().mapToInt(p -> p.getCurrentSupporterCount()).toArray();
+        SimulationEngine branch = engine.fork();
+        assertEquals(engine.getCurrentStep(), branch.getCurrentStep());
+        assertArrayEquals(before, branch.getParties().stream().mapToInt(p -> p.getCurrentSupporterCount()).toArray());
+
+        assertNotNull(branch.forceScandal(1));
+        for (int i = 0; i < 10; i++) branch.runSimulationStep();
+
+        assertEquals(30, branch.getCurrentStep());
+        assertEquals(20, engine.getCurrentStep());
+        assertEquals(20, engine.getProfiler().getCompletedTicks());
+        assertEquals(0, branch.getProfiler().getCompletedTicks());
+        assertEquals(0, branch.getMetrics().getTicks());
+        assertArrayEquals(before, engine.getParties().stream().mapToInt(p -> p.getCurrentSupporterCount()).toArray());
+        assertEquals(params.populationSize(), branch.getParties().stream().mapToInt(p -> p.getCurrentSupporterCount()).sum());
+    }
+
+    @Test
+    @DisplayName("Sollte einen Zweig bei gleichem Eingriff bitgenau wie die Quelle weiterrechnen")
+    void testForkMatchesSource() {
+        SimulationParameters params = new SimulationParameters(20_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+        SimulationEngine engine = TestEngines.create(params);
+        for (int i = 0; i < 5; i++) engine.runSimulationStep();
+
+        SimulationEngine branch = engine.fork();
+        assertEquals(engine.forceScandal(1).scandal(), branch.forceScandal(1).scandal());
+        for (int i = 0; i < 15; i++) {
+            engine.runSimulationStep();
+            branch.runSimulationStep();
+        }
+
+        for (int p = 0; p < engine.getParties().size(); p++) {
+            assertEquals(engine.getParties().get(p).getScandalCount(), branch.getParties().get(p).getScandalCount());
+        }
+        assertEquals(engine.getPopulation().exportColumns(), branch.getPopulation().exportColumns());
+    }
+}
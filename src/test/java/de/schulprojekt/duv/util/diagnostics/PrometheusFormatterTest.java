@@ -0,0 +1,74 @@
+package de.schulprojekt.duv.util.diagnostics;
+
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.telemetry.MetricsRegistry;
+import de.schulprojekt.duv.util.config.DiagnosticsConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusFormatterTest {
+
+    private static final Pattern SAMPLE = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*(\\{[^}]*})? -?[0-9.Ee+-]+");
+
+    @Test
+    @DisplayName("Sollte gültiges Prometheus-Textformat mit einem TYPE je Metrik ausgeben")
+    void testExpositionFormat() {
+        String text = PrometheusFormatter.format(sampleMetrics());
+        assertTrue(text.endsWith("\n"));
+
+        Set<String> typed = new HashSet<>();
+        for (String line : text.split("\n")) {
+            if (line.startsWith("# TYPE ")) {
+                assertTrue(typed.add(line.split(" ")[2]), "Doppelter TYPE: " + line);
+            } else if (!line.startsWith("# HELP ")) {
+                assertTrue(SAMPLE.matcher(line).matches(), "Ungültige Zeile: " + line);
+                String name = line.split("[{ ]")[0].replaceAll("_(bucket|sum|count)$", "");
+                assertTrue(typed.contains(name) || typed.contains(line.split("[{ ]")[0]), "Probe vor TYPE: " + line);
+            }
+        }
+
+        assertTrue(text.contains("duv_ticks_total 2\n"));
+        assertTrue(text.contains("duv_voter_switches_total 9\n"));
+        assertTrue(text.contains("# TYPE duv_tick_duration_seconds histogram\n"));
+        assertTrue(text.contains("duv_party_supporters{party=\"Die \\\"Neue\\\" Mitte\"} 300\n"));
+    }
+
+    @Test
+    @DisplayName("Sollte kumulative Histogrammeimer bis +Inf mit der Gesamtzahl ausgeben")
+    void testHistogramBuckets() {
+        String text = PrometheusFormatter.format(sampleMetrics());
+
+        List<Long> counts = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (line.startsWith("duv_tick_duration_seconds_bucket")) {
+                counts.add(Long.parseLong(line.substring(line.lastIndexOf(' ') + 1)));
+            }
+        }
+
+        assertEquals(DiagnosticsConfig.METRICS_TICK_BUCKETS_SECONDS.length + 1, counts.size());
+        for (int i = 1; i < counts.size(); i++) {
+            assertTrue(counts.get(i) >= counts.get(i - 1), "Eimer nicht kumulativ: " + counts);
+        }
+        assertTrue(text.contains("duv_tick_duration_seconds_bucket{le=\"0.001\"} 0\n"));
+        assertTrue(text.contains("duv_tick_duration_seconds_bucket{le=\"0.005\"} 1\n"));
+        assertTrue(text.contains("duv_tick_duration_seconds_bucket{le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("duv_tick_duration_seconds_count 2\n"));
+        assertTrue(text.contains("duv_tick_duration_seconds_sum 0.022\n"));
+    }
+
+    private static MetricsRegistry sampleMetrics() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.recordTick(2_000_000, 4, 1_024, 0);
+        metrics.recordTick(20_000_000, 5, 2_048, 0);
+        metrics.updatePartyGauges(List.of(new Party("Die \"Neue\" Mitte", "DNM", "#112233", 50.0, 0, 300)));
+        return metrics;
+    }
+}
@@ -0,0 +1,53 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.party.PartyTemplate;
+import de.schulprojekt.duv.model.scandal.Scandal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogueBinaryCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte den Katalog verlustfrei speichern und per Mapping laden")
+    void testRoundTrip() throws Exception {
+        Catalogue catalogue = new Catalogue(
+                List.of(new PartyTemplate("Bürgerliche Volkspartei", "BVP", "#FF0000")),
+                List.of(new Scandal(7, "FINANCE", "Steuerhinterziehung", "Gelder am Fiskus vorbei", 0.8))
+        );
+        Path file = tempDir.resolve("catalogue_de.bin");
+
+        CatalogueBinaryCache.write(file, 1234L, catalogue);
+        Catalogue loaded = CatalogueBinaryCache.read(file, 1234L);
+
+        assertEquals(catalogue, loaded);
+    }
+
+    @Test
+    @DisplayName("Sollte einen Cache mit abweichender Prüfsumme verwerfen")
+    void testRejectsStaleChecksum() throws Exception {
+        Path file = tempDir.resolve("catalogue_en.bin");
+        CatalogueBinaryCache.write(file, 1L, Catalogue.empty());
+
+        assertNull(CatalogueBinaryCache.read(file, 2L));
+        assertNull(CatalogueBinaryCache.read(tempDir.resolve("missing.bin"), 1L));
+    }
+
+    @Test
+    @DisplayName("Sollte die mitgelieferten Kataloge laden")
+    void testRepositoryLoadsBundledCatalogues() {
+        Catalogue catalogue = CatalogueRepository.get(java.util.Locale.ENGLISH);
+
+        assertFalse(catalogue.parties().isEmpty());
+        assertFalse(catalogue.scandals().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> catalogue.scandals().clear());
+    }
+}
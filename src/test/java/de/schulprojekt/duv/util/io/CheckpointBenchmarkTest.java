@@ -0,0 +1,60 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.core.EngineSnapshot;
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Misst Momentaufnahme und Schreiben eines Spielstands mit zwei Millionen Wählern.
+ * Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class CheckpointBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(CheckpointBenchmarkTest.class.getName());
+    private static final int VOTERS = 2_000_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte einen Spielstand mit zwei Millionen Wählern deutlich unter einer Sekunde sichern")
+    void benchmarkCheckpoint() throws Exception {
+        SimulationParameters params = new SimulationParameters(VOTERS, 65.0, 35.0, 5.0, 50.0, 5, 1.0, 6, 1.0);
+        SimulationEngine engine = TestEngines.create(params, new VoterPopulation(), new ScandalImpactCalculator(16));
+        Path file = tempDir.resolve("bench" + CheckpointStore.FILE_EXTENSION);
+
+        long bestCapture = Long.MAX_VALUE;
+        long bestWrite = Long.MAX_VALUE;
+        long bestRead = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            EngineSnapshot snapshot = engine.captureSnapshot();
+            long captured = System.nanoTime();
+            CheckpointStore.write(file, snapshot);
+            long written = System.nanoTime();
+            CheckpointStore.read(file);
+            long read = System.nanoTime();
+
+            bestCapture = Math.min(bestCapture, captured - start);
+            bestWrite = Math.min(bestWrite, written - captured);
+            bestRead = Math.min(bestRead, read - written);
+        }
+
+        LOGGER.info(String.format("checkpoint %,d voters: capture %.1f ms (tick thread), write %.1f ms, read %.1f ms",
+                VOTERS, bestCapture / 1e6, bestWrite / 1e6, bestRead / 1e6));
+        assertTrue(bestCapture + bestWrite < 1_000_000_000L, "Sichern sollte unter einer Sekunde bleiben");
+    }
+}
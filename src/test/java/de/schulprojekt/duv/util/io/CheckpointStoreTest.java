@@ -0,0 +1,97 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.core.EngineSnapshot;
+import de.schulprojekt.duv.model.core.SimulationEngine;
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.core.TestEngines;
+import de.schulprojekt.duv.model.party.Party;
+import de.schulprojekt.duv.model.scandal.ScandalImpactCalculator;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte den Engine-Zustand über eine Datei vollständig wiederherstellen")
+    void testRoundTripThroughEngine() throws Exception {
+        SimulationParameters params = new SimulationParameters(20_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+        TestEngine source = new TestEngine(params);
+        for (int i = 0; i < 150; i++) source.engine.runSimulationStep();
+
+        EngineSnapshot snapshot = source.engine.captureSnapshot();
+        Path file = tempDir.resolve("run" + CheckpointStore.FILE_EXTENSION);
+        CheckpointStore.write(file, snapshot);
+
+        TestEngine target = new TestEngine(new SimulationParameters(1_000, 50.0, 50.0, 5.0, 50.0, 1, 1.0, 2, 1.0));
+        target.engine.restoreSnapshot(CheckpointStore.read(file));
+
+        assertEquals(150, target.engine.getCurrentStep());
+        assertEquals(params, target.engine.getParameters());
+        assertEquals(source.population.size(), target.population.size());
+        for (int i = 0; i < source.population.size(); i += 97) {
+            assertEquals(source.population.getPartyIndexRaw(i), target.population.getPartyIndexRaw(i));
+            assertEquals(source.population.getPositionRaw(i), target.population.getPositionRaw(i));
+            assertEquals(source.population.getLoyaltyRaw(i), target.population.getLoyaltyRaw(i));
+        }
+
+        List<Party> expected = source.engine.getParties();
+        List<Party> actual = target.engine.getParties();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getName(), actual.get(i).getName());
+            assertEquals(expected.get(i).getCurrentSupporterCount(), actual.get(i).getCurrentSupporterCount());
+            assertEquals(expected.get(i).getScandalCount(), actual.get(i).getScandalCount());
+            assertEquals(source.impact.getPermanentDamage(i), target.impact.getPermanentDamage(i), 1e-12);
+        }
+        assertEquals(snapshot.activeScandals().size(), target.engine.captureSnapshot().activeScandals().size());
+
+        assertDoesNotThrow(() -> target.engine.runSimulationStep());
+    }
+
+    @Test
+    @DisplayName("Sollte nach dem Laden dieselbe Zufallsfolge fortsetzen, ohne den Quelllauf zu verändern")
+    void testRestoredCheckpointReplaysIdentically() throws Exception {
+        SimulationParameters params = new SimulationParameters(20_000, 65.0, 35.0, 100.0, 50.0, 5, 1.0, 4, 1.0);
+        TestEngine source = new TestEngine(params);
+        for (int i = 0; i < 50; i++) source.engine.runSimulationStep();
+
+        Path file = tempDir.resolve("replay" + CheckpointStore.FILE_EXTENSION);
+        CheckpointStore.write(file, source.engine.captureSnapshot());
+        TestEngine target = new TestEngine(params);
+        target.engine.restoreSnapshot(CheckpointStore.read(file));
+
+        for (int i = 0; i < 30; i++) {
+            // Weitere Aufnahmen dürfen die Folge der Quelle nicht verschieben
+            source.engine.captureSnapshot();
+            source.engine.runSimulationStep();
+            target.engine.runSimulationStep();
+        }
+
+        assertEquals(source.engine.getCurrentStep(), target.engine.getCurrentStep());
+        assertEquals(source.population.exportColumns(), target.population.exportColumns());
+        for (int i = 0; i < source.engine.getParties().size(); i++) {
+            assertEquals(source.engine.getParties().get(i).getScandalCount(),
+                    target.engine.getParties().get(i).getScandalCount());
+        }
+    }
+
+    private static final class TestEngine {
+        final VoterPopulation population = new VoterPopulation();
+        final ScandalImpactCalculator impact = new ScandalImpactCalculator(20);
+        final SimulationEngine engine;
+
+        TestEngine(SimulationParameters params) {
+            engine = TestEngines.create(params, population, impact);
+        }
+    }
+}
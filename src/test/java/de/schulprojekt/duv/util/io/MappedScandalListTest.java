@@ -0,0 +1,66 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.scandal.Scandal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedScandalListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte gemappte Skandaldatei wie den CSV-Parser lesen")
+    void testMatchesRegexParser() throws Exception {
+        String csv = "﻿id;typ;titel;beschreibung;staerke\n"
+                + "1;KORRUPTION;\"Spendenaffäre\";\"Geld, viel Geld\";\"0,75\"\r\n"
+                + "\n"
+                + "2,MEDIEN,Interview,Falsches Zitat,0.3\n"
+                + "kaputt;X;Y;Z;nicht-zahl\n";
+        Path file = tempDir.resolve("scandals.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+        MappedScandalList list = MappedScandalList.open(file);
+
+        assertEquals(2, list.size());
+        Scandal first = list.get(0);
+        assertEquals(1, first.id());
+        assertEquals("KORRUPTION", first.type());
+        assertEquals(0.75, first.strength(), 1e-12);
+        assertEquals("Spendenaffäre", first.title());
+        assertEquals("Geld, viel Geld", first.description());
+
+        Scandal second = list.get(1);
+        assertEquals(2, second.id());
+        assertEquals("MEDIEN", second.type());
+        assertEquals(0.3, second.strength(), 1e-12);
+        assertEquals("Interview", second.title());
+        assertEquals("Falsches Zitat", second.description());
+
+        assertEquals("MEDIEN", list.type(1));
+        assertEquals(0.75, list.strength(0), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Sollte Zahlenfelder ohne String-Umwandlung korrekt lesen")
+    void testNumericParsing() throws Exception {
+        Path file = tempDir.resolve("numbers.csv");
+        Files.writeString(file, "-42; 3.125 ;1e-3\n", StandardCharsets.UTF_8);
+
+        MappedCsvTokenizer tokenizer = MappedCsvTokenizer.open(file);
+
+        assertTrue(tokenizer.nextRow());
+        assertEquals(3, tokenizer.fieldCount());
+        assertEquals(-42, tokenizer.parseLong(0));
+        assertEquals(3.125, tokenizer.parseDouble(1), 1e-12);
+        assertEquals(0.001, tokenizer.parseDouble(2), 1e-12);
+        assertFalse(tokenizer.nextRow());
+    }
+}
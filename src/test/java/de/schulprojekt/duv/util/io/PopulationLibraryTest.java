@@ -0,0 +1,51 @@
+package de.schulprojekt.duv.util.io;
+
+import de.schulprojekt.duv.model.core.SimulationParameters;
+import de.schulprojekt.duv.model.random.DistributionProvider;
+import de.schulprojekt.duv.model.voter.VoterBehavior;
+import de.schulprojekt.duv.model.voter.VoterPopulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopulationLibraryTest {
+
+    private static final int SIZE = 50_000;
+    private static final int PARTIES = 5;
+    private static final double LOYALTY = 50.0;
+    private static final long SEED = 42L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Sollte gespeicherte Population identisch einblenden, ohne die Datei zu verändern")
+    void testReloadIsIdenticalAndCopyOnWrite() throws Exception {
+        DistributionProvider dist = new DistributionProvider(new SimulationParameters(SIZE, 50.0, 20.0, 10.0, LOYALTY, 50, 1.0, PARTIES - 1, 2.5));
+        VoterBehavior behavior = new VoterBehavior();
+
+        VoterPopulation first = new VoterPopulation();
+        PopulationLibrary.load(tempDir, first, SIZE, PARTIES, LOYALTY, SEED, behavior, dist);
+        Path file = tempDir.resolve(PopulationLibrary.fileName(SIZE, PARTIES, LOYALTY, SEED));
+        byte[] before = Files.readAllBytes(file);
+
+        float loyalty = first.getLoyaltyRaw(123);
+        byte party = first.getPartyIndexRaw(SIZE - 1);
+        first.setLoyaltyRaw(123, -1.0f);
+        first.setPartyIndexRaw(SIZE - 1, (byte) 99);
+
+        VoterPopulation second = new VoterPopulation();
+        PopulationLibrary.load(tempDir, second, SIZE, PARTIES, LOYALTY, SEED, behavior, dist);
+
+        assertEquals(SIZE, second.size());
+        assertEquals(loyalty, second.getLoyaltyRaw(123));
+        assertEquals(party, second.getPartyIndexRaw(SIZE - 1));
+        assertTrue(party >= 0 && party < PARTIES);
+        assertArrayEquals(before, Files.readAllBytes(file), "Bibliotheksdatei darf nicht verändert werden");
+    }
+}
@@ -0,0 +1,55 @@
+package de.schulprojekt.duv.view.util;
+
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedFeedListTest {
+
+    @Test
+    @DisplayName("Sollte bei Überlauf jeweils den ältesten Eintrag am Ende verdrängen")
+    void testOverflowEvictsOldest() {
+        BoundedFeedList<Integer> list = new BoundedFeedList<>(3);
+        for (int i = 1; i <= 3; i++) list.push(i);
+        assertEquals(List.of(3, 2, 1), list);
+
+        list.push(4);
+        assertEquals(List.of(4, 3, 2), list);
+
+        for (int i = 5; i <= 9; i++) list.push(i);
+        assertEquals(List.of(9, 8, 7), list);
+        assertEquals(3, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    @DisplayName("Sollte einen Überlauf als Entfernen am Ende und Einfügen an Index 0 melden")
+    void testOverflowChangeEvent() {
+        BoundedFeedList<String> list = new BoundedFeedList<>(2);
+        list.push("a");
+        list.push("b");
+
+        List<String> events = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) events.add("-" + change.getFrom() + change.getRemoved());
+                if (change.wasAdded()) events.add("+" + change.getFrom() + change.getAddedSubList());
+            }
+        });
+
+        list.push("c");
+        assertEquals(List.of("c", "b"), list);
+        // Entfernen in Koordinaten nach dem Einfügen: [b, a] -> [c, b, a] -> [c, b]
+        assertEquals(List.of("+0[c]", "-2[a]"), events);
+
+        events.clear();
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(List.of("-0[c, b]"), events);
+    }
+}
@@ -0,0 +1,44 @@
+package de.schulprojekt.duv.view.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridIndexTest {
+
+    @Test
+    @DisplayName("Sollte Zellgrenzen halboffen behandeln und den Radius über Grenzen hinweg eintragen")
+    void testCellBoundaries() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(10.0);
+        index.insert("innen", 5.0, 5.0, 1.0);
+        index.insert("kante", 9.5, 5.0, 1.0);
+        index.insert("negativ", -0.5, 5.0, 0.2);
+
+        assertEquals(List.of("innen", "kante"), index.query(0.0, 0.0));
+        assertEquals(List.of("innen", "kante"), index.query(9.999, 9.999));
+        assertEquals(List.of("kante"), index.query(10.0, 5.0), "x = 10 gehört bereits zur nächsten Zelle");
+        assertEquals(List.of("negativ"), index.query(-0.001, 5.0));
+        assertTrue(index.query(-10.001, 5.0).isEmpty());
+        assertTrue(index.query(5.0, 10.0).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Sollte nach dem Leeren keine Kandidaten mehr liefern und neu befüllbar sein")
+    void testClearRemovesAllItems() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>(10.0);
+        index.insert("a", 5.0, 5.0, 8.0);
+        index.clear();
+
+        assertTrue(index.isEmpty());
+        assertTrue(index.query(5.0, 5.0).isEmpty());
+        assertTrue(index.query(-2.0, 12.0).isEmpty());
+
+        index.insert("b", 5.0, 5.0, 1.0);
+        assertEquals(List.of("b"), index.query(5.0, 5.0));
+        assertThrows(UnsupportedOperationException.class, () -> index.query(5.0, 5.0).clear());
+    }
+}